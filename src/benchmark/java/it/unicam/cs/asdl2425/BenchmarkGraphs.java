@@ -0,0 +1,60 @@
+package benchmark.java.it.unicam.cs.asdl2425;
+
+import it.unicam.cs.asdl2425.*;
+
+/**
+ * Factory of the graph backends and of the seeded random graphs used by the
+ * benchmarks. The same seed always produces the same graph, whatever the
+ * backend, so that the results of different backends can be compared.
+ *
+ * @author Pilade Jr Tomassini
+ */
+final class BenchmarkGraphs {
+
+    /**
+     * Seed used by every benchmark unless stated otherwise.
+     */
+    static final long SEED = 20250101L;
+
+    private BenchmarkGraphs() {
+    }
+
+    /**
+     * Creates an empty graph of the given backend.
+     *
+     * @param backend one of "matrix", "concurrent" or "bitset"
+     * @return an empty graph
+     * @throws IllegalArgumentException if the backend is unknown
+     */
+    static Graph<Integer> newGraph(String backend) {
+        switch (backend) {
+            case "matrix":
+                return new AdjacencyMatrixDirectedGraph<Integer>();
+            case "concurrent":
+                return new ConcurrentDirectedGraph<Integer>();
+            case "bitset":
+                return new BitSetDirectedGraph<Integer>();
+            default:
+                throw new IllegalArgumentException("Unknown backend: " + backend);
+        }
+    }
+
+    /**
+     * Creates an Erdős–Rényi random graph with n nodes labelled 0..n-1 and on
+     * average {@code degree} outgoing edges per node, with the weights of
+     * {@link GraphGenerator}. The weights are dropped if the backend is
+     * unweighted.
+     *
+     * @param backend the backend of the graph
+     * @param n       the number of nodes
+     * @param degree  the average out-degree
+     * @param seed    the seed of the generator
+     * @return the generated graph
+     */
+    static Graph<Integer> randomGraph(String backend, int n, int degree, long seed) {
+        Graph<Integer> graph = newGraph(backend);
+        boolean weighted = !(graph instanceof BitSetDirectedGraph);
+        double p = n > 1 ? Math.min(1.0, (double) degree / (n - 1)) : 0.0;
+        return GraphGenerator.erdosRenyi(n, p, seed).loadInto(graph, Integer::valueOf, weighted);
+    }
+}
@@ -0,0 +1,28 @@
+package benchmark.java.it.unicam.cs.asdl2425;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point running the benchmarks of this package. An optional argument is
+ * a regular expression restricting the benchmarks to run, e.g.
+ * {@code ShortestPathBenchmark}; results are also written as JSON to
+ * {@code jmh-result.json} so that runs can be compared.
+ *
+ * @author Pilade Jr Tomassini
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : BenchmarkRunner.class.getPackage().getName() + ".*";
+        Options options = new OptionsBuilder()
+                .include(include)
+                .resultFormat(ResultFormatType.JSON)
+                .result("jmh-result.json")
+                .build();
+        new Runner(options).run();
+    }
+}
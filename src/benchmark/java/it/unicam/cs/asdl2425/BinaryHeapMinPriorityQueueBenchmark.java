@@ -0,0 +1,107 @@
+package benchmark.java.it.unicam.cs.asdl2425;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import it.unicam.cs.asdl2425.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the operations of the min-priority queue used by Dijkstra's
+ * algorithm. Every invocation starts from an empty queue and works on the same
+ * seeded sequence of priorities.
+ *
+ * @author Pilade Jr Tomassini
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BinaryHeapMinPriorityQueueBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int size;
+
+    /*
+     * Only the binary heap exists for now; new implementations are added here
+     * and in newQueue().
+     */
+    @Param({"binary"})
+    public String heap;
+
+    private GraphNode<Integer>[] elements;
+
+    private double[] priorities;
+
+    private double[] decreasedPriorities;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(BenchmarkGraphs.SEED);
+        this.elements = new GraphNode[this.size];
+        this.priorities = new double[this.size];
+        this.decreasedPriorities = new double[this.size];
+        for (int i = 0; i < this.size; i++) {
+            this.elements[i] = new GraphNode<Integer>(i);
+            this.priorities[i] = random.nextDouble() * this.size;
+            this.decreasedPriorities[i] = this.priorities[i] * random.nextDouble();
+        }
+    }
+
+    private BinaryHeapMinPriorityQueue newQueue() {
+        switch (this.heap) {
+            case "binary":
+                return new BinaryHeapMinPriorityQueue();
+            default:
+                throw new IllegalArgumentException("Unknown heap: " + this.heap);
+        }
+    }
+
+    private BinaryHeapMinPriorityQueue fill() {
+        BinaryHeapMinPriorityQueue queue = this.newQueue();
+        for (int i = 0; i < this.size; i++) {
+            this.elements[i].setPriority(this.priorities[i]);
+            queue.insert(this.elements[i]);
+        }
+        return queue;
+    }
+
+    @Benchmark
+    public BinaryHeapMinPriorityQueue insert() {
+        return this.fill();
+    }
+
+    @Benchmark
+    public void insertExtractMinimum(Blackhole blackhole) {
+        BinaryHeapMinPriorityQueue queue = this.fill();
+        while (!queue.isEmpty()) {
+            blackhole.consume(queue.extractMinimum());
+        }
+    }
+
+    /*
+     * Dijkstra-like mix: every other element has its priority decreased, and
+     * extractions are interleaved with the decreases.
+     */
+    @Benchmark
+    public void decreasePriorityMix(Blackhole blackhole) {
+        BinaryHeapMinPriorityQueue queue = this.fill();
+        for (int i = 0; i < this.size; i += 2) {
+            GraphNode<Integer> element = this.elements[i];
+            // extracted elements have a negative handle
+            if (element.getHandle() >= 0 && this.decreasedPriorities[i] < element.getPriority()) {
+                queue.decreasePriority(element, this.decreasedPriorities[i]);
+            }
+            if ((i & 7) == 0) {
+                blackhole.consume(queue.extractMinimum());
+            }
+        }
+        while (!queue.isEmpty()) {
+            blackhole.consume(queue.extractMinimum());
+        }
+    }
+}
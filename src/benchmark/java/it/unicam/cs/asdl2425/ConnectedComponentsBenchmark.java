@@ -0,0 +1,65 @@
+package benchmark.java.it.unicam.cs.asdl2425;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import it.unicam.cs.asdl2425.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the weakly connected components of an R-MAT graph, read by
+ * edge position from the {@link GeneratedGraph} and by node from the
+ * {@link IntGraph}, in a single-thread pool and in the common pool.
+ *
+ * @author Pilade Jr Tomassini
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms8g", "-Xmx8g"})
+public class ConnectedComponentsBenchmark {
+
+    private static final int EDGE_FACTOR = 16;
+
+    /**
+     * Base 2 logarithm of the number of nodes.
+     */
+    @Param({"17", "20", "22"})
+    public int scale;
+
+    private GeneratedGraph generated;
+
+    private IntGraph graph;
+
+    private ForkJoinPool single;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.generated = GraphGenerator.rmat(this.scale, EDGE_FACTOR, 0.57, 0.19, 0.19,
+                BenchmarkGraphs.SEED);
+        this.graph = IntGraph.of(this.generated);
+        this.single = new ForkJoinPool(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.single.shutdown();
+    }
+
+    @Benchmark
+    public ConnectedComponents edgesSingleThread() {
+        return ConnectedComponents.of(this.generated, this.single);
+    }
+
+    @Benchmark
+    public ConnectedComponents edgesCommonPool() {
+        return ConnectedComponents.of(this.generated, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public ConnectedComponents intGraphCommonPool() {
+        return ConnectedComponents.of(this.graph, ForkJoinPool.commonPool());
+    }
+}
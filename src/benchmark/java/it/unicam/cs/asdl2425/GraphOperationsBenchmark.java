@@ -0,0 +1,96 @@
+package benchmark.java.it.unicam.cs.asdl2425;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import it.unicam.cs.asdl2425.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the structural operations of the graph backends: insertion of
+ * all the nodes, insertion of the edges of a random graph and removal of a
+ * node from a populated graph.
+ * <p>
+ * All backends store an n x n matrix, so sizes stop at a few thousand nodes:
+ * beyond that the matrix alone does not fit in a default heap.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class GraphOperationsBenchmark {
+
+    private static final int DEGREE = 4;
+
+    @Param({"1000", "2000", "4000"})
+    public int size;
+
+    @Param({"matrix", "concurrent", "bitset"})
+    public String backend;
+
+    private int[] sources;
+
+    private int[] targets;
+
+    /*
+     * Graph rebuilt before every invocation of the node removal benchmark.
+     */
+    private Graph<Integer> populated;
+
+    private int victim;
+
+    @Setup(Level.Trial)
+    public void setUpEdges() {
+        Random random = new Random(BenchmarkGraphs.SEED);
+        this.sources = new int[this.size * DEGREE];
+        this.targets = new int[this.size * DEGREE];
+        for (int k = 0; k < this.sources.length; k++) {
+            this.sources[k] = k / DEGREE;
+            this.targets[k] = random.nextInt(this.size);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpPopulated() {
+        this.populated = this.withNodes();
+        for (int k = 0; k < this.sources.length; k++) {
+            this.populated.addEdge(this.sources[k], this.targets[k]);
+        }
+        this.victim = this.size / 2;
+    }
+
+    private Graph<Integer> withNodes() {
+        Graph<Integer> graph = BenchmarkGraphs.newGraph(this.backend);
+        for (int i = 0; i < this.size; i++) {
+            graph.addNode(i);
+        }
+        return graph;
+    }
+
+    @Benchmark
+    public Graph<Integer> addNode() {
+        return this.withNodes();
+    }
+
+    @Benchmark
+    public Graph<Integer> addEdge() {
+        Graph<Integer> graph = this.withNodes();
+        for (int k = 0; k < this.sources.length; k++) {
+            graph.addEdge(this.sources[k], this.targets[k]);
+        }
+        return graph;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Measurement(iterations = 50)
+    public Graph<Integer> removeNode() {
+        this.populated.removeNode(this.victim);
+        return this.populated;
+    }
+}
@@ -0,0 +1,82 @@
+package benchmark.java.it.unicam.cs.asdl2425;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import it.unicam.cs.asdl2425.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of hop count queries on an R-MAT graph with unit weights: Dijkstra
+ * on the {@link IntGraph}, the sequential breadth-first visit of
+ * {@link GraphTraversal} and the direction-optimizing
+ * {@link ParallelBreadthFirstSearch} in the common pool. Sources are drawn
+ * from a fixed seed, so every method answers the same queries.
+ *
+ * @author Pilade Jr Tomassini
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class HopCountBenchmark {
+
+    private static final int EDGE_FACTOR = 16;
+
+    private static final int QUERIES = 16;
+
+    /**
+     * Base 2 logarithm of the number of nodes.
+     */
+    @Param({"14", "17", "20"})
+    public int scale;
+
+    private IntDijkstraShortestPathComputer dijkstra;
+
+    private GraphTraversal<Integer> traversal;
+
+    private ParallelBreadthFirstSearch<Integer> search;
+
+    private int[] sources;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GeneratedGraph rmat = GraphGenerator.rmat(this.scale, EDGE_FACTOR, 0.57, 0.19, 0.19,
+                BenchmarkGraphs.SEED);
+        IntGraph graph = new IntGraph(rmat.nodeCount());
+        for (int k = 0; k < rmat.edgeCount(); k++) {
+            graph.addEdge(rmat.getSource(k), rmat.getTarget(k), 1.0);
+        }
+        this.dijkstra = new IntDijkstraShortestPathComputer(graph);
+        this.traversal = new GraphTraversal<Integer>(graph.asGraph());
+        this.search = new ParallelBreadthFirstSearch<Integer>(graph.asGraph());
+        // reads the adjacency once, outside the measurements
+        this.search.hopDistancesFrom(0);
+        Random random = new Random(BenchmarkGraphs.SEED + 1);
+        this.sources = new int[QUERIES];
+        for (int q = 0; q < QUERIES; q++) {
+            this.sources[q] = random.nextInt(graph.nodeCount());
+        }
+        this.next = 0;
+    }
+
+    @Benchmark
+    public IntDijkstraShortestPathComputer dijkstra() {
+        this.dijkstra.computeShortestPathsFrom(this.sources[this.next++ % QUERIES]);
+        return this.dijkstra;
+    }
+
+    @Benchmark
+    public TraversalResult sequentialBfs() {
+        return this.traversal.breadthFirstFrom(this.sources[this.next++ % QUERIES]);
+    }
+
+    @Benchmark
+    public int[] parallelBfs() {
+        return this.search.hopDistancesFrom(this.sources[this.next++ % QUERIES]);
+    }
+}
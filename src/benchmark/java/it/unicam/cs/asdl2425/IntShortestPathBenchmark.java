@@ -0,0 +1,98 @@
+package benchmark.java.it.unicam.cs.asdl2425;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import it.unicam.cs.asdl2425.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of Dijkstra's algorithm on an {@link IntGraph}, whose primitive
+ * storage reaches the sizes the matrix backends of
+ * {@link ShortestPathBenchmark} cannot: a complete single source computation
+ * and a point-to-point query, i.e. a computation followed by the
+ * reconstruction of the path to one target, either as a new array or into a
+ * reused buffer. The graphs are the random graphs of the other benchmarks,
+ * with the same average out-degree, or road networks of about the same number
+ * of nodes; sources and targets are drawn from a fixed seed.
+ *
+ * @author Pilade Jr Tomassini
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class IntShortestPathBenchmark {
+
+    private static final int DEGREE = 4;
+
+    private static final int QUERIES = 64;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    @Param({"random", "road"})
+    public String generator;
+
+    private IntDijkstraShortestPathComputer computer;
+
+    private int[] sources;
+
+    private int[] targets;
+
+    private int[] buffer;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GeneratedGraph generated;
+        switch (this.generator) {
+            case "random":
+                double p = Math.min(1.0, (double) DEGREE / (this.size - 1));
+                generated = GraphGenerator.erdosRenyi(this.size, p, BenchmarkGraphs.SEED);
+                break;
+            case "road":
+                int side = (int) Math.ceil(Math.sqrt(this.size));
+                generated = GraphGenerator.roadNetwork(side, side, BenchmarkGraphs.SEED);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown generator: " + this.generator);
+        }
+        IntGraph graph = IntGraph.of(generated);
+        int n = graph.nodeCount();
+        this.computer = new IntDijkstraShortestPathComputer(graph);
+        Random random = new Random(BenchmarkGraphs.SEED + 1);
+        this.sources = new int[QUERIES];
+        this.targets = new int[QUERIES];
+        for (int q = 0; q < QUERIES; q++) {
+            this.sources[q] = random.nextInt(n);
+            this.targets[q] = random.nextInt(n);
+        }
+        this.buffer = new int[n];
+        this.next = 0;
+    }
+
+    @Benchmark
+    public IntDijkstraShortestPathComputer singleSource() {
+        int q = this.next++ % QUERIES;
+        this.computer.computeShortestPathsFrom(this.sources[q]);
+        return this.computer;
+    }
+
+    @Benchmark
+    public int[] pointToPoint() {
+        int q = this.next++ % QUERIES;
+        this.computer.computeShortestPathsFrom(this.sources[q]);
+        return this.computer.getShortestPathTo(this.targets[q]);
+    }
+
+    @Benchmark
+    public int pointToPointBuffer() {
+        int q = this.next++ % QUERIES;
+        this.computer.computeShortestPathsFrom(this.sources[q]);
+        return this.computer.getShortestPathTo(this.targets[q], this.buffer);
+    }
+}
@@ -0,0 +1,116 @@
+package benchmark.java.it.unicam.cs.asdl2425;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import it.unicam.cs.asdl2425.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of shortest path queries on the same road-like graph before and
+ * after its nodes are renumbered by {@link GraphReordering}. The graph is first
+ * shuffled, as if the nodes had been inserted in random order, then reordered
+ * with the ordering under test ("shuffled" keeps the random numbering). Sources
+ * and targets are drawn from a fixed seed among the original nodes and mapped
+ * through the permutations, so every ordering answers the same queries.
+ *
+ * @author Pilade Jr Tomassini
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ReorderingBenchmark {
+
+    private static final int QUERIES = 64;
+
+    /**
+     * Side of the grid of the road network: 100 gives 10k nodes, 700 about
+     * half a million.
+     */
+    @Param({"100", "300", "700"})
+    public int side;
+
+    @Param({"shuffled", "bfs", "rcm", "hilbert"})
+    public String ordering;
+
+    private IntDijkstraShortestPathComputer computer;
+
+    private int[] sources;
+
+    private int[] targets;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GeneratedGraph road = GraphGenerator.roadNetwork(this.side, this.side, BenchmarkGraphs.SEED);
+        IntGraph graph = IntGraph.of(road);
+        int n = graph.nodeCount();
+        IndexRemapping shuffle = graph.reorder(randomPermutation(n, BenchmarkGraphs.SEED + 2));
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = road.getX(i);
+            y[i] = road.getY(i);
+        }
+        IndexRemapping order;
+        switch (this.ordering) {
+            case "shuffled":
+                order = IndexRemapping.identity(n);
+                break;
+            case "bfs":
+                order = GraphReordering.bfs(graph);
+                break;
+            case "rcm":
+                order = GraphReordering.reverseCuthillMcKee(graph);
+                break;
+            case "hilbert":
+                order = GraphReordering.hilbert(shuffle.apply(x), shuffle.apply(y));
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown ordering: " + this.ordering);
+        }
+        graph.reorder(order);
+        this.computer = new IntDijkstraShortestPathComputer(graph);
+        Random random = new Random(BenchmarkGraphs.SEED + 1);
+        this.sources = new int[QUERIES];
+        this.targets = new int[QUERIES];
+        for (int q = 0; q < QUERIES; q++) {
+            this.sources[q] = order.newIndexOf(shuffle.newIndexOf(random.nextInt(n)));
+            this.targets[q] = order.newIndexOf(shuffle.newIndexOf(random.nextInt(n)));
+        }
+        this.next = 0;
+    }
+
+    @Benchmark
+    public IntDijkstraShortestPathComputer singleSource() {
+        int q = this.next++ % QUERIES;
+        this.computer.computeShortestPathsFrom(this.sources[q]);
+        return this.computer;
+    }
+
+    @Benchmark
+    public int[] pointToPoint() {
+        int q = this.next++ % QUERIES;
+        this.computer.computeShortestPathsFrom(this.sources[q]);
+        return this.computer.getShortestPathTo(this.targets[q]);
+    }
+
+    private static IndexRemapping randomPermutation(int n, long seed) {
+        int[] p = new int[n];
+        for (int i = 0; i < n; i++) {
+            p[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = p[i];
+            p[i] = p[j];
+            p[j] = t;
+        }
+        return new IndexRemapping(p, n);
+    }
+}
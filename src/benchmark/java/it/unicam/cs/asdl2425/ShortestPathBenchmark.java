@@ -0,0 +1,87 @@
+package benchmark.java.it.unicam.cs.asdl2425;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import it.unicam.cs.asdl2425.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of Dijkstra's algorithm on seeded random graphs: a complete
+ * single source computation and a point-to-point query, i.e. a computation
+ * followed by the reconstruction of the path to one target, either as a list
+ * of edges or into a reused {@link PathView}. Sources and
+ * targets are drawn from a fixed seed, so every backend answers the same
+ * queries.
+ *
+ * @author Pilade Jr Tomassini
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class ShortestPathBenchmark {
+
+    private static final int DEGREE = 4;
+
+    private static final int QUERIES = 64;
+
+    @Param({"1000", "2000", "4000"})
+    public int size;
+
+    @Param({"matrix", "concurrent"})
+    public String backend;
+
+    private Graph<Integer> graph;
+
+    private DijkstraShortestPathComputer<Integer> computer;
+
+    private GraphNode<Integer>[] sources;
+
+    private GraphNode<Integer>[] targets;
+
+    private PathView view;
+
+    private int next;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.graph = BenchmarkGraphs.randomGraph(this.backend, this.size, DEGREE, BenchmarkGraphs.SEED);
+        this.computer = new DijkstraShortestPathComputer<Integer>(this.graph);
+        Random random = new Random(BenchmarkGraphs.SEED + 1);
+        this.sources = new GraphNode[QUERIES];
+        this.targets = new GraphNode[QUERIES];
+        for (int q = 0; q < QUERIES; q++) {
+            this.sources[q] = this.graph.getNode(random.nextInt(this.size));
+            this.targets[q] = this.graph.getNode(random.nextInt(this.size));
+        }
+        this.view = new PathView();
+        this.next = 0;
+    }
+
+    @Benchmark
+    public DijkstraShortestPathComputer<Integer> singleSource() {
+        int q = this.next++ % QUERIES;
+        this.computer.computeShortestPathsFrom(this.sources[q]);
+        return this.computer;
+    }
+
+    @Benchmark
+    public List<GraphEdge<Integer>> pointToPoint() {
+        int q = this.next++ % QUERIES;
+        this.computer.computeShortestPathsFrom(this.sources[q]);
+        return this.computer.getShortestPathTo(this.targets[q]);
+    }
+
+    @Benchmark
+    public PathView pointToPointView() {
+        int q = this.next++ % QUERIES;
+        this.computer.computeShortestPathsFrom(this.sources[q]);
+        this.computer.getShortestPathTo(this.targets[q], this.view);
+        return this.view;
+    }
+}
@@ -0,0 +1,62 @@
+package benchmark.java.it.unicam.cs.asdl2425;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import it.unicam.cs.asdl2425.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks of the minimum spanning forest of a weighted R-MAT graph: Prim's
+ * algorithm and Borůvka's algorithm in a single-thread pool and in the common
+ * pool.
+ *
+ * @author Pilade Jr Tomassini
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms8g", "-Xmx8g"})
+public class SpanningForestBenchmark {
+
+    private static final int EDGE_FACTOR = 16;
+
+    /**
+     * Base 2 logarithm of the number of nodes.
+     */
+    @Param({"14", "17", "20"})
+    public int scale;
+
+    private IntGraph graph;
+
+    private ForkJoinPool single;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.graph = IntGraph.of(GraphGenerator.rmat(this.scale, EDGE_FACTOR, 0.57, 0.19, 0.19,
+                BenchmarkGraphs.SEED));
+        this.single = new ForkJoinPool(1);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.single.shutdown();
+    }
+
+    @Benchmark
+    public MinimumSpanningForest<Integer> prim() {
+        return MinimumSpanningForest.prim(this.graph);
+    }
+
+    @Benchmark
+    public MinimumSpanningForest<Integer> boruvkaSingleThread() {
+        return MinimumSpanningForest.boruvka(this.graph, this.single);
+    }
+
+    @Benchmark
+    public MinimumSpanningForest<Integer> boruvkaCommonPool() {
+        return MinimumSpanningForest.boruvka(this.graph, ForkJoinPool.commonPool());
+    }
+}
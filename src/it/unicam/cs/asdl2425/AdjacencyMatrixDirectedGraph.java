@@ -28,6 +28,22 @@ import java.util.*;
  * contains an object of the GraphEdge<L> class if they are. This object represents
  * the edge.</p>
  * <br/>
+ * <p>
+ * Besides the usual removal, which shifts down the indices of the following
+ * nodes, nodes can be removed lazily with markNodeRemoved: the node becomes a
+ * tombstone, its edges are deleted, but its row and column stay in the matrix
+ * and no other index changes. While tombstones are present the indices of the
+ * nodes range over [0, indexBound() - 1] and may have holes. The method
+ * compact() drops all the tombstones at once and returns the IndexRemapping
+ * from the old indices to the new ones, which callers can apply to their own
+ * per-node arrays.</p>
+ * <br/>
+ * <p>
+ * The number of edges and the in- and out-degree of every node are kept up to
+ * date by every insertion and removal, so edgeCount(), inDegree(int),
+ * outDegree(int) and getDegreeOf answer in constant time instead of scanning
+ * the matrix.</p>
+ * <br/>
  * This class supports methods for deleting nodes and edges and supports all
  * methods that use indices, utilizing the index assigned to each node during
  * insertion and possibly modified later.
@@ -38,6 +54,11 @@ import java.util.*;
  */
 
 public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
+    /*
+     * Initial length of the arrays holding the degrees of the nodes.
+     */
+    private static final int INITIAL_DEGREES_CAPACITY = 16;
+
     /*
      * The following instance variables are protected solely to facilitate
      * JUnit testing.
@@ -56,12 +77,41 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
      */
     protected ArrayList<ArrayList<GraphEdge<L>>> matrix;
 
+    /*
+     * Node associated with each index of the matrix, null for the indices of
+     * nodes removed lazily and not yet compacted.
+     */
+    protected ArrayList<GraphNode<L>> nodes;
+
+    /*
+     * Number of null entries of nodes, i.e. rows and columns of the matrix
+     * that belong to lazily removed nodes.
+     */
+    private int tombstones;
+
+    /*
+     * Number of non-null cells of the matrix, updated on every edge insertion
+     * and removal.
+     */
+    private int numberOfEdges;
+
+    /*
+     * Out-degree and in-degree of the node with a given index. Only the first
+     * indexBound() positions are meaningful, the arrays grow by doubling.
+     */
+    private int[] outDegrees;
+
+    private int[] inDegrees;
+
     /**
      * Create an empty graph.
      */
     public AdjacencyMatrixDirectedGraph() {
         this.matrix = new ArrayList<ArrayList<GraphEdge<L>>>();
         this.nodesIndex = new HashMap<GraphNode<L>, Integer>();
+        this.nodes = new ArrayList<GraphNode<L>>();
+        this.outDegrees = new int[INITIAL_DEGREES_CAPACITY];
+        this.inDegrees = new int[INITIAL_DEGREES_CAPACITY];
     }
 
     /**
@@ -71,28 +121,69 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
      */
     @Override
     public int nodeCount() {
+        return this.matrix.size() - this.tombstones;
+    }
+
+    /**
+     * Returns the upper bound (exclusive) of the node indices, i.e. the size of
+     * the adjacency matrix. It is equal to nodeCount() unless some nodes have
+     * been removed with markNodeRemoved and the graph has not been compacted
+     * yet.
+     *
+     * @return the number of rows of the adjacency matrix
+     */
+    @Override
+    public int indexBound() {
         return this.matrix.size();
     }
 
+    /**
+     * Returns the number of lazily removed nodes whose rows and columns are
+     * still in the adjacency matrix.
+     *
+     * @return the number of tombstones waiting for compaction
+     */
+    public int tombstoneCount() {
+        return this.tombstones;
+    }
+
     /**
      * <h3>Returns the number of edges currently in the graph.</h3>
      * <br/>
-     * This method iterates through the adjacency matrix and counts all non-null
-     * entries, which represent edges in the graph.
+     * The value is a counter maintained by every edge insertion and removal,
+     * so no scan of the adjacency matrix is needed.
      *
      * @return the number of edges in the graph
      */
     @Override
     public int edgeCount() {
-        int count = 0;
-        for (ArrayList<GraphEdge<L>> row : this.matrix) { // Iterate through each row of the adjacency matrix
-            for (GraphEdge<L> edge : row) { // Iterate through each edge in the row
-                if (edge != null) {
-                    count++; // Increment the count for each non-null edge
-                }
-            }
-        }
-        return count; // Returns the total count of edges
+        return this.numberOfEdges;
+    }
+
+    /**
+     * Returns the number of edges leaving the node with the given index.
+     *
+     * @param i the index of the node
+     * @return the out-degree of the node
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public int outDegree(int i) {
+        this.getNode(i); // Check that the index belongs to a node
+        return this.outDegrees[i];
+    }
+
+    /**
+     * Returns the number of edges entering the node with the given index.
+     *
+     * @param i the index of the node
+     * @return the in-degree of the node
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public int inDegree(int i) {
+        this.getNode(i); // Check that the index belongs to a node
+        return this.inDegrees[i];
     }
 
     /**
@@ -103,6 +194,12 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
     public void clear() {
         this.matrix.clear();
         this.nodesIndex.clear();
+        this.nodes.clear();
+        this.tombstones = 0;
+        this.numberOfEdges = 0;
+        this.outDegrees = new int[INITIAL_DEGREES_CAPACITY];
+        this.inDegrees = new int[INITIAL_DEGREES_CAPACITY];
+        this.graphChanged();
     }
 
     /**
@@ -140,9 +237,18 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
         if (this.nodesIndex.containsKey(node)) { // Check if the node already exists (the class does not accept duplicated nodes)
             return false; // Node already exists
         }
+        Object event = FlightRecorderSupport.beginGraphMutation();
         // Assign the next index to the new node
-        int newIndex = this.nodesIndex.size();
+        int newIndex = this.matrix.size();
         this.nodesIndex.put(node, newIndex);
+        this.nodes.add(node);
+        // Make room for the degrees of the new node
+        if (newIndex == this.outDegrees.length) {
+            this.outDegrees = Arrays.copyOf(this.outDegrees, 2 * newIndex);
+            this.inDegrees = Arrays.copyOf(this.inDegrees, 2 * newIndex);
+        }
+        this.outDegrees[newIndex] = 0;
+        this.inDegrees[newIndex] = 0;
 
         // Add a new row to the adjacency matrix
         this.matrix.add(new ArrayList<>());
@@ -155,7 +261,8 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
         for (ArrayList<GraphEdge<L>> graphEdges : this.matrix) {
             graphEdges.add(null);
         }
-
+        this.graphChanged();
+        FlightRecorderSupport.commitGraphMutation(event, "addNode", this);
         return true; // Node successfully added
     }
 
@@ -203,20 +310,211 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
         if (index == null) {
             throw new IllegalArgumentException("Node not found in the graph.");
         }
+        Object event = FlightRecorderSupport.beginGraphMutation();
+        // Discount the edges of the node from the counters of its neighbours
+        int n = this.matrix.size();
+        for (int j = 0; j < n; j++) {
+            if (this.matrix.get(index).get(j) != null) {
+                this.inDegrees[j]--;
+                this.numberOfEdges--;
+            }
+            if (j != index && this.matrix.get(j).get(index) != null) {
+                this.outDegrees[j]--;
+                this.numberOfEdges--;
+            }
+        }
+        // Shift the degrees of the following nodes down by one position
+        System.arraycopy(this.outDegrees, index + 1, this.outDegrees, index, n - index - 1);
+        System.arraycopy(this.inDegrees, index + 1, this.inDegrees, index, n - index - 1);
         // Remove the corresponding row from the adjacency matrix
         this.matrix.remove((int) index);
+        this.nodes.remove((int) index);
         // Remove the corresponding column from each remaining row
         for (ArrayList<GraphEdge<L>> row : this.matrix) {
             if (index < row.size()) {
                 row.remove((int) index); // Remove the column at the specified index
             }
         }
-        // Update indices of remaining nodes
-        for (Map.Entry<GraphNode<L>, Integer> entry : this.nodesIndex.entrySet()) {
-            if (entry.getValue() > index) {
-                this.nodesIndex.put(entry.getKey(), entry.getValue() - 1);
+        // Update indices of remaining nodes (tombstones have no entry)
+        for (int i = index; i < this.nodes.size(); i++) {
+            GraphNode<L> shifted = this.nodes.get(i);
+            if (shifted != null) {
+                this.nodesIndex.put(shifted, i);
             }
         }
+        this.graphChanged();
+        FlightRecorderSupport.commitGraphMutation(event, "removeNode", this);
+    }
+
+    /**
+     * <h3>Removes a node lazily, leaving a tombstone in its place.</h3>
+     * <br/><p>
+     * The node and all its edges are removed from the graph, but its row and
+     * column are kept (empty) in the adjacency matrix, so that the indices of
+     * all the other nodes stay the same. Only the cells holding the edges of
+     * the node are visited, and the scans stop as soon as the known in- and
+     * out-degree of the node have been accounted for. The space is reclaimed
+     * by {@link #compact()}.
+     * </p><br/>
+     *
+     * @param node the node to be removed
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node is not found in the graph
+     */
+    public void markNodeRemoved(GraphNode<L> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        Integer index = this.nodesIndex.remove(node);
+        if (index == null) {
+            throw new IllegalArgumentException("Node not found in the graph.");
+        }
+        int k = index;
+        ArrayList<GraphEdge<L>> row = this.matrix.get(k);
+        // Outgoing edges (including a possible self loop)
+        for (int j = 0; this.outDegrees[k] > 0; j++) {
+            if (row.get(j) != null) {
+                row.set(j, null);
+                this.edgeRemoved(k, j);
+            }
+        }
+        // Ingoing edges
+        for (int i = 0; this.inDegrees[k] > 0; i++) {
+            if (this.matrix.get(i).get(k) != null) {
+                this.matrix.get(i).set(k, null);
+                this.edgeRemoved(i, k);
+            }
+        }
+        this.nodes.set(k, null);
+        this.tombstones++;
+        this.graphChanged();
+    }
+
+    /**
+     * Removes lazily the node with the given index, leaving a tombstone in its
+     * place. The indices of the other nodes do not change.
+     *
+     * @param i the index of the node to be removed
+     * @throws IndexOutOfBoundsException if the index is out of bounds or belongs to a removed node
+     */
+    public void markNodeRemoved(int i) {
+        this.markNodeRemoved(this.getNode(i));
+    }
+
+    /**
+     * <h3>Drops the rows and columns of all the lazily removed nodes.</h3>
+     * <br/><p>
+     * The live nodes keep their relative order and are renumbered from 0 to
+     * nodeCount() - 1. The matrix is rebuilt once, so the cost is
+     * O(indexBound()<sup>2</sup>) regardless of the number of tombstones.
+     * </p><br/>
+     *
+     * @return the remapping from the indices before the compaction to the
+     *         indices after it, -1 for the tombstones
+     */
+    public IndexRemapping compact() {
+        int n = this.matrix.size();
+        if (this.tombstones == 0) {
+            return IndexRemapping.identity(n);
+        }
+        int[] newIndexOf = new int[n];
+        int live = 0;
+        for (int i = 0; i < n; i++) {
+            newIndexOf[i] = this.nodes.get(i) == null ? -1 : live++;
+        }
+        ArrayList<ArrayList<GraphEdge<L>>> newMatrix = new ArrayList<ArrayList<GraphEdge<L>>>(live);
+        ArrayList<GraphNode<L>> newNodes = new ArrayList<GraphNode<L>>(live);
+        for (int i = 0; i < n; i++) {
+            if (newIndexOf[i] < 0) {
+                continue;
+            }
+            ArrayList<GraphEdge<L>> row = this.matrix.get(i);
+            // Same layout produced by addNode: one extra null column
+            ArrayList<GraphEdge<L>> newRow = new ArrayList<GraphEdge<L>>(live + 1);
+            for (int j = 0; j < n; j++) {
+                if (newIndexOf[j] >= 0) {
+                    newRow.add(row.get(j));
+                }
+            }
+            newRow.add(null);
+            newMatrix.add(newRow);
+            GraphNode<L> node = this.nodes.get(i);
+            newNodes.add(node);
+            this.nodesIndex.put(node, newIndexOf[i]);
+            this.outDegrees[newIndexOf[i]] = this.outDegrees[i];
+            this.inDegrees[newIndexOf[i]] = this.inDegrees[i];
+        }
+        this.matrix = newMatrix;
+        this.nodes = newNodes;
+        this.tombstones = 0;
+        this.graphChanged(); // the indices have changed
+        return new IndexRemapping(newIndexOf, live);
+    }
+
+    /**
+     * <h3>Renumbers the nodes of the graph with the given permutation.</h3>
+     * <br/><p>
+     * The node with index i receives index {@code permutation.newIndexOf(i)};
+     * rows and columns of the matrix, and the degrees, move with it. The
+     * permutation may also drop the tombstones, mapping them to -1, so that
+     * the graph is compacted at the same time. The matrix is rebuilt once, in
+     * O(indexBound()<sup>2</sup>).
+     * </p><br/>
+     *
+     * @param permutation the new index of each current index, for example
+     *                    computed by {@link GraphReordering} on the compacted
+     *                    graph
+     * @return the given permutation
+     * @throws NullPointerException     if the permutation is null
+     * @throws IllegalArgumentException if the permutation does not map the
+     *                                  live nodes one to one onto
+     *                                  [0, nodeCount() - 1] and the tombstones
+     *                                  to -1
+     */
+    public IndexRemapping reorder(IndexRemapping permutation) {
+        int n = this.matrix.size();
+        int live = this.nodesIndex.size();
+        if (permutation.oldSize() != n || permutation.newSize() != live) {
+            throw new IllegalArgumentException("The permutation must map " + n + " indices onto " + live + ".");
+        }
+        int[] oldIndexOf = new int[live];
+        Arrays.fill(oldIndexOf, -1);
+        for (int i = 0; i < n; i++) {
+            int p = permutation.newIndexOf(i);
+            if ((p < 0) != (this.nodes.get(i) == null) || (p >= 0 && oldIndexOf[p] >= 0)) {
+                throw new IllegalArgumentException("The remapping is not a permutation of the live nodes.");
+            }
+            if (p >= 0) {
+                oldIndexOf[p] = i;
+            }
+        }
+        ArrayList<ArrayList<GraphEdge<L>>> newMatrix = new ArrayList<ArrayList<GraphEdge<L>>>(live);
+        ArrayList<GraphNode<L>> newNodes = new ArrayList<GraphNode<L>>(live);
+        int[] newOutDegrees = new int[Math.max(live, INITIAL_DEGREES_CAPACITY)];
+        int[] newInDegrees = new int[newOutDegrees.length];
+        for (int p = 0; p < live; p++) {
+            int i = oldIndexOf[p];
+            ArrayList<GraphEdge<L>> row = this.matrix.get(i);
+            // Same layout produced by addNode: one extra null column
+            ArrayList<GraphEdge<L>> newRow = new ArrayList<GraphEdge<L>>(live + 1);
+            for (int q = 0; q < live; q++) {
+                newRow.add(row.get(oldIndexOf[q]));
+            }
+            newRow.add(null);
+            newMatrix.add(newRow);
+            GraphNode<L> node = this.nodes.get(i);
+            newNodes.add(node);
+            this.nodesIndex.put(node, p);
+            newOutDegrees[p] = this.outDegrees[i];
+            newInDegrees[p] = this.inDegrees[i];
+        }
+        this.matrix = newMatrix;
+        this.nodes = newNodes;
+        this.outDegrees = newOutDegrees;
+        this.inDegrees = newInDegrees;
+        this.tombstones = 0;
+        this.graphChanged(); // the indices have changed
+        return permutation;
     }
 
     /**
@@ -255,7 +553,7 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
      */
     @Override
     public void removeNode(int i) {
-        if (i < 0 || i >= this.nodeCount()) { // Check if the index is out of bounds
+        if (i < 0 || i >= this.indexBound()) { // Check if the index is out of bounds
             throw new IndexOutOfBoundsException("Index out of bounds: " + i);
         }
         GraphNode<L> node = this.getNode(i); // Retrieve the node by index
@@ -294,32 +592,28 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
         if (label == null) {
             throw new NullPointerException("Label cannot be null.");
         }
-        for (GraphNode<L> node : this.nodesIndex.keySet()) { // Iterate through the nodes
-            if (node.getLabel().equals(label)) {
-                return node; // Return the node with the matching label
-            }
-        }
-        return null; // Node with the specified label not found
+        // Nodes are equal if their labels are, so a probe node finds the stored one
+        Integer index = this.nodesIndex.get(new GraphNode<L>(label));
+        return index == null ? null : this.nodes.get(index);
     }
 
     /**
      * Retrieves the node at the specified index in the graph.
      *
      * @param i the index of the node to retrieve
-     * @return the node at the specified index, or null if no node exists at that index
-     * @throws IndexOutOfBoundsException if the index is out of bounds
+     * @return the node at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of bounds or belongs to a lazily removed node
      */
     @Override
     public GraphNode<L> getNode(int i) {
-        if (i < 0 || i >= this.nodeCount()) { // Check if the index is out of bounds
+        if (i < 0 || i >= this.indexBound()) { // Check if the index is out of bounds
             throw new IndexOutOfBoundsException("Index out of bounds: " + i);
         }
-        for (Map.Entry<GraphNode<L>, Integer> entry : this.nodesIndex.entrySet()) { // Iterate through the nodes
-            if (entry.getValue() == i) {
-                return entry.getKey(); // Return the node with the matching index
-            }
+        GraphNode<L> node = this.nodes.get(i);
+        if (node == null) {
+            throw new IndexOutOfBoundsException("Index " + i + " belongs to a removed node.");
         }
-        return null; // Node at the specified index not found
+        return node;
     }
 
     /**
@@ -348,9 +642,9 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
     /**
      * Retrieves the index of a node based on its label.
      * <br/><p>
-     * This method iterates through the nodes in the graph and checks if any node
-     * has a label matching the provided label. If a match is found, the index
-     * of the node is returned. If no match is found, an exception is thrown.
+     * This method looks up a node with the given label in the map of the
+     * indices, in constant expected time. If no such node exists, an exception
+     * is thrown.
      * </p><br/>
      *
      * @param label the label of the node whose index is to be retrieved
@@ -363,10 +657,9 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
         if (label == null) {
             throw new NullPointerException("Label cannot be null.");
         }
-        for (Map.Entry<GraphNode<L>, Integer> entry : this.nodesIndex.entrySet()) { // Iterate through the nodes
-            if (entry.getKey().getLabel().equals(label)) {
-                return entry.getValue(); // Return the index of the node with the matching label
-            }
+        Integer index = this.nodesIndex.get(new GraphNode<L>(label));
+        if (index != null) {
+            return index;
         }
         throw new IllegalArgumentException("Node with label '" + label + "' not found in the graph."); // Throw exception if not found
     }
@@ -425,7 +718,11 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
         }
 
         // Add the edge to the adjacency matrix
+        Object event = FlightRecorderSupport.beginGraphMutation();
         this.matrix.get(index1).set(index2, edge);
+        this.edgeAdded(index1, index2);
+        this.graphChanged();
+        FlightRecorderSupport.commitGraphMutation(event, "addEdge", this);
         return true; // Edge successfully added
     }
 
@@ -507,6 +804,27 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
         }
     }
 
+    /*
+     * Updates the edge counter and the degrees after the insertion of the
+     * edge from the node of index i to the node of index j.
+     */
+    private void edgeAdded(int i, int j) {
+        this.numberOfEdges++;
+        this.outDegrees[i]++;
+        this.inDegrees[j]++;
+    }
+
+    /*
+     * Updates the edge counter and the degrees after the removal of the edge
+     * from the node of index i to the node of index j.
+     */
+    private void edgeRemoved(int i, int j) {
+        this.numberOfEdges--;
+        this.outDegrees[i]--;
+        this.inDegrees[j]--;
+        this.graphChanged();
+    }
+
     /**
      * Adds a weighted directed edge between two nodes in the graph using their labels.
      * <br/><p>
@@ -551,7 +869,7 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
      */
     @Override
     public boolean addEdge(int i, int j) {
-        if (i < 0 || j < 0 || i >= this.nodeCount() || j >= this.nodeCount()) {
+        if (i < 0 || j < 0 || i >= this.indexBound() || j >= this.indexBound()) {
             throw new IndexOutOfBoundsException("Index out of bounds: " + i + ", " + j);
         }
         GraphNode<L> node1 = this.getNode(i);
@@ -580,7 +898,7 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
      */
     @Override
     public boolean addWeightedEdge(int i, int j, double weight) {
-        if (i < 0 || j < 0 || i >= this.nodeCount() || j >= this.nodeCount()) {
+        if (i < 0 || j < 0 || i >= this.indexBound() || j >= this.indexBound()) {
             throw new IndexOutOfBoundsException("Index out of bounds: " + i + ", " + j);
         }
         if (weight < 0) {
@@ -628,6 +946,7 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
 
         // Remove the edge from the adjacency matrix
         this.matrix.get(index1).set(index2, null);
+        this.edgeRemoved(index1, index2);
     }
 
     /**
@@ -663,6 +982,7 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
 
         // Remove the edge from the adjacency matrix
         this.matrix.get(index1).set(index2, null);
+        this.edgeRemoved(index1, index2);
     }
 
     /**
@@ -705,7 +1025,7 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
      */
     @Override
     public void removeEdge(int i, int j) {
-        if (i < 0 || j < 0 || i >= this.nodeCount() || j >= this.nodeCount()) {
+        if (i < 0 || j < 0 || i >= this.indexBound() || j >= this.indexBound()) {
             throw new IndexOutOfBoundsException("Index out of bounds: " + i + ", " + j);
         }
         GraphNode<L> node1 = this.getNode(i);
@@ -817,7 +1137,7 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
      */
     @Override
     public GraphEdge<L> getEdge(int i, int j) {
-        if (i < 0 || j < 0 || i >= this.nodeCount() || j >= this.nodeCount()) {
+        if (i < 0 || j < 0 || i >= this.indexBound() || j >= this.indexBound()) {
             throw new IndexOutOfBoundsException("Index out of bounds: " + i + ", " + j);
         }
         GraphNode<L> node1 = this.getNode(i);
@@ -903,7 +1223,7 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
      */
     @Override
     public Set<GraphNode<L>> getAdjacentNodesOf(int i) {
-        if (i < 0 || i >= this.nodeCount()) { // Check if the index is out of bounds
+        if (i < 0 || i >= this.indexBound()) { // Check if the index is out of bounds
             throw new IndexOutOfBoundsException("Index out of bounds: " + i);
         }
         GraphNode<L> node = this.getNode(i); // Retrieve the node by index
@@ -988,7 +1308,7 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
      */
     @Override
     public Set<GraphNode<L>> getPredecessorNodesOf(int i) {
-        if (i < 0 || i >= this.nodeCount()) { // Check if the index is out of bounds
+        if (i < 0 || i >= this.indexBound()) { // Check if the index is out of bounds
             throw new IndexOutOfBoundsException("Index out of bounds: " + i);
         }
         GraphNode<L> node = this.getNode(i); // Retrieve the node by index
@@ -1073,7 +1393,7 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
      */
     @Override
     public Set<GraphEdge<L>> getEdgesOf(int i) {
-        if (i < 0 || i >= this.nodeCount()) { // Check if the index is out of bounds
+        if (i < 0 || i >= this.indexBound()) { // Check if the index is out of bounds
             throw new IndexOutOfBoundsException("Index out of bounds: " + i);
         }
         GraphNode<L> node = this.getNode(i); // Retrieve the node by index
@@ -1158,7 +1478,7 @@ public class AdjacencyMatrixDirectedGraph<L> extends Graph<L> {
      */
     @Override
     public Set<GraphEdge<L>> getIngoingEdgesOf(int i) {
-        if (i < 0 || i >= this.nodeCount()) { // Check if the index is out of bounds
+        if (i < 0 || i >= this.indexBound()) { // Check if the index is out of bounds
             throw new IndexOutOfBoundsException("Index out of bounds: " + i);
         }
         GraphNode<L> node = this.getNode(i); // Retrieve the node by index
@@ -25,18 +25,36 @@ import java.util.NoSuchElementException;
  */
 public class BinaryHeapMinPriorityQueue {
 
+    /*
+     * Initial capacity of the heap array, the default one of ArrayList.
+     */
+    private static final int INITIAL_CAPACITY = 10;
+
     /*
      * ArrayList per la rappresentazione dello heap. Vengono usate tutte le
      * posizioni (la radice dello heap è quindi in posizione 0).
      */
     private final ArrayList<PriorityQueueElement> heap;
 
+    /*
+     * Counters updated by the operations, null when the queue is not
+     * instrumented.
+     */
+    private HeapMetrics metrics;
+
+    /*
+     * Number of elements the heap array can hold before growing. The array is
+     * grown explicitly, by half its size, so that every growth can be traced.
+     */
+    private int capacity;
+
     /**
      * Crea una coda con priorità vuota.
      *
      */
     public BinaryHeapMinPriorityQueue() {
-        this.heap = new ArrayList<PriorityQueueElement>();
+        this.heap = new ArrayList<PriorityQueueElement>(INITIAL_CAPACITY);
+        this.capacity = INITIAL_CAPACITY;
     }
 
     /**
@@ -68,11 +86,19 @@ public class BinaryHeapMinPriorityQueue {
             throw new NullPointerException("The element passed is null.");
         }
         // Add the element to the end of the heap
+        if (this.heap.size() == this.capacity) {
+            this.grow();
+        }
         this.heap.add(element);
         // Set the handle of the element to its index in the heap
         element.setHandle(this.heap.size() - 1);
         // Restore the heap property by bubbling up the new element
         heapifyUp(this.heap.size() - 1);
+        if (this.metrics != null) {
+            this.metrics.inserts++;
+            this.metrics.maxSize = Math.max(this.metrics.maxSize, this.heap.size());
+            this.metrics.maxSizeSinceMark = Math.max(this.metrics.maxSizeSinceMark, this.heap.size());
+        }
     }
 
     /**
@@ -149,9 +175,17 @@ public class BinaryHeapMinPriorityQueue {
         PriorityQueueElement lastElement = this.heap.get(size() - 1); // copies the last element
         this.heap.set(0, lastElement);  //replaces the root with the last element
         this.heap.remove(this.heap.size() - 1); // removes the last element
-        // Restore the heap property by bubbling down the new root
+        // Restore the heap property by bubbling down the new root. The moved
+        // element keeps its old handle while sinking, so that it comes after
+        // the other elements with the same priority
         heapifyDown(0);
+        if (!this.heap.isEmpty() && this.heap.get(0) == lastElement) {
+            lastElement.setHandle(0); // it did not move, its handle must be updated
+        }
         min.setHandle(-1); // Set the handle of the extracted element to -1 to indicate it is no longer in the queue
+        if (this.metrics != null) {
+            this.metrics.extractions++;
+        }
         return min;
     }
 
@@ -233,6 +267,9 @@ public class BinaryHeapMinPriorityQueue {
         element.setPriority(newPriority);
         // Restore the heap property by bubbling up the element
         heapifyUp(handle);
+        if (this.metrics != null) {
+            this.metrics.decreasePriorityCalls++;
+        }
     }
 
     /**
@@ -261,6 +298,35 @@ public class BinaryHeapMinPriorityQueue {
         this.heap.clear();
     }
 
+    /**
+     * Grows the heap array by half its capacity, committing a HeapResize
+     * event to Java Flight Recorder if it is enabled.
+     */
+    private void grow() {
+        Object event = FlightRecorderSupport.beginHeapResize();
+        int oldCapacity = this.capacity;
+        this.capacity = oldCapacity + Math.max(oldCapacity >> 1, 1);
+        this.heap.ensureCapacity(this.capacity);
+        FlightRecorderSupport.commitHeapResize(event, oldCapacity, this.capacity);
+    }
+
+    /**
+     * Attaches the counters to be updated by the operations of this queue, or
+     * detaches them if null.
+     *
+     * @param metrics the counters to update, or null to disable them
+     */
+    public void setMetrics(HeapMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * @return the counters updated by this queue, or null if none is attached
+     */
+    public HeapMetrics getMetrics() {
+        return this.metrics;
+    }
+
     /**
      * Returns the index of the parent of the element at index i.
      *
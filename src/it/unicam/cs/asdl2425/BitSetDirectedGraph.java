@@ -0,0 +1,944 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.*;
+
+/**
+ * <h3>
+ * Class that implements an unweighted directed graph using a bit-packed
+ * adjacency matrix. Null node labels are not accepted, and duplicate node
+ * labels are not allowed (in that case, they are considered the same
+ * node).</h3>
+ * <br/>
+ * <p>
+ * Nodes are indexed from 0 to nodeCount() - 1 following their insertion order,
+ * as in {@link AdjacencyMatrixDirectedGraph}. Each row of the matrix is a
+ * {@code long[]} storing one bit per cell: bit j of row i is set if and only if
+ * the graph contains the edge from the node of index i to the node of index j.
+ * A dense graph therefore costs n<sup>2</sup>/8 bytes instead of a reference
+ * (and an edge object) per cell, and adjacency queries scan 64 cells per word
+ * operation.</p>
+ * <br/>
+ * <p>
+ * No GraphEdge object is stored: the edges returned by the query methods are
+ * created on demand and carry no weight. For this reason weighted edges are not
+ * accepted, and changing the weight of a returned edge has no effect on the
+ * graph.</p>
+ * <br/>
+ * <p>
+ * The number of edges and the in- and out-degree of every node are kept up to
+ * date by every insertion and removal.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public class BitSetDirectedGraph<L> extends Graph<L> {
+
+    /*
+     * Initial number of columns allocated by each row, doubled every time a
+     * new node does not fit anymore.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /*
+     * Set of nodes and association of each node with its index in the
+     * adjacency matrix.
+     */
+    protected Map<GraphNode<L>, Integer> nodesIndex;
+
+    /*
+     * Node associated with each index.
+     */
+    protected ArrayList<GraphNode<L>> nodes;
+
+    /*
+     * Rows of the bit matrix. Only the first nodeCount() rows are meaningful;
+     * every row has capacity / 64 words.
+     */
+    private long[][] rows;
+
+    private int capacity;
+
+    private int numberOfEdges;
+
+    private int[] outDegrees;
+
+    private int[] inDegrees;
+
+    /**
+     * Create an empty graph.
+     */
+    public BitSetDirectedGraph() {
+        this.nodesIndex = new HashMap<GraphNode<L>, Integer>();
+        this.nodes = new ArrayList<GraphNode<L>>();
+        this.init();
+    }
+
+    private void init() {
+        this.capacity = INITIAL_CAPACITY;
+        this.rows = new long[INITIAL_CAPACITY][];
+        this.outDegrees = new int[INITIAL_CAPACITY];
+        this.inDegrees = new int[INITIAL_CAPACITY];
+        this.numberOfEdges = 0;
+    }
+
+    /**
+     * Returns the number of nodes currently in the graph.
+     *
+     * @return the number of nodes in the graph
+     */
+    @Override
+    public int nodeCount() {
+        return this.nodes.size();
+    }
+
+    /**
+     * Returns the number of edges currently in the graph, kept in a counter.
+     *
+     * @return the number of edges in the graph
+     */
+    @Override
+    public int edgeCount() {
+        return this.numberOfEdges;
+    }
+
+    /**
+     * Returns the number of edges leaving the node with the given index.
+     *
+     * @param i the index of the node
+     * @return the out-degree of the node
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public int outDegree(int i) {
+        this.checkIndex(i);
+        return this.outDegrees[i];
+    }
+
+    /**
+     * Returns the number of edges entering the node with the given index.
+     *
+     * @param i the index of the node
+     * @return the in-degree of the node
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public int inDegree(int i) {
+        this.checkIndex(i);
+        return this.inDegrees[i];
+    }
+
+    /**
+     * Removes all nodes and edges from the graph, effectively clearing it.
+     */
+    @Override
+    public void clear() {
+        this.nodesIndex.clear();
+        this.nodes.clear();
+        this.init();
+        this.graphChanged();
+    }
+
+    /**
+     * Checks if the graph is directed.
+     *
+     * @return true since the class implements a directed graph
+     */
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    /**
+     * <h3>Adds a new node to the graph.</h3>
+     * <br/><p>
+     * The node receives the next free index and an empty row. When the rows
+     * have no room left for a new column they are all doubled in length.
+     * </p><br/>
+     *
+     * @param node the node to be added
+     * @return true if the node was successfully added, false if the node already exists
+     * @throws NullPointerException if the node is null
+     */
+    @Override
+    public boolean addNode(GraphNode<L> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        if (this.nodesIndex.containsKey(node)) {
+            return false; // Node already exists
+        }
+        Object event = FlightRecorderSupport.beginGraphMutation();
+        int n = this.nodes.size();
+        if (n == this.capacity) {
+            this.capacity *= 2;
+            int words = this.capacity >>> 6;
+            this.rows = Arrays.copyOf(this.rows, this.capacity);
+            for (int i = 0; i < n; i++) {
+                this.rows[i] = Arrays.copyOf(this.rows[i], words);
+            }
+            this.outDegrees = Arrays.copyOf(this.outDegrees, this.capacity);
+            this.inDegrees = Arrays.copyOf(this.inDegrees, this.capacity);
+        }
+        this.rows[n] = new long[this.capacity >>> 6];
+        this.outDegrees[n] = 0;
+        this.inDegrees[n] = 0;
+        this.nodes.add(node);
+        this.nodesIndex.put(node, n);
+        this.graphChanged();
+        FlightRecorderSupport.commitGraphMutation(event, "addNode", this);
+        return true;
+    }
+
+    /**
+     * Adds a new node to the graph using the provided label.
+     *
+     * @param label the label of the node to be added
+     * @return true if the node was successfully added, false if a node with the same label already exists
+     * @throws NullPointerException if the label is null
+     */
+    @Override
+    public boolean addNode(L label) {
+        if (label == null) {
+            throw new NullPointerException("Label cannot be null.");
+        }
+        return this.addNode(new GraphNode<L>(label));
+    }
+
+    /**
+     * Removes a node from the graph.
+     * <br/><p>
+     * The row of the node is dropped and its column is removed from every
+     * other row by shifting the following bits down by one position, a word at
+     * a time. Indices of nodes with values greater than the removed node's
+     * index are decremented by one.
+     * </p><br/>
+     *
+     * @param node the node to be removed
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node is not found in the graph
+     */
+    @Override
+    public void removeNode(GraphNode<L> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        Integer index = this.nodesIndex.remove(node);
+        if (index == null) {
+            throw new IllegalArgumentException("Node not found in the graph.");
+        }
+        Object event = FlightRecorderSupport.beginGraphMutation();
+        int k = index;
+        int n = this.nodes.size();
+        // Discount the edges of the node from the counters of its neighbours
+        long[] removedRow = this.rows[k];
+        for (int w = 0; w < removedRow.length; w++) {
+            for (long word = removedRow[w]; word != 0; word &= word - 1) {
+                this.inDegrees[(w << 6) + Long.numberOfTrailingZeros(word)]--;
+                this.numberOfEdges--;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            if (i != k && testBit(this.rows[i], k)) {
+                this.outDegrees[i]--;
+                this.numberOfEdges--;
+            }
+        }
+        // Drop the row and the degrees of the node
+        System.arraycopy(this.rows, k + 1, this.rows, k, n - k - 1);
+        this.rows[n - 1] = null;
+        System.arraycopy(this.outDegrees, k + 1, this.outDegrees, k, n - k - 1);
+        System.arraycopy(this.inDegrees, k + 1, this.inDegrees, k, n - k - 1);
+        // Drop the column of the node from the remaining rows
+        for (int i = 0; i < n - 1; i++) {
+            removeBit(this.rows[i], k);
+        }
+        this.nodes.remove(k);
+        for (int i = k; i < n - 1; i++) {
+            this.nodesIndex.put(this.nodes.get(i), i);
+        }
+        this.graphChanged();
+        FlightRecorderSupport.commitGraphMutation(event, "removeNode", this);
+    }
+
+    /**
+     * Removes a node from the graph based on its label.
+     *
+     * @param label the label of the node to be removed
+     * @throws NullPointerException     if the label is null
+     * @throws IllegalArgumentException if no node with the specified label exists in the graph
+     */
+    @Override
+    public void removeNode(L label) {
+        this.removeNode(this.requireNode(label));
+    }
+
+    /**
+     * Removes a node from the graph based on its index.
+     *
+     * @param i the index of the node to be removed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public void removeNode(int i) {
+        this.removeNode(this.getNode(i));
+    }
+
+    /**
+     * Retrieves the node of this graph equal to the given one.
+     *
+     * @param node the node to retrieve
+     * @return the node stored in the graph, or null if it does not exist
+     * @throws NullPointerException if the node is null
+     */
+    @Override
+    public GraphNode<L> getNode(GraphNode<L> node) {
+        int index = this.getNodeIndexOf(node);
+        return index == -1 ? null : this.nodes.get(index);
+    }
+
+    /**
+     * Retrieves a node from the graph based on its label.
+     *
+     * @param label the label of the node to retrieve
+     * @return the node with the specified label, or null if no such node exists
+     * @throws NullPointerException if the label is null
+     */
+    @Override
+    public GraphNode<L> getNode(L label) {
+        if (label == null) {
+            throw new NullPointerException("Label cannot be null.");
+        }
+        return this.getNode(new GraphNode<L>(label));
+    }
+
+    /**
+     * Retrieves the node at the specified index in the graph.
+     *
+     * @param i the index of the node to retrieve
+     * @return the node at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public GraphNode<L> getNode(int i) {
+        this.checkIndex(i);
+        return this.nodes.get(i);
+    }
+
+    /**
+     * Retrieves the index of the specified node in the graph.
+     *
+     * @param node the node whose index is to be retrieved
+     * @return the index of the node, or -1 if the node is not found
+     * @throws NullPointerException if the node is null
+     */
+    @Override
+    public int getNodeIndexOf(GraphNode<L> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        Integer index = this.nodesIndex.get(node);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Retrieves the index of a node based on its label.
+     *
+     * @param label the label of the node whose index is to be retrieved
+     * @return the index of the node with the specified label
+     * @throws NullPointerException     if the label is null
+     * @throws IllegalArgumentException if no node with the specified label exists in the graph
+     */
+    @Override
+    public int getNodeIndexOf(L label) {
+        if (label == null) {
+            throw new NullPointerException("Label cannot be null.");
+        }
+        int index = this.getNodeIndexOf(new GraphNode<L>(label));
+        if (index == -1) {
+            throw new IllegalArgumentException("Node with label '" + label + "' not found in the graph.");
+        }
+        return index;
+    }
+
+    /**
+     * Retrieves all nodes currently in the graph.
+     *
+     * @return a set of all nodes in the graph
+     */
+    @Override
+    public Set<GraphNode<L>> getNodes() {
+        return this.nodesIndex.keySet();
+    }
+
+    /**
+     * Adds a directed edge to the graph by setting the corresponding bit.
+     *
+     * @param edge the directed, unweighted edge to be added
+     * @return true if the edge was successfully added, false if the edge already exists
+     * @throws NullPointerException     if the edge is null
+     * @throws IllegalArgumentException if the edge is not directed, if it is weighted or if one or both nodes of the edge are not found in the graph
+     */
+    @Override
+    public boolean addEdge(GraphEdge<L> edge) {
+        if (edge == null) {
+            throw new NullPointerException("Edge cannot be null.");
+        }
+        if (!edge.isDirected()) {
+            throw new IllegalArgumentException("The graph is directed.");
+        }
+        if (edge.hasWeight()) {
+            throw new IllegalArgumentException("The graph does not store edge weights.");
+        }
+        return this.setEdge(this.requireIndex(edge.getNode1()),
+                this.requireIndex(edge.getNode2()));
+    }
+
+    /**
+     * Adds a directed edge between two nodes in the graph.
+     *
+     * @param node1 the source node of the edge
+     * @param node2 the destination node of the edge
+     * @return true if the edge was successfully added, false if the edge already exists
+     * @throws NullPointerException     if either node is null
+     * @throws IllegalArgumentException if one or both nodes are not found in the graph
+     */
+    @Override
+    public boolean addEdge(GraphNode<L> node1, GraphNode<L> node2) {
+        if (node1 == null || node2 == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        return this.setEdge(this.requireIndex(node1), this.requireIndex(node2));
+    }
+
+    /**
+     * Weighted edges are not supported by this graph.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean addWeightedEdge(GraphNode<L> node1, GraphNode<L> node2, double weight) {
+        throw new UnsupportedOperationException("The graph does not store edge weights.");
+    }
+
+    /**
+     * Adds a directed edge between two nodes in the graph using their labels.
+     *
+     * @param label1 the label of the source node
+     * @param label2 the label of the destination node
+     * @return true if the edge was successfully added, false if the edge already exists
+     * @throws NullPointerException     if either label is null
+     * @throws IllegalArgumentException if one or both nodes are not found in the graph
+     */
+    @Override
+    public boolean addEdge(L label1, L label2) {
+        return this.addEdge(this.requireNode(label1), this.requireNode(label2));
+    }
+
+    /**
+     * Weighted edges are not supported by this graph.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean addWeightedEdge(L label1, L label2, double weight) {
+        throw new UnsupportedOperationException("The graph does not store edge weights.");
+    }
+
+    /**
+     * Adds a directed edge between two nodes in the graph using their indices.
+     *
+     * @param i the index of the source node
+     * @param j the index of the destination node
+     * @return true if the edge was successfully added, false if the edge already exists
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     */
+    @Override
+    public boolean addEdge(int i, int j) {
+        this.checkIndex(i);
+        this.checkIndex(j);
+        return this.setEdge(i, j);
+    }
+
+    /**
+     * Weighted edges are not supported by this graph.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public boolean addWeightedEdge(int i, int j, double weight) {
+        throw new UnsupportedOperationException("The graph does not store edge weights.");
+    }
+
+    /**
+     * Removes a directed edge from the graph.
+     *
+     * @param edge the directed edge to be removed
+     * @throws NullPointerException     if the edge is null
+     * @throws IllegalArgumentException if one or both nodes of the edge are not found in the graph
+     * @throws IllegalArgumentException if the edge does not exist in the graph
+     */
+    @Override
+    public void removeEdge(GraphEdge<L> edge) {
+        if (edge == null) {
+            throw new NullPointerException("Edge cannot be null.");
+        }
+        this.removeEdge(edge.getNode1(), edge.getNode2());
+    }
+
+    /**
+     * Removes a directed edge between two nodes in the graph.
+     *
+     * @param node1 the source node of the edge
+     * @param node2 the destination node of the edge
+     * @throws NullPointerException     if either node is null
+     * @throws IllegalArgumentException if one or both nodes are not found in the graph
+     * @throws IllegalArgumentException if the edge does not exist in the graph
+     */
+    @Override
+    public void removeEdge(GraphNode<L> node1, GraphNode<L> node2) {
+        if (node1 == null || node2 == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        this.clearEdge(this.requireIndex(node1), this.requireIndex(node2));
+    }
+
+    /**
+     * Removes a directed edge between two nodes in the graph using their labels.
+     *
+     * @param label1 the label of the source node
+     * @param label2 the label of the destination node
+     * @throws NullPointerException     if either label is null
+     * @throws IllegalArgumentException if one or both nodes are not found in the graph or the edge does not exist
+     */
+    @Override
+    public void removeEdge(L label1, L label2) {
+        this.removeEdge(this.requireNode(label1), this.requireNode(label2));
+    }
+
+    /**
+     * Removes a directed edge between two nodes in the graph using their indices.
+     *
+     * @param i the index of the source node
+     * @param j the index of the destination node
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     * @throws IllegalArgumentException  if the edge does not exist in the graph
+     */
+    @Override
+    public void removeEdge(int i, int j) {
+        this.checkIndex(i);
+        this.checkIndex(j);
+        this.clearEdge(i, j);
+    }
+
+    /**
+     * Determines, with a single bit test, if the graph contains the edge
+     * between the nodes with the given indices.
+     *
+     * @param i the index of the source node
+     * @param j the index of the destination node
+     * @return true if the edge exists, false otherwise
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     */
+    public boolean hasEdge(int i, int j) {
+        this.checkIndex(i);
+        this.checkIndex(j);
+        return testBit(this.rows[i], j);
+    }
+
+    /**
+     * Returns the indices of the successors of the node with the given index,
+     * in increasing order.
+     *
+     * @param i the index of the node
+     * @return a new array with the indices of the nodes adjacent to node i
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int[] getSuccessorIndicesOf(int i) {
+        this.checkIndex(i);
+        int[] successors = new int[this.outDegrees[i]];
+        long[] row = this.rows[i];
+        int k = 0;
+        for (int w = 0; w < row.length; w++) {
+            for (long word = row[w]; word != 0; word &= word - 1) {
+                successors[k++] = (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+        }
+        return successors;
+    }
+
+    /**
+     * Returns a copy of the words of the row of the node with the given index.
+     * Bit j of the result (bit {@code j % 64} of word {@code j / 64}) is set if
+     * the edge from node i to node j exists.
+     *
+     * @param i the index of the node
+     * @return the bits of the row, with {@code ceil(nodeCount() / 64)} words
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public long[] getRowBits(int i) {
+        this.checkIndex(i);
+        return Arrays.copyOf(this.rows[i], (this.nodes.size() + 63) >>> 6);
+    }
+
+    /**
+     * Retrieves a directed edge from the graph. The returned edge is created on
+     * demand.
+     *
+     * @param edge the directed edge to retrieve
+     * @return an edge equal to the given one, or null if the edge does not exist
+     * @throws NullPointerException     if the edge is null
+     * @throws IllegalArgumentException if one or both nodes of the edge are not found in the graph
+     */
+    @Override
+    public GraphEdge<L> getEdge(GraphEdge<L> edge) {
+        if (edge == null) {
+            throw new NullPointerException("Edge cannot be null.");
+        }
+        return this.getEdge(edge.getNode1(), edge.getNode2());
+    }
+
+    /**
+     * Retrieves a directed edge between two nodes in the graph. The returned
+     * edge is created on demand.
+     *
+     * @param node1 the source node of the edge
+     * @param node2 the destination node of the edge
+     * @return the edge connecting the two nodes, or null if the edge does not exist
+     * @throws NullPointerException     if either node is null
+     * @throws IllegalArgumentException if one or both nodes are not found in the graph
+     */
+    @Override
+    public GraphEdge<L> getEdge(GraphNode<L> node1, GraphNode<L> node2) {
+        if (node1 == null || node2 == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        return this.edgeAt(this.requireIndex(node1), this.requireIndex(node2));
+    }
+
+    /**
+     * Retrieves a directed edge between two nodes in the graph using their labels.
+     *
+     * @param label1 the label of the source node
+     * @param label2 the label of the destination node
+     * @return the edge connecting the two nodes, or null if the edge does not exist
+     * @throws NullPointerException     if either label is null
+     * @throws IllegalArgumentException if one or both nodes are not found in the graph
+     */
+    @Override
+    public GraphEdge<L> getEdge(L label1, L label2) {
+        return this.getEdge(this.requireNode(label1), this.requireNode(label2));
+    }
+
+    /**
+     * Retrieves a directed edge between two nodes in the graph using their indices.
+     *
+     * @param i the index of the source node
+     * @param j the index of the destination node
+     * @return the edge connecting the two nodes, or null if the edge does not exist
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     */
+    @Override
+    public GraphEdge<L> getEdge(int i, int j) {
+        this.checkIndex(i);
+        this.checkIndex(j);
+        return this.edgeAt(i, j);
+    }
+
+    /**
+     * Retrieves the adjacent nodes of a specified node in the graph, visiting
+     * only the set bits of its row.
+     *
+     * @param node the node whose adjacent nodes are to be retrieved
+     * @return a set of nodes adjacent to the specified node
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node is not found in the graph
+     */
+    @Override
+    public Set<GraphNode<L>> getAdjacentNodesOf(GraphNode<L> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        return this.adjacentNodesAt(this.requireIndex(node));
+    }
+
+    /**
+     * Retrieves the adjacent nodes of a node based on its label.
+     *
+     * @param label the label of the node whose adjacent nodes are to be retrieved
+     * @return a set of nodes adjacent to the node with the specified label
+     * @throws NullPointerException     if the label is null
+     * @throws IllegalArgumentException if no node with the specified label exists in the graph
+     */
+    @Override
+    public Set<GraphNode<L>> getAdjacentNodesOf(L label) {
+        return this.getAdjacentNodesOf(this.requireNode(label));
+    }
+
+    /**
+     * Retrieves the adjacent nodes of a node based on its index.
+     *
+     * @param i the index of the node whose adjacent nodes are to be retrieved
+     * @return a set of nodes adjacent to the node at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public Set<GraphNode<L>> getAdjacentNodesOf(int i) {
+        this.checkIndex(i);
+        return this.adjacentNodesAt(i);
+    }
+
+    /**
+     * Retrieves the predecessor nodes of a specified node in the graph.
+     *
+     * @param node the node whose predecessor nodes are to be retrieved
+     * @return a set of nodes that have directed edges pointing to the specified node
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node is not found in the graph
+     */
+    @Override
+    public Set<GraphNode<L>> getPredecessorNodesOf(GraphNode<L> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        int k = this.requireIndex(node);
+        Set<GraphNode<L>> predecessorNodes = new HashSet<>();
+        for (int i = 0; i < this.nodes.size(); i++) {
+            if (testBit(this.rows[i], k)) {
+                predecessorNodes.add(this.nodes.get(i));
+            }
+        }
+        return predecessorNodes;
+    }
+
+    /**
+     * Retrieves the predecessor nodes of a node based on its label.
+     *
+     * @param label the label of the node whose predecessor nodes are to be retrieved
+     * @return a set of nodes that have directed edges pointing to the node with the specified label
+     * @throws NullPointerException     if the label is null
+     * @throws IllegalArgumentException if no node with the specified label exists in the graph
+     */
+    @Override
+    public Set<GraphNode<L>> getPredecessorNodesOf(L label) {
+        return this.getPredecessorNodesOf(this.requireNode(label));
+    }
+
+    /**
+     * Retrieves the predecessor nodes of a node based on its index.
+     *
+     * @param i the index of the node whose predecessor nodes are to be retrieved
+     * @return a set of nodes that have directed edges pointing to the node at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public Set<GraphNode<L>> getPredecessorNodesOf(int i) {
+        return this.getPredecessorNodesOf(this.getNode(i));
+    }
+
+    /**
+     * Retrieves all outgoing edges of a specified node in the graph. The
+     * edges are created on demand.
+     *
+     * @param node the node whose outgoing edges are to be retrieved
+     * @return a set of edges originating from the specified node
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node is not found in the graph
+     */
+    @Override
+    public Set<GraphEdge<L>> getEdgesOf(GraphNode<L> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        int i = this.requireIndex(node);
+        GraphNode<L> source = this.nodes.get(i);
+        Set<GraphEdge<L>> edges = new HashSet<>();
+        for (GraphNode<L> target : this.adjacentNodesAt(i)) {
+            edges.add(new GraphEdge<L>(source, target, true));
+        }
+        return edges;
+    }
+
+    /**
+     * Retrieves all outgoing edges of a node based on its label.
+     *
+     * @param label the label of the node whose outgoing edges are to be retrieved
+     * @return a set of edges originating from the node with the specified label
+     * @throws NullPointerException     if the label is null
+     * @throws IllegalArgumentException if no node with the specified label exists in the graph
+     */
+    @Override
+    public Set<GraphEdge<L>> getEdgesOf(L label) {
+        return this.getEdgesOf(this.requireNode(label));
+    }
+
+    /**
+     * Retrieves all outgoing edges of a node based on its index.
+     *
+     * @param i the index of the node whose outgoing edges are to be retrieved
+     * @return a set of edges originating from the node at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public Set<GraphEdge<L>> getEdgesOf(int i) {
+        return this.getEdgesOf(this.getNode(i));
+    }
+
+    /**
+     * Retrieves all ingoing edges of a specified node in the graph. The edges
+     * are created on demand.
+     *
+     * @param node the node whose ingoing edges are to be retrieved
+     * @return a set of edges pointing to the specified node
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node is not found in the graph
+     */
+    @Override
+    public Set<GraphEdge<L>> getIngoingEdgesOf(GraphNode<L> node) {
+        GraphNode<L> target = this.getNode(node);
+        if (target == null) {
+            throw new IllegalArgumentException("Node not found in the graph.");
+        }
+        Set<GraphEdge<L>> ingoingEdges = new HashSet<>();
+        for (GraphNode<L> source : this.getPredecessorNodesOf(target)) {
+            ingoingEdges.add(new GraphEdge<L>(source, target, true));
+        }
+        return ingoingEdges;
+    }
+
+    /**
+     * Retrieves all ingoing edges of a node based on its label.
+     *
+     * @param label the label of the node whose ingoing edges are to be retrieved
+     * @return a set of edges pointing to the node with the specified label
+     * @throws NullPointerException     if the label is null
+     * @throws IllegalArgumentException if no node with the specified label exists in the graph
+     */
+    @Override
+    public Set<GraphEdge<L>> getIngoingEdgesOf(L label) {
+        return this.getIngoingEdgesOf(this.requireNode(label));
+    }
+
+    /**
+     * Retrieves all ingoing edges of a node based on its index.
+     *
+     * @param i the index of the node whose ingoing edges are to be retrieved
+     * @return a set of edges pointing to the node at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public Set<GraphEdge<L>> getIngoingEdgesOf(int i) {
+        return this.getIngoingEdgesOf(this.getNode(i));
+    }
+
+    /**
+     * Retrieves all edges currently in the graph. The edges are created on
+     * demand.
+     *
+     * @return a set containing all edges in the graph
+     */
+    @Override
+    public Set<GraphEdge<L>> getEdges() {
+        Set<GraphEdge<L>> edges = new HashSet<>();
+        for (int i = 0; i < this.nodes.size(); i++) {
+            GraphNode<L> source = this.nodes.get(i);
+            for (GraphNode<L> target : this.adjacentNodesAt(i)) {
+                edges.add(new GraphEdge<L>(source, target, true));
+            }
+        }
+        return edges;
+    }
+
+    private boolean setEdge(int i, int j) {
+        long mask = 1L << j; // the shift distance is taken modulo 64
+        long[] row = this.rows[i];
+        if ((row[j >>> 6] & mask) != 0) {
+            return false; // Edge already exists
+        }
+        Object event = FlightRecorderSupport.beginGraphMutation();
+        row[j >>> 6] |= mask;
+        this.numberOfEdges++;
+        this.outDegrees[i]++;
+        this.inDegrees[j]++;
+        this.graphChanged();
+        FlightRecorderSupport.commitGraphMutation(event, "addEdge", this);
+        return true;
+    }
+
+    private void clearEdge(int i, int j) {
+        long mask = 1L << j;
+        long[] row = this.rows[i];
+        if ((row[j >>> 6] & mask) == 0) {
+            throw new IllegalArgumentException("Edge does not exist in the graph.");
+        }
+        row[j >>> 6] &= ~mask;
+        this.numberOfEdges--;
+        this.outDegrees[i]--;
+        this.inDegrees[j]--;
+        this.graphChanged();
+    }
+
+    private GraphEdge<L> edgeAt(int i, int j) {
+        if (!testBit(this.rows[i], j)) {
+            return null;
+        }
+        return new GraphEdge<L>(this.nodes.get(i), this.nodes.get(j), true);
+    }
+
+    private Set<GraphNode<L>> adjacentNodesAt(int i) {
+        Set<GraphNode<L>> adjacentNodes = new HashSet<>();
+        long[] row = this.rows[i];
+        for (int w = 0; w < row.length; w++) {
+            for (long word = row[w]; word != 0; word &= word - 1) {
+                adjacentNodes.add(this.nodes.get((w << 6) + Long.numberOfTrailingZeros(word)));
+            }
+        }
+        return adjacentNodes;
+    }
+
+    private static boolean testBit(long[] row, int j) {
+        return (row[j >>> 6] & (1L << j)) != 0;
+    }
+
+    /*
+     * Removes bit k from the row, moving every following bit down by one
+     * position. Each word receives the lowest bit of the next one.
+     */
+    private static void removeBit(long[] row, int k) {
+        int first = k >>> 6;
+        long lowMask = (1L << k) - 1; // bits of the first word below k
+        for (int w = first; w < row.length; w++) {
+            long word = row[w];
+            long shifted = w == first
+                    ? (word & lowMask) | ((word >>> 1) & ~lowMask)
+                    : word >>> 1;
+            if (w + 1 < row.length) {
+                shifted |= row[w + 1] << 63;
+            }
+            row[w] = shifted;
+        }
+    }
+
+    private int requireIndex(GraphNode<L> node) {
+        Integer index = this.nodesIndex.get(node);
+        if (index == null) {
+            throw new IllegalArgumentException("One or both nodes not found in the graph.");
+        }
+        return index;
+    }
+
+    private GraphNode<L> requireNode(L label) {
+        if (label == null) {
+            throw new NullPointerException("Label cannot be null.");
+        }
+        GraphNode<L> node = this.getNode(label);
+        if (node == null) {
+            throw new IllegalArgumentException("Node with label " + label + " not found in the graph.");
+        }
+        return node;
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= this.nodes.size()) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + i);
+        }
+    }
+}
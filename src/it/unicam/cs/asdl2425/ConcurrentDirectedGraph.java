@@ -0,0 +1,1084 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <h3>
+ * Class that implements a thread-safe directed graph using an adjacency matrix
+ * whose rows are lock-free arrays. Null node labels are not accepted, and
+ * duplicate node labels are not allowed (in that case, they are considered the
+ * same node).</h3>
+ * <br/>
+ * <p>
+ * Nodes are indexed from 0 to nodeCount() - 1 following their insertion order,
+ * exactly as in {@link AdjacencyMatrixDirectedGraph}. The node index is a
+ * {@link ConcurrentHashMap} and each row of the matrix is an
+ * {@link AtomicReferenceArray}, so that edges between different (or even the
+ * same) source nodes can be added, removed or re-weighted in parallel with a
+ * single compare-and-set on the corresponding cell.</p>
+ * <br/>
+ * <p>
+ * Structural changes (insertion and removal of nodes, clear) are serialized by
+ * the write side of a read/write lock, while edge mutations only take its read
+ * side, so they never wait for each other. Read operations never take a lock:
+ * they work on an immutable snapshot of the node table published through a
+ * volatile field and validate every index lookup against that snapshot,
+ * retrying if a concurrent node removal has just shifted the indices.</p>
+ * <br/>
+ * <p>
+ * The number of edges and the in- and out-degree of every node are kept in
+ * atomic counters, so {@code edgeCount()}, {@code inDegree(int)},
+ * {@code outDegree(int)} and {@code getDegreeOf} are O(1) instead of a scan
+ * of the matrix.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public class ConcurrentDirectedGraph<L> extends Graph<L> {
+
+    /*
+     * Initial number of rows/columns allocated by the matrix, doubled every
+     * time a new node does not fit anymore.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /*
+     * Immutable view of the node table: the nodes in index order, the rows of
+     * the adjacency matrix, the degrees of the nodes and the number of valid
+     * entries. Only the cells of the rows and the degree counters change after
+     * publication.
+     */
+    private static final class Table<L> {
+        final GraphNode<L>[] nodes;
+        final AtomicReferenceArray<GraphEdge<L>>[] rows;
+        final AtomicIntegerArray outDegrees;
+        final AtomicIntegerArray inDegrees;
+        final int size;
+
+        Table(GraphNode<L>[] nodes, AtomicReferenceArray<GraphEdge<L>>[] rows,
+                AtomicIntegerArray outDegrees, AtomicIntegerArray inDegrees,
+                int size) {
+            this.nodes = nodes;
+            this.rows = rows;
+            this.outDegrees = outDegrees;
+            this.inDegrees = inDegrees;
+            this.size = size;
+        }
+    }
+
+    /*
+     * Concurrent set of nodes and association of each node with its index in
+     * the adjacency matrix.
+     */
+    protected final ConcurrentHashMap<GraphNode<L>, Integer> nodesIndex;
+
+    /*
+     * Current snapshot of the node table.
+     */
+    private volatile Table<L> table;
+
+    /*
+     * Write side held by node insertion/removal, read side held by edge
+     * mutations. Readers never use it.
+     */
+    private final ReentrantReadWriteLock structureLock;
+
+    private final AtomicInteger edges;
+
+    /**
+     * Create an empty graph.
+     */
+    public ConcurrentDirectedGraph() {
+        this.nodesIndex = new ConcurrentHashMap<GraphNode<L>, Integer>();
+        this.structureLock = new ReentrantReadWriteLock();
+        this.edges = new AtomicInteger();
+        this.table = emptyTable(INITIAL_CAPACITY);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <L> Table<L> emptyTable(int capacity) {
+        return new Table<L>(new GraphNode[capacity],
+                new AtomicReferenceArray[capacity],
+                new AtomicIntegerArray(capacity), new AtomicIntegerArray(capacity),
+                0);
+    }
+
+    /**
+     * Returns the number of nodes currently in the graph.
+     *
+     * @return the number of nodes in the graph
+     */
+    @Override
+    public int nodeCount() {
+        return this.table.size;
+    }
+
+    /**
+     * Returns the number of edges currently in the graph. The value is read
+     * from an atomic counter updated by every edge mutation.
+     *
+     * @return the number of edges in the graph
+     */
+    @Override
+    public int edgeCount() {
+        return this.edges.get();
+    }
+
+    /**
+     * Returns the number of edges leaving the node with the given index.
+     *
+     * @param i the index of the node
+     * @return the out-degree of the node
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public int outDegree(int i) {
+        Table<L> t = this.table;
+        checkIndex(t, i);
+        return t.outDegrees.get(i);
+    }
+
+    /**
+     * Returns the number of edges entering the node with the given index.
+     *
+     * @param i the index of the node
+     * @return the in-degree of the node
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public int inDegree(int i) {
+        Table<L> t = this.table;
+        checkIndex(t, i);
+        return t.inDegrees.get(i);
+    }
+
+    /**
+     * Removes all nodes and edges from the graph, effectively clearing it.
+     */
+    @Override
+    public void clear() {
+        this.structureLock.writeLock().lock();
+        try {
+            this.table = emptyTable(INITIAL_CAPACITY);
+            this.nodesIndex.clear();
+            this.edges.set(0);
+            this.graphChanged();
+        } finally {
+            this.structureLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Checks if the graph is directed.
+     *
+     * @return true since the class implements a directed graph
+     */
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    /**
+     * <h3>Adds a new node to the graph.</h3>
+     * <br/><p>
+     * The node receives the next free index. If the matrix has no room left
+     * for it, all the rows are copied into a matrix of double capacity, so the
+     * insertion costs O(n) amortized.
+     * </p><br/>
+     *
+     * @param node the node to be added
+     * @return true if the node was successfully added, false if the node already exists
+     * @throws NullPointerException if the node is null
+     */
+    @Override
+    public boolean addNode(GraphNode<L> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        this.structureLock.writeLock().lock();
+        try {
+            if (this.nodesIndex.containsKey(node)) {
+                return false; // Node already exists
+            }
+            Object event = FlightRecorderSupport.beginGraphMutation();
+            Table<L> t = this.table;
+            int n = t.size;
+            GraphNode<L>[] nodes = t.nodes;
+            AtomicReferenceArray<GraphEdge<L>>[] rows = t.rows;
+            AtomicIntegerArray outDegrees = t.outDegrees;
+            AtomicIntegerArray inDegrees = t.inDegrees;
+            if (n == nodes.length) {
+                // No room for a new column: copy everything in a bigger matrix
+                int capacity = nodes.length * 2;
+                nodes = Arrays.copyOf(nodes, capacity);
+                rows = Arrays.copyOf(rows, capacity);
+                outDegrees = new AtomicIntegerArray(capacity);
+                inDegrees = new AtomicIntegerArray(capacity);
+                for (int i = 0; i < n; i++) {
+                    rows[i] = copyRow(t.rows[i], n, capacity, -1);
+                    outDegrees.set(i, t.outDegrees.get(i));
+                    inDegrees.set(i, t.inDegrees.get(i));
+                }
+            }
+            // Slots beyond the size of the published table are invisible to
+            // readers, so they can be filled before publishing the new table
+            nodes[n] = node;
+            rows[n] = new AtomicReferenceArray<GraphEdge<L>>(nodes.length);
+            this.table = new Table<L>(nodes, rows, outDegrees, inDegrees, n + 1);
+            this.nodesIndex.put(node, n);
+            this.graphChanged();
+            FlightRecorderSupport.commitGraphMutation(event, "addNode", this);
+            return true;
+        } finally {
+            this.structureLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a new node to the graph using the provided label.
+     *
+     * @param label the label of the node to be added
+     * @return true if the node was successfully added, false if a node with the same label already exists
+     * @throws NullPointerException if the label is null
+     */
+    @Override
+    public boolean addNode(L label) {
+        if (label == null) {
+            throw new NullPointerException("Label cannot be null.");
+        }
+        return this.addNode(new GraphNode<L>(label));
+    }
+
+    /**
+     * Removes a node from the graph.
+     * <br/><p>
+     * The node and all its ingoing and outgoing edges are removed. The
+     * indices of nodes with values greater than the removed node's index are
+     * decremented by one. A new table is built and published at once, so
+     * concurrent readers either see the graph before or after the removal.
+     * </p><br/>
+     *
+     * @param node the node to be removed
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node is not found in the graph
+     */
+    @Override
+    public void removeNode(GraphNode<L> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        this.structureLock.writeLock().lock();
+        try {
+            Integer index = this.nodesIndex.get(node);
+            if (index == null) {
+                throw new IllegalArgumentException("Node not found in the graph.");
+            }
+            Object event = FlightRecorderSupport.beginGraphMutation();
+            int k = index;
+            Table<L> t = this.table;
+            int n = t.size;
+            int capacity = t.nodes.length;
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            GraphNode<L>[] nodes = new GraphNode[capacity];
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            AtomicReferenceArray<GraphEdge<L>>[] rows = new AtomicReferenceArray[capacity];
+            AtomicIntegerArray outDegrees = new AtomicIntegerArray(capacity);
+            AtomicIntegerArray inDegrees = new AtomicIntegerArray(capacity);
+            int removedEdges = 0;
+            for (int i = 0; i < n; i++) {
+                if (i == k) {
+                    continue;
+                }
+                int target = i < k ? i : i - 1;
+                int out = t.outDegrees.get(i);
+                int in = t.inDegrees.get(i);
+                if (t.rows[i].get(k) != null) {
+                    removedEdges++; // ingoing edge of the removed node
+                    out--;
+                }
+                if (t.rows[k].get(i) != null) {
+                    removedEdges++; // outgoing edge of the removed node
+                    in--;
+                }
+                nodes[target] = t.nodes[i];
+                rows[target] = copyRow(t.rows[i], n, capacity, k);
+                outDegrees.set(target, out);
+                inDegrees.set(target, in);
+            }
+            if (t.rows[k].get(k) != null) {
+                removedEdges++; // self loop
+            }
+            this.table = new Table<L>(nodes, rows, outDegrees, inDegrees, n - 1);
+            this.edges.addAndGet(-removedEdges);
+            this.nodesIndex.remove(node);
+            for (int i = k; i < n - 1; i++) {
+                this.nodesIndex.put(nodes[i], i);
+            }
+            this.graphChanged();
+            FlightRecorderSupport.commitGraphMutation(event, "removeNode", this);
+        } finally {
+            this.structureLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a node from the graph based on its label.
+     *
+     * @param label the label of the node to be removed
+     * @throws NullPointerException     if the label is null
+     * @throws IllegalArgumentException if no node with the specified label exists in the graph
+     */
+    @Override
+    public void removeNode(L label) {
+        this.removeNode(this.requireNode(label));
+    }
+
+    /**
+     * Removes a node from the graph based on its index.
+     *
+     * @param i the index of the node to be removed
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public void removeNode(int i) {
+        this.removeNode(this.getNode(i));
+    }
+
+    /**
+     * Retrieves the node of this graph equal to the given one.
+     *
+     * @param node the node to retrieve
+     * @return the node stored in the graph, or null if it does not exist
+     * @throws NullPointerException if the node is null
+     */
+    @Override
+    public GraphNode<L> getNode(GraphNode<L> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        for (;;) {
+            Table<L> t = this.table;
+            int index = locate(t, node);
+            if (index == -1) {
+                return null;
+            }
+            if (index >= 0) {
+                return t.nodes[index];
+            }
+        }
+    }
+
+    /**
+     * Retrieves a node from the graph based on its label. The lookup is a
+     * hash lookup in the node index.
+     *
+     * @param label the label of the node to retrieve
+     * @return the node with the specified label, or null if no such node exists
+     * @throws NullPointerException if the label is null
+     */
+    @Override
+    public GraphNode<L> getNode(L label) {
+        if (label == null) {
+            throw new NullPointerException("Label cannot be null.");
+        }
+        return this.getNode(new GraphNode<L>(label));
+    }
+
+    /**
+     * Retrieves the node at the specified index in the graph.
+     *
+     * @param i the index of the node to retrieve
+     * @return the node at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public GraphNode<L> getNode(int i) {
+        Table<L> t = this.table;
+        checkIndex(t, i);
+        return t.nodes[i];
+    }
+
+    /**
+     * Retrieves the index of the specified node in the graph.
+     *
+     * @param node the node whose index is to be retrieved
+     * @return the index of the node, or -1 if the node is not found
+     * @throws NullPointerException if the node is null
+     */
+    @Override
+    public int getNodeIndexOf(GraphNode<L> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        for (;;) {
+            int index = locate(this.table, node);
+            if (index != -2) {
+                return index;
+            }
+        }
+    }
+
+    /**
+     * Retrieves the index of a node based on its label.
+     *
+     * @param label the label of the node whose index is to be retrieved
+     * @return the index of the node with the specified label
+     * @throws NullPointerException     if the label is null
+     * @throws IllegalArgumentException if no node with the specified label exists in the graph
+     */
+    @Override
+    public int getNodeIndexOf(L label) {
+        if (label == null) {
+            throw new NullPointerException("Label cannot be null.");
+        }
+        int index = this.getNodeIndexOf(new GraphNode<L>(label));
+        if (index == -1) {
+            throw new IllegalArgumentException("Node with label '" + label + "' not found in the graph.");
+        }
+        return index;
+    }
+
+    /**
+     * Retrieves all nodes currently in the graph. The returned set is an
+     * unmodifiable, weakly consistent view of the node index.
+     *
+     * @return a set of all nodes in the graph
+     */
+    @Override
+    public Set<GraphNode<L>> getNodes() {
+        return Collections.unmodifiableSet(this.nodesIndex.keySet());
+    }
+
+    /**
+     * Adds a directed edge to the graph.
+     * <br/><p>
+     * The edge is stored with a single compare-and-set on the matrix cell, so
+     * concurrent insertions of the same edge are resolved in favour of exactly
+     * one caller.
+     * </p><br/>
+     *
+     * @param edge the directed edge to be added
+     * @return true if the edge was successfully added, false if the edge already exists
+     * @throws NullPointerException     if the edge is null
+     * @throws IllegalArgumentException if the edge is not directed or if one or both nodes of the edge are not found in the graph
+     */
+    @Override
+    public boolean addEdge(GraphEdge<L> edge) {
+        if (edge == null) {
+            throw new NullPointerException("Edge cannot be null.");
+        }
+        if (!edge.isDirected()) {
+            throw new IllegalArgumentException("The graph is directed.");
+        }
+        this.structureLock.readLock().lock();
+        try {
+            Table<L> t = this.table;
+            int i = requireIndex(t, edge.getNode1());
+            int j = requireIndex(t, edge.getNode2());
+            Object event = FlightRecorderSupport.beginGraphMutation();
+            if (!t.rows[i].compareAndSet(j, null, edge)) {
+                return false; // Edge already exists
+            }
+            this.edges.incrementAndGet();
+            t.outDegrees.incrementAndGet(i);
+            t.inDegrees.incrementAndGet(j);
+            this.graphChanged();
+            FlightRecorderSupport.commitGraphMutation(event, "addEdge", this);
+            return true;
+        } finally {
+            this.structureLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a directed edge between two nodes in the graph.
+     *
+     * @param node1 the source node of the edge
+     * @param node2 the destination node of the edge
+     * @return true if the edge was successfully added, false if the edge already exists
+     * @throws NullPointerException     if either node is null
+     * @throws IllegalArgumentException if one or both nodes are not found in the graph
+     */
+    @Override
+    public boolean addEdge(GraphNode<L> node1, GraphNode<L> node2) {
+        if (node1 == null || node2 == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        return this.addEdge(new GraphEdge<L>(node1, node2, true));
+    }
+
+    /**
+     * Adds a weighted directed edge between two nodes in the graph.
+     *
+     * @param node1  the source node of the edge
+     * @param node2  the destination node of the edge
+     * @param weight the weight of the edge
+     * @return true if the edge was successfully added, false if the edge already exists
+     * @throws NullPointerException     if either node is null
+     * @throws IllegalArgumentException if the weight is negative or if one or both nodes are not found in the graph
+     */
+    @Override
+    public boolean addWeightedEdge(GraphNode<L> node1, GraphNode<L> node2, double weight) {
+        if (node1 == null || node2 == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight cannot be negative.");
+        }
+        return this.addEdge(new GraphEdge<L>(node1, node2, true, weight));
+    }
+
+    /**
+     * Adds a directed edge between two nodes in the graph using their labels.
+     *
+     * @param label1 the label of the source node
+     * @param label2 the label of the destination node
+     * @return true if the edge was successfully added, false if the edge already exists
+     * @throws NullPointerException     if either label is null
+     * @throws IllegalArgumentException if one or both nodes are not found in the graph
+     */
+    @Override
+    public boolean addEdge(L label1, L label2) {
+        return this.addEdge(this.requireNode(label1), this.requireNode(label2));
+    }
+
+    /**
+     * Adds a weighted directed edge between two nodes in the graph using their labels.
+     *
+     * @param label1 the label of the source node
+     * @param label2 the label of the destination node
+     * @param weight the weight of the edge
+     * @return true if the edge was successfully added, false if the edge already exists
+     * @throws NullPointerException     if either label is null
+     * @throws IllegalArgumentException if one or both nodes are not found in the graph or if the weight is negative
+     */
+    @Override
+    public boolean addWeightedEdge(L label1, L label2, double weight) {
+        return this.addWeightedEdge(this.requireNode(label1),
+                this.requireNode(label2), weight);
+    }
+
+    /**
+     * Adds a directed edge between two nodes in the graph using their indices.
+     *
+     * @param i the index of the source node
+     * @param j the index of the destination node
+     * @return true if the edge was successfully added, false if the edge already exists
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     */
+    @Override
+    public boolean addEdge(int i, int j) {
+        return this.addEdge(this.getNode(i), this.getNode(j));
+    }
+
+    /**
+     * Adds a weighted directed edge between two nodes in the graph using their indices.
+     *
+     * @param i      the index of the source node
+     * @param j      the index of the destination node
+     * @param weight the weight of the edge
+     * @return true if the edge was successfully added, false if the edge already exists
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     * @throws IllegalArgumentException  if the weight is negative
+     */
+    @Override
+    public boolean addWeightedEdge(int i, int j, double weight) {
+        return this.addWeightedEdge(this.getNode(i), this.getNode(j), weight);
+    }
+
+    /**
+     * Removes a directed edge from the graph.
+     *
+     * @param edge the directed edge to be removed
+     * @throws NullPointerException     if the edge is null
+     * @throws IllegalArgumentException if one or both nodes of the edge are not found in the graph
+     * @throws IllegalArgumentException if the edge does not exist in the graph
+     */
+    @Override
+    public void removeEdge(GraphEdge<L> edge) {
+        if (edge == null) {
+            throw new NullPointerException("Edge cannot be null.");
+        }
+        this.removeEdge(edge.getNode1(), edge.getNode2());
+    }
+
+    /**
+     * Removes a directed edge between two nodes in the graph. The cell is
+     * cleared with a single atomic exchange.
+     *
+     * @param node1 the source node of the edge
+     * @param node2 the destination node of the edge
+     * @throws NullPointerException     if either node is null
+     * @throws IllegalArgumentException if one or both nodes are not found in the graph
+     * @throws IllegalArgumentException if the edge does not exist in the graph
+     */
+    @Override
+    public void removeEdge(GraphNode<L> node1, GraphNode<L> node2) {
+        if (node1 == null || node2 == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        this.structureLock.readLock().lock();
+        try {
+            Table<L> t = this.table;
+            int i = requireIndex(t, node1);
+            int j = requireIndex(t, node2);
+            if (t.rows[i].getAndSet(j, null) == null) {
+                throw new IllegalArgumentException("Edge does not exist in the graph.");
+            }
+            this.edges.decrementAndGet();
+            t.outDegrees.decrementAndGet(i);
+            t.inDegrees.decrementAndGet(j);
+            this.graphChanged();
+        } finally {
+            this.structureLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a directed edge between two nodes in the graph using their labels.
+     *
+     * @param label1 the label of the source node
+     * @param label2 the label of the destination node
+     * @throws NullPointerException     if either label is null
+     * @throws IllegalArgumentException if one or both nodes are not found in the graph or the edge does not exist
+     */
+    @Override
+    public void removeEdge(L label1, L label2) {
+        this.removeEdge(this.requireNode(label1), this.requireNode(label2));
+    }
+
+    /**
+     * Removes a directed edge between two nodes in the graph using their indices.
+     *
+     * @param i the index of the source node
+     * @param j the index of the destination node
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     * @throws IllegalArgumentException  if the edge does not exist in the graph
+     */
+    @Override
+    public void removeEdge(int i, int j) {
+        this.removeEdge(this.getNode(i), this.getNode(j));
+    }
+
+    /**
+     * <h3>Changes the weight of an existing edge.</h3>
+     * <br/><p>
+     * The edge stored in the matrix is replaced by a new edge with the same
+     * nodes and the new weight, so that concurrent readers always see either
+     * the old or the new weight, never a partially written value.
+     * </p><br/>
+     *
+     * @param node1  the source node of the edge
+     * @param node2  the destination node of the edge
+     * @param weight the new weight of the edge
+     * @throws NullPointerException     if either node is null
+     * @throws IllegalArgumentException if one or both nodes are not found in the graph,
+     *                                  if the edge does not exist or if the weight is negative
+     */
+    public void setWeight(GraphNode<L> node1, GraphNode<L> node2, double weight) {
+        if (node1 == null || node2 == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        if (weight < 0) {
+            throw new IllegalArgumentException("Weight cannot be negative.");
+        }
+        this.structureLock.readLock().lock();
+        try {
+            Table<L> t = this.table;
+            AtomicReferenceArray<GraphEdge<L>> row = t.rows[requireIndex(t, node1)];
+            int j = requireIndex(t, node2);
+            for (;;) {
+                GraphEdge<L> current = row.get(j);
+                if (current == null) {
+                    throw new IllegalArgumentException("Edge does not exist in the graph.");
+                }
+                GraphEdge<L> replacement = new GraphEdge<L>(current.getNode1(),
+                        current.getNode2(), true, weight);
+                if (row.compareAndSet(j, current, replacement)) {
+                    this.graphChanged();
+                    return;
+                }
+            }
+        } finally {
+            this.structureLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Changes the weight of the edge between the nodes with the given indices.
+     *
+     * @param i      the index of the source node
+     * @param j      the index of the destination node
+     * @param weight the new weight of the edge
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     * @throws IllegalArgumentException  if the edge does not exist or if the weight is negative
+     */
+    public void setWeight(int i, int j, double weight) {
+        this.setWeight(this.getNode(i), this.getNode(j), weight);
+    }
+
+    /**
+     * Retrieves a directed edge from the graph.
+     *
+     * @param edge the directed edge to retrieve
+     * @return the edge stored in the graph, or null if the edge does not exist
+     * @throws NullPointerException     if the edge is null
+     * @throws IllegalArgumentException if one or both nodes of the edge are not found in the graph
+     */
+    @Override
+    public GraphEdge<L> getEdge(GraphEdge<L> edge) {
+        if (edge == null) {
+            throw new NullPointerException("Edge cannot be null.");
+        }
+        return this.getEdge(edge.getNode1(), edge.getNode2());
+    }
+
+    /**
+     * Retrieves a directed edge between two nodes in the graph without taking
+     * any lock.
+     *
+     * @param node1 the source node of the edge
+     * @param node2 the destination node of the edge
+     * @return the edge connecting the two nodes, or null if the edge does not exist
+     * @throws NullPointerException     if either node is null
+     * @throws IllegalArgumentException if one or both nodes are not found in the graph
+     */
+    @Override
+    public GraphEdge<L> getEdge(GraphNode<L> node1, GraphNode<L> node2) {
+        if (node1 == null || node2 == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        for (;;) {
+            Table<L> t = this.table;
+            int i = locate(t, node1);
+            int j = locate(t, node2);
+            if (i == -1 || j == -1) {
+                throw new IllegalArgumentException("One or both nodes not found in the graph.");
+            }
+            if (i >= 0 && j >= 0) {
+                return t.rows[i].get(j);
+            }
+        }
+    }
+
+    /**
+     * Retrieves a directed edge between two nodes in the graph using their labels.
+     *
+     * @param label1 the label of the source node
+     * @param label2 the label of the destination node
+     * @return the edge connecting the two nodes, or null if the edge does not exist
+     * @throws NullPointerException     if either label is null
+     * @throws IllegalArgumentException if one or both nodes are not found in the graph
+     */
+    @Override
+    public GraphEdge<L> getEdge(L label1, L label2) {
+        return this.getEdge(this.requireNode(label1), this.requireNode(label2));
+    }
+
+    /**
+     * Retrieves a directed edge between two nodes in the graph using their indices.
+     *
+     * @param i the index of the source node
+     * @param j the index of the destination node
+     * @return the edge connecting the two nodes, or null if the edge does not exist
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     */
+    @Override
+    public GraphEdge<L> getEdge(int i, int j) {
+        Table<L> t = this.table;
+        checkIndex(t, i);
+        checkIndex(t, j);
+        return t.rows[i].get(j);
+    }
+
+    /**
+     * Retrieves the adjacent nodes of a specified node in the graph.
+     *
+     * @param node the node whose adjacent nodes are to be retrieved
+     * @return a set of nodes adjacent to the specified node
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node is not found in the graph
+     */
+    @Override
+    public Set<GraphNode<L>> getAdjacentNodesOf(GraphNode<L> node) {
+        Set<GraphNode<L>> adjacentNodes = new HashSet<>();
+        for (GraphEdge<L> edge : this.getEdgesOf(node)) {
+            adjacentNodes.add(edge.getNode2());
+        }
+        return adjacentNodes;
+    }
+
+    /**
+     * Retrieves the adjacent nodes of a node based on its label.
+     *
+     * @param label the label of the node whose adjacent nodes are to be retrieved
+     * @return a set of nodes adjacent to the node with the specified label
+     * @throws NullPointerException     if the label is null
+     * @throws IllegalArgumentException if no node with the specified label exists in the graph
+     */
+    @Override
+    public Set<GraphNode<L>> getAdjacentNodesOf(L label) {
+        return this.getAdjacentNodesOf(this.requireNode(label));
+    }
+
+    /**
+     * Retrieves the adjacent nodes of a node based on its index.
+     *
+     * @param i the index of the node whose adjacent nodes are to be retrieved
+     * @return a set of nodes adjacent to the node at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public Set<GraphNode<L>> getAdjacentNodesOf(int i) {
+        return this.getAdjacentNodesOf(this.getNode(i));
+    }
+
+    /**
+     * Retrieves the predecessor nodes of a specified node in the graph.
+     *
+     * @param node the node whose predecessor nodes are to be retrieved
+     * @return a set of nodes that have directed edges pointing to the specified node
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node is not found in the graph
+     */
+    @Override
+    public Set<GraphNode<L>> getPredecessorNodesOf(GraphNode<L> node) {
+        Set<GraphNode<L>> predecessorNodes = new HashSet<>();
+        for (GraphEdge<L> edge : this.getIngoingEdgesOf(node)) {
+            predecessorNodes.add(edge.getNode1());
+        }
+        return predecessorNodes;
+    }
+
+    /**
+     * Retrieves the predecessor nodes of a node based on its label.
+     *
+     * @param label the label of the node whose predecessor nodes are to be retrieved
+     * @return a set of nodes that have directed edges pointing to the node with the specified label
+     * @throws NullPointerException     if the label is null
+     * @throws IllegalArgumentException if no node with the specified label exists in the graph
+     */
+    @Override
+    public Set<GraphNode<L>> getPredecessorNodesOf(L label) {
+        return this.getPredecessorNodesOf(this.requireNode(label));
+    }
+
+    /**
+     * Retrieves the predecessor nodes of a node based on its index.
+     *
+     * @param i the index of the node whose predecessor nodes are to be retrieved
+     * @return a set of nodes that have directed edges pointing to the node at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public Set<GraphNode<L>> getPredecessorNodesOf(int i) {
+        return this.getPredecessorNodesOf(this.getNode(i));
+    }
+
+    /**
+     * Retrieves all outgoing edges of a specified node in the graph by
+     * scanning its row of a consistent snapshot of the matrix.
+     *
+     * @param node the node whose outgoing edges are to be retrieved
+     * @return a set of edges originating from the specified node
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node is not found in the graph
+     */
+    @Override
+    public Set<GraphEdge<L>> getEdgesOf(GraphNode<L> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        for (;;) {
+            Table<L> t = this.table;
+            int index = locate(t, node);
+            if (index == -1) {
+                throw new IllegalArgumentException("Node not found in the graph.");
+            }
+            if (index >= 0) {
+                Set<GraphEdge<L>> edges = new HashSet<>();
+                AtomicReferenceArray<GraphEdge<L>> row = t.rows[index];
+                for (int j = 0; j < t.size; j++) {
+                    GraphEdge<L> edge = row.get(j);
+                    if (edge != null) {
+                        edges.add(edge);
+                    }
+                }
+                return edges;
+            }
+        }
+    }
+
+    /**
+     * Retrieves all outgoing edges of a node based on its label.
+     *
+     * @param label the label of the node whose outgoing edges are to be retrieved
+     * @return a set of edges originating from the node with the specified label
+     * @throws NullPointerException     if the label is null
+     * @throws IllegalArgumentException if no node with the specified label exists in the graph
+     */
+    @Override
+    public Set<GraphEdge<L>> getEdgesOf(L label) {
+        return this.getEdgesOf(this.requireNode(label));
+    }
+
+    /**
+     * Retrieves all outgoing edges of a node based on its index.
+     *
+     * @param i the index of the node whose outgoing edges are to be retrieved
+     * @return a set of edges originating from the node at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public Set<GraphEdge<L>> getEdgesOf(int i) {
+        return this.getEdgesOf(this.getNode(i));
+    }
+
+    /**
+     * Retrieves all ingoing edges of a specified node in the graph by
+     * scanning its column of a consistent snapshot of the matrix.
+     *
+     * @param node the node whose ingoing edges are to be retrieved
+     * @return a set of edges pointing to the specified node
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node is not found in the graph
+     */
+    @Override
+    public Set<GraphEdge<L>> getIngoingEdgesOf(GraphNode<L> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        for (;;) {
+            Table<L> t = this.table;
+            int index = locate(t, node);
+            if (index == -1) {
+                throw new IllegalArgumentException("Node not found in the graph.");
+            }
+            if (index >= 0) {
+                Set<GraphEdge<L>> ingoingEdges = new HashSet<>();
+                for (int i = 0; i < t.size; i++) {
+                    GraphEdge<L> edge = t.rows[i].get(index);
+                    if (edge != null) {
+                        ingoingEdges.add(edge);
+                    }
+                }
+                return ingoingEdges;
+            }
+        }
+    }
+
+    /**
+     * Retrieves all ingoing edges of a node based on its label.
+     *
+     * @param label the label of the node whose ingoing edges are to be retrieved
+     * @return a set of edges pointing to the node with the specified label
+     * @throws NullPointerException     if the label is null
+     * @throws IllegalArgumentException if no node with the specified label exists in the graph
+     */
+    @Override
+    public Set<GraphEdge<L>> getIngoingEdgesOf(L label) {
+        return this.getIngoingEdgesOf(this.requireNode(label));
+    }
+
+    /**
+     * Retrieves all ingoing edges of a node based on its index.
+     *
+     * @param i the index of the node whose ingoing edges are to be retrieved
+     * @return a set of edges pointing to the node at the specified index
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    @Override
+    public Set<GraphEdge<L>> getIngoingEdgesOf(int i) {
+        return this.getIngoingEdgesOf(this.getNode(i));
+    }
+
+    /**
+     * Retrieves all edges currently in the graph, reading a single snapshot
+     * of the matrix without taking any lock.
+     *
+     * @return a set containing all edges in the graph
+     */
+    @Override
+    public Set<GraphEdge<L>> getEdges() {
+        Table<L> t = this.table;
+        Set<GraphEdge<L>> edges = new HashSet<>();
+        for (int i = 0; i < t.size; i++) {
+            AtomicReferenceArray<GraphEdge<L>> row = t.rows[i];
+            for (int j = 0; j < t.size; j++) {
+                GraphEdge<L> edge = row.get(j);
+                if (edge != null) {
+                    edges.add(edge);
+                }
+            }
+        }
+        return edges;
+    }
+
+    /*
+     * Returns the index of the node in the given table, -1 if the node is not
+     * in the graph, -2 if the node index and the table are momentarily out of
+     * sync because of a concurrent node removal (the caller must retry with a
+     * fresh table).
+     */
+    private int locate(Table<L> t, GraphNode<L> node) {
+        Integer index = this.nodesIndex.get(node);
+        if (index == null) {
+            return -1;
+        }
+        int i = index;
+        if (i < t.size && node.equals(t.nodes[i])) {
+            return i;
+        }
+        return -2;
+    }
+
+    /*
+     * Index lookup used by the mutators, which hold the structure lock and
+     * therefore always see the node index in sync with the table.
+     */
+    private int requireIndex(Table<L> t, GraphNode<L> node) {
+        int index = locate(t, node);
+        if (index < 0) {
+            throw new IllegalArgumentException("One or both nodes not found in the graph.");
+        }
+        return index;
+    }
+
+    private GraphNode<L> requireNode(L label) {
+        if (label == null) {
+            throw new NullPointerException("Label cannot be null.");
+        }
+        GraphNode<L> node = this.getNode(label);
+        if (node == null) {
+            throw new IllegalArgumentException("Node with label " + label + " not found in the graph.");
+        }
+        return node;
+    }
+
+    private static <L> void checkIndex(Table<L> t, int i) {
+        if (i < 0 || i >= t.size) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + i);
+        }
+    }
+
+    /*
+     * Copies the first n cells of a row into a new row of the given capacity,
+     * skipping the column skip (-1 to keep all of them).
+     */
+    private static <L> AtomicReferenceArray<GraphEdge<L>> copyRow(
+            AtomicReferenceArray<GraphEdge<L>> row, int n, int capacity,
+            int skip) {
+        AtomicReferenceArray<GraphEdge<L>> copy = new AtomicReferenceArray<GraphEdge<L>>(capacity);
+        for (int j = 0, target = 0; j < n; j++) {
+            if (j == skip) {
+                continue;
+            }
+            copy.set(target++, row.get(j));
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,141 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * <h3>Lock-free union-find over the ints from 0 to size() - 1.</h3>
+ * <br/>
+ * <p>
+ * Every element points to its parent in an int array, roots to themselves.
+ * Sets are joined by making the root of larger index point to the root of
+ * smaller index with a compare-and-set, which fails, and is retried from the
+ * new roots, if another thread has moved that root in the meantime. Since
+ * parents always have a smaller index than their children, the array never
+ * contains a cycle and the root of a set is its smallest element. Finds
+ * compress the paths they follow by halving: every visited element is
+ * pointed, again by compare-and-set, to its grandparent. A failed compression
+ * is simply skipped, since another thread has already shortened the path.</p>
+ * <br/>
+ * <p>
+ * All the operations can be called concurrently from any number of threads;
+ * once the unions are over, the structure reflects all of them.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public final class ConcurrentUnionFind {
+
+    private final AtomicIntegerArray parent;
+
+    /**
+     * Creates a structure where every element is a set by itself.
+     *
+     * @param size the number of elements
+     * @throws IllegalArgumentException if the size is negative
+     */
+    public ConcurrentUnionFind(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The size cannot be negative.");
+        }
+        this.parent = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            this.parent.lazySet(i, i);
+        }
+    }
+
+    /**
+     * @return the number of elements
+     */
+    public int size() {
+        return this.parent.length();
+    }
+
+    /**
+     * Returns the representative of the set of an element, that is its
+     * smallest element as of the time of the call.
+     *
+     * @param x an element
+     * @return the root of the set containing x
+     * @throws IndexOutOfBoundsException if the element is out of bounds
+     */
+    public int find(int x) {
+        this.check(x);
+        return this.root(x);
+    }
+
+    /**
+     * Joins the sets of two elements.
+     *
+     * @param a an element
+     * @param b another element
+     * @return true if the two elements were in different sets
+     * @throws IndexOutOfBoundsException if either element is out of bounds
+     */
+    public boolean union(int a, int b) {
+        this.check(a);
+        this.check(b);
+        while (true) {
+            int ra = this.root(a);
+            int rb = this.root(b);
+            if (ra == rb) {
+                return false;
+            }
+            int child = Math.max(ra, rb);
+            if (this.parent.compareAndSet(child, child, Math.min(ra, rb))) {
+                return true;
+            }
+            // child is no longer a root: retry from there
+            a = ra;
+            b = rb;
+        }
+    }
+
+    /**
+     * Determines if two elements are in the same set.
+     *
+     * @param a an element
+     * @param b another element
+     * @return true if the elements are in the same set
+     * @throws IndexOutOfBoundsException if either element is out of bounds
+     */
+    public boolean sameSet(int a, int b) {
+        this.check(a);
+        this.check(b);
+        while (true) {
+            int ra = this.root(a);
+            int rb = this.root(b);
+            if (ra == rb) {
+                return true;
+            }
+            // ra may have been joined to rb after it was found
+            if (this.parent.get(ra) == ra) {
+                return false;
+            }
+            a = ra;
+            b = rb;
+        }
+    }
+
+    /*
+     * Find with path halving, without bounds checks.
+     */
+    int root(int x) {
+        while (true) {
+            int p = this.parent.get(x);
+            if (p == x) {
+                return x;
+            }
+            int g = this.parent.get(p);
+            if (g == p) {
+                return p;
+            }
+            this.parent.compareAndSet(x, p, g);
+            x = g;
+        }
+    }
+
+    private void check(int x) {
+        if (x < 0 || x >= this.parent.length()) {
+            throw new IndexOutOfBoundsException("Element out of bounds: " + x);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <h3>Decomposition of a graph into its weakly connected components.</h3>
+ * <br/>
+ * <p>
+ * Two nodes are in the same weakly connected component if a path joins them
+ * when the direction of the edges is ignored. The components are found
+ * without any traversal: the edges are split into chunks, processed in
+ * parallel in a fork/join pool, and the endpoints of each edge are joined in a
+ * {@link ConcurrentUnionFind}. The work is {@code O(n + m)} up to the nearly
+ * constant cost of the finds, and the chunks need no coordination, so the
+ * decomposition scales with the number of cores.</p>
+ * <br/>
+ * <p>
+ * The edges are read by index: chunks of nodes and their adjacency arrays for
+ * an {@link IntGraph}, chunks of edge positions for a {@link GeneratedGraph},
+ * which can be decomposed before being loaded into any graph. Other graphs
+ * are first turned into adjacency arrays by node index.</p>
+ * <br/>
+ * <p>
+ * Components are numbered by their smallest node index: component 0 contains
+ * node 0, component 1 the first node outside component 0, and so on. To drop
+ * the fragments disconnected from the bulk of a graph, as routing usually
+ * requires, {@link #restrictTo(int)} and {@link #largestComponent()} give the
+ * renumbering keeping a single component, which
+ * {@link IntGraph#subgraph(IndexRemapping)} applies.</p>
+ *
+ * @author Pilade Jr Tomassini
+ * @see StronglyConnectedComponents
+ */
+public final class ConnectedComponents {
+
+    /*
+     * Nodes handled by one task when the edges are read by node.
+     */
+    private static final int NODE_GRAIN = 1 << 12;
+
+    /*
+     * Edges handled by one task when the edges are read by position.
+     */
+    private static final int EDGE_GRAIN = 1 << 15;
+
+    private final int[] component;
+
+    private final int componentCount;
+
+    private ConnectedComponents(int[] component, int componentCount) {
+        this.component = component;
+        this.componentCount = componentCount;
+    }
+
+    /**
+     * Decomposes a graph in the common pool.
+     *
+     * @param graph the graph
+     * @param <L>   type of the labels of the nodes of the graph
+     * @return the components
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if the graph has removed nodes not yet
+     *                                  compacted
+     */
+    public static <L> ConnectedComponents of(Graph<L> graph) {
+        return of(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decomposes a graph in the given pool.
+     *
+     * @param graph the graph
+     * @param pool  the pool running the decomposition
+     * @param <L>   type of the labels of the nodes of the graph
+     * @return the components
+     * @throws NullPointerException     if the graph or the pool is null
+     * @throws IllegalArgumentException if the graph has removed nodes not yet
+     *                                  compacted
+     */
+    public static <L> ConnectedComponents of(Graph<L> graph, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new NullPointerException("The pool cannot be null.");
+        }
+        int[][] successors = ReachabilityIndex.successorsOf(graph);
+        ConcurrentUnionFind sets = new ConcurrentUnionFind(successors.length);
+        RangeTask.forRange(pool, successors.length, NODE_GRAIN, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                for (int j : successors[i]) {
+                    sets.union(i, j);
+                }
+            }
+        });
+        return label(sets, pool);
+    }
+
+    /**
+     * Decomposes a graph in the common pool.
+     *
+     * @param graph the graph
+     * @return the components
+     * @throws NullPointerException if the graph is null
+     */
+    public static ConnectedComponents of(IntGraph graph) {
+        return of(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decomposes a graph in the given pool. The graph must not change during
+     * the decomposition.
+     *
+     * @param graph the graph
+     * @param pool  the pool running the decomposition
+     * @return the components
+     * @throws NullPointerException if the graph or the pool is null
+     */
+    public static ConnectedComponents of(IntGraph graph, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new NullPointerException("The pool cannot be null.");
+        }
+        ConcurrentUnionFind sets = new ConcurrentUnionFind(graph.nodeCount());
+        RangeTask.forRange(pool, graph.nodeCount(), NODE_GRAIN, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int[] row = graph.targetsOf(i);
+                for (int k = 0, d = graph.outDegree(i); k < d; k++) {
+                    sets.union(i, row[k]);
+                }
+            }
+        });
+        return label(sets, pool);
+    }
+
+    /**
+     * Decomposes a generated graph in the common pool.
+     *
+     * @param graph the generated graph
+     * @return the components
+     * @throws NullPointerException if the graph is null
+     */
+    public static ConnectedComponents of(GeneratedGraph graph) {
+        return of(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decomposes a generated graph in the given pool, reading its edges by
+     * position.
+     *
+     * @param graph the generated graph
+     * @param pool  the pool running the decomposition
+     * @return the components
+     * @throws NullPointerException if the graph or the pool is null
+     */
+    public static ConnectedComponents of(GeneratedGraph graph, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new NullPointerException("The pool cannot be null.");
+        }
+        ConcurrentUnionFind sets = new ConcurrentUnionFind(graph.nodeCount());
+        RangeTask.forRange(pool, graph.edgeCount(), EDGE_GRAIN, (from, to) -> {
+            for (int k = from; k < to; k++) {
+                sets.union(graph.getSource(k), graph.getTarget(k));
+            }
+        });
+        return label(sets, pool);
+    }
+
+    /**
+     * @return the number of components
+     */
+    public int componentCount() {
+        return this.componentCount;
+    }
+
+    /**
+     * @return the number of nodes of the decomposed graph
+     */
+    public int nodeCount() {
+        return this.component.length;
+    }
+
+    /**
+     * @param i the index of a node
+     * @return the number of the component of the node, from 0 to
+     * componentCount() - 1
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int componentOf(int i) {
+        if (i < 0 || i >= this.component.length) {
+            throw new IndexOutOfBoundsException("Node index out of bounds: " + i);
+        }
+        return this.component[i];
+    }
+
+    /**
+     * Determines if two nodes are joined by a path, ignoring the direction of
+     * the edges.
+     *
+     * @param i the index of a node
+     * @param j the index of another node
+     * @return true if the nodes are in the same component
+     * @throws IndexOutOfBoundsException if either index is out of bounds
+     */
+    public boolean connected(int i, int j) {
+        return this.componentOf(i) == this.componentOf(j);
+    }
+
+    /**
+     * @return a new array with the component of every node, indexed by node
+     */
+    public int[] getComponents() {
+        return this.component.clone();
+    }
+
+    /**
+     * @return a new array with the number of nodes of every component, indexed
+     * by component
+     */
+    public int[] getComponentSizes() {
+        int[] sizes = new int[this.componentCount];
+        for (int c : this.component) {
+            sizes[c]++;
+        }
+        return sizes;
+    }
+
+    /**
+     * @return the component with the most nodes, the one with the smallest
+     * number among equally large ones, or -1 if the graph has no nodes
+     */
+    public int largestComponent() {
+        int[] sizes = this.getComponentSizes();
+        int largest = -1;
+        for (int c = 0; c < sizes.length; c++) {
+            if (largest < 0 || sizes[c] > sizes[largest]) {
+                largest = c;
+            }
+        }
+        return largest;
+    }
+
+    /**
+     * Returns the renumbering that keeps the nodes of one component, in the
+     * order of their indices, and removes all the others.
+     *
+     * @param c the component to keep
+     * @return the renumbering, mapping the nodes outside the component to -1
+     * @throws IndexOutOfBoundsException if the component does not exist
+     */
+    public IndexRemapping restrictTo(int c) {
+        if (c < 0 || c >= this.componentCount) {
+            throw new IndexOutOfBoundsException("Component out of bounds: " + c);
+        }
+        int[] newIndexOf = new int[this.component.length];
+        int size = 0;
+        for (int i = 0; i < newIndexOf.length; i++) {
+            newIndexOf[i] = this.component[i] == c ? size++ : -1;
+        }
+        return new IndexRemapping(newIndexOf, size);
+    }
+
+    /*
+     * Finds the root of every node in parallel, then turns roots into
+     * component numbers in one ascending pass: the root of a set is its
+     * smallest element, so it is numbered before the other nodes of its set.
+     */
+    private static ConnectedComponents label(ConcurrentUnionFind sets, ForkJoinPool pool) {
+        int n = sets.size();
+        int[] component = new int[n];
+        RangeTask.forRange(pool, n, NODE_GRAIN, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                component[i] = sets.root(i);
+            }
+        });
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            int root = component[i];
+            component[i] = root == i ? count++ : component[root];
+        }
+        return new ConnectedComponents(component, count);
+    }
+}
@@ -0,0 +1,238 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Single-source shortest path calculator for directed acyclic graphs. The
+ * nodes are visited in topological order and the edges leaving each node are
+ * relaxed once, so the distances are final when a node is visited without any
+ * priority queue: a computation takes {@code O(n + m)} on graphs that list the
+ * edges of a node in time proportional to their number. Unlike Dijkstra's
+ * algorithm, negative weights are allowed.
+ * <br/>
+ * In {@link Mode#LONGEST} mode the calculator finds longest paths instead,
+ * which on an acyclic graph are as easy as the shortest ones: with the
+ * durations of the tasks of a schedule as weights, the longest path to a node
+ * is its critical path. {@link SingleSourceShortestPathComputer#forGraph(Graph)}
+ * returns a calculator of this class whenever the graph is acyclic.
+ * <br/>
+ * As in {@link DijkstraShortestPathComputer}, the results are stored in the
+ * nodes: the distance from the source, {@code Double.POSITIVE_INFINITY} for
+ * unreachable nodes ({@code Double.NEGATIVE_INFINITY} in longest path mode),
+ * and the previous node on the path. The topological order is computed when
+ * the calculator is created and again when the graph has changed since.
+ *
+ * @param <L> the type of the labels of the graph nodes
+ * @author Pilade Jr Tomassini
+ */
+public class DagShortestPathComputer<L> implements SingleSourceShortestPathComputer<L> {
+
+    /**
+     * Kind of path computed.
+     */
+    public enum Mode {
+        /**
+         * Paths of minimum total weight.
+         */
+        SHORTEST,
+        /**
+         * Paths of maximum total weight, i.e. critical paths.
+         */
+        LONGEST
+    }
+
+    private final Graph<L> graph;
+
+    private final Mode mode;
+
+    // node indices in topological order and the position of each of them
+    private int[] order;
+
+    private int[] position;
+
+    private long orderVersion;
+
+    private GraphNode<L> lastSource;
+
+    private boolean isComputed = false;
+
+    /**
+     * Creates a shortest path calculator for a directed, weighted and acyclic
+     * graph.
+     *
+     * @param graph the graph on which the calculator operates
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if the graph is empty, undirected, has
+     *                                  an edge with weight {@code Double.NaN},
+     *                                  has a cycle or has removed nodes not
+     *                                  yet compacted
+     */
+    public DagShortestPathComputer(Graph<L> graph) {
+        this(graph, Mode.SHORTEST);
+    }
+
+    /**
+     * Creates a calculator of shortest or longest paths for a directed,
+     * weighted and acyclic graph.
+     *
+     * @param graph the graph on which the calculator operates
+     * @param mode  the kind of path to compute
+     * @throws NullPointerException     if the graph or the mode is null
+     * @throws IllegalArgumentException if the graph is empty, undirected, has
+     *                                  an edge with weight {@code Double.NaN},
+     *                                  has a cycle or has removed nodes not
+     *                                  yet compacted
+     */
+    public DagShortestPathComputer(Graph<L> graph, Mode mode) {
+        this(graph, mode, null);
+    }
+
+    /*
+     * The order, if not null, must be a topological order of the graph as it
+     * is now.
+     */
+    DagShortestPathComputer(Graph<L> graph, Mode mode, int[] order) {
+        if (graph == null) {
+            throw new NullPointerException("The graph cannot be null.");
+        }
+        if (mode == null) {
+            throw new NullPointerException("The mode cannot be null.");
+        }
+        if (graph.nodeCount() == 0) {
+            throw new IllegalArgumentException("The graph cannot be empty.");
+        }
+        if (!graph.isDirected()) {
+            throw new IllegalArgumentException("The graph must be directed.");
+        }
+        for (GraphEdge<L> edge : graph.getEdges()) {
+            if (Double.isNaN(edge.getWeight())) {
+                throw new IllegalArgumentException("The graph must be weighted. Found an edge with weight NaN.");
+            }
+        }
+        this.graph = graph;
+        this.mode = mode;
+        if (order == null) {
+            order = TopologicalOrder.of(graph);
+            if (order == null) {
+                throw new IllegalArgumentException("The graph must be acyclic.");
+            }
+        }
+        this.setOrder(order);
+    }
+
+    @Override
+    public void computeShortestPathsFrom(GraphNode<L> sourceNode) {
+        if (sourceNode == null) {
+            throw new NullPointerException("Source node cannot be null.");
+        }
+        GraphNode<L> realSource = this.graph.getNode(sourceNode.getLabel());
+        if (realSource == null) {
+            throw new IllegalArgumentException("Source node not found in the graph.");
+        }
+        if (this.orderVersion != this.graph.getVersion()) {
+            int[] order = TopologicalOrder.of(this.graph);
+            if (order == null) {
+                throw new IllegalStateException("The graph is no longer acyclic.");
+            }
+            this.setOrder(order);
+        }
+        boolean longest = this.mode == Mode.LONGEST;
+        double unreached = longest ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        for (GraphNode<L> node : this.graph.getNodes()) {
+            node.setFloatingPointDistance(unreached);
+            node.setPrevious(null);
+        }
+        realSource.setFloatingPointDistance(0.0);
+        // nodes before the source in the order cannot be reached from it
+        for (int k = this.position[this.graph.getNodeIndexOf(realSource)]; k < this.order.length; k++) {
+            GraphNode<L> node = this.graph.getNode(this.order[k]);
+            double distance = node.getFloatingPointDistance();
+            if (distance == unreached) {
+                continue;
+            }
+            for (GraphEdge<L> edge : this.graph.getEdgesOf(node)) {
+                double weight = edge.getWeight();
+                if (Double.isNaN(weight)) {
+                    throw new IllegalStateException("Found an edge with weight NaN.");
+                }
+                GraphNode<L> neighbor = edge.getNode2();
+                double candidate = distance + weight;
+                if (longest ? candidate > neighbor.getFloatingPointDistance()
+                        : candidate < neighbor.getFloatingPointDistance()) {
+                    neighbor.setFloatingPointDistance(candidate);
+                    neighbor.setPrevious(node);
+                }
+            }
+        }
+        this.lastSource = realSource;
+        this.isComputed = true;
+    }
+
+    @Override
+    public boolean isComputed() {
+        return this.isComputed;
+    }
+
+    @Override
+    public GraphNode<L> getLastSource() {
+        if (!this.isComputed) {
+            throw new IllegalStateException("Shortest paths have not been computed yet.");
+        }
+        return this.lastSource;
+    }
+
+    @Override
+    public Graph<L> getGraph() {
+        return this.graph;
+    }
+
+    /**
+     * @return the kind of path computed by this calculator
+     */
+    public Mode getMode() {
+        return this.mode;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <br/>
+     * In longest path mode the returned path is a longest one.
+     */
+    @Override
+    public List<GraphEdge<L>> getShortestPathTo(GraphNode<L> targetNode) {
+        if (targetNode == null) {
+            throw new NullPointerException("Target node cannot be null.");
+        }
+        if (!this.isComputed) {
+            throw new IllegalStateException("Shortest paths have not been computed yet.");
+        }
+        GraphNode<L> realTarget = this.graph.getNode(targetNode.getLabel());
+        if (realTarget == null) {
+            throw new IllegalArgumentException("Target node not found in the graph.");
+        }
+        if (!realTarget.equals(this.lastSource) && realTarget.getPrevious() == null) {
+            return null;
+        }
+        List<GraphEdge<L>> path = new ArrayList<>();
+        for (GraphNode<L> node = realTarget; node.getPrevious() != null; node = node.getPrevious()) {
+            GraphEdge<L> edge = this.graph.getEdge(node.getPrevious(), node);
+            if (edge == null) {
+                throw new IllegalStateException("Edge between nodes not found.");
+            }
+            path.add(edge);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private void setOrder(int[] order) {
+        this.order = order;
+        this.position = new int[order.length];
+        for (int k = 0; k < order.length; k++) {
+            this.position[order[k]] = k;
+        }
+        this.orderVersion = this.graph.getVersion();
+    }
+}
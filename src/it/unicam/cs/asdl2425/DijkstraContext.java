@@ -0,0 +1,77 @@
+package it.unicam.cs.asdl2425;
+
+/**
+ * State shared by the searches that run Dijkstra visits on a
+ * {@link WeightedAdjacency} instead of the node fields: the graph, the
+ * snapshot of its edges, taken again when the version of the graph changes,
+ * and a {@link DijkstraWorkspace} for each thread. It can be used by several
+ * threads at once: the snapshot is replaced atomically and the workspaces are
+ * never shared.
+ *
+ * @param <L> the type of the labels of the graph nodes
+ * @author Pilade Jr Tomassini
+ */
+final class DijkstraContext<L> {
+
+    private final Graph<L> graph;
+
+    private volatile WeightedAdjacency<L> adjacency;
+
+    private final ThreadLocal<DijkstraWorkspace> workspaces = new ThreadLocal<DijkstraWorkspace>();
+
+    /**
+     * Checks the graph as {@link WeightedAdjacency#checkGraph(Graph)} does and
+     * takes the first snapshot of its edges.
+     */
+    DijkstraContext(Graph<L> graph) {
+        WeightedAdjacency.checkGraph(graph);
+        this.graph = graph;
+        this.adjacency = WeightedAdjacency.of(graph, null);
+    }
+
+    Graph<L> graph() {
+        return this.graph;
+    }
+
+    /**
+     * Returns the edge arrays of the graph, read again if its version has
+     * changed.
+     */
+    WeightedAdjacency<L> adjacency() {
+        WeightedAdjacency<L> adj = this.adjacency;
+        if (adj.version != this.graph.getVersion()) {
+            synchronized (this) {
+                adj = WeightedAdjacency.of(this.graph, this.adjacency);
+                this.adjacency = adj;
+            }
+        }
+        return adj;
+    }
+
+    /**
+     * Returns the workspace of the calling thread, fitting the given snapshot
+     * of the graph or of its reverse.
+     */
+    DijkstraWorkspace workspace(WeightedAdjacency<?> adj) {
+        return DijkstraWorkspace.of(this.workspaces, adj);
+    }
+
+    /**
+     * Returns the index of the node of the graph with the label of the given
+     * one; {@code role} names the node in the messages of the exceptions,
+     * e.g. "Source node".
+     *
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the graph has no node with its label
+     */
+    int indexOf(GraphNode<L> node, String role) {
+        if (node == null) {
+            throw new NullPointerException(role + " cannot be null.");
+        }
+        GraphNode<L> realNode = this.graph.getNode(node.getLabel());
+        if (realNode == null) {
+            throw new IllegalArgumentException(role + " not found in the graph.");
+        }
+        return this.graph.getNodeIndexOf(realNode);
+    }
+}
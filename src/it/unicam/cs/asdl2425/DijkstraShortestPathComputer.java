@@ -31,6 +31,9 @@ public class DijkstraShortestPathComputer<L>
     // priority queue used in the algorithm
     private final BinaryHeapMinPriorityQueue queue;
 
+    // counters of the work done, null when metrics are disabled
+    private ShortestPathMetrics metrics;
+
     /**
      * Creates a single-source shortest path calculator for a directed and weighted
      * graph without negative weights.
@@ -75,39 +78,93 @@ public class DijkstraShortestPathComputer<L>
             throw new IllegalArgumentException("Source node not found in the graph.");
         }
         this.lastSource = realSource;
-        // Initialize priorities and previous nodes
+        Object event = FlightRecorderSupport.beginShortestPathQuery();
+        ShortestPathMetrics metrics = this.metrics;
+        long start = metrics == null ? 0L : System.nanoTime();
+        HeapMetrics heapMetrics = metrics == null ? null : metrics.getHeapMetrics();
+        long insertsBefore = 0L;
+        long extractionsBefore = 0L;
+        long decreasesBefore = 0L;
+        if (heapMetrics != null) {
+            insertsBefore = heapMetrics.getInserts();
+            extractionsBefore = heapMetrics.getExtractions();
+            decreasesBefore = heapMetrics.getDecreasePriorityCalls();
+            heapMetrics.markMaxSize();
+        }
+        long settled = 0;
+        long relaxed = 0;
+        // Initialize priorities and previous nodes; every node enters the
+        // queue exactly once, the source with priority 0
+        this.queue.clear();
         for (GraphNode<L> node : graph.getNodes()) {
-            node.setPriority(Double.POSITIVE_INFINITY);
+            node.setPriority(node.equals(realSource) ? 0.0 : Double.POSITIVE_INFINITY);
             node.setPrevious(null);
             queue.insert(node);
         }
-        realSource.setPriority(0.0);
-        this.queue.insert(realSource);
-        //Set<GraphNode<L>> visited = new HashSet<>();
+        long searchStart = metrics == null ? 0L : System.nanoTime();
         while (!this.queue.isEmpty()) {
             GraphNode<L> currentNode = (GraphNode<L>) this.queue.extractMinimum();
             double currentPriority = currentNode.getPriority();
+            settled++;
 
             // Update adjacent nodes
             for (GraphEdge<L> edge : graph.getEdgesOf(currentNode)) {
                 GraphNode<L> neighbor = edge.getNode2();
                 double newPriority = currentPriority + edge.getWeight();
-                if (newPriority < neighbor.getPriority()) {
-                    neighbor.setPriority(newPriority);
+                relaxed++;
+                // Settled nodes have a negative handle and, since weights are
+                // not negative, can never be improved
+                if (neighbor.getHandle() >= 0 && newPriority < neighbor.getPriority()) {
                     neighbor.setPrevious(currentNode);
-                    // Insert the neighbor into the queue if not already present
-                    if (neighbor.getHandle() == -1) {
-                        neighbor.setPriority(newPriority);
-                        neighbor.setIntegerDistance((int) newPriority);
-                        this.queue.insert(neighbor);
-                    } else if (newPriority < neighbor.getPriority()) {
-                        this.queue.decreasePriority(neighbor, newPriority);
-
-                    }
+                    this.queue.decreasePriority(neighbor, newPriority);
                 }
             }
         }
         this.isComputed = true;
+        FlightRecorderSupport.commitShortestPathQuery(event, this, realSource.getLabel(), null, settled, -1);
+        if (metrics != null) {
+            this.recordComputation(metrics, realSource, start, searchStart, settled, relaxed, insertsBefore,
+                    extractionsBefore, decreasesBefore);
+        }
+    }
+
+    private void recordComputation(ShortestPathMetrics metrics, GraphNode<L> source, long start,
+                                   long searchStart, long settled, long relaxed, long insertsBefore,
+                                   long extractionsBefore, long decreasesBefore) {
+        long end = System.nanoTime();
+        metrics.computations++;
+        metrics.nodesSettled += settled;
+        metrics.edgesRelaxed += relaxed;
+        metrics.initializationNanos += searchStart - start;
+        metrics.searchNanos += end - searchStart;
+        if (metrics.isFlightRecorderEnabled()) {
+            // Differences of the cumulative heap counters, so that the event
+            // describes this computation only
+            HeapMetrics heapMetrics = metrics.getHeapMetrics();
+            FlightRecorderSupport.commitShortestPathMetrics(source.getLabel(), end - start, settled,
+                    relaxed, heapMetrics.getInserts() - insertsBefore,
+                    heapMetrics.getExtractions() - extractionsBefore,
+                    heapMetrics.getDecreasePriorityCalls() - decreasesBefore, heapMetrics.maxSizeSinceMark);
+        }
+    }
+
+    /**
+     * Attaches the counters to be updated by the computations of this object,
+     * together with its priority queue, or detaches them if null. Without
+     * counters the computations do not read the clock nor count operations.
+     *
+     * @param metrics the counters to update, or null to disable them
+     */
+    public void setMetrics(ShortestPathMetrics metrics) {
+        this.metrics = metrics;
+        this.queue.setMetrics(metrics == null ? null : metrics.getHeapMetrics());
+    }
+
+    /**
+     * @return the counters updated by this object, or null if none is attached
+     */
+    public ShortestPathMetrics getMetrics() {
+        return this.metrics;
     }
 
     @Override
@@ -140,11 +197,14 @@ public class DijkstraShortestPathComputer<L>
         if (realTarget == null) {
             throw new IllegalArgumentException("Target node not found in the graph.");
         }
+        Object event = FlightRecorderSupport.beginShortestPathQuery();
         List<GraphEdge<L>> path = new ArrayList<>();
         GraphNode<L> currentNode = realTarget;
 
         if (!currentNode.equals(this.lastSource)
                 && currentNode.getPrevious() == null) {
+            FlightRecorderSupport.commitShortestPathQuery(event, this, this.lastSource.getLabel(),
+                    realTarget.getLabel(), 0, -1);
             return null;
         }
 
@@ -158,9 +218,56 @@ public class DijkstraShortestPathComputer<L>
             currentNode = previousNode;
         }
         Collections.reverse(path);
+        FlightRecorderSupport.commitShortestPathQuery(event, this, this.lastSource.getLabel(),
+                realTarget.getLabel(), 0, path.size());
         return path;
     }
 
+    /**
+     * Loads a shortest path from the last source to the given node into the
+     * given view, as node indices of the graph, together with its length. The
+     * previous nodes are followed as in {@link #getShortestPathTo(GraphNode)},
+     * but each hop costs only the lookup of the index of the node: no edge is
+     * looked up and, once the view is large enough, nothing is allocated. The
+     * edges can be obtained afterwards with {@link PathView#toEdges(Graph)}.
+     *
+     * @param targetNode the last node of the path
+     * @param view       the view receiving the path
+     * @return true if the node is reachable, false otherwise, in which case
+     * the view is left empty
+     * @throws NullPointerException     if the node or the view are null
+     * @throws IllegalStateException    if no computation has been done
+     * @throws IllegalArgumentException if the node does not belong to the graph
+     */
+    public boolean getShortestPathTo(GraphNode<L> targetNode, PathView view) {
+        if (targetNode == null || view == null) {
+            throw new NullPointerException("Target node and view cannot be null.");
+        }
+        if (!this.isComputed) {
+            throw new IllegalStateException("Shortest paths have not been computed yet.");
+        }
+        GraphNode<L> realTarget = this.graph.getNode(targetNode.getLabel());
+        if (realTarget == null) {
+            throw new IllegalArgumentException("Target node not found in the graph.");
+        }
+        if (!realTarget.equals(this.lastSource) && realTarget.getPrevious() == null) {
+            view.clear();
+            return false;
+        }
+        int count = 1;
+        for (GraphNode<L> node = realTarget; node.getPrevious() != null; node = node.getPrevious()) {
+            count++;
+        }
+        int[] buffer = view.reserve(count);
+        GraphNode<L> node = realTarget;
+        for (int k = count - 1; k >= 0; k--) {
+            buffer[k] = this.graph.getNodeIndexOf(node);
+            node = node.getPrevious();
+        }
+        view.setPath(count, realTarget.getFloatingPointDistance());
+        return true;
+    }
+
     /*
      * Method inserted for junit testing purposes only.
      */
@@ -0,0 +1,223 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Arrays;
+
+/**
+ * Arrays of a Dijkstra visit on a {@link WeightedAdjacency}, reused from one
+ * search to the next without being cleared. Every search gets a new stamp,
+ * and the entry of a node (or of an edge, for the masks) only counts if it
+ * carries the stamp of the current search: starting a search is
+ * {@code O(1)}, and a search touches only the nodes it reaches. The arrays are
+ * cleared only when the stamps wrap around.
+ * <br/>
+ * The visit is driven by the caller: the sources are seeded, then nodes are
+ * settled one at a time in order of distance, so that the caller can stop at
+ * a target, at a radius or after any other condition. Nodes and edges can be
+ * masked for the current search, which then behaves as if they had been
+ * removed from the graph. A workspace is not thread-safe: concurrent searches
+ * need one workspace each.
+ *
+ * @author Pilade Jr Tomassini
+ */
+final class DijkstraWorkspace {
+
+    private final double[] distance;
+
+    // edge through which each node has been reached, -1 for sources
+    private final int[] via;
+
+    // stamp of the search in which each node has been reached
+    private final int[] reached;
+
+    // position in the heap, -1 once settled
+    private final int[] position;
+
+    private final int[] heap;
+
+    private final int[] maskedNode;
+
+    // allocated on the first edge mask, since most searches mask none
+    private int[] maskedEdge;
+
+    private final int edgeCount;
+
+    private int size;
+
+    private int stamp;
+
+    DijkstraWorkspace(int nodeCount, int edgeCount) {
+        this.distance = new double[nodeCount];
+        this.via = new int[nodeCount];
+        this.reached = new int[nodeCount];
+        this.position = new int[nodeCount];
+        this.heap = new int[nodeCount];
+        this.maskedNode = new int[nodeCount];
+        this.edgeCount = edgeCount;
+    }
+
+    /**
+     * Returns the workspace of the calling thread, replacing it with a new one
+     * if it is missing or does not fit the given graph.
+     */
+    static DijkstraWorkspace of(ThreadLocal<DijkstraWorkspace> workspaces, WeightedAdjacency<?> adj) {
+        DijkstraWorkspace workspace = workspaces.get();
+        if (workspace == null || workspace.distance.length != adj.nodeCount()
+                || workspace.edgeCount != adj.edgeCount()) {
+            workspace = new DijkstraWorkspace(adj.nodeCount(), adj.edgeCount());
+            workspaces.set(workspace);
+        }
+        return workspace;
+    }
+
+    /**
+     * Starts a new search, forgetting the previous one and its masks.
+     */
+    void begin() {
+        if (++this.stamp == Integer.MAX_VALUE) {
+            Arrays.fill(this.reached, 0);
+            Arrays.fill(this.maskedNode, 0);
+            this.maskedEdge = null;
+            this.stamp = 1;
+        }
+        this.size = 0;
+    }
+
+    void maskNode(int v) {
+        this.maskedNode[v] = this.stamp;
+    }
+
+    void maskEdge(int e) {
+        if (this.maskedEdge == null) {
+            this.maskedEdge = new int[this.edgeCount];
+        }
+        this.maskedEdge[e] = this.stamp;
+    }
+
+    /**
+     * Adds a source at the given distance, or lowers its distance if it is
+     * already waiting. Masked and settled nodes are ignored.
+     */
+    void seed(int v, double d) {
+        if (this.maskedNode[v] != this.stamp) {
+            this.offer(v, d, -1);
+        }
+    }
+
+    /**
+     * @return true if some node is waiting to be settled
+     */
+    boolean hasNext() {
+        return this.size > 0;
+    }
+
+    /**
+     * @return the distance of the next node to be settled
+     */
+    double nextDistance() {
+        return this.distance[this.heap[0]];
+    }
+
+    /**
+     * Settles the nearest waiting node and relaxes the edges leaving it.
+     *
+     * @return the settled node
+     */
+    int settleNext(WeightedAdjacency<?> adj) {
+        int u = this.heap[0];
+        this.position[u] = -1;
+        if (--this.size > 0) {
+            this.heap[0] = this.heap[this.size];
+            this.position[this.heap[0]] = 0;
+            this.siftDown(0);
+        }
+        double du = this.distance[u];
+        int[] maskedEdge = this.maskedEdge;
+        for (int e = adj.start[u], end = adj.start[u + 1]; e < end; e++) {
+            int v = adj.target[e];
+            if ((maskedEdge == null || maskedEdge[e] != this.stamp) && this.maskedNode[v] != this.stamp) {
+                this.offer(v, du + adj.weight[e], e);
+            }
+        }
+        return u;
+    }
+
+    boolean isReached(int v) {
+        return this.reached[v] == this.stamp;
+    }
+
+    boolean isSettled(int v) {
+        return this.reached[v] == this.stamp && this.position[v] < 0;
+    }
+
+    /**
+     * @return the distance found for the node, {@code Double.POSITIVE_INFINITY}
+     * if it has not been reached
+     */
+    double distance(int v) {
+        return this.reached[v] == this.stamp ? this.distance[v] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * @return the edge through which the node has been reached, -1 for the
+     * sources and the nodes not reached
+     */
+    int via(int v) {
+        return this.reached[v] == this.stamp ? this.via[v] : -1;
+    }
+
+    private void offer(int v, double d, int e) {
+        if (this.reached[v] != this.stamp) {
+            this.reached[v] = this.stamp;
+            this.distance[v] = d;
+            this.via[v] = e;
+            this.heap[this.size] = v;
+            this.position[v] = this.size++;
+            this.siftUp(this.position[v]);
+        } else if (this.position[v] >= 0 && d < this.distance[v]) {
+            this.distance[v] = d;
+            this.via[v] = e;
+            this.siftUp(this.position[v]);
+        }
+    }
+
+    private void siftUp(int position) {
+        int v = this.heap[position];
+        double priority = this.distance[v];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            int p = this.heap[parent];
+            if (this.distance[p] <= priority) {
+                break;
+            }
+            this.heap[position] = p;
+            this.position[p] = position;
+            position = parent;
+        }
+        this.heap[position] = v;
+        this.position[v] = position;
+    }
+
+    private void siftDown(int position) {
+        int v = this.heap[position];
+        double priority = this.distance[v];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= this.size) {
+                break;
+            }
+            if (child + 1 < this.size
+                    && this.distance[this.heap[child + 1]] < this.distance[this.heap[child]]) {
+                child++;
+            }
+            int c = this.heap[child];
+            if (priority <= this.distance[c]) {
+                break;
+            }
+            this.heap[position] = c;
+            this.position[c] = position;
+            position = child;
+        }
+        this.heap[position] = v;
+        this.position[v] = position;
+    }
+}
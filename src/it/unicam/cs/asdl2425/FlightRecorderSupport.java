@@ -0,0 +1,127 @@
+package it.unicam.cs.asdl2425;
+
+/*
+ * Bridge towards the Java Flight Recorder events of the package. The event
+ * classes extend jdk.jfr.Event, which is missing from Java 8 runtimes older
+ * than 8u262: they are only loaded through this class, and only after
+ * AVAILABLE has been checked.
+ *
+ * Timed events are started with a begin method, which returns null when JFR
+ * is missing or the event is disabled in the running recordings, and the
+ * object is passed back to the matching commit method, which ignores null.
+ * Callers therefore never see the event types.
+ */
+final class FlightRecorderSupport {
+
+    static final boolean AVAILABLE = isAvailable();
+
+    private FlightRecorderSupport() {
+    }
+
+    private static boolean isAvailable() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    static void commitShortestPathMetrics(Object source, long durationNanos, long nodesSettled,
+                                          long edgesRelaxed, long inserts, long extractions,
+                                          long decreasePriorityCalls, int maxHeapSize) {
+        ShortestPathMetricsEvent event = new ShortestPathMetricsEvent();
+        if (event.shouldCommit()) {
+            event.source = String.valueOf(source);
+            event.computationTime = durationNanos;
+            event.nodesSettled = nodesSettled;
+            event.edgesRelaxed = edgesRelaxed;
+            event.inserts = inserts;
+            event.extractions = extractions;
+            event.decreasePriorityCalls = decreasePriorityCalls;
+            event.maxHeapSize = maxHeapSize;
+            event.commit();
+        }
+    }
+
+    static Object beginGraphMutation() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        GraphMutationEvent event = new GraphMutationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void commitGraphMutation(Object started, String operation, Graph<?> graph) {
+        if (started == null) {
+            return;
+        }
+        GraphMutationEvent event = (GraphMutationEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.graphClass = graph.getClass().getSimpleName();
+            event.nodeCount = graph.nodeCount();
+            event.edgeCount = graph.edgeCount();
+            event.commit();
+        }
+    }
+
+    static Object beginShortestPathQuery() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        ShortestPathQueryEvent event = new ShortestPathQueryEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void commitShortestPathQuery(Object started, Object computer, Object source, Object target,
+                                        long nodesSettled, int pathLength) {
+        if (started == null) {
+            return;
+        }
+        ShortestPathQueryEvent event = (ShortestPathQueryEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.computerClass = computer.getClass().getSimpleName();
+            event.source = source == null ? null : String.valueOf(source);
+            event.target = target == null ? null : String.valueOf(target);
+            event.nodesSettled = nodesSettled;
+            event.pathLength = pathLength;
+            event.commit();
+        }
+    }
+
+    static Object beginHeapResize() {
+        if (!AVAILABLE) {
+            return null;
+        }
+        HeapResizeEvent event = new HeapResizeEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void commitHeapResize(Object started, int oldCapacity, int newCapacity) {
+        if (started == null) {
+            return;
+        }
+        HeapResizeEvent event = (HeapResizeEvent) started;
+        event.end();
+        if (event.shouldCommit()) {
+            event.oldCapacity = oldCapacity;
+            event.newCapacity = newCapacity;
+            event.commit();
+        }
+    }
+}
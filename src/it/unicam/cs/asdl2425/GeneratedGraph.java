@@ -0,0 +1,221 @@
+package it.unicam.cs.asdl2425;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.IntFunction;
+
+/**
+ * <h3>Directed graph produced by a {@link GraphGenerator}.</h3>
+ * <br/>
+ * <p>
+ * Nodes are identified by the integers from 0 to nodeCount() - 1 and edges are
+ * stored as three parallel arrays (source, target, weight), sorted by source.
+ * Some models also give each node a position in the plane. The object is
+ * immutable and cheap to keep even for millions of edges; it can be loaded into
+ * any {@link Graph} through its index based methods, or written to a file.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public final class GeneratedGraph {
+
+    private final int nodeCount;
+
+    private final int[] sources;
+
+    private final int[] targets;
+
+    private final double[] weights;
+
+    private final double[] x;
+
+    private final double[] y;
+
+    GeneratedGraph(int nodeCount, int[] sources, int[] targets, double[] weights,
+                   double[] x, double[] y) {
+        this.nodeCount = nodeCount;
+        this.sources = sources;
+        this.targets = targets;
+        this.weights = weights;
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * @return the number of nodes of the graph
+     */
+    public int nodeCount() {
+        return this.nodeCount;
+    }
+
+    /**
+     * @return the number of edges of the graph
+     */
+    public int edgeCount() {
+        return this.sources.length;
+    }
+
+    /**
+     * @param k the number of the edge, from 0 to edgeCount() - 1
+     * @return the source node of the edge
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public int getSource(int k) {
+        return this.sources[k];
+    }
+
+    /**
+     * @param k the number of the edge, from 0 to edgeCount() - 1
+     * @return the target node of the edge
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public int getTarget(int k) {
+        return this.targets[k];
+    }
+
+    /**
+     * @param k the number of the edge, from 0 to edgeCount() - 1
+     * @return the weight of the edge
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public double getWeight(int k) {
+        return this.weights[k];
+    }
+
+    /**
+     * @return true if the nodes have coordinates
+     */
+    public boolean hasCoordinates() {
+        return this.x != null;
+    }
+
+    /**
+     * @param i the node
+     * @return the abscissa of the node
+     * @throws IllegalStateException     if the nodes have no coordinates
+     * @throws IndexOutOfBoundsException if the node is out of bounds
+     */
+    public double getX(int i) {
+        this.checkCoordinates();
+        return this.x[i];
+    }
+
+    /**
+     * @param i the node
+     * @return the ordinate of the node
+     * @throws IllegalStateException     if the nodes have no coordinates
+     * @throws IndexOutOfBoundsException if the node is out of bounds
+     */
+    public double getY(int i) {
+        this.checkCoordinates();
+        return this.y[i];
+    }
+
+    /**
+     * Adds the nodes and the weighted edges of this graph to the given one.
+     * Node i receives the label {@code labels.apply(i)}; edges are then added
+     * by node index, without any label lookup.
+     *
+     * @param graph  the graph to fill
+     * @param labels the function giving the label of each node
+     * @param <L>    the type of the labels
+     * @return the given graph
+     * @throws NullPointerException     if an argument is null
+     * @throws IllegalArgumentException if a label is already in the graph
+     */
+    public <L> Graph<L> loadInto(Graph<L> graph, IntFunction<L> labels) {
+        return this.loadInto(graph, labels, true);
+    }
+
+    /**
+     * Adds the nodes and the edges of this graph to the given one. Node i
+     * receives the label {@code labels.apply(i)}; edges are then added by node
+     * index, without any label lookup.
+     *
+     * @param graph    the graph to fill
+     * @param labels   the function giving the label of each node
+     * @param weighted true to add weighted edges, false to drop the weights,
+     *                 as required by unweighted graphs
+     * @param <L>      the type of the labels
+     * @return the given graph
+     * @throws NullPointerException     if an argument is null
+     * @throws IllegalArgumentException if a label is already in the graph
+     */
+    public <L> Graph<L> loadInto(Graph<L> graph, IntFunction<L> labels, boolean weighted) {
+        if (graph == null || labels == null) {
+            throw new NullPointerException("The graph and the labels cannot be null.");
+        }
+        int[] index = new int[this.nodeCount];
+        for (int i = 0; i < this.nodeCount; i++) {
+            GraphNode<L> node = new GraphNode<L>(labels.apply(i));
+            if (!graph.addNode(node)) {
+                throw new IllegalArgumentException("Label " + node.getLabel() + " is already in the graph.");
+            }
+            index[i] = graph.getNodeIndexOf(node);
+        }
+        for (int k = 0; k < this.sources.length; k++) {
+            if (weighted) {
+                graph.addWeightedEdge(index[this.sources[k]], index[this.targets[k]], this.weights[k]);
+            } else {
+                graph.addEdge(index[this.sources[k]], index[this.targets[k]]);
+            }
+        }
+        return graph;
+    }
+
+    /**
+     * Returns a new {@link AdjacencyMatrixDirectedGraph} with the nodes and the
+     * weighted edges of this graph, labelled with their numbers.
+     *
+     * @return the new graph
+     */
+    public Graph<Integer> toGraph() {
+        return this.loadInto(new AdjacencyMatrixDirectedGraph<Integer>(), Integer::valueOf);
+    }
+
+    /**
+     * Writes the graph to a file in a DIMACS-like text format: a header line
+     * {@code p <nodes> <edges>}, one line {@code v <node> <x> <y>} per node
+     * if the nodes have coordinates, and one line
+     * {@code a <source> <target> <weight>} per edge.
+     *
+     * @param file the file to write, replaced if it exists
+     * @throws NullPointerException if the file is null
+     * @throws IOException          if the file cannot be written
+     */
+    public void writeTo(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            this.writeTo(writer);
+        }
+    }
+
+    /**
+     * Writes the graph to a stream of characters, in the format described by
+     * {@link #writeTo(Path)}. The writer is not closed.
+     *
+     * @param writer the destination
+     * @throws NullPointerException if the writer is null
+     * @throws IOException          if the writer fails
+     */
+    public void writeTo(Writer writer) throws IOException {
+        writer.write("p " + this.nodeCount + " " + this.sources.length + "\n");
+        if (this.hasCoordinates()) {
+            for (int i = 0; i < this.nodeCount; i++) {
+                writer.write("v " + i + " " + this.x[i] + " " + this.y[i] + "\n");
+            }
+        }
+        for (int k = 0; k < this.sources.length; k++) {
+            writer.write("a " + this.sources[k] + " " + this.targets[k] + " " + this.weights[k] + "\n");
+        }
+        writer.flush();
+    }
+
+    private void checkCoordinates() {
+        if (this.x == null) {
+            throw new IllegalStateException("The nodes of this graph have no coordinates.");
+        }
+    }
+}
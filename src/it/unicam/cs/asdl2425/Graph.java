@@ -4,6 +4,7 @@
 package it.unicam.cs.asdl2425;
 
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Classe astratta per un generico grafo i cui nodi sono etichettati con
@@ -26,6 +27,12 @@ import java.util.Set;
  */
 public abstract class Graph<L> {
 
+    /*
+     * Versione della struttura del grafo, incrementata dalle sottoclassi
+     * tramite graphChanged() a ogni modifica.
+     */
+    private final AtomicLong version = new AtomicLong();
+
     /**
      * Restituisce il numero di nodi in questo grafo.
      * 
@@ -33,6 +40,18 @@ public abstract class Graph<L> {
      */
     public abstract int nodeCount();
 
+    /**
+     * Restituisce il limite superiore (escluso) degli indici dei nodi di
+     * questo grafo. Coincide con {@code nodeCount()} a meno che il grafo non
+     * lasci dei buchi negli indici, come i nodi rimossi in modo lazy e non
+     * ancora compattati di {@code AdjacencyMatrixDirectedGraph}.
+     * 
+     * @return il limite superiore (escluso) degli indici dei nodi
+     */
+    public int indexBound() {
+        return this.nodeCount();
+    }
+
     /**
      * Restituisce il numero di archi in questo grafo.
      * 
@@ -948,6 +967,67 @@ public abstract class Graph<L> {
      */
     public abstract Set<GraphEdge<L>> getEdges();
 
+    /**
+     * Restituisce il numero di archi uscenti dal nodo con indice dato. Nel
+     * caso di grafo non orientato è il numero di archi connessi al nodo.
+     * <br/>
+     * L'implementazione di default conta gli archi restituiti da
+     * {@code getEdgesOf(int)}; le sottoclassi che mantengono aggiornati i gradi
+     * dei nodi dovrebbero ridefinirla in modo da rispondere in tempo costante.
+     * <br/>
+     * Questa operazione è opzionale.
+     * 
+     * @param i
+     *              l'indice del nodo di cui calcolare il grado in uscita
+     * @return il numero di archi uscenti dal nodo con l'indice dato
+     * 
+     * @throws IndexOutOfBoundsException
+     *                                           se l'indice passato non
+     *                                           corrisponde a nessun nodo o è
+     *                                           fuori dai limiti
+     *                                           dell'intervallo
+     *                                           <code>[0, this.nodeCount() - 1]</code>
+     * @throws UnsupportedOperationException
+     *                                           se questa operazione non è
+     *                                           supportata dall'implementazione
+     *                                           di questo grafo
+     */
+    public int outDegree(int i) {
+        return this.getEdgesOf(i).size();
+    }
+
+    /**
+     * Restituisce il numero di archi entranti nel nodo con indice dato. Nel
+     * caso di grafo non orientato coincide con {@code outDegree(i)}.
+     * <br/>
+     * L'implementazione di default conta gli archi restituiti da
+     * {@code getIngoingEdgesOf(int)}; le sottoclassi che mantengono aggiornati
+     * i gradi dei nodi dovrebbero ridefinirla in modo da rispondere in tempo
+     * costante.
+     * <br/>
+     * Questa operazione è opzionale.
+     * 
+     * @param i
+     *              l'indice del nodo di cui calcolare il grado in entrata
+     * @return il numero di archi entranti nel nodo con l'indice dato
+     * 
+     * @throws IndexOutOfBoundsException
+     *                                           se l'indice passato non
+     *                                           corrisponde a nessun nodo o è
+     *                                           fuori dai limiti
+     *                                           dell'intervallo
+     *                                           <code>[0, this.nodeCount() - 1]</code>
+     * @throws UnsupportedOperationException
+     *                                           se questa operazione non è
+     *                                           supportata dall'implementazione
+     *                                           di questo grafo
+     */
+    public int inDegree(int i) {
+        if (!this.isDirected())
+            return this.outDegree(i);
+        return this.getIngoingEdgesOf(i).size();
+    }
+
     /**
      * Restituisce il grado di un nodo, cioè il numero di archi connessi al
      * nodo. Nel caso di grafo orientato è la somma del numero di archi in
@@ -966,15 +1046,12 @@ public abstract class Graph<L> {
         if (node == null)
             throw new NullPointerException(
                     "Tentativo di calcolare il grado di un nodo null");
-        if (this.getNode(node) == null)
+        GraphNode<L> n = this.getNode(node);
+        if (n == null)
             throw new IllegalArgumentException(
                     "Tentativo di calcolare il grado di un nodo non "
                             + "presente in questo grafo");
-        if (!this.isDirected())
-            return this.getEdgesOf(node).size();
-        else
-            return this.getEdgesOf(node).size()
-                    + this.getIngoingEdgesOf(node).size();
+        return this.degreeOf(n);
     }
 
     /**
@@ -996,15 +1073,12 @@ public abstract class Graph<L> {
         if (label == null)
             throw new NullPointerException(
                     "Tentativo di calcolare il grado di un nodo null");
-        if (this.getNode(label) == null)
+        GraphNode<L> n = this.getNode(label);
+        if (n == null)
             throw new IllegalArgumentException(
                     "Tentativo di calcolare il grado di un nodo non "
                             + "presente in questo grafo");
-        if (!this.isDirected())
-            return this.getEdgesOf(label).size();
-        else
-            return this.getEdgesOf(label).size()
-                    + this.getIngoingEdgesOf(label).size();
+        return this.degreeOf(n);
     }
 
     /**
@@ -1030,9 +1104,8 @@ public abstract class Graph<L> {
      *                                           di questo grafo
      */
     public int getDegreeOf(int i) {
-        GraphNode<L> n = null;
         try {
-            n = this.getNode(i);
+            this.getNode(i);
         } catch (IndexOutOfBoundsException e) {
             // cambio il messaggio dell'eccezione per renderlo adatto a questo
             // metodo
@@ -1044,9 +1117,67 @@ public abstract class Graph<L> {
         // il messaggio di quella che viene lanciata è corretto rispetto a
         // questo metodo
         if (!this.isDirected())
-            return this.getEdgesOf(n).size();
+            return this.outDegree(i);
         else
-            return this.getEdgesOf(n).size() + this.getIngoingEdgesOf(n).size();
+            return this.outDegree(i) + this.inDegree(i);
+    }
+
+    /**
+     * Restituisce la versione corrente di questo grafo: un contatore che
+     * cresce ogni volta che nodi, archi, pesi o indici del grafo cambiano.
+     * Chi conserva risultati calcolati sul grafo (per esempio cammini minimi
+     * in una cache) può confrontare la versione del momento del calcolo con
+     * quella attuale per sapere se sono ancora validi.
+     * <br/>
+     * Le modifiche fatte direttamente sugli oggetti {@code GraphEdge}, come
+     * {@code setWeight}, non sono rilevate. Le implementazioni che non
+     * chiamano {@code graphChanged()} restituiscono sempre 0.
+     * 
+     * @return la versione corrente di questo grafo
+     */
+    public long getVersion() {
+        return this.version.get();
+    }
+
+    /**
+     * Segnala che la struttura di questo grafo è cambiata, incrementandone la
+     * versione. Le sottoclassi devono chiamarlo dopo ogni modifica.
+     */
+    protected void graphChanged() {
+        this.version.incrementAndGet();
+    }
+
+    /*
+     * Controlla che gli indici dei nodi del grafo vadano da 0 a nodeCount() - 1
+     * senza buchi, come richiedono gli algoritmi che leggono il grafo per
+     * indice in array di nodeCount() posizioni.
+     */
+    static void checkIndices(Graph<?> graph) {
+        int holes = graph.indexBound() - graph.nodeCount();
+        if (holes != 0) {
+            throw new IllegalArgumentException("The graph has " + holes
+                    + " removed nodes not yet compacted: call compact() first.");
+        }
+    }
+
+    /*
+     * Calcola il grado di un nodo presente nel grafo passando dal suo indice,
+     * così da sfruttare inDegree/outDegree. Se il grafo non supporta gli
+     * indici si ricade sul conteggio degli insiemi di archi.
+     */
+    private int degreeOf(GraphNode<L> n) {
+        int i;
+        try {
+            i = this.getNodeIndexOf(n);
+        } catch (UnsupportedOperationException e) {
+            if (!this.isDirected())
+                return this.getEdgesOf(n).size();
+            return this.getEdgesOf(n).size()
+                    + this.getIngoingEdgesOf(n).size();
+        }
+        if (!this.isDirected())
+            return this.outDegree(i);
+        return this.outDegree(i) + this.inDegree(i);
     }
 
 }
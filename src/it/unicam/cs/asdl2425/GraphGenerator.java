@@ -0,0 +1,476 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * <h3>Seeded generators of synthetic directed graphs.</h3>
+ * <br/>
+ * <p>
+ * Every generator is deterministic: the same parameters and the same seed
+ * always give the same {@link GeneratedGraph}, whatever the number of threads.
+ * Where the model allows it, the nodes (or the blocks of edges) are generated
+ * in parallel, each one with its own random stream derived from the seed and
+ * from its number, so that the result does not depend on the scheduling.</p>
+ * <br/>
+ * <p>
+ * Unless stated otherwise, weights are uniform in
+ * [{@link #MIN_WEIGHT}, {@link #MAX_WEIGHT}) and graphs have neither loops nor
+ * parallel edges. The generated graph can be loaded into a {@link Graph} or
+ * written to a file.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public final class GraphGenerator {
+
+    /**
+     * Minimum weight of the randomly weighted edges.
+     */
+    public static final double MIN_WEIGHT = 1.0;
+
+    /**
+     * Upper bound, excluded, of the weight of the randomly weighted edges.
+     */
+    public static final double MAX_WEIGHT = 100.0;
+
+    /*
+     * Number of R-MAT edges drawn from the same random stream.
+     */
+    private static final int RMAT_BLOCK = 1 << 12;
+
+    private GraphGenerator() {
+    }
+
+    /**
+     * Generates a directed Erdős–Rényi graph G(n, p): each of the n(n - 1)
+     * possible edges exists independently with probability p. Rows are
+     * generated in parallel, skipping geometrically between the edges, in time
+     * proportional to the number of edges.
+     *
+     * @param n    the number of nodes
+     * @param p    the probability of each edge
+     * @param seed the seed of the generator
+     * @return the generated graph
+     * @throws IllegalArgumentException if n is negative or p is not in [0, 1]
+     */
+    public static GeneratedGraph erdosRenyi(int n, double p, long seed) {
+        checkNodes(n);
+        if (!(p >= 0.0 && p <= 1.0)) {
+            throw new IllegalArgumentException("The probability must be in [0, 1]: " + p);
+        }
+        Row[] rows = new Row[n];
+        final double logQ = Math.log(1.0 - p);
+        IntStream.range(0, n).parallel().forEach(i -> {
+            SplittableRandom random = streamOf(seed, i);
+            Row row = new Row();
+            if (p > 0.0) {
+                for (int j = next(-1, p, logQ, random); j < n; j = next(j, p, logQ, random)) {
+                    if (j != i) {
+                        row.add(j, randomWeight(random));
+                    }
+                }
+            }
+            rows[i] = row;
+        });
+        return concat(n, rows, null, null);
+    }
+
+    /**
+     * Generates a Barabási–Albert scale-free graph. The first m + 1 nodes form
+     * a complete graph; every following node is linked to m distinct existing
+     * nodes chosen with probability proportional to their degree. Links are
+     * added in both directions. The model is inherently sequential.
+     *
+     * @param n    the number of nodes
+     * @param m    the number of links of each new node
+     * @param seed the seed of the generator
+     * @return the generated graph
+     * @throws IllegalArgumentException if m is not positive or n is not
+     *                                  greater than m
+     */
+    public static GeneratedGraph barabasiAlbert(int n, int m, long seed) {
+        if (m <= 0 || n <= m) {
+            throw new IllegalArgumentException("Expected 0 < m < n, got n = " + n + ", m = " + m);
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        Row[] rows = new Row[n];
+        for (int i = 0; i < n; i++) {
+            rows[i] = new Row();
+        }
+        // Every node appears in this array once per incident link, so a
+        // uniform draw from it is a draw proportional to the degree
+        int[] endpoints = new int[2 * (m * (m + 1) / 2 + (n - m - 1) * m)];
+        int size = 0;
+        for (int i = 0; i <= m; i++) {
+            for (int j = i + 1; j <= m; j++) {
+                link(rows, i, j, random);
+                endpoints[size++] = i;
+                endpoints[size++] = j;
+            }
+        }
+        int[] chosen = new int[m];
+        for (int v = m + 1; v < n; v++) {
+            int count = 0;
+            while (count < m) {
+                int u = endpoints[random.nextInt(size)];
+                boolean duplicate = false;
+                for (int k = 0; k < count && !duplicate; k++) {
+                    duplicate = chosen[k] == u;
+                }
+                if (!duplicate) {
+                    chosen[count++] = u;
+                }
+            }
+            for (int k = 0; k < m; k++) {
+                link(rows, v, chosen[k], random);
+                endpoints[size++] = v;
+                endpoints[size++] = chosen[k];
+            }
+        }
+        for (Row row : rows) {
+            row.sort();
+        }
+        return concat(n, rows, null, null);
+    }
+
+    /**
+     * Generates a 2D grid of the given size. Node {@code r * cols + c} is at
+     * coordinates (c, r) and is linked in both directions, with weight 1, to
+     * its horizontal and vertical neighbours.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @return the generated graph
+     * @throws IllegalArgumentException if a dimension is negative or the
+     *                                  number of nodes overflows an int
+     */
+    public static GeneratedGraph grid(int rows, int cols) {
+        int n = gridSize(rows, cols);
+        double[] x = new double[n];
+        double[] y = new double[n];
+        Row[] adjacency = new Row[n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            int r = i / cols;
+            int c = i % cols;
+            x[i] = c;
+            y[i] = r;
+            Row row = new Row();
+            if (r > 0) {
+                row.add(i - cols, 1.0);
+            }
+            if (c > 0) {
+                row.add(i - 1, 1.0);
+            }
+            if (c + 1 < cols) {
+                row.add(i + 1, 1.0);
+            }
+            if (r + 1 < rows) {
+                row.add(i + cols, 1.0);
+            }
+            adjacency[i] = row;
+        });
+        return concat(n, adjacency, x, y);
+    }
+
+    /**
+     * Generates a road-like network: a grid whose nodes are moved randomly by
+     * up to 0.3 in each direction, where each street (a pair of opposite
+     * edges between neighbours) is missing with probability 0.1 and each cell
+     * has a diagonal street with probability 0.05. The weight of an edge is its
+     * Euclidean length multiplied by a random slowdown in [1, 1.5).
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @param seed the seed of the generator
+     * @return the generated graph
+     * @throws IllegalArgumentException if a dimension is negative or the
+     *                                  number of nodes overflows an int
+     */
+    public static GeneratedGraph roadNetwork(int rows, int cols, long seed) {
+        int n = gridSize(rows, cols);
+        double[] x = new double[n];
+        double[] y = new double[n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            SplittableRandom random = streamOf(seed, i);
+            x[i] = i % cols + 0.6 * random.nextDouble() - 0.3;
+            y[i] = i / cols + 0.6 * random.nextDouble() - 0.3;
+        });
+        // Each node decides the streets towards its right, lower and
+        // lower-right neighbours; the opposite edges are then added to them
+        int[][] streets = new int[n][];
+        double[][] slowdowns = new double[n][];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            SplittableRandom random = streamOf(~seed, i);
+            int r = i / cols;
+            int c = i % cols;
+            int[] ends = new int[3];
+            double[] slowdown = new double[6];
+            int count = 0;
+            if (c + 1 < cols && random.nextDouble() >= 0.1) {
+                ends[count++] = i + 1;
+            }
+            if (r + 1 < rows && random.nextDouble() >= 0.1) {
+                ends[count++] = i + cols;
+            }
+            if (c + 1 < cols && r + 1 < rows && random.nextDouble() < 0.05) {
+                ends[count++] = i + cols + 1;
+            }
+            for (int k = 0; k < 2 * count; k++) {
+                slowdown[k] = 1.0 + 0.5 * random.nextDouble();
+            }
+            streets[i] = Arrays.copyOf(ends, count);
+            slowdowns[i] = slowdown;
+        });
+        Row[] adjacency = new Row[n];
+        for (int i = 0; i < n; i++) {
+            adjacency[i] = new Row();
+        }
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < streets[i].length; k++) {
+                int j = streets[i][k];
+                double length = Math.hypot(x[i] - x[j], y[i] - y[j]);
+                adjacency[i].add(j, length * slowdowns[i][2 * k]);
+                adjacency[j].add(i, length * slowdowns[i][2 * k + 1]);
+            }
+        }
+        IntStream.range(0, n).parallel().forEach(i -> adjacency[i].sort());
+        return concat(n, adjacency, x, y);
+    }
+
+    /**
+     * Generates an R-MAT (recursive matrix) graph with 2<sup>scale</sup> nodes.
+     * Each of the {@code edgeFactor * 2^scale} edges is placed by descending
+     * the adjacency matrix, choosing at each level the top-left, top-right,
+     * bottom-left or bottom-right quadrant with probabilities a, b, c and
+     * 1 - a - b - c. Loops and repeated edges are then dropped, so the graph
+     * can have fewer edges. Blocks of edges are drawn in parallel.
+     *
+     * @param scale      the base 2 logarithm of the number of nodes, at most 30
+     * @param edgeFactor the number of edges drawn per node
+     * @param a          the probability of the top-left quadrant
+     * @param b          the probability of the top-right quadrant
+     * @param c          the probability of the bottom-left quadrant
+     * @param seed       the seed of the generator
+     * @return the generated graph
+     * @throws IllegalArgumentException if the scale is not in [0, 30], the
+     *                                  edge factor is negative, the
+     *                                  probabilities are not valid or the
+     *                                  number of edges overflows an int
+     */
+    public static GeneratedGraph rmat(int scale, int edgeFactor, double a, double b, double c, long seed) {
+        if (scale < 0 || scale > 30) {
+            throw new IllegalArgumentException("The scale must be in [0, 30]: " + scale);
+        }
+        if (edgeFactor < 0) {
+            throw new IllegalArgumentException("The edge factor cannot be negative: " + edgeFactor);
+        }
+        if (!(a >= 0 && b >= 0 && c >= 0 && a + b + c <= 1.0)) {
+            throw new IllegalArgumentException("Invalid quadrant probabilities.");
+        }
+        int n = 1 << scale;
+        long attempts = (long) edgeFactor * n;
+        if (attempts > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many edges: " + attempts);
+        }
+        long[] keys = new long[(int) attempts];
+        int blocks = (keys.length + RMAT_BLOCK - 1) / RMAT_BLOCK;
+        IntStream.range(0, blocks).parallel().forEach(block -> {
+            SplittableRandom random = streamOf(seed, block);
+            int end = Math.min(keys.length, (block + 1) * RMAT_BLOCK);
+            for (int k = block * RMAT_BLOCK; k < end; k++) {
+                int u = 0;
+                int v = 0;
+                for (int level = 0; level < scale; level++) {
+                    double r = random.nextDouble();
+                    u <<= 1;
+                    v <<= 1;
+                    if (r < a) {
+                        continue;
+                    }
+                    if (r < a + b) {
+                        v |= 1;
+                    } else if (r < a + b + c) {
+                        u |= 1;
+                    } else {
+                        u |= 1;
+                        v |= 1;
+                    }
+                }
+                keys[k] = u == v ? -1L : ((long) u << 32) | v;
+            }
+        });
+        Arrays.parallelSort(keys);
+        int m = 0;
+        for (int k = 0; k < keys.length; k++) {
+            if (keys[k] >= 0 && (m == 0 || keys[m - 1] != keys[k])) {
+                keys[m++] = keys[k];
+            }
+        }
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        IntStream.range(0, m).parallel().forEach(k -> {
+            sources[k] = (int) (keys[k] >>> 32);
+            targets[k] = (int) keys[k];
+            // the weight depends only on the edge, not on its draw
+            weights[k] = MIN_WEIGHT + (MAX_WEIGHT - MIN_WEIGHT)
+                    * ((mix64(keys[k] ^ seed) >>> 11) * 0x1.0p-53);
+        });
+        return new GeneratedGraph(n, sources, targets, weights, null, null);
+    }
+
+    /**
+     * Generates a complete directed graph: every ordered pair of distinct nodes
+     * is linked by an edge. Rows are generated in parallel.
+     *
+     * @param n    the number of nodes
+     * @param seed the seed of the generator
+     * @return the generated graph
+     * @throws IllegalArgumentException if n is negative or the number of edges
+     *                                  overflows an int
+     */
+    public static GeneratedGraph complete(int n, long seed) {
+        checkNodes(n);
+        if ((long) n * (n - 1) > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many edges for " + n + " nodes.");
+        }
+        Row[] rows = new Row[n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            SplittableRandom random = streamOf(seed, i);
+            Row row = new Row(n - 1);
+            for (int j = 0; j < n; j++) {
+                if (j != i) {
+                    row.add(j, randomWeight(random));
+                }
+            }
+            rows[i] = row;
+        });
+        return concat(n, rows, null, null);
+    }
+
+    /*
+     * Next column of an Erdős–Rényi row after column j, skipping a
+     * geometrically distributed number of columns.
+     */
+    private static int next(int j, double p, double logQ, SplittableRandom random) {
+        if (p >= 1.0) {
+            return j + 1;
+        }
+        double skip = Math.floor(Math.log(1.0 - random.nextDouble()) / logQ);
+        return skip >= Integer.MAX_VALUE - 1 - j ? Integer.MAX_VALUE : j + 1 + (int) skip;
+    }
+
+    private static void link(Row[] rows, int i, int j, SplittableRandom random) {
+        rows[i].add(j, randomWeight(random));
+        rows[j].add(i, randomWeight(random));
+    }
+
+    private static double randomWeight(SplittableRandom random) {
+        return MIN_WEIGHT + (MAX_WEIGHT - MIN_WEIGHT) * random.nextDouble();
+    }
+
+    /*
+     * Random stream of the node (or block) i. The seed is scrambled so that
+     * the streams of consecutive numbers are unrelated.
+     */
+    private static SplittableRandom streamOf(long seed, int i) {
+        return new SplittableRandom(mix64(seed + 0x9E3779B97F4A7C15L * (i + 1)));
+    }
+
+    /*
+     * Finalizer of MurmurHash3.
+     */
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        z = (z ^ (z >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return z ^ (z >>> 33);
+    }
+
+    private static void checkNodes(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("The number of nodes cannot be negative: " + n);
+        }
+    }
+
+    private static int gridSize(int rows, int cols) {
+        if (rows < 0 || cols < 0 || (long) rows * cols > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid grid size: " + rows + " x " + cols);
+        }
+        return rows * cols;
+    }
+
+    private static GeneratedGraph concat(int n, Row[] rows, double[] x, double[] y) {
+        long total = 0;
+        for (Row row : rows) {
+            total += row.size;
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many edges: " + total);
+        }
+        int[] offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] = offsets[i] + rows[i].size;
+        }
+        int[] sources = new int[(int) total];
+        int[] targets = new int[(int) total];
+        double[] weights = new double[(int) total];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            Row row = rows[i];
+            Arrays.fill(sources, offsets[i], offsets[i + 1], i);
+            System.arraycopy(row.targets, 0, targets, offsets[i], row.size);
+            System.arraycopy(row.weights, 0, weights, offsets[i], row.size);
+        });
+        return new GeneratedGraph(n, sources, targets, weights, x, y);
+    }
+
+    /*
+     * Growable list of the outgoing edges of a node.
+     */
+    private static final class Row {
+
+        int[] targets;
+
+        double[] weights;
+
+        int size;
+
+        Row() {
+            this(4);
+        }
+
+        Row(int capacity) {
+            this.targets = new int[Math.max(capacity, 1)];
+            this.weights = new double[Math.max(capacity, 1)];
+        }
+
+        void add(int target, double weight) {
+            if (this.size == this.targets.length) {
+                this.targets = Arrays.copyOf(this.targets, 2 * this.size);
+                this.weights = Arrays.copyOf(this.weights, 2 * this.size);
+            }
+            this.targets[this.size] = target;
+            this.weights[this.size] = weight;
+            this.size++;
+        }
+
+        /*
+         * Sorts the edges by target, keeping each weight with its target.
+         */
+        void sort() {
+            long[] pairs = new long[this.size];
+            for (int k = 0; k < this.size; k++) {
+                pairs[k] = ((long) this.targets[k] << 32) | k;
+            }
+            Arrays.sort(pairs);
+            int[] sortedTargets = new int[this.targets.length];
+            double[] sortedWeights = new double[this.weights.length];
+            for (int k = 0; k < this.size; k++) {
+                sortedTargets[k] = (int) (pairs[k] >>> 32);
+                sortedWeights[k] = this.weights[(int) pairs[k]];
+            }
+            this.targets = sortedTargets;
+            this.weights = sortedWeights;
+        }
+    }
+}
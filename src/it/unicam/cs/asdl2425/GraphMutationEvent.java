@@ -0,0 +1,30 @@
+package it.unicam.cs.asdl2425;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/*
+ * Structural change of a graph: the duration of the operation and the size of
+ * the graph after it.
+ */
+@Name("it.unicam.cs.asdl2425.GraphMutation")
+@Label("Graph Mutation")
+@Category({"Graph"})
+@Description("Node or edge added to or removed from a graph")
+class GraphMutationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Graph Class")
+    String graphClass;
+
+    @Label("Node Count")
+    int nodeCount;
+
+    @Label("Edge Count")
+    int edgeCount;
+}
@@ -0,0 +1,335 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Arrays;
+
+/**
+ * <h3>Node orderings that improve the memory locality of a graph.</h3>
+ * <br/>
+ * <p>
+ * The methods of this class compute a permutation of the node indices, as an
+ * {@link IndexRemapping} from the current indices to the new ones, that places
+ * close to each other nodes that are close in the graph or in the plane.
+ * Renumbering a graph with such a permutation, through
+ * {@link IntGraph#reorder(IndexRemapping)} or
+ * {@link AdjacencyMatrixDirectedGraph#reorder(IndexRemapping)}, makes the
+ * per-node arrays touched by a search (distances, predecessors, heap
+ * positions, adjacency rows) be accessed at nearby positions, so that they
+ * cause fewer cache misses.</p>
+ * <br/>
+ * <p>
+ * Three orderings are available:</p>
+ * <ul>
+ * <li>{@code bfs}: the order in which a breadth-first visit reaches the nodes,
+ * starting a new visit from the lowest unvisited index for every
+ * component;</li>
+ * <li>{@code reverseCuthillMcKee}: breadth-first visits started from nodes of
+ * minimum degree and expanding the neighbours by increasing degree, with the
+ * final order reversed. It keeps the bandwidth of the adjacency matrix, the
+ * largest {@code |i - j|} over the edges, small;</li>
+ * <li>{@code hilbert}: for nodes with coordinates, the order of their cells
+ * along a Hilbert curve over a 2<sup>16</sup> x 2<sup>16</sup> grid covering
+ * them.</li>
+ * </ul>
+ * <p>
+ * The two visits ignore the direction of the edges.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public final class GraphReordering {
+
+    /*
+     * Order of the Hilbert curve: the plane is divided into 2^16 x 2^16 cells.
+     */
+    private static final int HILBERT_ORDER = 16;
+
+    private GraphReordering() {
+    }
+
+    /**
+     * Computes the breadth-first ordering of the nodes of a graph.
+     *
+     * @param graph the graph
+     * @return the permutation from the current indices to the new ones
+     * @throws NullPointerException if the graph is null
+     */
+    public static IndexRemapping bfs(IntGraph graph) {
+        return bfs(graph.successorArrays());
+    }
+
+    /**
+     * Computes the breadth-first ordering of the nodes of a graph.
+     *
+     * @param graph the graph
+     * @param <L>   type of the labels of the nodes of the graph
+     * @return the permutation from the current indices to the new ones
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if the graph has removed nodes not yet
+     *                                  compacted
+     */
+    public static <L> IndexRemapping bfs(Graph<L> graph) {
+        return bfs(ReachabilityIndex.successorsOf(graph));
+    }
+
+    /**
+     * Computes the reverse Cuthill-McKee ordering of the nodes of a graph.
+     *
+     * @param graph the graph
+     * @return the permutation from the current indices to the new ones
+     * @throws NullPointerException if the graph is null
+     */
+    public static IndexRemapping reverseCuthillMcKee(IntGraph graph) {
+        return reverseCuthillMcKee(graph.successorArrays());
+    }
+
+    /**
+     * Computes the reverse Cuthill-McKee ordering of the nodes of a graph.
+     *
+     * @param graph the graph
+     * @param <L>   type of the labels of the nodes of the graph
+     * @return the permutation from the current indices to the new ones
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if the graph has removed nodes not yet
+     *                                  compacted
+     */
+    public static <L> IndexRemapping reverseCuthillMcKee(Graph<L> graph) {
+        return reverseCuthillMcKee(ReachabilityIndex.successorsOf(graph));
+    }
+
+    /**
+     * Computes the Hilbert curve ordering of nodes with the given coordinates.
+     * Nodes in the same cell keep their relative order.
+     *
+     * @param x the abscissa of each node
+     * @param y the ordinate of each node
+     * @return the permutation from the current indices to the new ones
+     * @throws NullPointerException     if either array is null
+     * @throws IllegalArgumentException if the arrays have different lengths or
+     *                                  contain values that are not finite
+     */
+    public static IndexRemapping hilbert(double[] x, double[] y) {
+        if (x.length != y.length) {
+            throw new IllegalArgumentException("The coordinate arrays must have the same length.");
+        }
+        int n = x.length;
+        double minX = Double.POSITIVE_INFINITY, maxX = Double.NEGATIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            if (Double.isNaN(x[i] - x[i]) || Double.isNaN(y[i] - y[i])) {
+                throw new IllegalArgumentException("Coordinates of node " + i + " are not finite.");
+            }
+            minX = Math.min(minX, x[i]);
+            maxX = Math.max(maxX, x[i]);
+            minY = Math.min(minY, y[i]);
+            maxY = Math.max(maxY, y[i]);
+        }
+        int side = 1 << HILBERT_ORDER;
+        double scaleX = maxX > minX ? (side - 1) / (maxX - minX) : 0.0;
+        double scaleY = maxY > minY ? (side - 1) / (maxY - minY) : 0.0;
+        // key in the high bits, index in the low ones: sorting keeps ties stable
+        long[] keys = new long[n];
+        for (int i = 0; i < n; i++) {
+            int cx = (int) ((x[i] - minX) * scaleX);
+            int cy = (int) ((y[i] - minY) * scaleY);
+            keys[i] = (hilbertIndex(cx, cy) << 31) | i;
+        }
+        Arrays.sort(keys);
+        int[] newIndexOf = new int[n];
+        for (int k = 0; k < n; k++) {
+            newIndexOf[(int) (keys[k] & Integer.MAX_VALUE)] = k;
+        }
+        return new IndexRemapping(newIndexOf, n);
+    }
+
+    /**
+     * Computes the Hilbert curve ordering of the nodes of a generated graph.
+     *
+     * @param graph the graph
+     * @return the permutation from the current indices to the new ones
+     * @throws NullPointerException  if the graph is null
+     * @throws IllegalStateException if the nodes of the graph have no
+     *                               coordinates
+     * @see #hilbert(double[], double[])
+     */
+    public static IndexRemapping hilbert(GeneratedGraph graph) {
+        int n = graph.nodeCount();
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = graph.getX(i);
+            y[i] = graph.getY(i);
+        }
+        return hilbert(x, y);
+    }
+
+    /**
+     * Returns the bandwidth of the adjacency matrix of a graph, i.e. the
+     * largest difference between the indices of the two nodes of an edge: a
+     * measure of how far apart in memory the neighbours of a node are.
+     *
+     * @param graph the graph
+     * @return the bandwidth, 0 for a graph without edges
+     * @throws NullPointerException if the graph is null
+     */
+    public static int bandwidth(IntGraph graph) {
+        int bandwidth = 0;
+        for (int i = 0; i < graph.nodeCount(); i++) {
+            int[] targets = graph.targetsOf(i);
+            for (int k = 0, d = graph.outDegree(i); k < d; k++) {
+                bandwidth = Math.max(bandwidth, Math.abs(targets[k] - i));
+            }
+        }
+        return bandwidth;
+    }
+
+    private static IndexRemapping bfs(int[][] successors) {
+        int[][] neighbours = symmetric(successors);
+        int n = neighbours.length;
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int tail = 0;
+        for (int root = 0; root < n; root++) {
+            if (!visited[root]) {
+                tail = visit(neighbours, root, order, tail, visited, null);
+            }
+        }
+        return fromOrder(order, false);
+    }
+
+    private static IndexRemapping reverseCuthillMcKee(int[][] successors) {
+        int[][] neighbours = symmetric(successors);
+        int n = neighbours.length;
+        int[] degree = new int[n];
+        for (int i = 0; i < n; i++) {
+            degree[i] = neighbours[i].length;
+        }
+        // every component is entered through one of its nodes of minimum degree
+        int[] byDegree = sortByDegree(identity(n), degree);
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int tail = 0;
+        for (int root : byDegree) {
+            if (!visited[root]) {
+                tail = visit(neighbours, root, order, tail, visited, degree);
+            }
+        }
+        return fromOrder(order, true);
+    }
+
+    /*
+     * Breadth-first visit appending the nodes to order from position tail;
+     * if degree is not null the neighbours of each node are enqueued by
+     * increasing degree. Returns the new tail.
+     */
+    private static int visit(int[][] neighbours, int root, int[] order, int tail,
+                             boolean[] visited, int[] degree) {
+        int head = tail;
+        order[tail++] = root;
+        visited[root] = true;
+        while (head < tail) {
+            int u = order[head++];
+            int first = tail;
+            for (int v : neighbours[u]) {
+                if (!visited[v]) {
+                    visited[v] = true;
+                    order[tail++] = v;
+                }
+            }
+            if (degree != null && tail - first > 1) {
+                int[] sorted = sortByDegree(Arrays.copyOfRange(order, first, tail), degree);
+                System.arraycopy(sorted, 0, order, first, sorted.length);
+            }
+        }
+        return tail;
+    }
+
+    private static int[] sortByDegree(int[] nodes, int[] degree) {
+        long[] keys = new long[nodes.length];
+        for (int k = 0; k < nodes.length; k++) {
+            keys[k] = ((long) degree[nodes[k]] << 32) | nodes[k];
+        }
+        Arrays.sort(keys);
+        for (int k = 0; k < nodes.length; k++) {
+            nodes[k] = (int) keys[k];
+        }
+        return nodes;
+    }
+
+    private static IndexRemapping fromOrder(int[] order, boolean reversed) {
+        int n = order.length;
+        int[] newIndexOf = new int[n];
+        for (int k = 0; k < n; k++) {
+            newIndexOf[order[k]] = reversed ? n - 1 - k : k;
+        }
+        return new IndexRemapping(newIndexOf, n);
+    }
+
+    /*
+     * Adjacency lists of the undirected version of the graph, without
+     * duplicates.
+     */
+    private static int[][] symmetric(int[][] successors) {
+        int n = successors.length;
+        int[] degree = new int[n];
+        for (int i = 0; i < n; i++) {
+            for (int j : successors[i]) {
+                degree[i]++;
+                degree[j]++;
+            }
+        }
+        int[][] neighbours = new int[n][];
+        for (int i = 0; i < n; i++) {
+            neighbours[i] = new int[degree[i]];
+        }
+        Arrays.fill(degree, 0);
+        for (int i = 0; i < n; i++) {
+            for (int j : successors[i]) {
+                neighbours[i][degree[i]++] = j;
+                neighbours[j][degree[j]++] = i;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            int[] row = neighbours[i];
+            Arrays.sort(row);
+            int k = 0;
+            for (int m = 0; m < row.length; m++) {
+                if ((m == 0 || row[m] != row[m - 1]) && row[m] != i) {
+                    row[k++] = row[m];
+                }
+            }
+            neighbours[i] = k == row.length ? row : Arrays.copyOf(row, k);
+        }
+        return neighbours;
+    }
+
+    private static int[] identity(int n) {
+        int[] nodes = new int[n];
+        for (int i = 0; i < n; i++) {
+            nodes[i] = i;
+        }
+        return nodes;
+    }
+
+    /*
+     * Position of the cell (x, y) along the Hilbert curve of order
+     * HILBERT_ORDER.
+     */
+    private static long hilbertIndex(int x, int y) {
+        long d = 0;
+        for (int s = 1 << (HILBERT_ORDER - 1); s > 0; s >>>= 1) {
+            int rx = (x & s) > 0 ? 1 : 0;
+            int ry = (y & s) > 0 ? 1 : 0;
+            d += (long) s * s * ((3 * rx) ^ ry);
+            // rotate the quadrant
+            if (ry == 0) {
+                if (rx == 1) {
+                    x = (1 << HILBERT_ORDER) - 1 - x;
+                    y = (1 << HILBERT_ORDER) - 1 - y;
+                }
+                int t = x;
+                x = y;
+                y = t;
+            }
+        }
+        return d;
+    }
+}
@@ -0,0 +1,423 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * <h3>Breadth-first and depth-first visits of a graph, without recursion.</h3>
+ * <br/>
+ * <p>
+ * The breadth-first visit keeps its queue in an int array of node indices and
+ * the depth-first visit keeps its stack in arrays, with the position reached in
+ * the successors of every node on the stack, so the depth of a visit is not
+ * limited by the depth of the call stack.</p>
+ * <br/>
+ * <p>
+ * Every visit comes in three forms:</p>
+ * <ul>
+ * <li>{@code mark...} methods store the result in the nodes of the graph, as
+ * the classic algorithms do: the reached nodes are coloured
+ * {@link GraphNode#COLOR_BLACK} and the others {@link GraphNode#COLOR_WHITE},
+ * the integer distance is the number of edges from the root of the visit
+ * (-1 for the nodes not reached), the previous node is the parent in the tree
+ * of the visit and, for depth-first visits, entering and exiting times are
+ * numbered from 1;</li>
+ * <li>the methods returning a {@link TraversalResult} store the same data in
+ * primitive arrays and do not touch the nodes, so that several threads can
+ * visit the same graph at the same time, as long as nobody modifies it;</li>
+ * <li>iterators and streams return the nodes in the order the visit reaches
+ * them, doing only the work needed to produce the next one: a caller that
+ * stops early does not pay for the rest of the visit. They do not touch the
+ * nodes either.</li>
+ * </ul>
+ * <p>
+ * The successors of a node are read from the graph when the visit expands the
+ * node, in the order the graph returns them. The graph must support node
+ * indices and must not change during a visit; a visit of a graph with nodes
+ * removed lazily and not yet compacted throws an
+ * {@code IllegalArgumentException}.</p>
+ *
+ * @param <L> type of the labels of the nodes of the graph
+ * @author Pilade Jr Tomassini
+ */
+public class GraphTraversal<L> {
+
+    private final Graph<L> graph;
+
+    /**
+     * Creates a traversal engine for the given graph.
+     *
+     * @param graph the graph to visit
+     * @throws NullPointerException if the graph is null
+     */
+    public GraphTraversal(Graph<L> graph) {
+        if (graph == null) {
+            throw new NullPointerException("The graph cannot be null.");
+        }
+        this.graph = graph;
+    }
+
+    /**
+     * Visits the graph breadth-first from the given node.
+     *
+     * @param source the index of the node the visit starts from
+     * @return the hop distances and the parents of the nodes, with the nodes in
+     * the order they were reached
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public TraversalResult breadthFirstFrom(int source) {
+        int n = this.nodeCount();
+        checkIndex(source, n);
+        int[] order = new int[n];
+        int[] distances = filled(n, -1);
+        int[] parents = filled(n, -1);
+        distances[source] = 0;
+        order[0] = source;
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            int u = order[head++];
+            for (int v : this.successorsOf(u)) {
+                if (distances[v] < 0) {
+                    distances[v] = distances[u] + 1;
+                    parents[v] = u;
+                    order[tail++] = v;
+                }
+            }
+        }
+        return new TraversalResult(order, tail, distances, parents, null, null);
+    }
+
+    /**
+     * Visits the graph depth-first from the given node. The nodes not
+     * reachable from it are not visited.
+     *
+     * @param source the index of the node the visit starts from
+     * @return the depths, the parents and the entering and exiting times of
+     * the nodes, with the nodes in the order they were entered
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public TraversalResult depthFirstFrom(int source) {
+        int n = this.nodeCount();
+        checkIndex(source, n);
+        return this.depthFirst(new int[]{source}, n);
+    }
+
+    /**
+     * Visits the whole graph depth-first, starting a new visit from the node
+     * of lowest index not yet reached until every node is reached.
+     *
+     * @return the depths, the parents and the entering and exiting times of
+     * the nodes, with the nodes in the order they were entered
+     */
+    public TraversalResult depthFirst() {
+        int n = this.nodeCount();
+        int[] roots = new int[n];
+        for (int i = 0; i < n; i++) {
+            roots[i] = i;
+        }
+        return this.depthFirst(roots, n);
+    }
+
+    /**
+     * Visits the graph breadth-first from the given node and stores the
+     * result in the nodes of the graph.
+     *
+     * @param source the node the visit starts from
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node does not exist
+     */
+    public void markBreadthFirstFrom(GraphNode<L> source) {
+        this.breadthFirstFrom(this.indexOf(source)).storeInto(this.graph);
+    }
+
+    /**
+     * Visits the graph depth-first from the given node and stores the result in
+     * the nodes of the graph.
+     *
+     * @param source the node the visit starts from
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node does not exist
+     */
+    public void markDepthFirstFrom(GraphNode<L> source) {
+        this.depthFirstFrom(this.indexOf(source)).storeInto(this.graph);
+    }
+
+    /**
+     * Visits the whole graph depth-first and stores the result in the nodes of
+     * the graph.
+     *
+     * @see #depthFirst()
+     */
+    public void markDepthFirst() {
+        this.depthFirst().storeInto(this.graph);
+    }
+
+    /**
+     * Returns an iterator over the nodes reachable from the given one, in
+     * breadth-first order. The source is returned first.
+     *
+     * @param source the node the visit starts from
+     * @return an iterator doing the visit lazily
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node does not exist
+     */
+    public Iterator<GraphNode<L>> breadthFirstIterator(GraphNode<L> source) {
+        return new BreadthFirstIterator(this.indexOf(source));
+    }
+
+    /**
+     * Returns an iterator over the nodes reachable from the given one, in
+     * depth-first order, each node returned when the visit enters it. The
+     * source is returned first.
+     *
+     * @param source the node the visit starts from
+     * @return an iterator doing the visit lazily
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node does not exist
+     */
+    public Iterator<GraphNode<L>> depthFirstIterator(GraphNode<L> source) {
+        return new DepthFirstIterator(this.indexOf(source));
+    }
+
+    /**
+     * Returns a sequential stream of the nodes reachable from the given one, in
+     * breadth-first order.
+     *
+     * @param source the node the visit starts from
+     * @return a stream doing the visit lazily
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node does not exist
+     * @see #breadthFirstIterator(GraphNode)
+     */
+    public Stream<GraphNode<L>> breadthFirstStream(GraphNode<L> source) {
+        return stream(this.breadthFirstIterator(source));
+    }
+
+    /**
+     * Returns a sequential stream of the nodes reachable from the given one, in
+     * depth-first order.
+     *
+     * @param source the node the visit starts from
+     * @return a stream doing the visit lazily
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node does not exist
+     * @see #depthFirstIterator(GraphNode)
+     */
+    public Stream<GraphNode<L>> depthFirstStream(GraphNode<L> source) {
+        return stream(this.depthFirstIterator(source));
+    }
+
+    /**
+     * @return the graph visited by this engine
+     */
+    public Graph<L> getGraph() {
+        return this.graph;
+    }
+
+    /*
+     * Depth-first visit from each of the roots not yet reached, in order. The
+     * stack holds, for every level, the node, its successors and the position
+     * of the next successor to try.
+     */
+    private TraversalResult depthFirst(int[] roots, int n) {
+        int[] order = new int[n];
+        int[] depths = filled(n, -1);
+        int[] parents = filled(n, -1);
+        int[] entering = new int[n];
+        int[] exiting = new int[n];
+        int[] stack = new int[n];
+        int[][] rows = new int[n][];
+        int[] next = new int[n];
+        int visited = 0;
+        int time = 0;
+        for (int root : roots) {
+            if (depths[root] >= 0) {
+                continue;
+            }
+            depths[root] = 0;
+            entering[root] = ++time;
+            order[visited++] = root;
+            int top = 0;
+            stack[0] = root;
+            rows[0] = this.successorsOf(root);
+            next[0] = 0;
+            while (top >= 0) {
+                int u = stack[top];
+                int[] row = rows[top];
+                if (next[top] < row.length) {
+                    int v = row[next[top]++];
+                    if (depths[v] < 0) {
+                        depths[v] = top + 1;
+                        parents[v] = u;
+                        entering[v] = ++time;
+                        order[visited++] = v;
+                        stack[++top] = v;
+                        rows[top] = this.successorsOf(v);
+                        next[top] = 0;
+                    }
+                } else {
+                    exiting[u] = ++time;
+                    rows[top--] = null;
+                }
+            }
+        }
+        return new TraversalResult(order, visited, depths, parents, entering, exiting);
+    }
+
+    private int[] successorsOf(int u) {
+        Set<GraphNode<L>> adjacent = this.graph.getAdjacentNodesOf(u);
+        int[] row = new int[adjacent.size()];
+        int k = 0;
+        for (GraphNode<L> target : adjacent) {
+            row[k++] = this.graph.getNodeIndexOf(target);
+        }
+        return row;
+    }
+
+    /*
+     * Number of nodes of the graph, whose indices must have no holes, as the
+     * visits allocate arrays of this size.
+     */
+    private int nodeCount() {
+        Graph.checkIndices(this.graph);
+        return this.graph.nodeCount();
+    }
+
+    private int indexOf(GraphNode<L> node) {
+        if (node == null) {
+            throw new NullPointerException("The source cannot be null.");
+        }
+        // some graphs answer -1 instead of throwing
+        int i = this.graph.getNodeIndexOf(node);
+        if (i < 0) {
+            throw new IllegalArgumentException("Node not found in the graph.");
+        }
+        return i;
+    }
+
+    private static void checkIndex(int i, int n) {
+        if (i < 0 || i >= n) {
+            throw new IndexOutOfBoundsException("Node index out of bounds: " + i);
+        }
+    }
+
+    private static int[] filled(int n, int value) {
+        int[] array = new int[n];
+        Arrays.fill(array, value);
+        return array;
+    }
+
+    private static <T> Stream<T> stream(Iterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    /*
+     * The queue holds the reached nodes; a node is expanded only when it is
+     * returned.
+     */
+    private final class BreadthFirstIterator implements Iterator<GraphNode<L>> {
+
+        private final int[] queue;
+
+        private final boolean[] reached;
+
+        private int head;
+
+        private int tail;
+
+        BreadthFirstIterator(int source) {
+            int n = GraphTraversal.this.nodeCount();
+            this.queue = new int[n];
+            this.reached = new boolean[n];
+            this.queue[this.tail++] = source;
+            this.reached[source] = true;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.head < this.tail;
+        }
+
+        @Override
+        public GraphNode<L> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("The visit is over.");
+            }
+            int u = this.queue[this.head++];
+            for (int v : GraphTraversal.this.successorsOf(u)) {
+                if (!this.reached[v]) {
+                    this.reached[v] = true;
+                    this.queue[this.tail++] = v;
+                }
+            }
+            return GraphTraversal.this.graph.getNode(u);
+        }
+    }
+
+    /*
+     * The stack holds the successors of the nodes on the current path; the
+     * next node is found by advancing it only when it is asked for.
+     */
+    private final class DepthFirstIterator implements Iterator<GraphNode<L>> {
+
+        private final int[][] rows;
+
+        private final int[] next;
+
+        private final boolean[] reached;
+
+        private int top = -1;
+
+        // node entered but not yet returned, -1 if none
+        private int pending;
+
+        DepthFirstIterator(int source) {
+            int n = GraphTraversal.this.nodeCount();
+            this.rows = new int[n][];
+            this.next = new int[n];
+            this.reached = new boolean[n];
+            this.enter(source);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (this.pending < 0 && this.top >= 0) {
+                int[] row = this.rows[this.top];
+                if (this.next[this.top] < row.length) {
+                    int v = row[this.next[this.top]++];
+                    if (!this.reached[v]) {
+                        this.enter(v);
+                    }
+                } else {
+                    this.rows[this.top--] = null;
+                }
+            }
+            return this.pending >= 0;
+        }
+
+        @Override
+        public GraphNode<L> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("The visit is over.");
+            }
+            int u = this.pending;
+            this.pending = -1;
+            return GraphTraversal.this.graph.getNode(u);
+        }
+
+        private void enter(int v) {
+            this.reached[v] = true;
+            this.rows[++this.top] = GraphTraversal.this.successorsOf(v);
+            this.next[this.top] = 0;
+            this.pending = v;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package it.unicam.cs.asdl2425;
+
+/**
+ * <h3>Counters of the operations performed by a
+ * {@link BinaryHeapMinPriorityQueue}.</h3>
+ * <br/>
+ * <p>
+ * A queue updates its counters only while an object of this class is attached
+ * to it with {@link BinaryHeapMinPriorityQueue#setMetrics(HeapMetrics)}; when
+ * no object is attached the cost of the instrumentation is a null check per
+ * operation. The counters are cumulative until {@link #reset()} and, like the
+ * queue, are not thread-safe.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public final class HeapMetrics {
+
+    long inserts;
+
+    long extractions;
+
+    long decreasePriorityCalls;
+
+    int maxSize;
+
+    /* Maximum size since the last markMaxSize(), for a single computation. */
+    int maxSizeSinceMark;
+
+    /**
+     * @return the number of calls to insert
+     */
+    public long getInserts() {
+        return this.inserts;
+    }
+
+    /**
+     * @return the number of calls to extractMinimum
+     */
+    public long getExtractions() {
+        return this.extractions;
+    }
+
+    /**
+     * @return the number of calls to decreasePriority
+     */
+    public long getDecreasePriorityCalls() {
+        return this.decreasePriorityCalls;
+    }
+
+    /**
+     * @return the maximum number of elements held by the queue at the same time
+     */
+    public int getMaxSize() {
+        return this.maxSize;
+    }
+
+    /**
+     * Sets all the counters to zero.
+     */
+    public void reset() {
+        this.inserts = 0;
+        this.extractions = 0;
+        this.decreasePriorityCalls = 0;
+        this.maxSize = 0;
+        this.maxSizeSinceMark = 0;
+    }
+
+    /*
+     * Starts measuring the maximum size again, for the users of the queue that
+     * report it per computation.
+     */
+    void markMaxSize() {
+        this.maxSizeSinceMark = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "HeapMetrics [inserts=" + this.inserts + ", extractions=" + this.extractions
+                + ", decreasePriorityCalls=" + this.decreasePriorityCalls + ", maxSize=" + this.maxSize + "]";
+    }
+}
@@ -0,0 +1,23 @@
+package it.unicam.cs.asdl2425;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/*
+ * Growth of the array backing a binary heap.
+ */
+@Name("it.unicam.cs.asdl2425.HeapResize")
+@Label("Heap Resize")
+@Category({"Graph", "Priority Queues"})
+@Description("Growth of the array backing a priority queue")
+class HeapResizeEvent extends Event {
+
+    @Label("Old Capacity")
+    int oldCapacity;
+
+    @Label("New Capacity")
+    int newCapacity;
+}
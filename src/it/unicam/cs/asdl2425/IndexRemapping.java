@@ -0,0 +1,208 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Arrays;
+
+/**
+ * <h3>Renumbering of the node indices of a graph.</h3>
+ * <br/>
+ * <p>
+ * An object of this class is produced every time a graph changes the indices
+ * of its nodes in one go, for example when it is compacted after lazy node
+ * removals. It maps every old index to the new index of the same node, or to
+ * -1 if the node no longer exists. The {@code apply} methods move the values of
+ * an external per-node array (distances, colors, labels computed by an
+ * algorithm...) to the new positions, so that it stays aligned with the
+ * graph.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public final class IndexRemapping {
+
+    private final int[] newIndexOf;
+
+    private final int newSize;
+
+    /**
+     * Creates a remapping from an array associating each old index with the
+     * new one.
+     *
+     * @param newIndexOf the new index of each old index, -1 for the indices
+     *                   of removed nodes. The array is not copied
+     * @param newSize    the number of indices after the remapping
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if a new index is out of the interval
+     *                                  {@code [-1, newSize - 1]}
+     */
+    public IndexRemapping(int[] newIndexOf, int newSize) {
+        if (newIndexOf == null) {
+            throw new NullPointerException("The remapping array cannot be null.");
+        }
+        for (int index : newIndexOf) {
+            if (index < -1 || index >= newSize) {
+                throw new IllegalArgumentException("Invalid new index: " + index);
+            }
+        }
+        this.newIndexOf = newIndexOf;
+        this.newSize = newSize;
+    }
+
+    /**
+     * Returns the identity remapping over the given number of indices.
+     *
+     * @param size the number of indices
+     * @return a remapping that leaves every index unchanged
+     */
+    public static IndexRemapping identity(int size) {
+        int[] map = new int[size];
+        for (int i = 0; i < size; i++) {
+            map[i] = i;
+        }
+        return new IndexRemapping(map, size);
+    }
+
+    /**
+     * Returns the new index of a node given its old index.
+     *
+     * @param oldIndex the index before the remapping
+     * @return the index after the remapping, -1 if the node has been removed
+     * @throws IndexOutOfBoundsException if the old index is out of bounds
+     */
+    public int newIndexOf(int oldIndex) {
+        if (oldIndex < 0 || oldIndex >= this.newIndexOf.length) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + oldIndex);
+        }
+        return this.newIndexOf[oldIndex];
+    }
+
+    /**
+     * @return the number of indices before the remapping
+     */
+    public int oldSize() {
+        return this.newIndexOf.length;
+    }
+
+    /**
+     * @return the number of indices after the remapping
+     */
+    public int newSize() {
+        return this.newSize;
+    }
+
+    /**
+     * Determines if this remapping leaves every index unchanged.
+     *
+     * @return true if no index is changed or removed
+     */
+    public boolean isIdentity() {
+        if (this.newSize != this.newIndexOf.length) {
+            return false;
+        }
+        for (int i = 0; i < this.newIndexOf.length; i++) {
+            if (this.newIndexOf[i] != i) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the inverse mapping, i.e. the old index of each new index.
+     *
+     * @return an array of length {@code newSize()} containing the old index of
+     *         every node
+     */
+    public int[] oldIndices() {
+        int[] old = new int[this.newSize];
+        Arrays.fill(old, -1);
+        for (int i = 0; i < this.newIndexOf.length; i++) {
+            if (this.newIndexOf[i] >= 0) {
+                old[this.newIndexOf[i]] = i;
+            }
+        }
+        return old;
+    }
+
+    /**
+     * Moves the values of a per-node array to the new indices. Values of
+     * removed nodes are dropped.
+     *
+     * @param values the values indexed by old index
+     * @return a new array of length {@code newSize()} indexed by new index
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if the array is shorter than {@code oldSize()}
+     */
+    public int[] apply(int[] values) {
+        checkLength(values.length);
+        int[] result = new int[this.newSize];
+        for (int i = 0; i < this.newIndexOf.length; i++) {
+            if (this.newIndexOf[i] >= 0) {
+                result[this.newIndexOf[i]] = values[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Moves the values of a per-node array to the new indices. Values of
+     * removed nodes are dropped.
+     *
+     * @param values the values indexed by old index
+     * @return a new array of length {@code newSize()} indexed by new index
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if the array is shorter than {@code oldSize()}
+     */
+    public double[] apply(double[] values) {
+        checkLength(values.length);
+        double[] result = new double[this.newSize];
+        for (int i = 0; i < this.newIndexOf.length; i++) {
+            if (this.newIndexOf[i] >= 0) {
+                result[this.newIndexOf[i]] = values[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Moves the values of a per-node array to the new indices. Values of
+     * removed nodes are dropped.
+     *
+     * @param values the values indexed by old index
+     * @param <T>    the type of the values
+     * @return a new array of length {@code newSize()} indexed by new index
+     * @throws NullPointerException     if the array is null
+     * @throws IllegalArgumentException if the array is shorter than {@code oldSize()}
+     */
+    public <T> T[] apply(T[] values) {
+        checkLength(values.length);
+        T[] result = Arrays.copyOf(values, this.newSize);
+        Arrays.fill(result, null);
+        for (int i = 0; i < this.newIndexOf.length; i++) {
+            if (this.newIndexOf[i] >= 0) {
+                result[this.newIndexOf[i]] = values[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Rewrites, in place, an array of node indices (for example a predecessor
+     * array) so that it refers to the new indices. Entries referring to removed
+     * nodes, or that are negative, become -1.
+     *
+     * @param indices the node indices to translate
+     * @throws NullPointerException if the array is null
+     */
+    public void translate(int[] indices) {
+        for (int k = 0; k < indices.length; k++) {
+            int i = indices[k];
+            indices[k] = i >= 0 && i < this.newIndexOf.length ? this.newIndexOf[i] : -1;
+        }
+    }
+
+    private void checkLength(int length) {
+        if (length < this.newIndexOf.length) {
+            throw new IllegalArgumentException("The array has " + length
+                    + " elements, expected at least " + this.newIndexOf.length);
+        }
+    }
+}
@@ -0,0 +1,274 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Arrays;
+
+/**
+ * Single-source shortest path calculator working on an {@link IntGraph} with
+ * ints end to end: distances, predecessors and the priority queue are
+ * primitive arrays indexed by node, allocated once and reused by every
+ * computation as long as the number of nodes does not change. The queue is a
+ * binary heap of nodes with the position of each node in the heap, so
+ * decreasing a priority costs {@code O(log n)} as in
+ * {@link DijkstraShortestPathComputer}.
+ * <br/>
+ * Edges without weight or with a negative weight are rejected when they are
+ * met.
+ *
+ * @author Pilade Jr Tomassini
+ */
+public class IntDijkstraShortestPathComputer {
+
+    private final IntGraph graph;
+
+    private double[] distances;
+
+    private int[] predecessors;
+
+    private int[] heap;
+
+    // position of each node in the heap, -1 once it has been extracted
+    private int[] positions;
+
+    private int lastSource = -1;
+
+    private long computedOn;
+
+    /**
+     * Creates a calculator for the given graph.
+     *
+     * @param graph the graph on which the calculator operates
+     * @throws NullPointerException if the graph is null
+     */
+    public IntDijkstraShortestPathComputer(IntGraph graph) {
+        if (graph == null) {
+            throw new NullPointerException("The graph cannot be null.");
+        }
+        this.graph = graph;
+    }
+
+    /**
+     * Computes the shortest paths from the given source to every node.
+     *
+     * @param source the source node
+     * @throws IndexOutOfBoundsException if the source does not exist
+     * @throws IllegalArgumentException  if a reachable edge has no weight or a
+     *                                   negative one
+     */
+    public void computeShortestPathsFrom(int source) {
+        this.graph.checkNode(source);
+        int n = this.graph.nodeCount();
+        if (this.distances == null || this.distances.length != n) {
+            this.distances = new double[n];
+            this.predecessors = new int[n];
+            this.heap = new int[n];
+            this.positions = new int[n];
+        }
+        double[] dist = this.distances;
+        int[] pred = this.predecessors;
+        Arrays.fill(dist, Double.POSITIVE_INFINITY);
+        Arrays.fill(pred, -1);
+        Arrays.fill(this.positions, -1);
+        this.lastSource = -1;
+        dist[source] = 0.0;
+        int size = 0;
+        this.heap[size] = source;
+        this.positions[source] = size++;
+        while (size > 0) {
+            int u = this.heap[0];
+            this.positions[u] = -2; // settled
+            if (--size > 0) {
+                this.heap[0] = this.heap[size];
+                this.positions[this.heap[0]] = 0;
+                this.siftDown(0, size);
+            }
+            int[] targets = this.graph.targetsOf(u);
+            double du = dist[u];
+            for (int k = 0, d = this.graph.outDegree(u); k < d; k++) {
+                int v = targets[k];
+                double w = this.graph.weight(u, k);
+                if (!(w >= 0)) {
+                    throw new IllegalArgumentException("Found an edge with weight " + w + ".");
+                }
+                double candidate = du + w;
+                if (candidate < dist[v]) {
+                    int position = this.positions[v];
+                    if (position == -2) {
+                        continue; // only reached with zero weights
+                    }
+                    dist[v] = candidate;
+                    pred[v] = u;
+                    if (position == -1) {
+                        position = size++;
+                        this.heap[position] = v;
+                        this.positions[v] = position;
+                    }
+                    this.siftUp(position);
+                }
+            }
+        }
+        this.lastSource = source;
+        this.computedOn = this.graph.getVersion();
+    }
+
+    /**
+     * @return true if a computation has been done since the graph last changed
+     */
+    public boolean isComputed() {
+        return this.lastSource >= 0 && this.computedOn == this.graph.getVersion();
+    }
+
+    /**
+     * @return the source of the last computation
+     * @throws IllegalStateException if no computation has been done
+     */
+    public int getLastSource() {
+        this.checkComputed();
+        return this.lastSource;
+    }
+
+    /**
+     * @param target a node
+     * @return the distance of the node from the last source, or
+     * {@code Double.POSITIVE_INFINITY} if it is not reachable
+     * @throws IllegalStateException     if no computation has been done
+     * @throws IndexOutOfBoundsException if the node does not exist
+     */
+    public double getDistance(int target) {
+        this.checkComputed();
+        this.graph.checkNode(target);
+        return this.distances[target];
+    }
+
+    /**
+     * @param target a node
+     * @return the predecessor of the node on a shortest path from the last
+     * source, or -1 for the source and the nodes that are not reachable
+     * @throws IllegalStateException     if no computation has been done
+     * @throws IndexOutOfBoundsException if the node does not exist
+     */
+    public int getPredecessor(int target) {
+        this.checkComputed();
+        this.graph.checkNode(target);
+        return this.predecessors[target];
+    }
+
+    /**
+     * Returns the nodes of a shortest path from the last source to the given
+     * node, both included.
+     *
+     * @param target the last node of the path
+     * @return the nodes of the path, in order, or null if the node is not
+     * reachable
+     * @throws IllegalStateException     if no computation has been done
+     * @throws IndexOutOfBoundsException if the node does not exist
+     */
+    public int[] getShortestPathTo(int target) {
+        this.checkComputed();
+        this.graph.checkNode(target);
+        int count = PathView.countNodes(this.predecessors, this.lastSource, target);
+        if (count < 0) {
+            return null;
+        }
+        int[] path = new int[count];
+        PathView.write(this.predecessors, target, path, count);
+        return path;
+    }
+
+    /**
+     * Writes the nodes of a shortest path from the last source to the given
+     * node, both included, into the first positions of the given buffer,
+     * without allocating anything. If the buffer is too short nothing is
+     * written and the returned count, greater than the length of the buffer,
+     * tells how long it must be.
+     *
+     * @param target the last node of the path
+     * @param buffer the array receiving the nodes of the path
+     * @return the number of nodes of the path, or -1 if the node is not
+     * reachable
+     * @throws NullPointerException      if the buffer is null
+     * @throws IllegalStateException     if no computation has been done
+     * @throws IndexOutOfBoundsException if the node does not exist
+     */
+    public int getShortestPathTo(int target, int[] buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("The buffer cannot be null.");
+        }
+        this.checkComputed();
+        this.graph.checkNode(target);
+        return PathView.copyPath(this.predecessors, this.lastSource, target, buffer);
+    }
+
+    /**
+     * Loads a shortest path from the last source to the given node, and its
+     * length, into the given view.
+     *
+     * @param target the last node of the path
+     * @param view   the view receiving the path
+     * @return true if the node is reachable, false otherwise, in which case
+     * the view is left empty
+     * @throws NullPointerException      if the view is null
+     * @throws IllegalStateException     if no computation has been done
+     * @throws IndexOutOfBoundsException if the node does not exist
+     */
+    public boolean getShortestPathTo(int target, PathView view) {
+        if (view == null) {
+            throw new NullPointerException("The view cannot be null.");
+        }
+        this.checkComputed();
+        this.graph.checkNode(target);
+        return view.load(this.predecessors, this.lastSource, target, this.distances[target]);
+    }
+
+    /**
+     * @return the graph on which the calculator operates
+     */
+    public IntGraph getGraph() {
+        return this.graph;
+    }
+
+    private void siftUp(int position) {
+        int v = this.heap[position];
+        double priority = this.distances[v];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            int p = this.heap[parent];
+            if (this.distances[p] <= priority) {
+                break;
+            }
+            this.heap[position] = p;
+            this.positions[p] = position;
+            position = parent;
+        }
+        this.heap[position] = v;
+        this.positions[v] = position;
+    }
+
+    private void siftDown(int position, int size) {
+        int v = this.heap[position];
+        double priority = this.distances[v];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && this.distances[this.heap[child + 1]] < this.distances[this.heap[child]]) {
+                child++;
+            }
+            int c = this.heap[child];
+            if (priority <= this.distances[c]) {
+                break;
+            }
+            this.heap[position] = c;
+            this.positions[c] = position;
+            position = child;
+        }
+        this.heap[position] = v;
+        this.positions[v] = position;
+    }
+
+    private void checkComputed() {
+        if (!this.isComputed()) {
+            throw new IllegalStateException("Shortest paths have not been computed yet.");
+        }
+    }
+}
@@ -0,0 +1,753 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Arrays;
+
+/**
+ * <h3>Directed, possibly weighted graph whose nodes are the integers from 0 to
+ * nodeCount() - 1.</h3>
+ * <br/>
+ * <p>
+ * A node is identified by the int itself: no {@link GraphNode} is allocated,
+ * no label is boxed or hashed. The edges leaving each node are stored in two
+ * parallel primitive arrays, the targets and the weights, grown by doubling,
+ * so the graph costs 12 bytes per edge and the successors of a node are
+ * scanned sequentially. As in the other graphs of this package there is at
+ * most one edge between two nodes, and an edge without weight has weight
+ * {@code Double.NaN}.</p>
+ * <br/>
+ * <p>
+ * Weights can be stored with less memory, choosing a {@link WeightStorage}
+ * when the graph is created:</p>
+ * <ul>
+ * <li>{@code DOUBLE}, the default, keeps the weights exactly, 12 bytes per
+ * edge;</li>
+ * <li>{@code FLOAT} keeps them in a {@code float[]}, 8 bytes per edge. Every
+ * weight w in the normal range of floats is rounded to the nearest float, with
+ * a relative error of at most 2<sup>-24</sup>|w| (about 6e-8|w|);</li>
+ * <li>{@code QUANTIZED} keeps them in an {@code int[]} as multiples of a given
+ * quantum q, 8 bytes per edge. Every weight is rounded to the nearest multiple,
+ * with an absolute error of at most q/2, and must not exceed
+ * q(2<sup>31</sup> - 1) in absolute value.</li>
+ * </ul>
+ * <p>
+ * Since shortest path computations add the stored weights in double, the
+ * computed length of a path of k edges differs from its exact length by at
+ * most 2<sup>-24</sup> times the sum of the absolute values of its weights
+ * with {@code FLOAT}, and by at most kq/2 with {@code QUANTIZED}; with
+ * non-negative weights the computed distance of a node is then within the same
+ * bound from its exact distance, taking k as the largest number of edges of the
+ * shortest paths before and after rounding. Paths whose lengths differ by less
+ * than the bound can be swapped.</p>
+ * <br/>
+ * <p>
+ * Nodes can only be added: removing one would renumber the following ones and
+ * change their identity. Algorithms written for {@link Graph} can work on this
+ * graph through the view returned by {@link #asGraph()}, whose node labels are
+ * the node numbers; the algorithms that need speed read the arrays through the
+ * index based methods, such as {@link #getEdgeTarget(int, int)}.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public class IntGraph {
+
+    /**
+     * Ways of storing the weights of the edges.
+     */
+    public enum WeightStorage {
+        /**
+         * Weights stored as doubles, exactly.
+         */
+        DOUBLE,
+        /**
+         * Weights stored as floats, with a relative error of at most
+         * 2<sup>-24</sup>.
+         */
+        FLOAT,
+        /**
+         * Weights stored as ints counting multiples of a quantum, with an
+         * absolute error of at most half of the quantum.
+         */
+        QUANTIZED
+    }
+
+    /*
+     * Quantized value standing for an edge without weight.
+     */
+    private static final int QUANTIZED_NAN = Integer.MIN_VALUE;
+
+    /*
+     * Initial capacity of the adjacency arrays of a node.
+     */
+    private static final int INITIAL_DEGREE_CAPACITY = 4;
+
+    private int nodeCount;
+
+    private int numberOfEdges;
+
+    // targets and weights of the edges leaving each node
+    private int[][] targets;
+
+    private final WeightStorage storage;
+
+    private final double quantum;
+
+    // weights in the representation chosen by storage: double[], float[] or int[]
+    private Object[] weights;
+
+    private int[] outDegrees;
+
+    private int[] inDegrees;
+
+    private long version;
+
+    private IntGraphAdapter view;
+
+    /**
+     * Creates an empty graph.
+     */
+    public IntGraph() {
+        this(0);
+    }
+
+    /**
+     * Creates a graph with the given number of nodes and no edges.
+     *
+     * @param nodeCount the number of nodes
+     * @throws IllegalArgumentException if the number of nodes is negative
+     */
+    public IntGraph(int nodeCount) {
+        this(nodeCount, WeightStorage.DOUBLE, Double.NaN);
+    }
+
+    /**
+     * Creates a graph with the given number of nodes, no edges and the weights
+     * stored as doubles or floats.
+     *
+     * @param nodeCount the number of nodes
+     * @param storage   DOUBLE or FLOAT
+     * @throws NullPointerException     if the storage is null
+     * @throws IllegalArgumentException if the number of nodes is negative or
+     *                                  the storage is QUANTIZED, which needs a
+     *                                  quantum
+     */
+    public IntGraph(int nodeCount, WeightStorage storage) {
+        this(nodeCount, storage, Double.NaN);
+    }
+
+    /**
+     * Creates a graph with the given number of nodes, no edges and the weights
+     * stored as multiples of the given quantum.
+     *
+     * @param nodeCount the number of nodes
+     * @param quantum   the unit of the stored weights
+     * @throws IllegalArgumentException if the number of nodes is negative or
+     *                                  the quantum is not positive and finite
+     */
+    public IntGraph(int nodeCount, double quantum) {
+        this(nodeCount, WeightStorage.QUANTIZED, quantum);
+    }
+
+    private IntGraph(int nodeCount, WeightStorage storage, double quantum) {
+        if (nodeCount < 0) {
+            throw new IllegalArgumentException("The number of nodes cannot be negative.");
+        }
+        if (storage == null) {
+            throw new NullPointerException("The weight storage cannot be null.");
+        }
+        if (storage == WeightStorage.QUANTIZED
+                && !(quantum > 0 && quantum < Double.POSITIVE_INFINITY)) {
+            throw new IllegalArgumentException("The quantum must be positive and finite: " + quantum);
+        }
+        this.storage = storage;
+        this.quantum = quantum;
+        int capacity = Math.max(nodeCount, 16);
+        this.targets = new int[capacity][];
+        this.weights = new Object[capacity];
+        this.outDegrees = new int[capacity];
+        this.inDegrees = new int[capacity];
+        this.addNodes(nodeCount);
+    }
+
+    /**
+     * Creates a graph with the nodes and the weighted edges of a generated one.
+     * Generated graphs have no parallel edges, so the rows are allocated at
+     * their final length and filled without looking for duplicates: the cost
+     * is linear in the size of the graph.
+     *
+     * @param generated the generated graph
+     * @return the new graph
+     * @throws NullPointerException if the generated graph is null
+     */
+    public static IntGraph of(GeneratedGraph generated) {
+        int n = generated.nodeCount();
+        int m = generated.edgeCount();
+        IntGraph graph = new IntGraph(n);
+        int[] degrees = new int[n];
+        for (int k = 0; k < m; k++) {
+            degrees[generated.getSource(k)]++;
+        }
+        graph.reserveEdges(degrees);
+        for (int k = 0; k < m; k++) {
+            graph.appendEdge(generated.getSource(k), generated.getTarget(k), generated.getWeight(k));
+        }
+        return graph;
+    }
+
+    /**
+     * @return the number of nodes of the graph
+     */
+    public int nodeCount() {
+        return this.nodeCount;
+    }
+
+    /**
+     * @return the number of edges of the graph
+     */
+    public int edgeCount() {
+        return this.numberOfEdges;
+    }
+
+    /**
+     * Adds a node to the graph.
+     *
+     * @return the new node, equal to the previous number of nodes
+     */
+    public int addNode() {
+        this.addNodes(1);
+        return this.nodeCount - 1;
+    }
+
+    /**
+     * Adds the given number of nodes to the graph, numbered after the existing
+     * ones.
+     *
+     * @param count the number of nodes to add
+     * @throws IllegalArgumentException if count is negative
+     */
+    public void addNodes(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("The number of nodes cannot be negative.");
+        }
+        int n = this.nodeCount + count;
+        if (n > this.targets.length) {
+            int capacity = Math.max(n, 2 * this.targets.length);
+            this.targets = Arrays.copyOf(this.targets, capacity);
+            this.weights = Arrays.copyOf(this.weights, capacity);
+            this.outDegrees = Arrays.copyOf(this.outDegrees, capacity);
+            this.inDegrees = Arrays.copyOf(this.inDegrees, capacity);
+        }
+        for (int i = this.nodeCount; i < n; i++) {
+            this.targets[i] = null; // allocated with the first edge
+            this.weights[i] = null;
+        }
+        this.nodeCount = n;
+        if (count > 0) {
+            this.version++;
+        }
+    }
+
+    /**
+     * Removes all the nodes and the edges of the graph.
+     */
+    public void clear() {
+        Arrays.fill(this.targets, 0, this.nodeCount, null);
+        Arrays.fill(this.weights, 0, this.nodeCount, null);
+        Arrays.fill(this.outDegrees, 0, this.nodeCount, 0);
+        Arrays.fill(this.inDegrees, 0, this.nodeCount, 0);
+        this.nodeCount = 0;
+        this.numberOfEdges = 0;
+        this.version++;
+    }
+
+    /**
+     * Adds an unweighted edge.
+     *
+     * @param i the source node
+     * @param j the target node
+     * @return true if the edge was added, false if it already exists
+     * @throws IndexOutOfBoundsException if either node does not exist
+     */
+    public boolean addEdge(int i, int j) {
+        return this.addEdge(i, j, Double.NaN);
+    }
+
+    /**
+     * Adds a weighted edge.
+     *
+     * @param i      the source node
+     * @param j      the target node
+     * @param weight the weight of the edge
+     * @return true if the edge was added, false if it already exists, in which
+     * case its weight is not changed
+     * @throws IndexOutOfBoundsException if either node does not exist
+     */
+    public boolean addEdge(int i, int j, double weight) {
+        this.checkNode(i);
+        this.checkNode(j);
+        if (this.find(i, j) >= 0) {
+            return false;
+        }
+        this.appendEdge(i, j, weight);
+        return true;
+    }
+
+    /*
+     * Adds an edge without looking for an existing one from i to j: only for
+     * bulk loading from sources known to have no parallel edges, such as the
+     * generated graphs.
+     */
+    void appendEdge(int i, int j, double weight) {
+        this.checkNode(i);
+        this.checkNode(j);
+        this.checkWeight(weight);
+        int d = this.outDegrees[i];
+        if (this.targets[i] == null) {
+            this.targets[i] = new int[INITIAL_DEGREE_CAPACITY];
+            this.weights[i] = this.newWeights(INITIAL_DEGREE_CAPACITY);
+        } else if (d == this.targets[i].length) {
+            this.targets[i] = Arrays.copyOf(this.targets[i], 2 * d);
+            this.weights[i] = this.copyWeights(this.weights[i], 2 * d);
+        }
+        this.targets[i][d] = j;
+        this.storeWeight(i, d, weight);
+        this.outDegrees[i]++;
+        this.inDegrees[j]++;
+        this.numberOfEdges++;
+        this.version++;
+    }
+
+    /*
+     * Enlarges the rows of the nodes so that node i can take degrees[i] edges
+     * in all without growing its row; rows of nodes without edges stay
+     * unallocated.
+     */
+    void reserveEdges(int[] degrees) {
+        for (int i = 0; i < degrees.length; i++) {
+            this.checkNode(i);
+            int capacity = degrees[i];
+            if (capacity == 0 || this.targets[i] != null && this.targets[i].length >= capacity) {
+                continue;
+            }
+            int d = this.outDegrees[i];
+            this.targets[i] = this.targets[i] == null ? new int[capacity] : Arrays.copyOf(this.targets[i], capacity);
+            Object row = this.newWeights(capacity);
+            if (d > 0) {
+                System.arraycopy(this.weights[i], 0, row, 0, d);
+            }
+            this.weights[i] = row;
+        }
+    }
+
+    /**
+     * Removes an edge. The last edge of the source node takes its position.
+     *
+     * @param i the source node
+     * @param j the target node
+     * @throws IndexOutOfBoundsException if either node does not exist
+     * @throws IllegalArgumentException  if the edge does not exist
+     */
+    public void removeEdge(int i, int j) {
+        this.checkNode(i);
+        this.checkNode(j);
+        int k = this.requireEdge(i, j);
+        int last = --this.outDegrees[i];
+        this.targets[i][k] = this.targets[i][last];
+        System.arraycopy(this.weights[i], last, this.weights[i], k, 1);
+        this.inDegrees[j]--;
+        this.numberOfEdges--;
+        this.version++;
+    }
+
+    /**
+     * @param i the source node
+     * @param j the target node
+     * @return true if the graph contains the edge from i to j
+     * @throws IndexOutOfBoundsException if either node does not exist
+     */
+    public boolean hasEdge(int i, int j) {
+        this.checkNode(i);
+        this.checkNode(j);
+        return this.find(i, j) >= 0;
+    }
+
+    /**
+     * @param i the source node
+     * @param j the target node
+     * @return the weight of the edge from i to j, {@code Double.NaN} if it is
+     * not weighted
+     * @throws IndexOutOfBoundsException if either node does not exist
+     * @throws IllegalArgumentException  if the edge does not exist
+     */
+    public double getWeight(int i, int j) {
+        this.checkNode(i);
+        this.checkNode(j);
+        return this.weight(i, this.requireEdge(i, j));
+    }
+
+    /**
+     * Changes the weight of an edge.
+     *
+     * @param i      the source node
+     * @param j      the target node
+     * @param weight the new weight
+     * @throws IndexOutOfBoundsException if either node does not exist
+     * @throws IllegalArgumentException  if the edge does not exist
+     */
+    public void setWeight(int i, int j, double weight) {
+        this.checkNode(i);
+        this.checkNode(j);
+        int k = this.requireEdge(i, j);
+        this.checkWeight(weight);
+        this.storeWeight(i, k, weight);
+        this.version++;
+    }
+
+    /**
+     * @param i the node
+     * @return the number of edges leaving the node
+     * @throws IndexOutOfBoundsException if the node does not exist
+     */
+    public int outDegree(int i) {
+        this.checkNode(i);
+        return this.outDegrees[i];
+    }
+
+    /**
+     * @param i the node
+     * @return the number of edges entering the node
+     * @throws IndexOutOfBoundsException if the node does not exist
+     */
+    public int inDegree(int i) {
+        this.checkNode(i);
+        return this.inDegrees[i];
+    }
+
+    /**
+     * Returns the target of the k-th edge leaving a node. Edges are kept in
+     * insertion order until one of them is removed.
+     *
+     * @param i the node
+     * @param k the position of the edge, from 0 to outDegree(i) - 1
+     * @return the target node of the edge
+     * @throws IndexOutOfBoundsException if the node does not exist or k is out
+     *                                   of bounds
+     */
+    public int getEdgeTarget(int i, int k) {
+        this.checkEdge(i, k);
+        return this.targets[i][k];
+    }
+
+    /**
+     * Returns the weight of the k-th edge leaving a node.
+     *
+     * @param i the node
+     * @param k the position of the edge, from 0 to outDegree(i) - 1
+     * @return the weight of the edge
+     * @throws IndexOutOfBoundsException if the node does not exist or k is out
+     *                                   of bounds
+     * @see #getEdgeTarget(int, int)
+     */
+    public double getEdgeWeight(int i, int k) {
+        this.checkEdge(i, k);
+        return this.weight(i, k);
+    }
+
+    /**
+     * @param i the node
+     * @return the way the weights of this graph are stored
+     */
+    public WeightStorage getWeightStorage() {
+        return this.storage;
+    }
+
+    /**
+     * @return the unit of the stored weights if they are QUANTIZED,
+     * {@code Double.NaN} otherwise
+     */
+    public double getQuantum() {
+        return this.quantum;
+    }
+
+    /**
+     * Returns an estimate of the memory occupied by the graph, assuming 16
+     * bytes of header per array and 8 bytes per reference. The adjacency arrays
+     * are counted with their spare capacity.
+     *
+     * @return the approximate number of bytes used by the graph
+     */
+    public long memoryFootprint() {
+        int capacity = this.targets.length;
+        long bytes = 2 * (16L + 8L * capacity) + 2 * (16L + 4L * capacity);
+        int weightBytes = this.storage == WeightStorage.DOUBLE ? 8 : 4;
+        for (int i = 0; i < this.nodeCount; i++) {
+            if (this.targets[i] != null) {
+                bytes += 2 * 16L + (4L + weightBytes) * this.targets[i].length;
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * @param i the node
+     * @return a new array with the targets of the edges leaving the node
+     * @throws IndexOutOfBoundsException if the node does not exist
+     */
+    public int[] getSuccessorsOf(int i) {
+        this.checkNode(i);
+        int d = this.outDegrees[i];
+        return d == 0 ? new int[0] : Arrays.copyOf(this.targets[i], d);
+    }
+
+    /**
+     * Renumbers the nodes of this graph: node i becomes node
+     * {@code permutation.newIndexOf(i)}, keeping its edges and their weights.
+     * The order of the edges leaving each node does not change. Per-node
+     * arrays kept by the caller can be moved with the {@code apply} methods of
+     * the permutation.
+     *
+     * @param permutation the new number of each node, for example computed by
+     *                    {@link GraphReordering}
+     * @return the given permutation
+     * @throws NullPointerException     if the permutation is null
+     * @throws IllegalArgumentException if the permutation is not a bijection of
+     *                                  the nodes of this graph
+     */
+    public IndexRemapping reorder(IndexRemapping permutation) {
+        int n = this.nodeCount;
+        checkPermutation(permutation, n);
+        int[][] newTargets = new int[this.targets.length][];
+        Object[] newWeights = new Object[this.weights.length];
+        int[] newOutDegrees = new int[this.outDegrees.length];
+        int[] newInDegrees = new int[this.inDegrees.length];
+        for (int i = 0; i < n; i++) {
+            int p = permutation.newIndexOf(i);
+            int[] row = this.targets[i];
+            if (row != null) {
+                permutation.translate(row);
+            }
+            newTargets[p] = row;
+            newWeights[p] = this.weights[i];
+            newOutDegrees[p] = this.outDegrees[i];
+            newInDegrees[p] = this.inDegrees[i];
+        }
+        this.targets = newTargets;
+        this.weights = newWeights;
+        this.outDegrees = newOutDegrees;
+        this.inDegrees = newInDegrees;
+        this.version++;
+        return permutation;
+    }
+
+    /**
+     * Returns a new graph with the nodes kept by a renumbering and the edges
+     * between them: node i of this graph becomes node
+     * {@code remapping.newIndexOf(i)} of the new one, unless it is mapped to
+     * -1, in which case it is dropped together with its edges. The weights are
+     * stored in the same way as in this graph, which is not changed.
+     *
+     * @param remapping the new number of each node, for example computed by
+     *                  {@link ConnectedComponents#restrictTo(int)}
+     * @return the subgraph
+     * @throws NullPointerException     if the remapping is null
+     * @throws IllegalArgumentException if the remapping does not cover exactly
+     *                                  the nodes of this graph or maps two of
+     *                                  them to the same index
+     */
+    public IntGraph subgraph(IndexRemapping remapping) {
+        int n = this.nodeCount;
+        if (remapping.oldSize() != n) {
+            throw new IllegalArgumentException("The remapping must cover exactly " + n + " nodes.");
+        }
+        boolean[] taken = new boolean[remapping.newSize()];
+        for (int i = 0; i < n; i++) {
+            int p = remapping.newIndexOf(i);
+            if (p >= 0) {
+                if (taken[p]) {
+                    throw new IllegalArgumentException("The remapping maps two nodes to " + p + ".");
+                }
+                taken[p] = true;
+            }
+        }
+        IntGraph sub = new IntGraph(remapping.newSize(), this.storage, this.quantum);
+        for (int i = 0; i < n; i++) {
+            int p = remapping.newIndexOf(i);
+            int[] row = this.targets[i];
+            int degree = this.outDegrees[i];
+            int d = 0;
+            for (int k = 0; p >= 0 && k < degree; k++) {
+                if (remapping.newIndexOf(row[k]) >= 0) {
+                    d++;
+                }
+            }
+            if (d == 0) {
+                continue;
+            }
+            // rows are allocated at their exact length, never empty
+            sub.targets[p] = new int[d];
+            sub.weights[p] = sub.newWeights(d);
+            for (int k = 0, e = 0; k < degree; k++) {
+                int q = remapping.newIndexOf(row[k]);
+                if (q >= 0) {
+                    sub.targets[p][e] = q;
+                    sub.storeWeight(p, e++, this.weight(i, k));
+                    sub.inDegrees[q]++;
+                }
+            }
+            sub.outDegrees[p] = d;
+            sub.numberOfEdges += d;
+        }
+        return sub;
+    }
+
+    /*
+     * Checks that the permutation maps the n nodes onto themselves.
+     */
+    private static void checkPermutation(IndexRemapping permutation, int n) {
+        if (permutation.oldSize() != n || permutation.newSize() != n) {
+            throw new IllegalArgumentException("The permutation must cover exactly " + n + " nodes.");
+        }
+        boolean[] taken = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            int p = permutation.newIndexOf(i);
+            if (p < 0 || taken[p]) {
+                throw new IllegalArgumentException("The remapping is not a permutation.");
+            }
+            taken[p] = true;
+        }
+    }
+
+    /**
+     * Returns a counter incremented by every change of the nodes, the edges or
+     * the weights of this graph.
+     *
+     * @return the current version of the graph
+     * @see Graph#getVersion()
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Returns a view of this graph as a {@code Graph<Integer>} where node i has
+     * label i. The view reads and writes this graph: the nodes it returns are
+     * created once and kept, while the edges are created on demand, so changing
+     * the weight of a returned edge has no effect. Node removal is not
+     * supported.
+     *
+     * @return the view of this graph
+     */
+    public Graph<Integer> asGraph() {
+        if (this.view == null) {
+            this.view = new IntGraphAdapter(this);
+        }
+        return this.view;
+    }
+
+    /*
+     * Position of the edge from i to j among the edges of i, or -1.
+     */
+    int find(int i, int j) {
+        int[] row = this.targets[i];
+        for (int k = 0, d = this.outDegrees[i]; k < d; k++) {
+            if (row[k] == j) {
+                return k;
+            }
+        }
+        return -1;
+    }
+
+    /*
+     * Direct access to the adjacency arrays of a node for the classes of this
+     * package; only the first outDegree(i) elements are meaningful and the
+     * arrays are null for nodes without edges.
+     */
+    int[] targetsOf(int i) {
+        return this.targets[i];
+    }
+
+    /*
+     * Exact-length copies of the successors of every node.
+     */
+    int[][] successorArrays() {
+        int[][] successors = new int[this.nodeCount][];
+        for (int i = 0; i < this.nodeCount; i++) {
+            int d = this.outDegrees[i];
+            successors[i] = d == 0 ? new int[0] : Arrays.copyOf(this.targets[i], d);
+        }
+        return successors;
+    }
+
+    /*
+     * Weight of the k-th edge of node i, without bounds checks.
+     */
+    double weight(int i, int k) {
+        switch (this.storage) {
+            case FLOAT:
+                return ((float[]) this.weights[i])[k];
+            case QUANTIZED:
+                int q = ((int[]) this.weights[i])[k];
+                return q == QUANTIZED_NAN ? Double.NaN : q * this.quantum;
+            default:
+                return ((double[]) this.weights[i])[k];
+        }
+    }
+
+    private void storeWeight(int i, int k, double weight) {
+        switch (this.storage) {
+            case FLOAT:
+                ((float[]) this.weights[i])[k] = (float) weight;
+                break;
+            case QUANTIZED:
+                ((int[]) this.weights[i])[k] = Double.isNaN(weight)
+                        ? QUANTIZED_NAN : (int) Math.round(weight / this.quantum);
+                break;
+            default:
+                ((double[]) this.weights[i])[k] = weight;
+        }
+    }
+
+    private Object newWeights(int capacity) {
+        switch (this.storage) {
+            case FLOAT:
+                return new float[capacity];
+            case QUANTIZED:
+                return new int[capacity];
+            default:
+                return new double[capacity];
+        }
+    }
+
+    private Object copyWeights(Object weights, int capacity) {
+        Object copy = this.newWeights(capacity);
+        System.arraycopy(weights, 0, copy, 0, capacity / 2);
+        return copy;
+    }
+
+    private void checkWeight(double weight) {
+        if (this.storage == WeightStorage.QUANTIZED && !Double.isNaN(weight)
+                && !(Math.abs(weight / this.quantum) <= Integer.MAX_VALUE)) {
+            throw new IllegalArgumentException("Weight " + weight + " out of the range of the quantized weights.");
+        }
+    }
+
+    private int requireEdge(int i, int j) {
+        int k = this.find(i, j);
+        if (k < 0) {
+            throw new IllegalArgumentException("Edge does not exist in the graph.");
+        }
+        return k;
+    }
+
+    private void checkEdge(int i, int k) {
+        this.checkNode(i);
+        if (k < 0 || k >= this.outDegrees[i]) {
+            throw new IndexOutOfBoundsException("Edge position out of bounds: " + k);
+        }
+    }
+
+    void checkNode(int i) {
+        if (i < 0 || i >= this.nodeCount) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + i);
+        }
+    }
+}
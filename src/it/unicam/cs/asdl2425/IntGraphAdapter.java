@@ -0,0 +1,507 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * <h3>View of an {@link IntGraph} as a {@code Graph<Integer>}.</h3>
+ * <br/>
+ * <p>
+ * Node i of the int graph is the node with label i and index i of the view.
+ * The GraphNode objects are created the first time they are needed and kept,
+ * so that the algorithms storing their state in the nodes, such as
+ * {@link DijkstraShortestPathComputer}, find it again. Edges are created on
+ * demand from the arrays of the int graph.</p>
+ * <br/>
+ * <p>
+ * A node can be added only with the label nodeCount(), the next free number;
+ * adding an existing label returns false. Nodes cannot be removed.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+class IntGraphAdapter extends Graph<Integer> {
+
+    private final IntGraph graph;
+
+    private GraphNode<Integer>[] nodes;
+
+    private final Set<GraphNode<Integer>> nodeSet;
+
+    /*
+     * Transposed edges, derived when first needed and again after the int
+     * graph changes: the edges entering node j are the edges at positions
+     * inPositions[p] of the rows of inSources[p], for p from inStart[j] to
+     * inStart[j + 1] - 1.
+     */
+    private long inVersion = -1;
+
+    private int[] inStart;
+
+    private int[] inSources;
+
+    private int[] inPositions;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    IntGraphAdapter(IntGraph graph) {
+        this.graph = graph;
+        this.nodes = new GraphNode[Math.max(16, graph.nodeCount())];
+        this.nodeSet = new NodeSet();
+    }
+
+    @Override
+    public int nodeCount() {
+        return this.graph.nodeCount();
+    }
+
+    @Override
+    public int edgeCount() {
+        return this.graph.edgeCount();
+    }
+
+    @Override
+    public int outDegree(int i) {
+        return this.graph.outDegree(i);
+    }
+
+    @Override
+    public int inDegree(int i) {
+        return this.graph.inDegree(i);
+    }
+
+    /**
+     * @return the version of the viewed int graph
+     */
+    @Override
+    public long getVersion() {
+        return this.graph.getVersion();
+    }
+
+    @Override
+    public void clear() {
+        this.graph.clear();
+        Arrays.fill(this.nodes, null);
+    }
+
+    @Override
+    public boolean isDirected() {
+        return true;
+    }
+
+    /**
+     * Adds the given node, whose label must be the next free number.
+     *
+     * @throws IllegalArgumentException if the label is negative or greater
+     *                                  than nodeCount()
+     */
+    @Override
+    public boolean addNode(GraphNode<Integer> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        int label = node.getLabel();
+        int n = this.graph.nodeCount();
+        if (label >= 0 && label < n) {
+            return false; // Node already exists
+        }
+        if (label != n) {
+            throw new IllegalArgumentException("The label of the new node must be " + n + ".");
+        }
+        this.graph.addNode();
+        this.ensureCapacity(n + 1);
+        this.nodes[n] = node;
+        return true;
+    }
+
+    @Override
+    public boolean addNode(Integer label) {
+        if (label == null) {
+            throw new NullPointerException("Label cannot be null.");
+        }
+        return this.addNode(new GraphNode<Integer>(label));
+    }
+
+    @Override
+    public void removeNode(GraphNode<Integer> node) {
+        throw new UnsupportedOperationException("The nodes of an IntGraph cannot be removed.");
+    }
+
+    @Override
+    public void removeNode(Integer label) {
+        throw new UnsupportedOperationException("The nodes of an IntGraph cannot be removed.");
+    }
+
+    @Override
+    public void removeNode(int i) {
+        throw new UnsupportedOperationException("The nodes of an IntGraph cannot be removed.");
+    }
+
+    @Override
+    public GraphNode<Integer> getNode(GraphNode<Integer> node) {
+        int i = this.getNodeIndexOf(node);
+        return i == -1 ? null : this.nodeAt(i);
+    }
+
+    @Override
+    public GraphNode<Integer> getNode(Integer label) {
+        if (label == null) {
+            throw new NullPointerException("Label cannot be null.");
+        }
+        return this.contains(label) ? this.nodeAt(label) : null;
+    }
+
+    @Override
+    public GraphNode<Integer> getNode(int i) {
+        this.graph.checkNode(i);
+        return this.nodeAt(i);
+    }
+
+    @Override
+    public int getNodeIndexOf(GraphNode<Integer> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        int label = node.getLabel();
+        return this.contains(label) ? label : -1;
+    }
+
+    @Override
+    public int getNodeIndexOf(Integer label) {
+        if (label == null) {
+            throw new NullPointerException("Label cannot be null.");
+        }
+        if (!this.contains(label)) {
+            throw new IllegalArgumentException("Node with label '" + label + "' not found in the graph.");
+        }
+        return label;
+    }
+
+    @Override
+    public Set<GraphNode<Integer>> getNodes() {
+        return this.nodeSet;
+    }
+
+    @Override
+    public boolean addEdge(GraphEdge<Integer> edge) {
+        if (edge == null) {
+            throw new NullPointerException("Edge cannot be null.");
+        }
+        if (!edge.isDirected()) {
+            throw new IllegalArgumentException("The graph is directed.");
+        }
+        return this.graph.addEdge(this.requireIndex(edge.getNode1()),
+                this.requireIndex(edge.getNode2()), edge.getWeight());
+    }
+
+    @Override
+    public boolean addEdge(GraphNode<Integer> node1, GraphNode<Integer> node2) {
+        return this.graph.addEdge(this.requireIndex(node1), this.requireIndex(node2));
+    }
+
+    @Override
+    public boolean addWeightedEdge(GraphNode<Integer> node1, GraphNode<Integer> node2, double weight) {
+        return this.graph.addEdge(this.requireIndex(node1), this.requireIndex(node2), weight);
+    }
+
+    @Override
+    public boolean addEdge(Integer label1, Integer label2) {
+        return this.graph.addEdge(this.requireIndex(label1), this.requireIndex(label2));
+    }
+
+    @Override
+    public boolean addWeightedEdge(Integer label1, Integer label2, double weight) {
+        return this.graph.addEdge(this.requireIndex(label1), this.requireIndex(label2), weight);
+    }
+
+    @Override
+    public boolean addEdge(int i, int j) {
+        return this.graph.addEdge(i, j);
+    }
+
+    @Override
+    public boolean addWeightedEdge(int i, int j, double weight) {
+        return this.graph.addEdge(i, j, weight);
+    }
+
+    @Override
+    public void removeEdge(GraphEdge<Integer> edge) {
+        if (edge == null) {
+            throw new NullPointerException("Edge cannot be null.");
+        }
+        this.removeEdge(edge.getNode1(), edge.getNode2());
+    }
+
+    @Override
+    public void removeEdge(GraphNode<Integer> node1, GraphNode<Integer> node2) {
+        this.graph.removeEdge(this.requireIndex(node1), this.requireIndex(node2));
+    }
+
+    @Override
+    public void removeEdge(Integer label1, Integer label2) {
+        this.graph.removeEdge(this.requireIndex(label1), this.requireIndex(label2));
+    }
+
+    @Override
+    public void removeEdge(int i, int j) {
+        this.graph.removeEdge(i, j);
+    }
+
+    @Override
+    public GraphEdge<Integer> getEdge(GraphEdge<Integer> edge) {
+        if (edge == null) {
+            throw new NullPointerException("Edge cannot be null.");
+        }
+        return this.getEdge(edge.getNode1(), edge.getNode2());
+    }
+
+    @Override
+    public GraphEdge<Integer> getEdge(GraphNode<Integer> node1, GraphNode<Integer> node2) {
+        return this.edgeAt(this.requireIndex(node1), this.requireIndex(node2));
+    }
+
+    @Override
+    public GraphEdge<Integer> getEdge(Integer label1, Integer label2) {
+        return this.edgeAt(this.requireIndex(label1), this.requireIndex(label2));
+    }
+
+    @Override
+    public GraphEdge<Integer> getEdge(int i, int j) {
+        this.graph.checkNode(i);
+        this.graph.checkNode(j);
+        return this.edgeAt(i, j);
+    }
+
+    @Override
+    public Set<GraphNode<Integer>> getAdjacentNodesOf(GraphNode<Integer> node) {
+        return this.getAdjacentNodesOf(this.requireIndex(node));
+    }
+
+    @Override
+    public Set<GraphNode<Integer>> getAdjacentNodesOf(Integer label) {
+        return this.getAdjacentNodesOf(this.requireIndex(label));
+    }
+
+    @Override
+    public Set<GraphNode<Integer>> getAdjacentNodesOf(int i) {
+        int d = this.graph.outDegree(i);
+        int[] targets = this.graph.targetsOf(i);
+        Set<GraphNode<Integer>> adjacentNodes = new HashSet<>();
+        for (int k = 0; k < d; k++) {
+            adjacentNodes.add(this.nodeAt(targets[k]));
+        }
+        return adjacentNodes;
+    }
+
+    @Override
+    public Set<GraphNode<Integer>> getPredecessorNodesOf(GraphNode<Integer> node) {
+        return this.getPredecessorNodesOf(this.requireIndex(node));
+    }
+
+    @Override
+    public Set<GraphNode<Integer>> getPredecessorNodesOf(Integer label) {
+        return this.getPredecessorNodesOf(this.requireIndex(label));
+    }
+
+    /**
+     * Returns the nodes with an edge to the given one. The int graph stores
+     * only the outgoing edges: the first call after a change of the graph
+     * derives the transposed edges in time O(n + m), the following ones take
+     * time proportional to the in-degree of the node.
+     */
+    @Override
+    public Set<GraphNode<Integer>> getPredecessorNodesOf(int i) {
+        this.graph.checkNode(i);
+        this.transpose();
+        Set<GraphNode<Integer>> predecessorNodes = new HashSet<>();
+        for (int p = this.inStart[i]; p < this.inStart[i + 1]; p++) {
+            predecessorNodes.add(this.nodeAt(this.inSources[p]));
+        }
+        return predecessorNodes;
+    }
+
+    @Override
+    public Set<GraphEdge<Integer>> getEdgesOf(GraphNode<Integer> node) {
+        return this.getEdgesOf(this.requireIndex(node));
+    }
+
+    @Override
+    public Set<GraphEdge<Integer>> getEdgesOf(Integer label) {
+        return this.getEdgesOf(this.requireIndex(label));
+    }
+
+    @Override
+    public Set<GraphEdge<Integer>> getEdgesOf(int i) {
+        int d = this.graph.outDegree(i);
+        int[] targets = this.graph.targetsOf(i);
+        GraphNode<Integer> source = this.nodeAt(i);
+        Set<GraphEdge<Integer>> edges = new HashSet<>();
+        for (int k = 0; k < d; k++) {
+            edges.add(new GraphEdge<Integer>(source, this.nodeAt(targets[k]), true,
+                    this.graph.weight(i, k)));
+        }
+        return edges;
+    }
+
+    @Override
+    public Set<GraphEdge<Integer>> getIngoingEdgesOf(GraphNode<Integer> node) {
+        return this.getIngoingEdgesOf(this.requireIndex(node));
+    }
+
+    @Override
+    public Set<GraphEdge<Integer>> getIngoingEdgesOf(Integer label) {
+        return this.getIngoingEdgesOf(this.requireIndex(label));
+    }
+
+    /**
+     * Returns the edges entering the given node, with the same cost as
+     * {@link #getPredecessorNodesOf(int)}: O(n + m) for the first call after
+     * a change of the graph, proportional to the in-degree of the node for
+     * the following ones.
+     */
+    @Override
+    public Set<GraphEdge<Integer>> getIngoingEdgesOf(int i) {
+        this.graph.checkNode(i);
+        this.transpose();
+        GraphNode<Integer> target = this.nodeAt(i);
+        Set<GraphEdge<Integer>> ingoingEdges = new HashSet<>();
+        for (int p = this.inStart[i]; p < this.inStart[i + 1]; p++) {
+            int u = this.inSources[p];
+            ingoingEdges.add(new GraphEdge<Integer>(this.nodeAt(u), target, true,
+                    this.graph.weight(u, this.inPositions[p])));
+        }
+        return ingoingEdges;
+    }
+
+    @Override
+    public Set<GraphEdge<Integer>> getEdges() {
+        Set<GraphEdge<Integer>> edges = new HashSet<>();
+        for (int i = 0; i < this.graph.nodeCount(); i++) {
+            edges.addAll(this.getEdgesOf(i));
+        }
+        return edges;
+    }
+
+    private GraphEdge<Integer> edgeAt(int i, int j) {
+        int k = this.graph.find(i, j);
+        if (k < 0) {
+            return null;
+        }
+        return new GraphEdge<Integer>(this.nodeAt(i), this.nodeAt(j), true, this.graph.weight(i, k));
+    }
+
+    /*
+     * Derives the transposed edges if the int graph has changed since they
+     * were last derived.
+     */
+    private void transpose() {
+        if (this.inVersion == this.graph.getVersion()) {
+            return;
+        }
+        int n = this.graph.nodeCount();
+        int[] start = new int[n + 1];
+        for (int u = 0; u < n; u++) {
+            int[] targets = this.graph.targetsOf(u);
+            for (int k = 0, d = this.graph.outDegree(u); k < d; k++) {
+                start[targets[k] + 1]++;
+            }
+        }
+        for (int j = 0; j < n; j++) {
+            start[j + 1] += start[j];
+        }
+        int[] sources = new int[start[n]];
+        int[] positions = new int[start[n]];
+        int[] next = Arrays.copyOf(start, n);
+        for (int u = 0; u < n; u++) {
+            int[] targets = this.graph.targetsOf(u);
+            for (int k = 0, d = this.graph.outDegree(u); k < d; k++) {
+                int p = next[targets[k]]++;
+                sources[p] = u;
+                positions[p] = k;
+            }
+        }
+        this.inStart = start;
+        this.inSources = sources;
+        this.inPositions = positions;
+        this.inVersion = this.graph.getVersion();
+    }
+
+    private GraphNode<Integer> nodeAt(int i) {
+        this.ensureCapacity(i + 1);
+        GraphNode<Integer> node = this.nodes[i];
+        if (node == null) {
+            node = new GraphNode<Integer>(i);
+            this.nodes[i] = node;
+        }
+        return node;
+    }
+
+    private void ensureCapacity(int n) {
+        if (n > this.nodes.length) {
+            this.nodes = Arrays.copyOf(this.nodes, Math.max(n, 2 * this.nodes.length));
+        }
+    }
+
+    private boolean contains(int label) {
+        return label >= 0 && label < this.graph.nodeCount();
+    }
+
+    private int requireIndex(GraphNode<Integer> node) {
+        if (node == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        return this.requireIndex(node.getLabel());
+    }
+
+    private int requireIndex(Integer label) {
+        if (label == null) {
+            throw new NullPointerException("Label cannot be null.");
+        }
+        if (!this.contains(label)) {
+            throw new IllegalArgumentException("One or both nodes not found in the graph.");
+        }
+        return label;
+    }
+
+    /*
+     * Live set of the nodes 0 .. nodeCount() - 1.
+     */
+    private class NodeSet extends AbstractSet<GraphNode<Integer>> {
+
+        @Override
+        public int size() {
+            return IntGraphAdapter.this.graph.nodeCount();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof GraphNode)) {
+                return false;
+            }
+            Object label = ((GraphNode<?>) o).getLabel();
+            return label instanceof Integer && IntGraphAdapter.this.contains((Integer) label);
+        }
+
+        @Override
+        public Iterator<GraphNode<Integer>> iterator() {
+            return new Iterator<GraphNode<Integer>>() {
+                private int next = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return this.next < size();
+                }
+
+                @Override
+                public GraphNode<Integer> next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return nodeAt(this.next++);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Arrays;
+
+/**
+ * <h3>The nodes within a given distance of a source.</h3>
+ * <br/>
+ * <p>
+ * Filled by an {@link IsochroneSearch}, it lists the nodes whose distance from
+ * the source is not greater than the radius, by increasing distance, with
+ * their distances: two primitive arrays read by position, from 0 to size() -
+ * 1. An object can be passed to the search again and again, for example for
+ * many sources or radii: its arrays are overwritten and only grow, so a
+ * sequence of queries allocates nothing once the largest result fits.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public final class Isochrone {
+
+    private int source = -1;
+
+    private double radius = Double.NaN;
+
+    private int[] nodes;
+
+    private double[] distances;
+
+    private int size;
+
+    /**
+     * Creates an empty isochrone, to be filled by a search.
+     */
+    public Isochrone() {
+        this.nodes = new int[16];
+        this.distances = new double[16];
+    }
+
+    /**
+     * @return the index of the source of the last search, or -1 if none
+     */
+    public int getSource() {
+        return this.source;
+    }
+
+    /**
+     * @return the radius of the last search, {@code Double.NaN} if none
+     */
+    public double getRadius() {
+        return this.radius;
+    }
+
+    /**
+     * @return the number of nodes within the radius, the source included
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param k a position, from 0 to size() - 1
+     * @return the index of the k-th nearest node
+     * @throws IndexOutOfBoundsException if the position is out of bounds
+     */
+    public int getNode(int k) {
+        this.check(k);
+        return this.nodes[k];
+    }
+
+    /**
+     * @param k a position, from 0 to size() - 1
+     * @return the distance of the k-th nearest node from the source
+     * @throws IndexOutOfBoundsException if the position is out of bounds
+     */
+    public double getDistance(int k) {
+        this.check(k);
+        return this.distances[k];
+    }
+
+    /**
+     * @return a new array with the indices of the nodes, by increasing
+     * distance
+     */
+    public int[] getNodes() {
+        return Arrays.copyOf(this.nodes, this.size);
+    }
+
+    /**
+     * @return a new array with the distances of the nodes, in the order of
+     * {@link #getNodes()}
+     */
+    public double[] getDistances() {
+        return Arrays.copyOf(this.distances, this.size);
+    }
+
+    /*
+     * Empties the isochrone for a new search.
+     */
+    void reset(int source, double radius) {
+        this.source = source;
+        this.radius = radius;
+        this.size = 0;
+    }
+
+    void add(int node, double distance) {
+        if (this.size == this.nodes.length) {
+            this.nodes = Arrays.copyOf(this.nodes, 2 * this.size);
+            this.distances = Arrays.copyOf(this.distances, 2 * this.size);
+        }
+        this.nodes[this.size] = node;
+        this.distances[this.size++] = distance;
+    }
+
+    private void check(int k) {
+        if (k < 0 || k >= this.size) {
+            throw new IndexOutOfBoundsException("Position out of bounds: " + k);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package it.unicam.cs.asdl2425;
+
+/**
+ * Distance-bounded shortest path search: the nodes within a given distance of
+ * a source, as for the isochrones of a road network ("everything reachable
+ * within 15 minutes"). It runs Dijkstra's algorithm and stops as soon as the
+ * smallest distance waiting in the queue exceeds the radius, so its cost
+ * depends on the size of the ball around the source and not on the size of
+ * the graph.
+ * <br/>
+ * For the same reason a query does not reset any per-node array: each thread
+ * keeps its Dijkstra arrays from one query to the next, and an entry only
+ * counts if it carries the stamp of the current query. Together with an
+ * {@link Isochrone} reused as the result, repeated queries take time and
+ * memory proportional to the nodes they reach. The graph must be directed,
+ * weighted and without negative weights, as for
+ * {@link DijkstraShortestPathComputer}; the search reads a snapshot of its
+ * edges, taken again when its version changes, and does not write any field of
+ * the nodes, so it can be used by several threads at once.
+ *
+ * @param <L> the type of the labels of the graph nodes
+ * @author Pilade Jr Tomassini
+ */
+public final class IsochroneSearch<L> {
+
+    private final DijkstraContext<L> context;
+
+    /**
+     * Creates a search for a directed and weighted graph without negative
+     * weights.
+     *
+     * @param graph the graph on which the search operates
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if the graph is empty, undirected, has
+     *                                  an edge with weight {@code Double.NaN},
+     *                                  a negative weight or removed nodes not
+     *                                  yet compacted
+     */
+    public IsochroneSearch(Graph<L> graph) {
+        this.context = new DijkstraContext<L>(graph);
+    }
+
+    /**
+     * Finds the nodes within the given distance of a source.
+     *
+     * @param source the source node
+     * @param radius the maximum distance
+     * @return a new isochrone with the nodes found
+     * @throws NullPointerException     if the source is null
+     * @throws IllegalArgumentException if the source does not exist in the
+     *                                  graph or the radius is negative or
+     *                                  {@code Double.NaN}
+     * @throws IllegalStateException    if the graph has changed and now has an
+     *                                  edge with weight {@code Double.NaN} or a
+     *                                  negative weight
+     */
+    public Isochrone within(GraphNode<L> source, double radius) {
+        int s = this.context.indexOf(source, "Source node");
+        Isochrone isochrone = new Isochrone();
+        this.within(s, radius, isochrone);
+        return isochrone;
+    }
+
+    /**
+     * Finds the nodes within the given distance of a source, writing them into
+     * an existing isochrone, whose previous content is lost.
+     *
+     * @param source    the index of the source node
+     * @param radius    the maximum distance
+     * @param isochrone the isochrone receiving the result
+     * @return the number of nodes found
+     * @throws NullPointerException      if the isochrone is null
+     * @throws IndexOutOfBoundsException if the source is out of bounds
+     * @throws IllegalArgumentException  if the radius is negative or
+     *                                   {@code Double.NaN}
+     * @throws IllegalStateException     if the graph has changed and now has
+     *                                   an edge with weight {@code Double.NaN}
+     *                                   or a negative weight
+     */
+    public int within(int source, double radius, Isochrone isochrone) {
+        if (isochrone == null) {
+            throw new NullPointerException("The isochrone cannot be null.");
+        }
+        if (!(radius >= 0)) {
+            throw new IllegalArgumentException("The radius must not be negative: " + radius);
+        }
+        WeightedAdjacency<L> adj = this.context.adjacency();
+        if (source < 0 || source >= adj.nodeCount()) {
+            throw new IndexOutOfBoundsException("Node index out of bounds: " + source);
+        }
+        DijkstraWorkspace workspace = this.context.workspace(adj);
+        workspace.begin();
+        workspace.seed(source, 0.0);
+        isochrone.reset(source, radius);
+        while (workspace.hasNext() && workspace.nextDistance() <= radius) {
+            int u = workspace.settleNext(adj);
+            isochrone.add(u, workspace.distance(u));
+        }
+        return isochrone.size();
+    }
+
+    /**
+     * @return the graph on which the search operates
+     */
+    public Graph<L> getGraph() {
+        return this.context.graph();
+    }
+}
@@ -0,0 +1,272 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * <h3>The k shortest loopless paths between two nodes.</h3>
+ * <br/>
+ * <p>
+ * Paths are found with Yen's algorithm on a directed graph with non-negative
+ * weights. The first path is a shortest path; every following one is the
+ * cheapest path, without repeated nodes, that differs from all those already
+ * found. Each found path gives new candidates: for every node along it, the
+ * spur node, the search keeps the part of the path up to that node, the root,
+ * and looks for the shortest way from the spur node to the target that
+ * avoids the nodes of the root and the edges by which the paths already
+ * found with the same root leave the spur node. As in Lawler's variant, only
+ * the spur nodes from the point where the path left its parent are tried,
+ * since the earlier ones were tried for the parent.</p>
+ * <br/>
+ * <p>
+ * The spur searches of a path are independent of one another and run in
+ * parallel in a fork/join pool. Each thread searches with its own Dijkstra
+ * workspace on a snapshot of the edges taken as index arrays, where the nodes
+ * and edges to avoid are masked for the duration of one search: the graph is
+ * never changed, as removing and adding back edges would do, and no field of
+ * its nodes is written. For the same reason a search object can be used by
+ * several threads at once. The snapshot is taken again when the version of
+ * the graph changes.</p>
+ *
+ * @param <L> the type of the labels of the graph nodes
+ * @author Pilade Jr Tomassini
+ */
+public final class KShortestPaths<L> {
+
+    private final DijkstraContext<L> context;
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a search for the given graph, with the spur paths computed in
+     * the common pool.
+     *
+     * @param graph the graph
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if the graph is empty, undirected, has
+     *                                  an edge with weight {@code Double.NaN},
+     *                                  a negative weight or removed nodes not
+     *                                  yet compacted
+     */
+    public KShortestPaths(Graph<L> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a search for the given graph, with the spur paths computed in
+     * the given pool.
+     *
+     * @param graph the graph
+     * @param pool  the pool computing the spur paths
+     * @throws NullPointerException     if the graph or the pool is null
+     * @throws IllegalArgumentException if the graph is empty, undirected, has
+     *                                  an edge with weight {@code Double.NaN},
+     *                                  a negative weight or removed nodes not
+     *                                  yet compacted
+     */
+    public KShortestPaths(Graph<L> graph, ForkJoinPool pool) {
+        this.context = new DijkstraContext<L>(graph);
+        if (pool == null) {
+            throw new NullPointerException("The pool cannot be null.");
+        }
+        this.pool = pool;
+    }
+
+    /**
+     * Finds up to k shortest loopless paths from a source to a target.
+     *
+     * @param source the first node of the paths
+     * @param target the last node of the paths
+     * @param k      the maximum number of paths
+     * @return the paths, as lists of edges, by increasing total weight; fewer
+     * than k, possibly none, if there are not as many. If source and target
+     * are the same node, the only path is the empty one
+     * @throws NullPointerException     if either node is null
+     * @throws IllegalArgumentException if either node does not exist in the
+     *                                  graph or k is not positive
+     * @throws IllegalStateException    if the graph has changed and now has an
+     *                                  edge with weight {@code Double.NaN} or
+     *                                  a negative weight
+     */
+    public List<List<GraphEdge<L>>> find(GraphNode<L> source, GraphNode<L> target, int k) {
+        int s = this.context.indexOf(source, "Source node");
+        int t = this.context.indexOf(target, "Target node");
+        if (k <= 0) {
+            throw new IllegalArgumentException("The number of paths must be positive: " + k);
+        }
+        WeightedAdjacency<L> adj = this.context.adjacency();
+        List<Path> accepted = this.yen(adj, s, t, k);
+        List<List<GraphEdge<L>>> paths = new ArrayList<List<GraphEdge<L>>>(accepted.size());
+        for (Path path : accepted) {
+            List<GraphEdge<L>> edges = new ArrayList<GraphEdge<L>>(path.edges.length);
+            for (int e : path.edges) {
+                edges.add(adj.edge(e));
+            }
+            paths.add(edges);
+        }
+        return paths;
+    }
+
+    /**
+     * @return the graph on which the search operates
+     */
+    public Graph<L> getGraph() {
+        return this.context.graph();
+    }
+
+    private List<Path> yen(WeightedAdjacency<L> adj, int s, int t, int k) {
+        List<Path> accepted = new ArrayList<Path>();
+        int[] first = this.spurPath(adj, new int[0], s, t, new int[0], new int[0]);
+        if (first == null) {
+            return accepted;
+        }
+        PriorityQueue<Path> candidates = new PriorityQueue<Path>();
+        Set<Path> known = new HashSet<Path>();
+        long sequence = 0;
+        Path path = new Path(adj, first, 0, sequence++);
+        known.add(path);
+        while (true) {
+            accepted.add(path);
+            if (accepted.size() == k) {
+                break;
+            }
+            Path parent = path;
+            int[] nodes = parent.nodes(adj, s);
+            int[][] found = new int[parent.edges.length][];
+            RangeTask.forRange(this.pool, found.length - parent.deviation, 1, (from, to) -> {
+                for (int i = parent.deviation + from; i < parent.deviation + to; i++) {
+                    found[i] = this.spur(adj, parent, nodes, i, t, accepted);
+                }
+            });
+            for (int i = parent.deviation; i < found.length; i++) {
+                if (found[i] != null) {
+                    Path candidate = new Path(adj, found[i], i, sequence++);
+                    if (known.add(candidate)) {
+                        candidates.add(candidate);
+                    }
+                }
+            }
+            path = candidates.poll();
+            if (path == null) {
+                break;
+            }
+        }
+        return accepted;
+    }
+
+    /*
+     * The edges of the candidate leaving the parent at its i-th node, or null.
+     * The paths already accepted are only read while the spur searches run.
+     */
+    private int[] spur(WeightedAdjacency<L> adj, Path parent, int[] nodes, int i, int t,
+                       List<Path> accepted) {
+        int[] root = Arrays.copyOf(parent.edges, i);
+        int[] avoidedEdges = new int[accepted.size()];
+        int avoided = 0;
+        for (Path other : accepted) {
+            if (other.edges.length > i && other.hasPrefix(root)) {
+                avoidedEdges[avoided++] = other.edges[i];
+            }
+        }
+        return this.spurPath(adj, root, nodes[i], t, Arrays.copyOf(nodes, i),
+                Arrays.copyOf(avoidedEdges, avoided));
+    }
+
+    /*
+     * Shortest path from the spur node to the target avoiding the given nodes
+     * and edges, appended to the root; null if there is none.
+     */
+    private int[] spurPath(WeightedAdjacency<L> adj, int[] root, int spur, int t,
+                           int[] maskedNodes, int[] maskedEdges) {
+        DijkstraWorkspace workspace = this.context.workspace(adj);
+        workspace.begin();
+        for (int v : maskedNodes) {
+            workspace.maskNode(v);
+        }
+        for (int e : maskedEdges) {
+            workspace.maskEdge(e);
+        }
+        workspace.seed(spur, 0.0);
+        while (workspace.hasNext() && workspace.settleNext(adj) != t) {
+            // settles nodes until the target
+        }
+        if (!workspace.isSettled(t)) {
+            return null;
+        }
+        int length = 0;
+        for (int v = t; v != spur; v = adj.source[workspace.via(v)]) {
+            length++;
+        }
+        int[] edges = Arrays.copyOf(root, root.length + length);
+        for (int v = t, p = edges.length - 1; v != spur; v = adj.source[workspace.via(v)]) {
+            edges[p--] = workspace.via(v);
+        }
+        return edges;
+    }
+
+    /*
+     * A path as the positions of its edges, ordered by cost and then by the
+     * order in which the paths were found. Equal paths have the same edges.
+     */
+    private static final class Path implements Comparable<Path> {
+
+        private final int[] edges;
+
+        private final double cost;
+
+        // index of the node where the path leaves its parent
+        private final int deviation;
+
+        private final long sequence;
+
+        private Path(WeightedAdjacency<?> adj, int[] edges, int deviation, long sequence) {
+            this.edges = edges;
+            double cost = 0.0;
+            for (int e : edges) {
+                cost += adj.weight[e];
+            }
+            this.cost = cost;
+            this.deviation = deviation;
+            this.sequence = sequence;
+        }
+
+        private int[] nodes(WeightedAdjacency<?> adj, int s) {
+            int[] nodes = new int[this.edges.length + 1];
+            nodes[0] = s;
+            for (int i = 0; i < this.edges.length; i++) {
+                nodes[i + 1] = adj.target[this.edges[i]];
+            }
+            return nodes;
+        }
+
+        private boolean hasPrefix(int[] prefix) {
+            for (int i = 0; i < prefix.length; i++) {
+                if (this.edges[i] != prefix[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int compareTo(Path other) {
+            int c = Double.compare(this.cost, other.cost);
+            return c != 0 ? c : Long.compare(this.sequence, other.sequence);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Path && Arrays.equals(this.edges, ((Path) obj).edges);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.edges);
+        }
+    }
+}
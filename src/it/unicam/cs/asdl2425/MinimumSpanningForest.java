@@ -0,0 +1,540 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * <h3>Minimum spanning forest of a weighted graph.</h3>
+ * <br/>
+ * <p>
+ * The direction of the edges is ignored: the forest has a tree for every
+ * weakly connected component of the graph, and the sum of the weights of its
+ * edges is the minimum among all such forests. Weights can be negative, but
+ * not {@code Double.NaN}. Two algorithms are available:</p>
+ * <ul>
+ * <li>{@code prim}: Prim's algorithm, growing one tree at a time from the node
+ * of smallest index not yet reached. The nodes next to the tree wait in a
+ * {@link BinaryHeapMinPriorityQueue} with the weight of the lightest edge
+ * joining them to the tree as priority, lowered with
+ * {@code decreasePriority} when a lighter one is found. It takes
+ * {@code O(m log n)} time in the calling thread;</li>
+ * <li>{@code boruvka}: Borůvka's algorithm for multi-core use. In every round
+ * the live edges are scanned in parallel and each of them is offered, with a
+ * compare-and-set, as the lightest edge leaving the two sets of a
+ * {@link ConcurrentUnionFind} it joins; then every set is joined in parallel
+ * along its lightest edge, and the edges inside a set are dropped. Ties are
+ * broken by edge position, so the chosen edges never close a cycle. Each
+ * round at least halves the number of sets, so there are at most
+ * {@code log n} of them.</li>
+ * </ul>
+ * <p>
+ * {@code of} picks Prim's algorithm for small graphs or single-core pools and
+ * Borůvka's algorithm otherwise. The result lists the edges of the forest,
+ * both as edges of the graph and by the indices of their endpoints, and
+ * their total weight. The graph must not change while the forest is
+ * computed.</p>
+ *
+ * @param <L> the type of the labels of the graph nodes
+ * @author Pilade Jr Tomassini
+ */
+public final class MinimumSpanningForest<L> {
+
+    /*
+     * Graphs with fewer edges than this are handled by Prim's algorithm even
+     * when more cores are available.
+     */
+    private static final int PARALLEL_THRESHOLD = 1 << 17;
+
+    /*
+     * Live edges scanned by one task in a round of Borůvka's algorithm.
+     */
+    private static final int EDGE_GRAIN = 1 << 14;
+
+    /*
+     * Nodes handled by one task when the sets are joined.
+     */
+    private static final int NODE_GRAIN = 1 << 12;
+
+    private final int nodeCount;
+
+    private final List<GraphEdge<L>> edges;
+
+    private final int[] sources;
+
+    private final int[] targets;
+
+    private final double[] weights;
+
+    private final double totalWeight;
+
+    private MinimumSpanningForest(EdgeArrays<L> all, int[] chosen) {
+        this.nodeCount = all.nodeCount;
+        this.sources = new int[chosen.length];
+        this.targets = new int[chosen.length];
+        this.weights = new double[chosen.length];
+        List<GraphEdge<L>> edges = new ArrayList<GraphEdge<L>>(chosen.length);
+        double total = 0.0;
+        for (int k = 0; k < chosen.length; k++) {
+            int e = chosen[k];
+            this.sources[k] = all.source[e];
+            this.targets[k] = all.target[e];
+            this.weights[k] = all.weight[e];
+            total += all.weight[e];
+            edges.add(all.edges != null ? all.edges.get(e) : all.graph.getEdge(all.source[e], all.target[e]));
+        }
+        this.edges = Collections.unmodifiableList(edges);
+        this.totalWeight = total;
+    }
+
+    /**
+     * Computes the minimum spanning forest of a graph, with Borůvka's
+     * algorithm in the common pool if the graph is large and the pool has
+     * more than one thread, with Prim's algorithm otherwise.
+     *
+     * @param graph the graph
+     * @param <L>   type of the labels of the nodes of the graph
+     * @return the forest
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if an edge has weight
+     *                                  {@code Double.NaN} or the graph has
+     *                                  removed nodes not yet compacted
+     */
+    public static <L> MinimumSpanningForest<L> of(Graph<L> graph) {
+        return choose(EdgeArrays.of(graph));
+    }
+
+    /**
+     * Computes the minimum spanning forest of a graph, with Borůvka's
+     * algorithm in the common pool if the graph is large and the pool has
+     * more than one thread, with Prim's algorithm otherwise. The edges of the
+     * forest are those of {@link IntGraph#asGraph()}.
+     *
+     * @param graph the graph
+     * @return the forest
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if an edge has weight
+     *                                  {@code Double.NaN}
+     */
+    public static MinimumSpanningForest<Integer> of(IntGraph graph) {
+        return choose(EdgeArrays.of(graph, ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * Computes the minimum spanning forest of a graph with Prim's algorithm.
+     *
+     * @param graph the graph
+     * @param <L>   type of the labels of the nodes of the graph
+     * @return the forest
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if an edge has weight
+     *                                  {@code Double.NaN} or the graph has
+     *                                  removed nodes not yet compacted
+     */
+    public static <L> MinimumSpanningForest<L> prim(Graph<L> graph) {
+        EdgeArrays<L> all = EdgeArrays.of(graph);
+        return new MinimumSpanningForest<L>(all, prim(all));
+    }
+
+    /**
+     * Computes the minimum spanning forest of a graph with Prim's algorithm.
+     *
+     * @param graph the graph
+     * @return the forest
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if an edge has weight
+     *                                  {@code Double.NaN}
+     */
+    public static MinimumSpanningForest<Integer> prim(IntGraph graph) {
+        EdgeArrays<Integer> all = EdgeArrays.of(graph, ForkJoinPool.commonPool());
+        return new MinimumSpanningForest<Integer>(all, prim(all));
+    }
+
+    /**
+     * Computes the minimum spanning forest of a graph with Borůvka's
+     * algorithm in the given pool.
+     *
+     * @param graph the graph
+     * @param pool  the pool running the computation
+     * @param <L>   type of the labels of the nodes of the graph
+     * @return the forest
+     * @throws NullPointerException     if the graph or the pool is null
+     * @throws IllegalArgumentException if an edge has weight
+     *                                  {@code Double.NaN} or the graph has
+     *                                  removed nodes not yet compacted
+     */
+    public static <L> MinimumSpanningForest<L> boruvka(Graph<L> graph, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new NullPointerException("The pool cannot be null.");
+        }
+        EdgeArrays<L> all = EdgeArrays.of(graph);
+        return new MinimumSpanningForest<L>(all, boruvka(all, pool));
+    }
+
+    /**
+     * Computes the minimum spanning forest of a graph with Borůvka's
+     * algorithm in the given pool.
+     *
+     * @param graph the graph
+     * @param pool  the pool running the computation
+     * @return the forest
+     * @throws NullPointerException     if the graph or the pool is null
+     * @throws IllegalArgumentException if an edge has weight
+     *                                  {@code Double.NaN}
+     */
+    public static MinimumSpanningForest<Integer> boruvka(IntGraph graph, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new NullPointerException("The pool cannot be null.");
+        }
+        EdgeArrays<Integer> all = EdgeArrays.of(graph, pool);
+        return new MinimumSpanningForest<Integer>(all, boruvka(all, pool));
+    }
+
+    /**
+     * @return the edges of the forest, in no particular order, as an
+     * unmodifiable list
+     */
+    public List<GraphEdge<L>> getEdges() {
+        return this.edges;
+    }
+
+    /**
+     * @return the sum of the weights of the edges of the forest
+     */
+    public double getTotalWeight() {
+        return this.totalWeight;
+    }
+
+    /**
+     * @return the number of edges of the forest
+     */
+    public int edgeCount() {
+        return this.sources.length;
+    }
+
+    /**
+     * @return the number of trees of the forest, one for every weakly
+     * connected component of the graph
+     */
+    public int treeCount() {
+        return this.nodeCount - this.sources.length;
+    }
+
+    /**
+     * @return true if the forest is a single tree, that is the graph is
+     * weakly connected and not empty
+     */
+    public boolean isSpanningTree() {
+        return this.treeCount() == 1;
+    }
+
+    /**
+     * @param k the position of an edge in {@link #getEdges()}
+     * @return the index of the first node of the edge
+     * @throws IndexOutOfBoundsException if the position is out of bounds
+     */
+    public int getSource(int k) {
+        this.checkEdge(k);
+        return this.sources[k];
+    }
+
+    /**
+     * @param k the position of an edge in {@link #getEdges()}
+     * @return the index of the second node of the edge
+     * @throws IndexOutOfBoundsException if the position is out of bounds
+     */
+    public int getTarget(int k) {
+        this.checkEdge(k);
+        return this.targets[k];
+    }
+
+    /**
+     * @param k the position of an edge in {@link #getEdges()}
+     * @return the weight of the edge
+     * @throws IndexOutOfBoundsException if the position is out of bounds
+     */
+    public double getWeight(int k) {
+        this.checkEdge(k);
+        return this.weights[k];
+    }
+
+    private void checkEdge(int k) {
+        if (k < 0 || k >= this.sources.length) {
+            throw new IndexOutOfBoundsException("Edge position out of bounds: " + k);
+        }
+    }
+
+    private static <L> MinimumSpanningForest<L> choose(EdgeArrays<L> all) {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        boolean parallel = all.edgeCount >= PARALLEL_THRESHOLD && pool.getParallelism() > 1;
+        return new MinimumSpanningForest<L>(all, parallel ? boruvka(all, pool) : prim(all));
+    }
+
+    /*
+     * Prim's algorithm from every node not yet reached, on the lists of the
+     * edges touching each node in either direction. Returns the positions of
+     * the chosen edges in tree order.
+     */
+    private static int[] prim(EdgeArrays<?> all) {
+        int n = all.nodeCount;
+        int m = all.edgeCount;
+        int[] first = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            first[all.source[e] + 1]++;
+            first[all.target[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            first[i + 1] += first[i];
+        }
+        int[] incident = new int[2 * m];
+        int[] next = Arrays.copyOf(first, n);
+        for (int e = 0; e < m; e++) {
+            incident[next[all.source[e]]++] = e;
+            incident[next[all.target[e]]++] = e;
+        }
+        Vertex[] vertices = new Vertex[n];
+        boolean[] inTree = new boolean[n];
+        int[] chosen = new int[Math.max(n - 1, 0)];
+        int count = 0;
+        BinaryHeapMinPriorityQueue queue = new BinaryHeapMinPriorityQueue();
+        for (int root = 0; root < n; root++) {
+            if (vertices[root] != null) {
+                continue;
+            }
+            vertices[root] = new Vertex(root, -1, 0.0);
+            queue.insert(vertices[root]);
+            while (!queue.isEmpty()) {
+                Vertex u = (Vertex) queue.extractMinimum();
+                inTree[u.index] = true;
+                if (u.edge >= 0) {
+                    chosen[count++] = u.edge;
+                }
+                for (int p = first[u.index]; p < first[u.index + 1]; p++) {
+                    int e = incident[p];
+                    int x = all.source[e] == u.index ? all.target[e] : all.source[e];
+                    if (inTree[x]) {
+                        continue;
+                    }
+                    double w = all.weight[e];
+                    Vertex v = vertices[x];
+                    if (v == null) {
+                        vertices[x] = new Vertex(x, e, w);
+                        queue.insert(vertices[x]);
+                    } else if (w < v.priority) {
+                        v.edge = e;
+                        queue.decreasePriority(v, w);
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(chosen, count);
+    }
+
+    /*
+     * Borůvka's algorithm; returns the positions of the chosen edges in
+     * increasing order.
+     */
+    private static int[] boruvka(EdgeArrays<?> all, ForkJoinPool pool) {
+        int n = all.nodeCount;
+        ConcurrentUnionFind sets = new ConcurrentUnionFind(n);
+        // lightest edge leaving each set, indexed by root, -1 if none
+        AtomicIntegerArray lightest = new AtomicIntegerArray(n);
+        int[] live = new int[all.edgeCount];
+        RangeTask.forRange(pool, n, NODE_GRAIN, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                lightest.lazySet(i, -1);
+            }
+        });
+        RangeTask.forRange(pool, live.length, EDGE_GRAIN, (from, to) -> {
+            for (int e = from; e < to; e++) {
+                live[e] = e;
+            }
+        });
+        int[] chosen = new int[Math.max(n - 1, 0)];
+        AtomicInteger count = new AtomicInteger();
+        int liveCount = live.length;
+        while (liveCount > 0) {
+            // each chunk keeps its live edges at the start of its own slice
+            int size = liveCount;
+            int[] kept = new int[(size + EDGE_GRAIN - 1) / EDGE_GRAIN];
+            RangeTask.forRange(pool, kept.length, 1, (from, to) -> {
+                for (int c = from; c < to; c++) {
+                    int start = c * EDGE_GRAIN;
+                    int end = Math.min(start + EDGE_GRAIN, size);
+                    int w = start;
+                    for (int p = start; p < end; p++) {
+                        int e = live[p];
+                        int ru = sets.root(all.source[e]);
+                        int rv = sets.root(all.target[e]);
+                        if (ru != rv) {
+                            live[w++] = e;
+                            offer(all, lightest, ru, e);
+                            offer(all, lightest, rv, e);
+                        }
+                    }
+                    kept[c] = w - start;
+                }
+            });
+            liveCount = 0;
+            for (int c = 0; c < kept.length; c++) {
+                System.arraycopy(live, c * EDGE_GRAIN, live, liveCount, kept[c]);
+                liveCount += kept[c];
+            }
+            if (liveCount == 0) {
+                break;
+            }
+            RangeTask.forRange(pool, n, NODE_GRAIN, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    int e = lightest.get(i);
+                    if (e >= 0) {
+                        lightest.set(i, -1);
+                        // the two sets of an edge may both have chosen it
+                        if (sets.union(all.source[e], all.target[e])) {
+                            chosen[count.getAndIncrement()] = e;
+                        }
+                    }
+                }
+            });
+        }
+        int[] result = Arrays.copyOf(chosen, count.get());
+        Arrays.sort(result);
+        return result;
+    }
+
+    /*
+     * Makes e the lightest edge of the set with the given root if it is
+     * lighter than the current one, comparing weights and then positions.
+     */
+    private static void offer(EdgeArrays<?> all, AtomicIntegerArray lightest, int root, int e) {
+        double w = all.weight[e];
+        while (true) {
+            int current = lightest.get(root);
+            if (current >= 0) {
+                double cw = all.weight[current];
+                if (cw < w || (cw == w && current < e)) {
+                    return;
+                }
+            }
+            if (lightest.compareAndSet(root, current, e)) {
+                return;
+            }
+        }
+    }
+
+    /*
+     * Node of the graph in the queue of Prim's algorithm.
+     */
+    private static final class Vertex implements PriorityQueueElement {
+
+        private final int index;
+
+        // lightest known edge joining the node to the tree
+        private int edge;
+
+        private double priority;
+
+        private int handle;
+
+        private Vertex(int index, int edge, double priority) {
+            this.index = index;
+            this.edge = edge;
+            this.priority = priority;
+        }
+
+        @Override
+        public double getPriority() {
+            return this.priority;
+        }
+
+        @Override
+        public void setPriority(double newPriority) {
+            this.priority = newPriority;
+        }
+
+        @Override
+        public int getHandle() {
+            return this.handle;
+        }
+
+        @Override
+        public void setHandle(int newHandle) {
+            this.handle = newHandle;
+        }
+    }
+
+    /*
+     * The edges of a graph as parallel arrays of endpoints and weights; edge
+     * e is either the e-th edge of the list, for a Graph, or the edge between
+     * its endpoints in the view of an IntGraph.
+     */
+    private static final class EdgeArrays<L> {
+
+        private final int nodeCount;
+
+        private final int edgeCount;
+
+        private final int[] source;
+
+        private final int[] target;
+
+        private final double[] weight;
+
+        private final List<GraphEdge<L>> edges;
+
+        private final Graph<L> graph;
+
+        private EdgeArrays(int nodeCount, int edgeCount, List<GraphEdge<L>> edges, Graph<L> graph) {
+            this.nodeCount = nodeCount;
+            this.edgeCount = edgeCount;
+            this.source = new int[edgeCount];
+            this.target = new int[edgeCount];
+            this.weight = new double[edgeCount];
+            this.edges = edges;
+            this.graph = graph;
+        }
+
+        static <L> EdgeArrays<L> of(Graph<L> graph) {
+            Graph.checkIndices(graph);
+            List<GraphEdge<L>> edges = new ArrayList<GraphEdge<L>>(graph.getEdges());
+            EdgeArrays<L> all = new EdgeArrays<L>(graph.nodeCount(), edges.size(), edges, graph);
+            for (int e = 0; e < all.edgeCount; e++) {
+                GraphEdge<L> edge = edges.get(e);
+                all.source[e] = graph.getNodeIndexOf(edge.getNode1());
+                all.target[e] = graph.getNodeIndexOf(edge.getNode2());
+                all.weight[e] = checked(edge.getWeight());
+            }
+            return all;
+        }
+
+        static EdgeArrays<Integer> of(IntGraph graph, ForkJoinPool pool) {
+            int n = graph.nodeCount();
+            int[] first = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                first[i + 1] = first[i] + graph.outDegree(i);
+            }
+            EdgeArrays<Integer> all = new EdgeArrays<Integer>(n, first[n], null, graph.asGraph());
+            RangeTask.forRange(pool, n, NODE_GRAIN, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    int[] row = graph.targetsOf(i);
+                    for (int k = 0, e = first[i]; e < first[i + 1]; k++, e++) {
+                        all.source[e] = i;
+                        all.target[e] = row[k];
+                        all.weight[e] = checked(graph.weight(i, k));
+                    }
+                }
+            });
+            return all;
+        }
+
+        private static double checked(double weight) {
+            if (Double.isNaN(weight)) {
+                throw new IllegalArgumentException("The graph must be weighted. Found an edge with weight NaN.");
+            }
+            return weight;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Shortest path calculator from many sources at once. The queue of Dijkstra's
+ * algorithm is seeded with all the sources, each at distance 0 or at its own
+ * starting distance, and a single visit finds for every node the nearest
+ * source, the distance from it and the predecessor on a shortest path: the
+ * cost of one single-source computation instead of one per source. The
+ * result, a {@link NearestSourceTree}, also partitions the graph into the
+ * cells of the sources, as in a Voronoi diagram.
+ * <br/>
+ * The graph must be directed, weighted and without negative weights, as for
+ * {@link DijkstraShortestPathComputer}. The visit works on a snapshot of the
+ * edges taken as index arrays, taken again when the version of the graph
+ * changes, and does not write any field of the nodes: a calculator can be used
+ * by several threads at once, each with its own working arrays.
+ *
+ * @param <L> the type of the labels of the graph nodes
+ * @author Pilade Jr Tomassini
+ */
+public final class MultiSourceShortestPathComputer<L> {
+
+    private final DijkstraContext<L> context;
+
+    /**
+     * Creates a calculator for a directed and weighted graph without negative
+     * weights.
+     *
+     * @param graph the graph on which the calculator operates
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if the graph is empty, undirected, has
+     *                                  an edge with weight {@code Double.NaN},
+     *                                  a negative weight or removed nodes not
+     *                                  yet compacted
+     */
+    public MultiSourceShortestPathComputer(Graph<L> graph) {
+        this.context = new DijkstraContext<L>(graph);
+    }
+
+    /**
+     * Computes the shortest paths from the nearest of the given sources to
+     * every node, all the sources starting at distance 0.
+     *
+     * @param sources the sources
+     * @return the nearest source, distance and predecessor of every node
+     * @throws NullPointerException     if the collection or one of its nodes
+     *                                  is null
+     * @throws IllegalArgumentException if a source does not exist in the graph
+     * @throws IllegalStateException    if the graph has changed and now has an
+     *                                  edge with weight {@code Double.NaN} or a
+     *                                  negative weight
+     */
+    public NearestSourceTree computeFrom(Collection<GraphNode<L>> sources) {
+        if (sources == null) {
+            throw new NullPointerException("The sources cannot be null.");
+        }
+        int[] indices = new int[sources.size()];
+        int k = 0;
+        for (GraphNode<L> source : sources) {
+            indices[k++] = this.context.indexOf(source, "Source node");
+        }
+        return this.computeFrom(indices, null);
+    }
+
+    /**
+     * Computes the shortest paths from the nearest of the given sources to
+     * every node, each source starting at the distance it is mapped to.
+     *
+     * @param sources the sources, with their starting distances
+     * @return the nearest source, distance and predecessor of every node
+     * @throws NullPointerException     if the map, one of its nodes or one of
+     *                                  its distances is null
+     * @throws IllegalArgumentException if a source does not exist in the graph
+     *                                  or its starting distance is not finite
+     * @throws IllegalStateException    if the graph has changed and now has an
+     *                                  edge with weight {@code Double.NaN} or a
+     *                                  negative weight
+     */
+    public NearestSourceTree computeFrom(Map<GraphNode<L>, Double> sources) {
+        if (sources == null) {
+            throw new NullPointerException("The sources cannot be null.");
+        }
+        int[] indices = new int[sources.size()];
+        double[] offsets = new double[sources.size()];
+        int k = 0;
+        for (Map.Entry<GraphNode<L>, Double> entry : sources.entrySet()) {
+            if (entry.getValue() == null) {
+                throw new NullPointerException("The starting distance cannot be null.");
+            }
+            indices[k] = this.context.indexOf(entry.getKey(), "Source node");
+            offsets[k++] = entry.getValue();
+        }
+        return this.computeFrom(indices, offsets);
+    }
+
+    /**
+     * Computes the shortest paths from the nearest of the given sources to
+     * every node.
+     *
+     * @param sources the indices of the sources
+     * @param offsets the starting distance of each source, or null to start
+     *                all of them at distance 0
+     * @return the nearest source, distance and predecessor of every node
+     * @throws NullPointerException      if the sources are null
+     * @throws IndexOutOfBoundsException if a source is out of bounds
+     * @throws IllegalArgumentException  if the offsets are not as many as the
+     *                                   sources or one of them is not finite
+     * @throws IllegalStateException     if the graph has changed and now has an
+     *                                   edge with weight {@code Double.NaN} or
+     *                                   a negative weight
+     */
+    public NearestSourceTree computeFrom(int[] sources, double[] offsets) {
+        if (sources == null) {
+            throw new NullPointerException("The sources cannot be null.");
+        }
+        if (offsets != null && offsets.length != sources.length) {
+            throw new IllegalArgumentException("There must be one offset for each source.");
+        }
+        WeightedAdjacency<L> adj = this.context.adjacency();
+        int n = adj.nodeCount();
+        DijkstraWorkspace workspace = this.context.workspace(adj);
+        workspace.begin();
+        for (int k = 0; k < sources.length; k++) {
+            int s = sources[k];
+            if (s < 0 || s >= n) {
+                throw new IndexOutOfBoundsException("Node index out of bounds: " + s);
+            }
+            double offset = offsets == null ? 0.0 : offsets[k];
+            if (Double.isNaN(offset) || Double.isInfinite(offset)) {
+                throw new IllegalArgumentException("The starting distance must be finite: " + offset);
+            }
+            workspace.seed(s, offset);
+        }
+        int[] nearest = new int[n];
+        double[] distances = new double[n];
+        int[] predecessors = new int[n];
+        for (int i = 0; i < n; i++) {
+            nearest[i] = -1;
+            distances[i] = Double.POSITIVE_INFINITY;
+            predecessors[i] = -1;
+        }
+        // predecessors are settled first, so their source is already known
+        while (workspace.hasNext()) {
+            int u = workspace.settleNext(adj);
+            distances[u] = workspace.distance(u);
+            int e = workspace.via(u);
+            if (e < 0) {
+                nearest[u] = u;
+            } else {
+                predecessors[u] = adj.source[e];
+                nearest[u] = nearest[adj.source[e]];
+            }
+        }
+        return new NearestSourceTree(adj.version, nearest, distances, predecessors);
+    }
+
+    /**
+     * @return the graph on which the calculator operates
+     */
+    public Graph<L> getGraph() {
+        return this.context.graph();
+    }
+}
@@ -0,0 +1,374 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Search of the k points of interest (POIs) nearest to a source, as for "the
+ * five charging stations nearest to this junction". It runs Dijkstra's
+ * algorithm from the source and stops as soon as k POIs have been settled, so
+ * its cost depends on how far the k-th POI is and not on the size of the
+ * graph; a source that is itself a POI is the first one found, at distance 0.
+ * <br/>
+ * When the same POIs are queried many times, a {@link PoiIndex} built once by
+ * {@link #index(BitSet, double)} answers the queries from the nodes that have
+ * at least k POIs within its radius without any search. As for
+ * {@link IsochroneSearch}, the graph must be directed, weighted and without
+ * negative weights; each thread reuses its Dijkstra arrays from one query to
+ * the next, and the search reads a snapshot of the edges, taken again when the
+ * version of the graph changes, without writing any field of the nodes, so it
+ * can be used by several threads at once.
+ *
+ * @param <L> the type of the labels of the graph nodes
+ * @author Pilade Jr Tomassini
+ */
+public final class NearestPoiSearch<L> {
+
+    private final DijkstraContext<L> context;
+
+    /**
+     * Creates a search for a directed and weighted graph without negative
+     * weights.
+     *
+     * @param graph the graph on which the search operates
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if the graph is empty, undirected, has
+     *                                  an edge with weight {@code Double.NaN},
+     *                                  a negative weight or removed nodes not
+     *                                  yet compacted
+     */
+    public NearestPoiSearch(Graph<L> graph) {
+        this.context = new DijkstraContext<L>(graph);
+    }
+
+    /**
+     * Finds the k points of interest nearest to a source. Fewer than k are
+     * returned if fewer are reachable from the source.
+     *
+     * @param source the source node
+     * @param poiSet the points of interest
+     * @param k      the number of points of interest to find
+     * @return the points of interest found, from the nearest to the farthest
+     * @throws NullPointerException     if the source, the set or one of its
+     *                                  nodes is null
+     * @throws IllegalArgumentException if the source or a point of interest
+     *                                  does not exist in the graph, or k is
+     *                                  negative
+     * @throws IllegalStateException    if the graph has changed and now has an
+     *                                  edge with weight {@code Double.NaN} or a
+     *                                  negative weight
+     */
+    public List<GraphNode<L>> kNearest(GraphNode<L> source, Set<GraphNode<L>> poiSet, int k) {
+        int s = this.context.indexOf(source, "Source node");
+        BitSet pois = this.toBitSet(poiSet);
+        if (k < 0) {
+            throw new IllegalArgumentException("The number of points of interest must not be negative: " + k);
+        }
+        int[] nodes = new int[k];
+        return this.toNodes(nodes, this.kNearest(s, pois, k, nodes, null));
+    }
+
+    /**
+     * Finds the k points of interest nearest to a source, writing their
+     * indices and distances into the given arrays from position 0, from the
+     * nearest to the farthest.
+     *
+     * @param source    the index of the source node
+     * @param pois      the indices of the points of interest
+     * @param k         the number of points of interest to find
+     * @param nodes     the array receiving the indices of the points found,
+     *                  with at least k positions
+     * @param distances the array receiving their distances, with at least k
+     *                  positions, or null if they are not needed
+     * @return the number of points of interest found, less than k if fewer are
+     * reachable from the source
+     * @throws NullPointerException      if the set or the array of the nodes
+     *                                   is null
+     * @throws IndexOutOfBoundsException if the source is out of bounds
+     * @throws IllegalArgumentException  if k is negative, an array is shorter
+     *                                   than k or a point of interest is not a
+     *                                   node of the graph
+     * @throws IllegalStateException     if the graph has changed and now has
+     *                                   an edge with weight {@code Double.NaN}
+     *                                   or a negative weight
+     */
+    public int kNearest(int source, BitSet pois, int k, int[] nodes, double[] distances) {
+        if (pois == null) {
+            throw new NullPointerException("The set of points of interest cannot be null.");
+        }
+        WeightedAdjacency<L> adj = this.context.adjacency();
+        if (pois.length() > adj.nodeCount()) {
+            throw new IllegalArgumentException("Point of interest not found in the graph: " + (pois.length() - 1));
+        }
+        checkQuery(adj, source, k, nodes, distances);
+        return this.search(adj, source, pois, k, nodes, distances);
+    }
+
+    /**
+     * Finds the k points of interest of an index nearest to a source. Fewer
+     * than k are returned if fewer are reachable from the source.
+     *
+     * @param source the source node
+     * @param index  the index of the points of interest
+     * @param k      the number of points of interest to find
+     * @return the points of interest found, from the nearest to the farthest
+     * @throws NullPointerException     if the source or the index is null
+     * @throws IllegalArgumentException if the source does not exist in the
+     *                                  graph or k is negative
+     * @throws IllegalStateException    if the graph has changed since the
+     *                                  index was built
+     */
+    public List<GraphNode<L>> kNearest(GraphNode<L> source, PoiIndex index, int k) {
+        int s = this.context.indexOf(source, "Source node");
+        if (k < 0) {
+            throw new IllegalArgumentException("The number of points of interest must not be negative: " + k);
+        }
+        int[] nodes = new int[k];
+        return this.toNodes(nodes, this.kNearest(s, index, k, nodes, null));
+    }
+
+    /**
+     * Finds the k points of interest of an index nearest to a source, writing
+     * their indices and distances into the given arrays from position 0, from
+     * the nearest to the farthest. The result is the same as without the
+     * index, except for the order of points of interest at the same distance.
+     *
+     * @param source    the index of the source node
+     * @param index     the index of the points of interest
+     * @param k         the number of points of interest to find
+     * @param nodes     the array receiving the indices of the points found,
+     *                  with at least k positions
+     * @param distances the array receiving their distances, with at least k
+     *                  positions, or null if they are not needed
+     * @return the number of points of interest found, less than k if fewer are
+     * reachable from the source
+     * @throws NullPointerException      if the index or the array of the nodes
+     *                                   is null
+     * @throws IndexOutOfBoundsException if the source is out of bounds
+     * @throws IllegalArgumentException  if k is negative or an array is
+     *                                   shorter than k
+     * @throws IllegalStateException     if the graph has changed since the
+     *                                   index was built
+     */
+    public int kNearest(int source, PoiIndex index, int k, int[] nodes, double[] distances) {
+        if (index == null) {
+            throw new NullPointerException("The index cannot be null.");
+        }
+        WeightedAdjacency<L> adj = this.context.adjacency();
+        if (index.getVersion() != adj.version) {
+            throw new IllegalStateException("The graph has changed since the index was built.");
+        }
+        checkQuery(adj, source, k, nodes, distances);
+        int from = index.bucketStart(source);
+        if (index.bucketSize(source) < k) {
+            return this.search(adj, source, index.pois(), k, nodes, distances);
+        }
+        // every point of interest within the radius is in the bucket
+        for (int i = 0; i < k; i++) {
+            nodes[i] = index.entryPoi(from + i);
+            if (distances != null) {
+                distances[i] = index.entryDistance(from + i);
+            }
+        }
+        return k;
+    }
+
+    /**
+     * Builds an index of the given points of interest.
+     *
+     * @param poiSet the points of interest
+     * @param radius the radius of the buckets
+     * @return the index
+     * @throws NullPointerException     if the set or one of its nodes is null
+     * @throws IllegalArgumentException if a point of interest does not exist
+     *                                  in the graph, or the radius is negative
+     *                                  or {@code Double.NaN}
+     * @throws IllegalStateException    if the graph has changed and now has an
+     *                                  edge with weight {@code Double.NaN} or a
+     *                                  negative weight
+     */
+    public PoiIndex index(Set<GraphNode<L>> poiSet, double radius) {
+        return this.index(this.toBitSet(poiSet), radius);
+    }
+
+    /**
+     * Builds an index of the given points of interest: the bucket of every
+     * node receives the points of interest within the radius from it, found
+     * by a search of the given radius from each of them along the reversed
+     * edges. A larger radius makes the index larger and slower to build, and
+     * answers the queries of more nodes.
+     *
+     * @param pois   the indices of the points of interest, copied by the index
+     * @param radius the radius of the buckets
+     * @return the index
+     * @throws NullPointerException     if the set is null
+     * @throws IllegalArgumentException if a point of interest is not a node
+     *                                  of the graph, or the radius is negative
+     *                                  or {@code Double.NaN}
+     * @throws IllegalStateException    if the graph has changed and now has an
+     *                                  edge with weight {@code Double.NaN} or a
+     *                                  negative weight
+     */
+    public PoiIndex index(BitSet pois, double radius) {
+        if (pois == null) {
+            throw new NullPointerException("The set of points of interest cannot be null.");
+        }
+        if (!(radius >= 0)) {
+            throw new IllegalArgumentException("The radius must not be negative: " + radius);
+        }
+        WeightedAdjacency<L> adj = this.context.adjacency();
+        int n = adj.nodeCount();
+        if (pois.length() > n) {
+            throw new IllegalArgumentException("Point of interest not found in the graph: " + (pois.length() - 1));
+        }
+        WeightedAdjacency<L> reversed = adj.reversed();
+        DijkstraWorkspace workspace = this.context.workspace(reversed);
+        // the (node, poi, distance) triples, by point of interest
+        int[] node = new int[Math.max(16, pois.cardinality())];
+        int[] poi = new int[node.length];
+        double[] distance = new double[node.length];
+        int size = 0;
+        int[] start = new int[n + 1];
+        for (int p = pois.nextSetBit(0); p >= 0; p = pois.nextSetBit(p + 1)) {
+            workspace.begin();
+            workspace.seed(p, 0.0);
+            while (workspace.hasNext() && workspace.nextDistance() <= radius) {
+                int u = workspace.settleNext(reversed);
+                if (size == node.length) {
+                    node = Arrays.copyOf(node, 2 * size);
+                    poi = Arrays.copyOf(poi, 2 * size);
+                    distance = Arrays.copyOf(distance, 2 * size);
+                }
+                node[size] = u;
+                poi[size] = p;
+                distance[size++] = workspace.distance(u);
+                start[u + 1]++;
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] bucketPoi = new int[size];
+        double[] bucketDistance = new double[size];
+        int[] next = Arrays.copyOf(start, n);
+        for (int t = 0; t < size; t++) {
+            int r = next[node[t]]++;
+            bucketPoi[r] = poi[t];
+            bucketDistance[r] = distance[t];
+        }
+        for (int i = 0; i < n; i++) {
+            sortBucket(bucketDistance, bucketPoi, start[i], start[i + 1]);
+        }
+        return new PoiIndex(adj.version, (BitSet) pois.clone(), radius, start, bucketPoi, bucketDistance);
+    }
+
+    /**
+     * @return the graph on which the search operates
+     */
+    public Graph<L> getGraph() {
+        return this.context.graph();
+    }
+
+    /*
+     * Dijkstra's algorithm from the source, stopped once k points of interest
+     * have been settled.
+     */
+    private int search(WeightedAdjacency<L> adj, int source, BitSet pois, int k, int[] nodes,
+                       double[] distances) {
+        if (k == 0) {
+            return 0;
+        }
+        DijkstraWorkspace workspace = this.context.workspace(adj);
+        workspace.begin();
+        workspace.seed(source, 0.0);
+        int found = 0;
+        while (workspace.hasNext()) {
+            int u = workspace.settleNext(adj);
+            if (pois.get(u)) {
+                nodes[found] = u;
+                if (distances != null) {
+                    distances[found] = workspace.distance(u);
+                }
+                if (++found == k) {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    private static void checkQuery(WeightedAdjacency<?> adj, int source, int k, int[] nodes, double[] distances) {
+        if (nodes == null) {
+            throw new NullPointerException("The array of the nodes cannot be null.");
+        }
+        if (source < 0 || source >= adj.nodeCount()) {
+            throw new IndexOutOfBoundsException("Node index out of bounds: " + source);
+        }
+        if (k < 0) {
+            throw new IllegalArgumentException("The number of points of interest must not be negative: " + k);
+        }
+        if (nodes.length < k || (distances != null && distances.length < k)) {
+            throw new IllegalArgumentException("The arrays must have at least " + k + " positions.");
+        }
+    }
+
+    /*
+     * Heapsort of the entries of a bucket by distance, moving the points of
+     * interest along.
+     */
+    private static void sortBucket(double[] distance, int[] poi, int from, int to) {
+        int size = to - from;
+        for (int i = size / 2 - 1; i >= 0; i--) {
+            siftDown(distance, poi, from, i, size);
+        }
+        for (int last = size - 1; last > 0; last--) {
+            swap(distance, poi, from, from + last);
+            siftDown(distance, poi, from, 0, last);
+        }
+    }
+
+    private static void siftDown(double[] distance, int[] poi, int base, int i, int size) {
+        while (2 * i + 1 < size) {
+            int child = 2 * i + 1;
+            if (child + 1 < size && distance[base + child + 1] > distance[base + child]) {
+                child++;
+            }
+            if (distance[base + i] >= distance[base + child]) {
+                return;
+            }
+            swap(distance, poi, base + i, base + child);
+            i = child;
+        }
+    }
+
+    private static void swap(double[] distance, int[] poi, int i, int j) {
+        double d = distance[i];
+        distance[i] = distance[j];
+        distance[j] = d;
+        int p = poi[i];
+        poi[i] = poi[j];
+        poi[j] = p;
+    }
+
+    private BitSet toBitSet(Set<GraphNode<L>> poiSet) {
+        if (poiSet == null) {
+            throw new NullPointerException("The set of points of interest cannot be null.");
+        }
+        BitSet pois = new BitSet(this.context.graph().nodeCount());
+        for (GraphNode<L> node : poiSet) {
+            pois.set(this.context.indexOf(node, "Point of interest"));
+        }
+        return pois;
+    }
+
+    private List<GraphNode<L>> toNodes(int[] nodes, int count) {
+        List<GraphNode<L>> result = new ArrayList<GraphNode<L>>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(this.context.graph().getNode(nodes[i]));
+        }
+        return result;
+    }
+}
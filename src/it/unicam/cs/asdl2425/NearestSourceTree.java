@@ -0,0 +1,180 @@
+package it.unicam.cs.asdl2425;
+
+/**
+ * <h3>Compact, immutable shortest path forest of many sources.</h3>
+ * <br/>
+ * <p>
+ * Computed by a {@link MultiSourceShortestPathComputer}, it gives for every
+ * node the nearest source, the distance from it and the predecessor on a
+ * shortest path from it, as arrays indexed by node index. Grouping the nodes
+ * by nearest source partitions the reachable part of the graph into cells, one
+ * for each source, as in a Voronoi diagram: every customer node falls in the
+ * cell of its nearest depot. When several sources are equally near, the node
+ * goes to one of them.</p>
+ * <br/>
+ * <p>
+ * Each source can start from its own distance, for example the time a depot
+ * needs before leaving; then a source can be nearer to some other source than
+ * to itself, and belong to its cell. The forest refers to the node indices
+ * and to the version of the graph at the time it was computed (see
+ * {@link Graph#getVersion()}).</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public final class NearestSourceTree {
+
+    private final long version;
+
+    private final int[] nearest;
+
+    private final double[] distances;
+
+    private final int[] predecessors;
+
+    NearestSourceTree(long version, int[] nearest, double[] distances, int[] predecessors) {
+        this.version = version;
+        this.nearest = nearest;
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    /**
+     * @return the version of the graph the forest was computed on
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * @return the number of node indices covered by the forest
+     */
+    public int size() {
+        return this.distances.length;
+    }
+
+    /**
+     * @param i the index of a node
+     * @return the index of the source nearest to the node, or -1 if no source
+     * reaches it
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int getNearestSource(int i) {
+        return this.nearest[i];
+    }
+
+    /**
+     * @param i the index of a node
+     * @return the distance of the node from its nearest source, including the
+     * starting distance of the source, or {@code Double.POSITIVE_INFINITY} if
+     * no source reaches it
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public double getDistance(int i) {
+        return this.distances[i];
+    }
+
+    /**
+     * @param i the index of a node
+     * @return the index of the predecessor of the node on a shortest path from
+     * its nearest source, or -1 if the node is that source or is not reachable
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int getPredecessor(int i) {
+        return this.predecessors[i];
+    }
+
+    /**
+     * @param i the index of a node
+     * @return true if some source reaches the node
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public boolean hasPathTo(int i) {
+        return this.nearest[i] >= 0;
+    }
+
+    /**
+     * Returns the nodes whose nearest source is the given one.
+     *
+     * @param source the index of a node
+     * @return the indices of the nodes of the cell of the source, increasing,
+     * empty if the node is not a source or belongs to the cell of another
+     * source
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int[] getCellOf(int source) {
+        if (source < 0 || source >= this.nearest.length) {
+            throw new IndexOutOfBoundsException("Node index out of bounds: " + source);
+        }
+        int count = 0;
+        for (int s : this.nearest) {
+            if (s == source) {
+                count++;
+            }
+        }
+        int[] cell = new int[count];
+        for (int i = 0, k = 0; k < count; i++) {
+            if (this.nearest[i] == source) {
+                cell[k++] = i;
+            }
+        }
+        return cell;
+    }
+
+    /**
+     * Returns the indices of the nodes of a shortest path from the nearest
+     * source to the given node, both included.
+     *
+     * @param i the index of the target node
+     * @return the nodes of the path, in order, or null if the node is not
+     * reachable
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int[] pathTo(int i) {
+        int count = PathView.countNodes(this.predecessors, this.nearest[i], i);
+        if (count < 0) {
+            return null;
+        }
+        int[] path = new int[count];
+        PathView.write(this.predecessors, i, path, count);
+        return path;
+    }
+
+    /**
+     * Writes the indices of the nodes of a shortest path from the nearest
+     * source to the given node into the first positions of the given buffer,
+     * without allocating anything. If the buffer is too short nothing is
+     * written and the returned count, greater than the length of the buffer,
+     * tells how long it must be.
+     *
+     * @param i      the index of the target node
+     * @param buffer the array receiving the nodes of the path
+     * @return the number of nodes of the path, or -1 if the node is not
+     * reachable
+     * @throws NullPointerException      if the buffer is null
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int pathTo(int i, int[] buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("The buffer cannot be null.");
+        }
+        return PathView.copyPath(this.predecessors, this.nearest[i], i, buffer);
+    }
+
+    /**
+     * Loads a shortest path from the nearest source to the given node, and its
+     * length, into the given view.
+     *
+     * @param i    the index of the target node
+     * @param view the view receiving the path
+     * @return true if the node is reachable, false otherwise, in which case the
+     * view is left empty
+     * @throws NullPointerException      if the view is null
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public boolean pathTo(int i, PathView view) {
+        if (view == null) {
+            throw new NullPointerException("The view cannot be null.");
+        }
+        return view.load(this.predecessors, this.nearest[i], i, this.distances[i]);
+    }
+}
@@ -0,0 +1,144 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <h3>Immutable path stored as an array of node indices.</h3>
+ * <br/>
+ * <p>
+ * Together with the nodes the path keeps the distance of each of them from the
+ * first one, so that any subpath and its length are available in constant time
+ * without copying: a subpath shares the arrays of the path it comes from.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public final class PackedPath {
+
+    private final int[] nodes;
+
+    // distance of each node from nodes[0]
+    private final double[] prefix;
+
+    private final int from;
+
+    private final int to;
+
+    PackedPath(int[] nodes, double[] prefix, int from, int to) {
+        this.nodes = nodes;
+        this.prefix = prefix;
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * @return the index of the first node of the path
+     */
+    public int getSource() {
+        return this.nodes[this.from];
+    }
+
+    /**
+     * @return the index of the last node of the path
+     */
+    public int getTarget() {
+        return this.nodes[this.to];
+    }
+
+    /**
+     * @return the number of nodes of the path, at least one
+     */
+    public int nodeCount() {
+        return this.to - this.from + 1;
+    }
+
+    /**
+     * @return the number of edges of the path
+     */
+    public int edgeCount() {
+        return this.to - this.from;
+    }
+
+    /**
+     * @param k the position of a node on the path, from 0 to nodeCount() - 1
+     * @return the index of the node
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public int getNode(int k) {
+        if (k < 0 || k > this.to - this.from) {
+            throw new IndexOutOfBoundsException("Position out of bounds: " + k);
+        }
+        return this.nodes[this.from + k];
+    }
+
+    /**
+     * @return the total weight of the path
+     */
+    public double getDistance() {
+        return this.prefix[this.to] - this.prefix[this.from];
+    }
+
+    /**
+     * Returns the part of this path between two positions, both included.
+     *
+     * @param i the position of the first node of the subpath
+     * @param j the position of the last node of the subpath
+     * @return the subpath
+     * @throws IndexOutOfBoundsException if i or j are out of bounds or i &gt; j
+     */
+    public PackedPath subpath(int i, int j) {
+        if (i < 0 || j > this.to - this.from || i > j) {
+            throw new IndexOutOfBoundsException("Invalid subpath [" + i + ", " + j + "]");
+        }
+        return new PackedPath(this.nodes, this.prefix, this.from + i, this.from + j);
+    }
+
+    /**
+     * @return a new array with the indices of the nodes of the path, in order
+     */
+    public int[] toArray() {
+        return Arrays.copyOfRange(this.nodes, this.from, this.to + 1);
+    }
+
+    /**
+     * Returns the edges of the path in the given graph.
+     *
+     * @param graph the graph the node indices refer to
+     * @param <L>   type of the labels of the nodes of the graph
+     * @return the list of the edges of the path, empty if the path has a single
+     * node
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if an edge of the path is not in the
+     *                                  graph
+     */
+    public <L> List<GraphEdge<L>> toEdges(Graph<L> graph) {
+        List<GraphEdge<L>> edges = new ArrayList<>(this.to - this.from);
+        for (int k = this.from; k < this.to; k++) {
+            GraphEdge<L> edge = graph.getEdge(this.nodes[k], this.nodes[k + 1]);
+            if (edge == null) {
+                throw new IllegalArgumentException("Edge between nodes not found.");
+            }
+            edges.add(edge);
+        }
+        return edges;
+    }
+
+    /*
+     * Position of the node with the given index on the path, searching from
+     * position start, or -1.
+     */
+    int positionOf(int node, int start) {
+        for (int k = this.from + start; k <= this.to; k++) {
+            if (this.nodes[k] == node) {
+                return k - this.from;
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.toArray()) + " (" + this.getDistance() + ")";
+    }
+}
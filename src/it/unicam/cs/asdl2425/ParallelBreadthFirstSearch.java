@@ -0,0 +1,485 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * <h3>Level-synchronous parallel breadth-first search computing hop counts.</h3>
+ * <br/>
+ * <p>
+ * When only the number of edges between the source and every node matters, a
+ * breadth-first search gives the answer without the priority queue of
+ * {@link DijkstraShortestPathComputer}. This search visits the graph one level
+ * at a time, splitting the work of each level among the threads of a
+ * {@link ForkJoinPool}, and chooses for every level between two directions, as
+ * proposed by Beamer, Asanović and Patterson:</p>
+ * <ul>
+ * <li>top-down: the nodes of the frontier, kept in an int array, claim their
+ * unvisited successors with a compare-and-set on the visited bitset. It is
+ * cheap while the frontier is small;</li>
+ * <li>bottom-up: every unvisited node looks among its predecessors for one in
+ * the frontier, kept as a bitset, and stops at the first found. When the
+ * frontier is large most nodes find one immediately, so far fewer edges are
+ * examined than top-down.</li>
+ * </ul>
+ * <p>
+ * The search switches to bottom-up when the edges leaving the frontier are more
+ * than the edges leaving the unvisited nodes divided by alpha, and back to
+ * top-down when the frontier has fewer nodes than the graph divided by beta.
+ * </p>
+ * <br/>
+ * <p>
+ * The successors of every node are read once, through
+ * {@link Graph#getEdgesOf(int)}, into compact index arrays, and the
+ * predecessors, the ingoing edges of the bottom-up steps, are obtained by
+ * transposing them, which costs {@code O(n + m)} on every backend; the arrays
+ * are built again only if the version of the graph changes. A search keeps
+ * its state in local arrays, so several searches can run at the same time on
+ * the same object. The graph must support node indices; a search throws an
+ * {@code IllegalArgumentException} while the graph has nodes removed lazily
+ * and not yet compacted.</p>
+ *
+ * @param <L> type of the labels of the nodes of the graph
+ * @author Pilade Jr Tomassini
+ */
+public class ParallelBreadthFirstSearch<L> {
+
+    /**
+     * Default value of alpha, the ratio between the edges leaving the
+     * unvisited nodes and the edges leaving the frontier below which the
+     * search goes bottom-up.
+     */
+    public static final int DEFAULT_ALPHA = 15;
+
+    /**
+     * Default value of beta, the ratio between the nodes of the graph and the
+     * nodes of the frontier above which the search goes back top-down.
+     */
+    public static final int DEFAULT_BETA = 18;
+
+    /*
+     * Frontier nodes handled by one task in the top-down steps.
+     */
+    private static final int TOP_DOWN_GRAIN = 512;
+
+    /*
+     * Bitset words, of 64 nodes each, handled by one task in the bottom-up
+     * steps.
+     */
+    private static final int BOTTOM_UP_GRAIN = 64;
+
+    private final Graph<L> graph;
+
+    private final ForkJoinPool pool;
+
+    private final int alpha;
+
+    private final int beta;
+
+    private volatile Adjacency adjacency;
+
+    /**
+     * Creates a search for the given graph, running in the common pool with
+     * the default alpha and beta.
+     *
+     * @param graph the graph to search
+     * @throws NullPointerException if the graph is null
+     */
+    public ParallelBreadthFirstSearch(Graph<L> graph) {
+        this(graph, ForkJoinPool.commonPool(), DEFAULT_ALPHA, DEFAULT_BETA);
+    }
+
+    /**
+     * Creates a search for the given graph, running in the given pool with the
+     * default alpha and beta.
+     *
+     * @param graph the graph to search
+     * @param pool  the pool running the tasks of each level
+     * @throws NullPointerException if the graph or the pool is null
+     */
+    public ParallelBreadthFirstSearch(Graph<L> graph, ForkJoinPool pool) {
+        this(graph, pool, DEFAULT_ALPHA, DEFAULT_BETA);
+    }
+
+    /**
+     * Creates a search for the given graph, running in the given pool with the
+     * given thresholds. An alpha of 0 keeps the search always top-down; an
+     * alpha and a beta of {@code Integer.MAX_VALUE} make it go bottom-up from
+     * the first level that has edges to examine and never go back.
+     *
+     * @param graph the graph to search
+     * @param pool  the pool running the tasks of each level
+     * @param alpha the threshold for going bottom-up
+     * @param beta  the threshold for going back top-down
+     * @throws NullPointerException     if the graph or the pool is null
+     * @throws IllegalArgumentException if alpha or beta is negative
+     */
+    public ParallelBreadthFirstSearch(Graph<L> graph, ForkJoinPool pool, int alpha, int beta) {
+        if (graph == null) {
+            throw new NullPointerException("The graph cannot be null.");
+        }
+        if (pool == null) {
+            throw new NullPointerException("The pool cannot be null.");
+        }
+        if (alpha < 0 || beta < 0) {
+            throw new IllegalArgumentException("Alpha and beta cannot be negative.");
+        }
+        this.graph = graph;
+        this.pool = pool;
+        this.alpha = alpha;
+        this.beta = beta;
+    }
+
+    /**
+     * Computes the number of edges of a shortest path from the given node to
+     * every node of the graph.
+     *
+     * @param source the index of the node the search starts from
+     * @return the array of the hop counts, indexed by node, with -1 for the
+     * nodes not reachable from the source
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int[] hopDistancesFrom(int source) {
+        Adjacency adj = this.adjacency();
+        int n = adj.nodeCount();
+        if (source < 0 || source >= n) {
+            throw new IndexOutOfBoundsException("Node index out of bounds: " + source);
+        }
+        int words = (n + 63) >>> 6;
+        int[] distances = new int[n];
+        Arrays.fill(distances, -1);
+        AtomicLongArray visited = new AtomicLongArray(words);
+        int[] queue = new int[n];
+        int[] nextQueue = new int[n];
+        long[] bits = new long[words];
+        long[] nextBits = new long[words];
+        distances[source] = 0;
+        visited.set(source >>> 6, 1L << source);
+        queue[0] = source;
+        int size = 1;
+        long frontierNodes = 1;
+        long frontierEdges = adj.outDegree(source);
+        long unvisitedEdges = adj.edgeCount() - frontierEdges;
+        boolean topDown = true;
+        for (int level = 1; frontierNodes > 0; level++) {
+            if (topDown && frontierEdges * this.alpha > unvisitedEdges) {
+                topDown = false;
+                Arrays.fill(bits, 0L);
+                for (int k = 0; k < size; k++) {
+                    bits[queue[k] >>> 6] |= 1L << queue[k];
+                }
+            } else if (!topDown && frontierNodes * this.beta < n) {
+                topDown = true;
+                size = toQueue(bits, queue);
+            }
+            AtomicLong nodes = new AtomicLong();
+            AtomicLong edges = new AtomicLong();
+            if (topDown) {
+                AtomicInteger tail = new AtomicInteger();
+                RangeTask.forRange(this.pool, size, TOP_DOWN_GRAIN, new TopDown(adj, level,
+                        queue, nextQueue, tail, visited, distances, nodes, edges));
+                size = tail.get();
+                int[] t = queue;
+                queue = nextQueue;
+                nextQueue = t;
+            } else {
+                RangeTask.forRange(this.pool, words, BOTTOM_UP_GRAIN, new BottomUp(adj, level,
+                        bits, nextBits, visited, distances, nodes, edges));
+                long[] t = bits;
+                bits = nextBits;
+                nextBits = t;
+            }
+            frontierNodes = nodes.get();
+            frontierEdges = edges.get();
+            unvisitedEdges -= frontierEdges;
+        }
+        return distances;
+    }
+
+    /**
+     * Computes the number of edges of a shortest path from the given node to
+     * every node of the graph.
+     *
+     * @param source the node the search starts from
+     * @return the array of the hop counts, indexed by node, with -1 for the
+     * nodes not reachable from the source
+     * @throws NullPointerException     if the node is null
+     * @throws IllegalArgumentException if the node does not exist
+     * @see #hopDistancesFrom(int)
+     */
+    public int[] hopDistancesFrom(GraphNode<L> source) {
+        if (source == null) {
+            throw new NullPointerException("The source cannot be null.");
+        }
+        int i = this.graph.getNodeIndexOf(source);
+        if (i < 0) {
+            throw new IllegalArgumentException("Node not found in the graph.");
+        }
+        return this.hopDistancesFrom(i);
+    }
+
+    /**
+     * @return the graph on which the search operates
+     */
+    public Graph<L> getGraph() {
+        return this.graph;
+    }
+
+    /*
+     * The index arrays of the graph, read again if its version has changed.
+     */
+    private Adjacency adjacency() {
+        Adjacency adj = this.adjacency;
+        long version = this.graph.getVersion();
+        if (adj == null || adj.version != version) {
+            synchronized (this) {
+                adj = this.adjacency;
+                if (adj == null || adj.version != version) {
+                    adj = new Adjacency(this.graph, version);
+                    this.adjacency = adj;
+                }
+            }
+        }
+        return adj;
+    }
+
+    /*
+     * Writes the nodes of the bitset into the queue, returning their number.
+     */
+    private static int toQueue(long[] bits, int[] queue) {
+        int size = 0;
+        for (int w = 0; w < bits.length; w++) {
+            for (long word = bits[w]; word != 0; word &= word - 1) {
+                queue[size++] = (w << 6) | Long.numberOfTrailingZeros(word);
+            }
+        }
+        return size;
+    }
+
+    /*
+     * Sets the bit of v, returning false if it was already set.
+     */
+    private static boolean claim(AtomicLongArray visited, int v) {
+        int w = v >>> 6;
+        long bit = 1L << v;
+        while (true) {
+            long old = visited.get(w);
+            if ((old & bit) != 0) {
+                return false;
+            }
+            if (visited.compareAndSet(w, old, old | bit)) {
+                return true;
+            }
+        }
+    }
+
+    /*
+     * Expands a slice of the frontier queue. The claimed nodes are gathered in
+     * a local buffer and appended to the next queue with a single atomic
+     * reservation.
+     */
+    private static final class TopDown implements RangeTask.Body {
+
+        private final Adjacency adj;
+
+        private final int level;
+
+        private final int[] queue;
+
+        private final int[] nextQueue;
+
+        private final AtomicInteger tail;
+
+        private final AtomicLongArray visited;
+
+        private final int[] distances;
+
+        private final AtomicLong nodes;
+
+        private final AtomicLong edges;
+
+        TopDown(Adjacency adj, int level, int[] queue, int[] nextQueue, AtomicInteger tail,
+                AtomicLongArray visited, int[] distances, AtomicLong nodes, AtomicLong edges) {
+            this.adj = adj;
+            this.level = level;
+            this.queue = queue;
+            this.nextQueue = nextQueue;
+            this.tail = tail;
+            this.visited = visited;
+            this.distances = distances;
+            this.nodes = nodes;
+            this.edges = edges;
+        }
+
+        @Override
+        public void run(int from, int to) {
+            int[] claimed = new int[64];
+            int count = 0;
+            long degrees = 0;
+            for (int k = from; k < to; k++) {
+                int u = this.queue[k];
+                for (int e = this.adj.outStart[u], end = this.adj.outStart[u + 1]; e < end; e++) {
+                    int v = this.adj.outTargets[e];
+                    if (claim(this.visited, v)) {
+                        this.distances[v] = this.level;
+                        if (count == claimed.length) {
+                            claimed = Arrays.copyOf(claimed, 2 * count);
+                        }
+                        claimed[count++] = v;
+                        degrees += this.adj.outDegree(v);
+                    }
+                }
+            }
+            if (count > 0) {
+                System.arraycopy(claimed, 0, this.nextQueue, this.tail.getAndAdd(count), count);
+                this.nodes.addAndGet(count);
+                this.edges.addAndGet(degrees);
+            }
+        }
+    }
+
+    /*
+     * Checks the unvisited nodes of a range of bitset words. Every word of the
+     * next frontier and of the visited set is written by the task owning it
+     * only, so no atomic update is needed.
+     */
+    private static final class BottomUp implements RangeTask.Body {
+
+        private final Adjacency adj;
+
+        private final int level;
+
+        private final long[] frontier;
+
+        private final long[] next;
+
+        private final AtomicLongArray visited;
+
+        private final int[] distances;
+
+        private final AtomicLong nodes;
+
+        private final AtomicLong edges;
+
+        BottomUp(Adjacency adj, int level, long[] frontier, long[] next,
+                 AtomicLongArray visited, int[] distances, AtomicLong nodes, AtomicLong edges) {
+            this.adj = adj;
+            this.level = level;
+            this.frontier = frontier;
+            this.next = next;
+            this.visited = visited;
+            this.distances = distances;
+            this.nodes = nodes;
+            this.edges = edges;
+        }
+
+        @Override
+        public void run(int from, int to) {
+            int n = this.adj.nodeCount();
+            long count = 0;
+            long degrees = 0;
+            for (int w = from; w < to; w++) {
+                long seen = this.visited.get(w);
+                long unvisited = ~seen;
+                if (w == (n - 1) >>> 6 && (n & 63) != 0) {
+                    unvisited &= (1L << n) - 1;
+                }
+                long found = 0;
+                for (; unvisited != 0; unvisited &= unvisited - 1) {
+                    int v = (w << 6) | Long.numberOfTrailingZeros(unvisited);
+                    for (int e = this.adj.inStart[v], end = this.adj.inStart[v + 1]; e < end; e++) {
+                        int u = this.adj.inSources[e];
+                        if ((this.frontier[u >>> 6] & (1L << u)) != 0) {
+                            found |= 1L << v;
+                            this.distances[v] = this.level;
+                            degrees += this.adj.outDegree(v);
+                            break;
+                        }
+                    }
+                }
+                this.next[w] = found;
+                if (found != 0) {
+                    this.visited.set(w, seen | found);
+                    count += Long.bitCount(found);
+                }
+            }
+            if (count > 0) {
+                this.nodes.addAndGet(count);
+                this.edges.addAndGet(degrees);
+            }
+        }
+    }
+
+    /*
+     * Successors and predecessors of every node as index arrays, in the
+     * compressed sparse row layout.
+     */
+    private static final class Adjacency {
+
+        private final long version;
+
+        private final int[] outStart;
+
+        private final int[] outTargets;
+
+        private final int[] inStart;
+
+        private final int[] inSources;
+
+        <L> Adjacency(Graph<L> graph, long version) {
+            Graph.checkIndices(graph);
+            this.version = version;
+            int n = graph.nodeCount();
+            this.outStart = new int[n + 1];
+            int[][] out = new int[n][];
+            for (int i = 0; i < n; i++) {
+                out[i] = targetsOf(graph, graph.getEdgesOf(i));
+                this.outStart[i + 1] = this.outStart[i] + out[i].length;
+            }
+            this.outTargets = new int[this.outStart[n]];
+            for (int i = 0; i < n; i++) {
+                System.arraycopy(out[i], 0, this.outTargets, this.outStart[i], out[i].length);
+            }
+            // the predecessors of each node, by increasing index
+            this.inStart = new int[n + 1];
+            for (int v : this.outTargets) {
+                this.inStart[v + 1]++;
+            }
+            for (int i = 0; i < n; i++) {
+                this.inStart[i + 1] += this.inStart[i];
+            }
+            this.inSources = new int[this.outTargets.length];
+            int[] next = Arrays.copyOf(this.inStart, n);
+            for (int u = 0; u < n; u++) {
+                for (int e = this.outStart[u]; e < this.outStart[u + 1]; e++) {
+                    this.inSources[next[this.outTargets[e]]++] = u;
+                }
+            }
+        }
+
+        int nodeCount() {
+            return this.outStart.length - 1;
+        }
+
+        long edgeCount() {
+            return this.outTargets.length;
+        }
+
+        int outDegree(int u) {
+            return this.outStart[u + 1] - this.outStart[u];
+        }
+
+        private static <L> int[] targetsOf(Graph<L> graph, Set<GraphEdge<L>> edges) {
+            int[] row = new int[edges.size()];
+            int k = 0;
+            for (GraphEdge<L> edge : edges) {
+                row[k++] = graph.getNodeIndexOf(edge.getNode2());
+            }
+            return row;
+        }
+    }
+}
@@ -0,0 +1,329 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <h3>Bounded cache of point to point shortest paths.</h3>
+ * <br/>
+ * <p>
+ * The cache answers queries for a shortest path between two nodes, identified
+ * by their indices, and stores the computed paths as {@link PackedPath}s.
+ * Since every subpath of a shortest path is itself a shortest path, a stored
+ * path from A to Z also answers the queries between any two nodes B and Y met
+ * in this order along it: for this the cache keeps, for each node, the stored
+ * paths going through it. Only when neither an exact nor a containing path is
+ * found the query is computed with the given
+ * {@link SingleSourceShortestPathComputer}.</p>
+ * <br/>
+ * <p>
+ * At most {@code maxPaths} paths are stored; when the bound is reached the
+ * oldest path is dropped. The cache is emptied as soon as the version of the
+ * graph (see {@link Graph#getVersion()}) changes. Changes not tracked by the
+ * version, such as weights modified directly on the edges, require an explicit
+ * call to {@link #clear()}.</p>
+ * <br/>
+ * <p>
+ * The cache can be used by many threads: lookups run in parallel under a read
+ * lock, insertions take the write lock and computations are serialized on the
+ * computer, whose results live in the shared nodes of the graph.</p>
+ *
+ * @param <L> type of the labels of the nodes of the graph
+ * @author Pilade Jr Tomassini
+ */
+public class PathCache<L> {
+
+    private final SingleSourceShortestPathComputer<L> computer;
+
+    private final Graph<L> graph;
+
+    private final int maxPaths;
+
+    private final ReentrantReadWriteLock lock;
+
+    // stored paths by (source, target)
+    private final HashMap<Long, PackedPath> paths;
+
+    // stored paths by node they go through
+    private final HashMap<Integer, List<PackedPath>> pathsThrough;
+
+    // stored paths in insertion order
+    private final ArrayDeque<PackedPath> order;
+
+    private volatile long version;
+
+    private final AtomicLong hits;
+
+    private final AtomicLong subpathHits;
+
+    private final AtomicLong misses;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param computer the computer used to compute the missing paths
+     * @param maxPaths the maximum number of stored paths
+     * @throws NullPointerException     if the computer is null
+     * @throws IllegalArgumentException if maxPaths is not positive
+     */
+    public PathCache(SingleSourceShortestPathComputer<L> computer, int maxPaths) {
+        if (computer == null) {
+            throw new NullPointerException("The computer cannot be null.");
+        }
+        if (maxPaths <= 0) {
+            throw new IllegalArgumentException("The maximum number of paths must be positive.");
+        }
+        this.computer = computer;
+        this.graph = computer.getGraph();
+        this.maxPaths = maxPaths;
+        this.lock = new ReentrantReadWriteLock();
+        this.paths = new HashMap<>();
+        this.pathsThrough = new HashMap<>();
+        this.order = new ArrayDeque<>();
+        this.version = this.graph.getVersion();
+        this.hits = new AtomicLong();
+        this.subpathHits = new AtomicLong();
+        this.misses = new AtomicLong();
+    }
+
+    /**
+     * Returns a shortest path between the nodes with the given indices.
+     *
+     * @param source the index of the source node
+     * @param target the index of the target node
+     * @return a shortest path from source to target, or null if the target is
+     * not reachable
+     * @throws IndexOutOfBoundsException if either index does not belong to a
+     *                                   node of the graph
+     */
+    public PackedPath getPath(int source, int target) {
+        this.checkVersion();
+        GraphNode<L> sourceNode = this.graph.getNode(source);
+        this.graph.getNode(target);
+        PackedPath path = this.lookup(source, target);
+        if (path != null) {
+            return path;
+        }
+        this.misses.incrementAndGet();
+        return this.compute(sourceNode, source, target);
+    }
+
+    /**
+     * Returns a shortest path between two nodes.
+     *
+     * @param source the source node
+     * @param target the target node
+     * @return a shortest path from source to target, or null if the target is
+     * not reachable
+     * @throws NullPointerException     if either node is null
+     * @throws IllegalArgumentException if either node does not belong to the
+     *                                  graph
+     */
+    public PackedPath getPath(GraphNode<L> source, GraphNode<L> target) {
+        if (source == null || target == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        int i = this.graph.getNodeIndexOf(source);
+        int j = this.graph.getNodeIndexOf(target);
+        if (i < 0 || j < 0) {
+            throw new IllegalArgumentException("Node not found in the graph.");
+        }
+        return this.getPath(i, j);
+    }
+
+    /**
+     * Returns the length of a shortest path between the nodes with the given
+     * indices.
+     *
+     * @param source the index of the source node
+     * @param target the index of the target node
+     * @return the distance of target from source, or
+     * {@code Double.POSITIVE_INFINITY} if it is not reachable
+     * @throws IndexOutOfBoundsException if either index does not belong to a
+     *                                   node of the graph
+     */
+    public double getDistance(int source, int target) {
+        PackedPath path = this.getPath(source, target);
+        return path == null ? Double.POSITIVE_INFINITY : path.getDistance();
+    }
+
+    /**
+     * Removes all the stored paths.
+     */
+    public void clear() {
+        this.lock.writeLock().lock();
+        try {
+            this.paths.clear();
+            this.pathsThrough.clear();
+            this.order.clear();
+            this.version = this.graph.getVersion();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of stored paths
+     */
+    public int size() {
+        this.checkVersion();
+        this.lock.readLock().lock();
+        try {
+            return this.paths.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return the number of queries answered with a stored path between the
+     * same two nodes
+     */
+    public long getHits() {
+        return this.hits.get();
+    }
+
+    /**
+     * @return the number of queries answered with a part of a longer stored
+     * path
+     */
+    public long getSubpathHits() {
+        return this.subpathHits.get();
+    }
+
+    /**
+     * @return the number of queries that required a computation
+     */
+    public long getMisses() {
+        return this.misses.get();
+    }
+
+    /**
+     * Resets the hit and miss counters.
+     */
+    public void resetStatistics() {
+        this.hits.set(0);
+        this.subpathHits.set(0);
+        this.misses.set(0);
+    }
+
+    private PackedPath lookup(int source, int target) {
+        this.lock.readLock().lock();
+        try {
+            PackedPath path = this.paths.get(key(source, target));
+            if (path != null) {
+                this.hits.incrementAndGet();
+                return path;
+            }
+            List<PackedPath> candidates = this.pathsThrough.get(source);
+            if (candidates == null) {
+                return null;
+            }
+            for (PackedPath candidate : candidates) {
+                int i = candidate.positionOf(source, 0);
+                int j = candidate.positionOf(target, i);
+                if (j >= 0) {
+                    this.subpathHits.incrementAndGet();
+                    return candidate.subpath(i, j);
+                }
+            }
+            return null;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private PackedPath compute(GraphNode<L> sourceNode, int source, int target) {
+        PackedPath path;
+        long computedOn;
+        synchronized (this.computer) {
+            computedOn = this.graph.getVersion();
+            this.computer.computeShortestPathsFrom(sourceNode);
+            path = this.extractPath(source, target);
+        }
+        if (path != null) {
+            this.store(path, computedOn);
+        }
+        return path;
+    }
+
+    /*
+     * Follows the previous nodes left by the computation from the target back
+     * to the source.
+     */
+    private PackedPath extractPath(int source, int target) {
+        int length = 1;
+        GraphNode<L> node = this.graph.getNode(target);
+        if (source != target && node.getPrevious() == null) {
+            return null;
+        }
+        for (GraphNode<L> v = node; v.getPrevious() != null; v = v.getPrevious()) {
+            length++;
+        }
+        int[] nodes = new int[length];
+        double[] prefix = new double[length];
+        GraphNode<L> v = node;
+        for (int k = length - 1; k >= 0; k--, v = v.getPrevious()) {
+            nodes[k] = this.graph.getNodeIndexOf(v);
+            prefix[k] = k == 0 ? 0.0 : v.getFloatingPointDistance();
+        }
+        return new PackedPath(nodes, prefix, 0, length - 1);
+    }
+
+    private void store(PackedPath path, long computedOn) {
+        this.lock.writeLock().lock();
+        try {
+            if (computedOn != this.version || this.graph.getVersion() != computedOn) {
+                return; // computed on a graph that has changed since
+            }
+            Long key = key(path.getSource(), path.getTarget());
+            if (this.paths.containsKey(key)) {
+                return;
+            }
+            if (this.paths.size() == this.maxPaths) {
+                this.remove(this.order.pollFirst());
+            }
+            this.paths.put(key, path);
+            this.order.addLast(path);
+            for (int k = 0; k < path.nodeCount(); k++) {
+                List<PackedPath> through = this.pathsThrough.get(path.getNode(k));
+                if (through == null) {
+                    through = new ArrayList<>(2);
+                    this.pathsThrough.put(path.getNode(k), through);
+                }
+                if (through.isEmpty() || through.get(through.size() - 1) != path) {
+                    through.add(path);
+                }
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private void remove(PackedPath path) {
+        this.paths.remove(key(path.getSource(), path.getTarget()));
+        for (int k = 0; k < path.nodeCount(); k++) {
+            List<PackedPath> through = this.pathsThrough.get(path.getNode(k));
+            if (through != null) {
+                through.remove(path);
+                if (through.isEmpty()) {
+                    this.pathsThrough.remove(path.getNode(k));
+                }
+            }
+        }
+    }
+
+    private void checkVersion() {
+        if (this.graph.getVersion() != this.version) {
+            this.clear();
+        }
+    }
+
+    private static long key(int source, int target) {
+        return ((long) source << 32) | (target & 0xFFFFFFFFL);
+    }
+}
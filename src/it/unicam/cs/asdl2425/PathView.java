@@ -0,0 +1,244 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <h3>Reusable holder of a path given as a sequence of node indices.</h3>
+ * <br/>
+ * <p>
+ * The shortest path calculators can write the path to a target into a view
+ * instead of building a list of edges: the view keeps its buffer between calls
+ * and enlarges it only when a longer path comes, so once it has reached the
+ * length of the longest path a caller needs, reconstructing paths allocates
+ * nothing. The edges of the path are materialized only on request, through
+ * {@link #toEdges(Graph)}.</p>
+ * <br/>
+ * <p>
+ * A view that does not hold a path, because it is new or because the last
+ * target was not reachable, has no nodes and an infinite distance.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public final class PathView {
+
+    private int[] nodes;
+
+    private int length;
+
+    private double distance;
+
+    /**
+     * Creates an empty view.
+     */
+    public PathView() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty view whose buffer holds paths of the given number of
+     * nodes without being enlarged.
+     *
+     * @param capacity the initial capacity of the buffer
+     * @throws IllegalArgumentException if the capacity is negative
+     */
+    public PathView(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The capacity cannot be negative.");
+        }
+        this.nodes = new int[capacity];
+        this.clear();
+    }
+
+    /**
+     * @return true if the view holds a path
+     */
+    public boolean hasPath() {
+        return this.length > 0;
+    }
+
+    /**
+     * @return the number of nodes of the path, 0 if there is none
+     */
+    public int nodeCount() {
+        return this.length;
+    }
+
+    /**
+     * @return the number of edges of the path, 0 if there is none
+     */
+    public int edgeCount() {
+        return Math.max(0, this.length - 1);
+    }
+
+    /**
+     * @param k the position of a node on the path, from 0 to nodeCount() - 1
+     * @return the index of the node
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public int getNode(int k) {
+        if (k < 0 || k >= this.length) {
+            throw new IndexOutOfBoundsException("Position out of bounds: " + k);
+        }
+        return this.nodes[k];
+    }
+
+    /**
+     * @return the index of the first node of the path
+     * @throws IllegalStateException if the view holds no path
+     */
+    public int getSource() {
+        this.checkPath();
+        return this.nodes[0];
+    }
+
+    /**
+     * @return the index of the last node of the path
+     * @throws IllegalStateException if the view holds no path
+     */
+    public int getTarget() {
+        this.checkPath();
+        return this.nodes[this.length - 1];
+    }
+
+    /**
+     * @return the length of the path, {@code Double.POSITIVE_INFINITY} if the
+     * view holds no path
+     */
+    public double getDistance() {
+        return this.distance;
+    }
+
+    /**
+     * @return a new array with the indices of the nodes of the path
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(this.nodes, this.length);
+    }
+
+    /**
+     * Returns the edges of the path in the given graph, looking each of them up
+     * by the indices of its nodes.
+     *
+     * @param graph the graph the node indices refer to
+     * @param <L>   type of the labels of the nodes of the graph
+     * @return the list of the edges of the path, null if the view holds no
+     * path
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if an edge of the path is not in the
+     *                                  graph
+     */
+    public <L> List<GraphEdge<L>> toEdges(Graph<L> graph) {
+        if (graph == null) {
+            throw new NullPointerException("The graph cannot be null.");
+        }
+        if (this.length == 0) {
+            return null;
+        }
+        List<GraphEdge<L>> edges = new ArrayList<>(this.length - 1);
+        for (int k = 1; k < this.length; k++) {
+            GraphEdge<L> edge = graph.getEdge(this.nodes[k - 1], this.nodes[k]);
+            if (edge == null) {
+                throw new IllegalArgumentException("Edge between nodes not found.");
+            }
+            edges.add(edge);
+        }
+        return edges;
+    }
+
+    /**
+     * Removes the path from the view, keeping the buffer.
+     */
+    public void clear() {
+        this.length = 0;
+        this.distance = Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.toArray()) + " (" + this.distance + ")";
+    }
+
+    /*
+     * Loads the path from source to target described by a predecessor array,
+     * returning false, and leaving the view empty, if target is not reachable.
+     */
+    boolean load(int[] predecessors, int source, int target, double distance) {
+        int count = countNodes(predecessors, source, target);
+        if (count < 0) {
+            this.clear();
+            return false;
+        }
+        if (count > this.nodes.length) {
+            this.nodes = new int[Math.max(count, 2 * this.nodes.length)];
+        }
+        write(predecessors, target, this.nodes, count);
+        this.length = count;
+        this.distance = distance;
+        return true;
+    }
+
+    /*
+     * Storage for a path of count nodes, to be filled from position 0 by the
+     * caller, which then calls setPath.
+     */
+    int[] reserve(int count) {
+        if (count > this.nodes.length) {
+            this.nodes = new int[Math.max(count, 2 * this.nodes.length)];
+        }
+        return this.nodes;
+    }
+
+    void setPath(int count, double distance) {
+        this.length = count;
+        this.distance = distance;
+    }
+
+    /*
+     * Number of nodes of the path from source to target described by a
+     * predecessor array, or -1 if target is not reachable.
+     */
+    static int countNodes(int[] predecessors, int source, int target) {
+        if (target != source && predecessors[target] < 0) {
+            return -1;
+        }
+        int count = 1;
+        for (int v = target; v != source; v = predecessors[v]) {
+            count++;
+        }
+        return count;
+    }
+
+    /*
+     * Writes the count nodes of the path ending in target into the first
+     * positions of buffer, from the source.
+     */
+    static void write(int[] predecessors, int target, int[] buffer, int count) {
+        int v = target;
+        for (int k = count - 1; k >= 0; k--) {
+            buffer[k] = v;
+            v = k > 0 ? predecessors[v] : v;
+        }
+    }
+
+    /*
+     * Writes the path from source to target into a caller buffer, with the
+     * contract of the getShortestPathTo(int, int[]) methods: the number of
+     * nodes, -1 if the target is not reachable, and nothing written if the
+     * buffer is too short.
+     */
+    static int copyPath(int[] predecessors, int source, int target, int[] buffer) {
+        int count = countNodes(predecessors, source, target);
+        if (count > 0 && count <= buffer.length) {
+            write(predecessors, target, buffer, count);
+        }
+        return count;
+    }
+
+    private void checkPath() {
+        if (this.length == 0) {
+            throw new IllegalStateException("The view holds no path.");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.BitSet;
+
+/**
+ * <h3>Precomputed buckets of nearby points of interest.</h3>
+ * <br/>
+ * <p>
+ * Built by {@link NearestPoiSearch#index(BitSet, double)} for a set of points
+ * of interest (POIs) and a radius, it stores in the bucket of every node the
+ * POIs within the radius from it, with their distances, from the nearest to
+ * the farthest. The buckets are filled by a backward search of the given
+ * radius from each POI, so building the index costs one bounded search per
+ * POI, and its size is the total number of (node, POI) pairs within the
+ * radius.</p>
+ * <br/>
+ * <p>
+ * Since a bucket holds every POI within the radius, when it holds at least k
+ * of them its first k are the k nearest POIs of the node, and a query is
+ * answered without searching the graph; otherwise the search runs as without
+ * the index. The radius trades the size of the index for the share of
+ * queries it answers. An index refers to the version of the graph it was
+ * built on and cannot be used after the graph has changed.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public final class PoiIndex {
+
+    private final long version;
+
+    private final BitSet pois;
+
+    private final double radius;
+
+    /* The bucket of node i is from start[i] to start[i + 1] - 1. */
+    private final int[] start;
+
+    private final int[] poi;
+
+    private final double[] distance;
+
+    PoiIndex(long version, BitSet pois, double radius, int[] start, int[] poi, double[] distance) {
+        this.version = version;
+        this.pois = pois;
+        this.radius = radius;
+        this.start = start;
+        this.poi = poi;
+        this.distance = distance;
+    }
+
+    /**
+     * @return the version of the graph the index was built on
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * @return the radius of the buckets
+     */
+    public double getRadius() {
+        return this.radius;
+    }
+
+    /**
+     * @return the number of points of interest
+     */
+    public int poiCount() {
+        return this.pois.cardinality();
+    }
+
+    /**
+     * @param i the index of a node
+     * @return true if the node is a point of interest
+     */
+    public boolean isPoi(int i) {
+        return i >= 0 && this.pois.get(i);
+    }
+
+    /**
+     * @param i the index of a node
+     * @return the number of points of interest within the radius from the node
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int bucketSize(int i) {
+        if (i < 0 || i >= this.start.length - 1) {
+            throw new IndexOutOfBoundsException("Node index out of bounds: " + i);
+        }
+        return this.start[i + 1] - this.start[i];
+    }
+
+    /**
+     * @return the number of (node, point of interest) pairs stored
+     */
+    public int entryCount() {
+        return this.poi.length;
+    }
+
+    /*
+     * Package access for the queries, which check the arguments themselves.
+     */
+    BitSet pois() {
+        return this.pois;
+    }
+
+    int bucketStart(int i) {
+        return this.start[i];
+    }
+
+    int entryPoi(int p) {
+        return this.poi[p];
+    }
+
+    double entryDistance(int p) {
+        return this.distance[p];
+    }
+}
@@ -0,0 +1,62 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join task running a body over a range of ints, halving the range until
+ * it is not longer than a given grain. Used by the parallel graph algorithms
+ * to split per-node or per-edge loops among the threads of a pool.
+ *
+ * @author Pilade Jr Tomassini
+ */
+final class RangeTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Work done on a slice of the range.
+     */
+    interface Body {
+
+        void run(int from, int to);
+    }
+
+    private final Body body;
+
+    private final int from;
+
+    private final int to;
+
+    private final int grain;
+
+    private RangeTask(Body body, int from, int to, int grain) {
+        this.body = body;
+        this.from = from;
+        this.to = to;
+        this.grain = grain;
+    }
+
+    /**
+     * Runs the body over [0, count) in the given pool, or directly in the
+     * calling thread if the range fits in one grain.
+     */
+    static void forRange(ForkJoinPool pool, int count, int grain, Body body) {
+        if (count <= grain) {
+            body.run(0, count);
+        } else {
+            pool.invoke(new RangeTask(body, 0, count, grain));
+        }
+    }
+
+    @Override
+    protected void compute() {
+        if (this.to - this.from <= this.grain) {
+            this.body.run(this.from, this.to);
+        } else {
+            int middle = (this.from + this.to) >>> 1;
+            invokeAll(new RangeTask(this.body, this.from, middle, this.grain),
+                    new RangeTask(this.body, middle, this.to, this.grain));
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Arrays;
+
+/**
+ * <h3>Index answering reachability queries between the nodes of a graph in
+ * constant time.</h3>
+ * <br/>
+ * <p>
+ * The index is built in two steps. First the graph is condensed into its
+ * strongly connected components, computed with the iterative version of
+ * Tarjan's algorithm of {@link StronglyConnectedComponents}: all the nodes of
+ * a component reach exactly the same nodes. Then the transitive closure of
+ * the condensation, which is a DAG, is stored as one bit row per component:
+ * the row of a component is obtained by OR-ing, 64 components per word
+ * operation, the rows of its successors, which Tarjan's algorithm always
+ * completes before the component itself.</p>
+ * <br/>
+ * <p>
+ * Queries then cost two array accesses and a bit test. Every node reaches
+ * itself, through the empty path. The graph must support node indices, with
+ * the nodes removed lazily compacted away before the index is built.</p>
+ * <br/>
+ * <p>
+ * The index refers to the node indices of the graph at the time it was built
+ * and is not updated automatically. After an edge insertion it can be updated
+ * incrementally with {@link #edgeAdded(int, int)}: if the edge does not close a
+ * cycle between different components, the update ORs the row of the target
+ * into the rows of the components reaching the source, otherwise the index is
+ * rebuilt. After edge or node removals the index must be rebuilt with
+ * {@link #rebuild()}.</p>
+ *
+ * @param <L> type of the labels of the nodes of the graph
+ * @author Pilade Jr Tomassini
+ */
+public class ReachabilityIndex<L> {
+
+    private final Graph<L> graph;
+
+    /*
+     * Number of nodes of the graph when the index was built.
+     */
+    private int n;
+
+    /*
+     * Component of each node index. Components are numbered in the order
+     * Tarjan's algorithm completes them, i.e. in reverse topological order.
+     */
+    private int[] component;
+
+    private int componentCount;
+
+    /*
+     * Row c has bit d set if component c reaches component d.
+     */
+    private long[][] reach;
+
+    /**
+     * Builds the index of the given graph.
+     *
+     * @param graph the graph to index
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if the graph has removed nodes not yet
+     *                                  compacted
+     */
+    public ReachabilityIndex(Graph<L> graph) {
+        if (graph == null) {
+            throw new NullPointerException("The graph cannot be null.");
+        }
+        this.graph = graph;
+        this.rebuild();
+    }
+
+    /**
+     * @return the indexed graph
+     */
+    public Graph<L> getGraph() {
+        return this.graph;
+    }
+
+    /**
+     * Rebuilds the whole index from the current state of the graph. It must be
+     * called after nodes are added or removed, or after edges are removed.
+     *
+     * @throws IllegalArgumentException if the graph has removed nodes not yet
+     *                                  compacted
+     */
+    public void rebuild() {
+        int[][] successors = successorsOf(this.graph);
+        this.n = successors.length;
+        StronglyConnectedComponents components = StronglyConnectedComponents.tarjan(successors);
+        this.component = components.components();
+        this.componentCount = components.componentCount();
+        int words = (this.componentCount + 63) >>> 6;
+        this.reach = new long[this.componentCount][words];
+        // Components are completed sinks first, so the rows of the
+        // successors of a component are final before the component is visited
+        int[] start = new int[this.componentCount + 1];
+        for (int i = 0; i < this.n; i++) {
+            start[this.component[i] + 1]++;
+        }
+        for (int c = 0; c < this.componentCount; c++) {
+            start[c + 1] += start[c];
+        }
+        int[] nodesByComponent = new int[this.n];
+        int[] next = Arrays.copyOf(start, this.componentCount);
+        for (int i = 0; i < this.n; i++) {
+            nodesByComponent[next[this.component[i]]++] = i;
+        }
+        for (int c = 0; c < this.componentCount; c++) {
+            long[] row = this.reach[c];
+            row[c >>> 6] |= 1L << c;
+            for (int k = start[c]; k < start[c + 1]; k++) {
+                for (int j : successors[nodesByComponent[k]]) {
+                    int d = this.component[j];
+                    if (d != c && (row[d >>> 6] & (1L << d)) == 0) {
+                        or(row, this.reach[d]);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Determines if the node with index j is reachable from the node with
+     * index i.
+     *
+     * @param i the index of the source node
+     * @param j the index of the target node
+     * @return true if there is a path from node i to node j
+     * @throws IndexOutOfBoundsException if either index is out of the bounds of
+     *                                   the indexed nodes
+     */
+    public boolean canReach(int i, int j) {
+        this.checkIndex(i);
+        this.checkIndex(j);
+        int d = this.component[j];
+        return (this.reach[this.component[i]][d >>> 6] & (1L << d)) != 0;
+    }
+
+    /**
+     * Determines if the second node is reachable from the first one.
+     *
+     * @param node1 the source node
+     * @param node2 the target node
+     * @return true if there is a path from node1 to node2
+     * @throws NullPointerException     if either node is null
+     * @throws IllegalArgumentException if either node does not belong to the
+     *                                  indexed graph
+     */
+    public boolean canReach(GraphNode<L> node1, GraphNode<L> node2) {
+        if (node1 == null || node2 == null) {
+            throw new NullPointerException("Node cannot be null.");
+        }
+        return this.canReach(this.requireIndex(node1), this.requireIndex(node2));
+    }
+
+    /**
+     * Determines if the node with the second label is reachable from the node
+     * with the first label.
+     *
+     * @param label1 the label of the source node
+     * @param label2 the label of the target node
+     * @return true if there is a path between the two nodes
+     * @throws NullPointerException     if either label is null
+     * @throws IllegalArgumentException if either node does not belong to the
+     *                                  indexed graph
+     */
+    public boolean canReach(L label1, L label2) {
+        if (label1 == null || label2 == null) {
+            throw new NullPointerException("Label cannot be null.");
+        }
+        return this.canReach(new GraphNode<L>(label1), new GraphNode<L>(label2));
+    }
+
+    /**
+     * Updates the index after the edge from the node with index i to the node
+     * with index j has been added to the graph. If the edge closes a cycle
+     * between two different components the components merge, and the index is
+     * rebuilt; otherwise every component reaching node i gets the components
+     * reached by node j.
+     *
+     * @param i the index of the source node of the new edge
+     * @param j the index of the target node of the new edge
+     * @throws IndexOutOfBoundsException if either index is out of the bounds of
+     *                                   the indexed nodes
+     */
+    public void edgeAdded(int i, int j) {
+        this.checkIndex(i);
+        this.checkIndex(j);
+        int cu = this.component[i];
+        int cv = this.component[j];
+        if ((this.reach[cu][cv >>> 6] & (1L << cv)) != 0) {
+            return; // Nothing changes
+        }
+        if ((this.reach[cv][cu >>> 6] & (1L << cu)) != 0) {
+            this.rebuild(); // The components of i and j merge
+            return;
+        }
+        long[] targetRow = this.reach[cv];
+        for (int c = 0; c < this.componentCount; c++) {
+            if ((this.reach[c][cu >>> 6] & (1L << cu)) != 0) {
+                or(this.reach[c], targetRow);
+            }
+        }
+    }
+
+    /**
+     * Updates the index after the given edge has been added to the graph.
+     *
+     * @param edge the new edge
+     * @throws NullPointerException     if the edge is null
+     * @throws IllegalArgumentException if either node of the edge does not
+     *                                  belong to the indexed graph
+     * @see #edgeAdded(int, int)
+     */
+    public void edgeAdded(GraphEdge<L> edge) {
+        if (edge == null) {
+            throw new NullPointerException("Edge cannot be null.");
+        }
+        int i = this.requireIndex(edge.getNode1());
+        int j = this.requireIndex(edge.getNode2());
+        this.edgeAdded(i, j);
+        if (!edge.isDirected()) {
+            this.edgeAdded(j, i);
+        }
+    }
+
+    /**
+     * Returns the strongly connected component of the node with the given
+     * index. Components are numbered from 0 to componentCount() - 1 in the
+     * reverse topological order of the graph at the last rebuild: until an
+     * edge is added, a component can only reach components with a smaller
+     * number.
+     *
+     * @param i the index of the node
+     * @return the number of the component of the node
+     * @throws IndexOutOfBoundsException if the index is out of the bounds of
+     *                                   the indexed nodes
+     */
+    public int componentOf(int i) {
+        this.checkIndex(i);
+        return this.component[i];
+    }
+
+    /**
+     * @return the number of strongly connected components of the indexed graph
+     */
+    public int componentCount() {
+        return this.componentCount;
+    }
+
+    /**
+     * Returns an estimate of the memory occupied by the index, assuming 16
+     * bytes of header per array and 8 bytes per reference.
+     *
+     * @return the approximate number of bytes used by the index
+     */
+    public long memoryFootprint() {
+        long words = (this.componentCount + 63) >>> 6;
+        return 16L + 4L * this.n
+                + 16L + 8L * this.componentCount
+                + this.componentCount * (16L + 8L * words);
+    }
+
+    /*
+     * Adjacency lists, by node index, of the current state of the graph,
+     * which must have no holes in its indices.
+     */
+    static <L> int[][] successorsOf(Graph<L> graph) {
+        Graph.checkIndices(graph);
+        int n = graph.nodeCount();
+        int[][] successors = new int[n][];
+        for (int i = 0; i < n; i++) {
+            int k = 0;
+            int[] row = new int[graph.outDegree(i)];
+            for (GraphNode<L> target : graph.getAdjacentNodesOf(i)) {
+                if (k == row.length) {
+                    row = Arrays.copyOf(row, 2 * k + 1);
+                }
+                row[k++] = graph.getNodeIndexOf(target);
+            }
+            successors[i] = k == row.length ? row : Arrays.copyOf(row, k);
+        }
+        return successors;
+    }
+
+    private static void or(long[] row, long[] other) {
+        for (int w = 0; w < row.length; w++) {
+            row[w] |= other[w];
+        }
+    }
+
+    private int requireIndex(GraphNode<L> node) {
+        int index = this.graph.getNodeIndexOf(node);
+        if (index < 0 || index >= this.n) {
+            throw new IllegalArgumentException("Node not found in the indexed graph.");
+        }
+        return index;
+    }
+
+    private void checkIndex(int i) {
+        if (i < 0 || i >= this.n) {
+            throw new IndexOutOfBoundsException("Index out of bounds: " + i);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package it.unicam.cs.asdl2425;
+
+/**
+ * <h3>Counters of the work done by a {@link DijkstraShortestPathComputer}.</h3>
+ * <br/>
+ * <p>
+ * The object is attached to a computer with
+ * {@link DijkstraShortestPathComputer#setMetrics(ShortestPathMetrics)}, which
+ * also attaches its {@link HeapMetrics} to the priority queue of the computer.
+ * While no object is attached the computer does not read the clock nor update
+ * any counter. The counters are cumulative over all the computations until
+ * {@link #reset()}; {@link #snapshot()} copies them into an immutable object
+ * that can be logged or exported.</p>
+ * <br/>
+ * <p>
+ * If {@link #setFlightRecorderEnabled(boolean)} is set, every computation also
+ * commits a {@code ShortestPathMetrics} event to Java Flight Recorder with the
+ * counters of that computation, so that they can be correlated with GC and CPU
+ * activity in a recording. The option has no effect on runtimes without JFR.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public final class ShortestPathMetrics {
+
+    private final HeapMetrics heapMetrics = new HeapMetrics();
+
+    long computations;
+
+    long nodesSettled;
+
+    long edgesRelaxed;
+
+    long initializationNanos;
+
+    long searchNanos;
+
+    private boolean flightRecorderEnabled;
+
+    /**
+     * @return the counters of the priority queue of the computer
+     */
+    public HeapMetrics getHeapMetrics() {
+        return this.heapMetrics;
+    }
+
+    /**
+     * @return the number of single source computations
+     */
+    public long getComputations() {
+        return this.computations;
+    }
+
+    /**
+     * @return the number of nodes extracted from the queue with their final
+     *         distance
+     */
+    public long getNodesSettled() {
+        return this.nodesSettled;
+    }
+
+    /**
+     * @return the number of edges examined to relax the distance of their
+     *         target
+     */
+    public long getEdgesRelaxed() {
+        return this.edgesRelaxed;
+    }
+
+    /**
+     * @return the wall time, in nanoseconds, spent initializing the distances
+     *         and the queue
+     */
+    public long getInitializationNanos() {
+        return this.initializationNanos;
+    }
+
+    /**
+     * @return the wall time, in nanoseconds, spent in the main loop of the
+     *         algorithm
+     */
+    public long getSearchNanos() {
+        return this.searchNanos;
+    }
+
+    /**
+     * @return true if every computation commits a JFR event
+     */
+    public boolean isFlightRecorderEnabled() {
+        return this.flightRecorderEnabled;
+    }
+
+    /**
+     * Enables or disables the JFR event committed at the end of every
+     * computation. It is ignored if the runtime does not provide JFR.
+     *
+     * @param enabled true to commit the events
+     */
+    public void setFlightRecorderEnabled(boolean enabled) {
+        this.flightRecorderEnabled = enabled && FlightRecorderSupport.AVAILABLE;
+    }
+
+    /**
+     * Sets all the counters, including the heap ones, to zero.
+     */
+    public void reset() {
+        this.computations = 0;
+        this.nodesSettled = 0;
+        this.edgesRelaxed = 0;
+        this.initializationNanos = 0;
+        this.searchNanos = 0;
+        this.heapMetrics.reset();
+    }
+
+    /**
+     * @return an immutable copy of the current value of the counters
+     */
+    public Snapshot snapshot() {
+        return new Snapshot(this);
+    }
+
+    @Override
+    public String toString() {
+        return this.snapshot().toString();
+    }
+
+    /**
+     * Immutable copy of the counters of a {@link ShortestPathMetrics} object,
+     * heap counters included.
+     */
+    public static final class Snapshot {
+
+        private final long computations;
+
+        private final long nodesSettled;
+
+        private final long edgesRelaxed;
+
+        private final long inserts;
+
+        private final long extractions;
+
+        private final long decreasePriorityCalls;
+
+        private final int maxHeapSize;
+
+        private final long initializationNanos;
+
+        private final long searchNanos;
+
+        private Snapshot(ShortestPathMetrics metrics) {
+            this.computations = metrics.computations;
+            this.nodesSettled = metrics.nodesSettled;
+            this.edgesRelaxed = metrics.edgesRelaxed;
+            this.inserts = metrics.heapMetrics.inserts;
+            this.extractions = metrics.heapMetrics.extractions;
+            this.decreasePriorityCalls = metrics.heapMetrics.decreasePriorityCalls;
+            this.maxHeapSize = metrics.heapMetrics.maxSize;
+            this.initializationNanos = metrics.initializationNanos;
+            this.searchNanos = metrics.searchNanos;
+        }
+
+        public long getComputations() {
+            return this.computations;
+        }
+
+        public long getNodesSettled() {
+            return this.nodesSettled;
+        }
+
+        public long getEdgesRelaxed() {
+            return this.edgesRelaxed;
+        }
+
+        public long getInserts() {
+            return this.inserts;
+        }
+
+        public long getExtractions() {
+            return this.extractions;
+        }
+
+        public long getDecreasePriorityCalls() {
+            return this.decreasePriorityCalls;
+        }
+
+        public int getMaxHeapSize() {
+            return this.maxHeapSize;
+        }
+
+        public long getInitializationNanos() {
+            return this.initializationNanos;
+        }
+
+        public long getSearchNanos() {
+            return this.searchNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "ShortestPathMetrics [computations=" + this.computations
+                    + ", nodesSettled=" + this.nodesSettled
+                    + ", edgesRelaxed=" + this.edgesRelaxed
+                    + ", inserts=" + this.inserts
+                    + ", extractions=" + this.extractions
+                    + ", decreasePriorityCalls=" + this.decreasePriorityCalls
+                    + ", maxHeapSize=" + this.maxHeapSize
+                    + ", initializationNanos=" + this.initializationNanos
+                    + ", searchNanos=" + this.searchNanos + "]";
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package it.unicam.cs.asdl2425;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/*
+ * Counters of a single source computation, committed when the metrics of the
+ * computer have the Flight Recorder option enabled.
+ */
+@Name("it.unicam.cs.asdl2425.ShortestPathMetrics")
+@Label("Shortest Path Metrics")
+@Category({"Graph", "Shortest Paths"})
+@Description("Work done by a single source shortest path computation")
+class ShortestPathMetricsEvent extends Event {
+
+    @Label("Source")
+    String source;
+
+    @Label("Computation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long computationTime;
+
+    @Label("Nodes Settled")
+    long nodesSettled;
+
+    @Label("Edges Relaxed")
+    long edgesRelaxed;
+
+    @Label("Heap Inserts")
+    long inserts;
+
+    @Label("Heap Extractions")
+    long extractions;
+
+    @Label("Decrease Priority Calls")
+    long decreasePriorityCalls;
+
+    @Label("Maximum Heap Size")
+    int maxHeapSize;
+}
@@ -0,0 +1,34 @@
+package it.unicam.cs.asdl2425;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/*
+ * Shortest path query: either the computation of the paths from a source
+ * (no target) or the retrieval of the path to a target.
+ */
+@Name("it.unicam.cs.asdl2425.ShortestPathQuery")
+@Label("Shortest Path Query")
+@Category({"Graph", "Shortest Paths"})
+@Description("Computation of shortest paths from a source, or retrieval of the path to a target")
+class ShortestPathQueryEvent extends Event {
+
+    @Label("Computer Class")
+    String computerClass;
+
+    @Label("Source")
+    String source;
+
+    @Label("Target")
+    String target;
+
+    @Label("Nodes Settled")
+    long nodesSettled;
+
+    @Label("Path Length")
+    @Description("Number of edges of the path to the target, -1 if there is no target or no path")
+    int pathLength;
+}
@@ -0,0 +1,179 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Arrays;
+
+/**
+ * <h3>Compact, immutable shortest path tree of a single source.</h3>
+ * <br/>
+ * <p>
+ * The tree is stored as two arrays indexed by node index: the distance of each
+ * node from the source and the index of its predecessor on a shortest path, or
+ * -1 for the source and for the nodes that are not reachable. The tree refers to
+ * the node indices and to the version of the graph at the time it was computed
+ * (see {@link Graph#getVersion()}).</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public final class ShortestPathTree {
+
+    private final int source;
+
+    private final long version;
+
+    private final double[] distances;
+
+    private final int[] predecessors;
+
+    ShortestPathTree(int source, long version, double[] distances, int[] predecessors) {
+        this.source = source;
+        this.version = version;
+        this.distances = distances;
+        this.predecessors = predecessors;
+    }
+
+    /**
+     * Builds the tree from the state left in the nodes of a graph by a single
+     * source shortest path computation: the priority of each node is its
+     * distance and its previous node is its predecessor.
+     */
+    static <L> ShortestPathTree fromNodes(Graph<L> graph, GraphNode<L> source) {
+        int bound = 0;
+        for (GraphNode<L> node : graph.getNodes()) {
+            bound = Math.max(bound, graph.getNodeIndexOf(node) + 1);
+        }
+        double[] distances = new double[bound];
+        int[] predecessors = new int[bound];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Arrays.fill(predecessors, -1);
+        for (GraphNode<L> node : graph.getNodes()) {
+            int i = graph.getNodeIndexOf(node);
+            GraphNode<L> previous = node.getPrevious();
+            if (previous != null) {
+                distances[i] = node.getFloatingPointDistance();
+                predecessors[i] = graph.getNodeIndexOf(previous);
+            }
+        }
+        int s = graph.getNodeIndexOf(source);
+        distances[s] = 0.0;
+        predecessors[s] = -1;
+        return new ShortestPathTree(s, graph.getVersion(), distances, predecessors);
+    }
+
+    /**
+     * @return the index of the source node
+     */
+    public int getSource() {
+        return this.source;
+    }
+
+    /**
+     * @return the version of the graph the tree was computed on
+     */
+    public long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * @return the number of node indices covered by the tree
+     */
+    public int size() {
+        return this.distances.length;
+    }
+
+    /**
+     * @param i the index of a node
+     * @return the distance of the node from the source, or
+     * {@code Double.POSITIVE_INFINITY} if it is not reachable
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public double getDistance(int i) {
+        return this.distances[i];
+    }
+
+    /**
+     * @param i the index of a node
+     * @return the index of the predecessor of the node on a shortest path from
+     * the source, or -1 if the node is the source or is not reachable
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int getPredecessor(int i) {
+        return this.predecessors[i];
+    }
+
+    /**
+     * @param i the index of a node
+     * @return true if the node is reachable from the source
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public boolean hasPathTo(int i) {
+        return i == this.source || this.predecessors[i] >= 0;
+    }
+
+    /**
+     * Returns the indices of the nodes of a shortest path from the source to the
+     * given node, both included.
+     *
+     * @param i the index of the target node
+     * @return the nodes of the path, in order, or null if the node is not
+     * reachable
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int[] pathTo(int i) {
+        int count = PathView.countNodes(this.predecessors, this.source, i);
+        if (count < 0) {
+            return null;
+        }
+        int[] path = new int[count];
+        PathView.write(this.predecessors, i, path, count);
+        return path;
+    }
+
+    /**
+     * Writes the indices of the nodes of a shortest path from the source to the
+     * given node into the first positions of the given buffer, without
+     * allocating anything. If the buffer is too short nothing is written and
+     * the returned count, greater than the length of the buffer, tells how long
+     * it must be.
+     *
+     * @param i      the index of the target node
+     * @param buffer the array receiving the nodes of the path
+     * @return the number of nodes of the path, or -1 if the node is not
+     * reachable
+     * @throws NullPointerException      if the buffer is null
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int pathTo(int i, int[] buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("The buffer cannot be null.");
+        }
+        return PathView.copyPath(this.predecessors, this.source, i, buffer);
+    }
+
+    /**
+     * Loads a shortest path from the source to the given node, and its length,
+     * into the given view.
+     *
+     * @param i    the index of the target node
+     * @param view the view receiving the path
+     * @return true if the node is reachable, false otherwise, in which case the
+     * view is left empty
+     * @throws NullPointerException      if the view is null
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public boolean pathTo(int i, PathView view) {
+        if (view == null) {
+            throw new NullPointerException("The view cannot be null.");
+        }
+        return view.load(this.predecessors, this.source, i, this.distances[i]);
+    }
+
+    /**
+     * Returns an estimate of the memory occupied by the tree, assuming 16 bytes
+     * of header per object or array.
+     *
+     * @return the approximate number of bytes used by the tree
+     */
+    public long memoryFootprint() {
+        return 40L + 16L + 8L * this.distances.length + 16L + 4L * this.predecessors.length;
+    }
+}
@@ -0,0 +1,234 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h3>Cache of the shortest path trees of the most recently used sources.</h3>
+ * <br/>
+ * <p>
+ * The cache wraps a {@link SingleSourceShortestPathComputer}: the first request
+ * for a source runs the computer and stores the result as a compact
+ * {@link ShortestPathTree}, the following ones are answered from the stored
+ * tree. Trees are kept in least recently used order and the least recently used
+ * ones are evicted as soon as their total size exceeds the memory budget given
+ * at creation time.</p>
+ * <br/>
+ * <p>
+ * Before every access the cache compares the version of the graph (see
+ * {@link Graph#getVersion()}) with the one the trees were computed on, and
+ * drops all of them if the graph has changed. Changes not tracked by the
+ * version, such as weights modified directly on the edges, require an explicit
+ * call to {@link #invalidate()}.</p>
+ * <br/>
+ * <p>
+ * All the methods are synchronized, so a cache can be shared by many threads;
+ * computations are serialized since they share the state of the nodes of the
+ * graph.</p>
+ *
+ * @param <L> type of the labels of the nodes of the graph
+ * @author Pilade Jr Tomassini
+ */
+public class ShortestPathTreeCache<L> {
+
+    private final SingleSourceShortestPathComputer<L> computer;
+
+    private final Graph<L> graph;
+
+    private final long memoryBudget;
+
+    // trees by source index, in access order
+    private final LinkedHashMap<Integer, ShortestPathTree> trees;
+
+    private long memoryUsage;
+
+    private long version;
+
+    private long hits;
+
+    private long misses;
+
+    private long evictions;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param computer     the computer used to build the missing trees
+     * @param memoryBudget the maximum number of bytes occupied by the stored
+     *                     trees, as estimated by
+     *                     {@link ShortestPathTree#memoryFootprint()}
+     * @throws NullPointerException     if the computer is null
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public ShortestPathTreeCache(SingleSourceShortestPathComputer<L> computer, long memoryBudget) {
+        if (computer == null) {
+            throw new NullPointerException("The computer cannot be null.");
+        }
+        if (memoryBudget < 0) {
+            throw new IllegalArgumentException("The memory budget cannot be negative.");
+        }
+        this.computer = computer;
+        this.graph = computer.getGraph();
+        this.memoryBudget = memoryBudget;
+        this.trees = new LinkedHashMap<>(16, 0.75f, true);
+        this.version = this.graph.getVersion();
+    }
+
+    /**
+     * Returns the shortest path tree of the given source, computing it if it is
+     * not in the cache. A tree larger than the whole budget is returned but not
+     * stored.
+     *
+     * @param source the source node
+     * @return the shortest path tree of the source
+     * @throws NullPointerException     if the source is null
+     * @throws IllegalArgumentException if the source does not belong to the
+     *                                  graph
+     */
+    public synchronized ShortestPathTree getTree(GraphNode<L> source) {
+        if (source == null) {
+            throw new NullPointerException("Source node cannot be null.");
+        }
+        int index = this.graph.getNodeIndexOf(source);
+        if (index < 0) {
+            throw new IllegalArgumentException("Source node not found in the graph.");
+        }
+        this.checkVersion();
+        ShortestPathTree tree = this.trees.get(index);
+        if (tree != null) {
+            this.hits++;
+            return tree;
+        }
+        this.misses++;
+        GraphNode<L> realSource = this.graph.getNode(index);
+        this.computer.computeShortestPathsFrom(realSource);
+        tree = ShortestPathTree.fromNodes(this.graph, realSource);
+        long footprint = tree.memoryFootprint();
+        if (footprint <= this.memoryBudget) {
+            this.trees.put(index, tree);
+            this.memoryUsage += footprint;
+            this.evict();
+        }
+        return tree;
+    }
+
+    /**
+     * Returns the shortest path tree of the node with the given label.
+     *
+     * @param label the label of the source node
+     * @return the shortest path tree of the source
+     * @throws NullPointerException     if the label is null
+     * @throws IllegalArgumentException if the source does not belong to the
+     *                                  graph
+     * @see #getTree(GraphNode)
+     */
+    public ShortestPathTree getTree(L label) {
+        if (label == null) {
+            throw new NullPointerException("Label cannot be null.");
+        }
+        return this.getTree(new GraphNode<L>(label));
+    }
+
+    /**
+     * Returns a shortest path between two nodes, using the cached tree of the
+     * source if there is one.
+     *
+     * @param source the source node
+     * @param target the target node
+     * @return the edges of a shortest path from source to target, an empty list
+     * if the two nodes are the same, or null if the target is not reachable
+     * @throws NullPointerException     if either node is null
+     * @throws IllegalArgumentException if either node does not belong to the
+     *                                  graph
+     */
+    public synchronized List<GraphEdge<L>> getShortestPath(GraphNode<L> source, GraphNode<L> target) {
+        if (target == null) {
+            throw new NullPointerException("Target node cannot be null.");
+        }
+        ShortestPathTree tree = this.getTree(source);
+        int j = this.graph.getNodeIndexOf(target);
+        if (j < 0 || j >= tree.size()) {
+            throw new IllegalArgumentException("Target node not found in the graph.");
+        }
+        int[] nodes = tree.pathTo(j);
+        if (nodes == null) {
+            return null;
+        }
+        List<GraphEdge<L>> path = new ArrayList<>(nodes.length - 1);
+        for (int k = 1; k < nodes.length; k++) {
+            path.add(this.graph.getEdge(nodes[k - 1], nodes[k]));
+        }
+        return path;
+    }
+
+    /**
+     * Drops all the stored trees.
+     */
+    public synchronized void invalidate() {
+        this.trees.clear();
+        this.memoryUsage = 0;
+        this.version = this.graph.getVersion();
+    }
+
+    /**
+     * @return the number of stored trees
+     */
+    public synchronized int size() {
+        this.checkVersion();
+        return this.trees.size();
+    }
+
+    /**
+     * @return the estimated number of bytes occupied by the stored trees
+     */
+    public synchronized long getMemoryUsage() {
+        this.checkVersion();
+        return this.memoryUsage;
+    }
+
+    /**
+     * @return the memory budget of this cache, in bytes
+     */
+    public long getMemoryBudget() {
+        return this.memoryBudget;
+    }
+
+    /**
+     * @return the number of requests answered with a stored tree
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * @return the number of requests that required a computation
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * @return the number of trees dropped to respect the memory budget
+     */
+    public synchronized long getEvictions() {
+        return this.evictions;
+    }
+
+    private void checkVersion() {
+        if (this.graph.getVersion() != this.version) {
+            this.invalidate();
+        }
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<Integer, ShortestPathTree>> it = this.trees.entrySet().iterator();
+        while (this.memoryUsage > this.memoryBudget && it.hasNext()) {
+            this.memoryUsage -= it.next().getValue().memoryFootprint();
+            it.remove();
+            this.evictions++;
+        }
+    }
+}
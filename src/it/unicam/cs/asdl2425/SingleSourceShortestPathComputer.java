@@ -124,4 +124,35 @@ public interface SingleSourceShortestPathComputer<L> {
         return s.toString();
     }
 
+    /**
+     * Returns a calculator suited to the given graph: a
+     * {@link DagShortestPathComputer}, which relaxes the edges in topological
+     * order without a priority queue and also accepts negative weights, if the
+     * graph is acyclic, a {@link DijkstraShortestPathComputer} otherwise. The
+     * order cannot be computed while the graph has nodes removed lazily and
+     * not yet compacted, so in that case Dijkstra's algorithm is chosen.
+     *
+     * @param graph
+     *                  the graph on which the calculator operates
+     * @param <L>
+     *                  the type of the labels of the graph nodes
+     * @return a calculator for the graph
+     * @throws NullPointerException
+     *                                      if the graph is null
+     * @throws IllegalArgumentException
+     *                                      if the chosen calculator does not
+     *                                      accept the graph, for example
+     *                                      because it is empty or has a
+     *                                      negative weight on a cycle
+     */
+    public static <L> SingleSourceShortestPathComputer<L> forGraph(Graph<L> graph) {
+        if (graph == null)
+            throw new NullPointerException("The graph cannot be null.");
+        boolean indexed = graph.indexBound() == graph.nodeCount();
+        int[] order = graph.isDirected() && indexed ? TopologicalOrder.of(graph) : null;
+        if (order != null)
+            return new DagShortestPathComputer<L>(graph, DagShortestPathComputer.Mode.SHORTEST, order);
+        return new DijkstraShortestPathComputer<L>(graph);
+    }
+
 }
@@ -0,0 +1,588 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Arrays;
+import java.util.concurrent.CountedCompleter;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <h3>Decomposition of a directed graph into its strongly connected
+ * components.</h3>
+ * <br/>
+ * <p>
+ * Two algorithms are available, both working on node indices:</p>
+ * <ul>
+ * <li>{@code tarjan}: an iterative version of Tarjan's algorithm, with the
+ * recursion replaced by an explicit stack, so that it does not overflow the
+ * call stack on long paths. It takes {@code O(n + m)} time and numbers the
+ * components in reverse topological order: a component only reaches
+ * components with a smaller number;</li>
+ * <li>{@code forwardBackward}: the forward-backward algorithm for multi-core
+ * use. Nodes without live predecessors or successors are first trimmed in
+ * parallel, each being a component by itself; then a pivot is picked, the
+ * nodes it reaches and the nodes reaching it are found, and their
+ * intersection is the component of the pivot. The three remaining sets,
+ * reached only, reaching only and neither, cannot share a component, so they
+ * are decomposed in parallel in the same way, down to a few thousand nodes,
+ * where Tarjan's algorithm restricted to the set takes over. Components are
+ * numbered in no particular order. Graphs made of long chains of small
+ * cycles are its worst case: every pivot removes little, and the time grows
+ * towards {@code O(n m)}.</li>
+ * </ul>
+ * <p>
+ * The result gives the component of every node and the condensation of the
+ * graph, the DAG with one node per component and an edge between two
+ * components when an edge of the graph joins them.</p>
+ *
+ * @author Pilade Jr Tomassini
+ */
+public final class StronglyConnectedComponents {
+
+    /*
+     * Subproblems with fewer nodes than this are decomposed with Tarjan's
+     * algorithm by the task that produced them instead of being forked.
+     */
+    private static final int FORK_THRESHOLD = 1 << 12;
+
+    /*
+     * Nodes handled by one task in the trimming rounds.
+     */
+    private static final int TRIM_GRAIN = 1 << 12;
+
+    /*
+     * Maximum number of trimming rounds: every round only removes the nodes
+     * left without live neighbours by the previous ones.
+     */
+    private static final int TRIM_ROUNDS = 3;
+
+    private final int[] component;
+
+    private final int componentCount;
+
+    private final int[][] successors;
+
+    private Graph<Integer> condensation;
+
+    private StronglyConnectedComponents(int[] component, int componentCount, int[][] successors) {
+        this.component = component;
+        this.componentCount = componentCount;
+        this.successors = successors;
+    }
+
+    /**
+     * Decomposes a graph with Tarjan's algorithm.
+     *
+     * @param graph the graph
+     * @param <L>   type of the labels of the nodes of the graph
+     * @return the components, in reverse topological order
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if the graph has removed nodes not yet
+     *                                  compacted
+     */
+    public static <L> StronglyConnectedComponents tarjan(Graph<L> graph) {
+        return tarjan(ReachabilityIndex.successorsOf(graph));
+    }
+
+    /**
+     * Decomposes a graph with Tarjan's algorithm.
+     *
+     * @param graph the graph
+     * @return the components, in reverse topological order
+     * @throws NullPointerException if the graph is null
+     */
+    public static StronglyConnectedComponents tarjan(IntGraph graph) {
+        return tarjan(graph.successorArrays());
+    }
+
+    /**
+     * Decomposes a graph with the forward-backward algorithm in the common
+     * pool.
+     *
+     * @param graph the graph
+     * @param <L>   type of the labels of the nodes of the graph
+     * @return the components
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if the graph has removed nodes not yet
+     *                                  compacted
+     */
+    public static <L> StronglyConnectedComponents forwardBackward(Graph<L> graph) {
+        return forwardBackward(ReachabilityIndex.successorsOf(graph), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decomposes a graph with the forward-backward algorithm in the given
+     * pool.
+     *
+     * @param graph the graph
+     * @param pool  the pool running the decomposition
+     * @param <L>   type of the labels of the nodes of the graph
+     * @return the components
+     * @throws NullPointerException     if the graph or the pool is null
+     * @throws IllegalArgumentException if the graph has removed nodes not yet
+     *                                  compacted
+     */
+    public static <L> StronglyConnectedComponents forwardBackward(Graph<L> graph, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new NullPointerException("The pool cannot be null.");
+        }
+        return forwardBackward(ReachabilityIndex.successorsOf(graph), pool);
+    }
+
+    /**
+     * Decomposes a graph with the forward-backward algorithm in the given
+     * pool.
+     *
+     * @param graph the graph
+     * @param pool  the pool running the decomposition
+     * @return the components
+     * @throws NullPointerException if the graph or the pool is null
+     */
+    public static StronglyConnectedComponents forwardBackward(IntGraph graph, ForkJoinPool pool) {
+        if (pool == null) {
+            throw new NullPointerException("The pool cannot be null.");
+        }
+        return forwardBackward(graph.successorArrays(), pool);
+    }
+
+    /**
+     * @return the number of components
+     */
+    public int componentCount() {
+        return this.componentCount;
+    }
+
+    /**
+     * @return the number of nodes of the decomposed graph
+     */
+    public int nodeCount() {
+        return this.component.length;
+    }
+
+    /**
+     * @param i the index of a node
+     * @return the number of the component of the node, from 0 to
+     * componentCount() - 1
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int componentOf(int i) {
+        if (i < 0 || i >= this.component.length) {
+            throw new IndexOutOfBoundsException("Node index out of bounds: " + i);
+        }
+        return this.component[i];
+    }
+
+    /**
+     * @return a new array with the component of every node, indexed by node
+     */
+    public int[] getComponents() {
+        return this.component.clone();
+    }
+
+    /**
+     * @return a new array with the number of nodes of every component, indexed
+     * by component
+     */
+    public int[] getComponentSizes() {
+        int[] sizes = new int[this.componentCount];
+        for (int c : this.component) {
+            sizes[c]++;
+        }
+        return sizes;
+    }
+
+    /**
+     * Returns the condensation of the decomposed graph: node c, labelled c,
+     * stands for component c, and there is an unweighted edge from c to d if
+     * an edge of the graph goes from a node of c to a node of d. The
+     * condensation is built on the first call, from the edges of the graph at
+     * the time of the decomposition, and then returned again; it is backed by
+     * an {@link IntGraph}, so its nodes cannot be removed.
+     *
+     * @return the condensation, a DAG
+     */
+    public synchronized Graph<Integer> condensation() {
+        if (this.condensation == null) {
+            IntGraph dag = new IntGraph(this.componentCount);
+            int[] lastSource = new int[this.componentCount];
+            Arrays.fill(lastSource, -1);
+            // visiting the nodes by component marks each target once per source
+            for (int i : nodesByComponent(this.component, this.componentCount)) {
+                int c = this.component[i];
+                for (int j : this.successors[i]) {
+                    int d = this.component[j];
+                    if (d != c && lastSource[d] != c) {
+                        lastSource[d] = c;
+                        dag.addEdge(c, d);
+                    }
+                }
+            }
+            this.condensation = dag.asGraph();
+        }
+        return this.condensation;
+    }
+
+    /*
+     * Iterative Tarjan's algorithm on adjacency lists by node index.
+     */
+    static StronglyConnectedComponents tarjan(int[][] successors) {
+        int n = successors.length;
+        int[] component = new int[n];
+        int[] lowLink = new int[n];
+        int[] order = new int[n]; // 0 = not visited, otherwise visit order + 1
+        int[] stack = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] callStack = new int[n];
+        int[] nextChild = new int[n];
+        int top = 0;
+        int counter = 0;
+        int components = 0;
+        for (int root = 0; root < n; root++) {
+            if (order[root] != 0) {
+                continue;
+            }
+            int depth = 0;
+            callStack[depth++] = root;
+            order[root] = lowLink[root] = ++counter;
+            stack[top++] = root;
+            onStack[root] = true;
+            while (depth > 0) {
+                int v = callStack[depth - 1];
+                if (nextChild[v] < successors[v].length) {
+                    int w = successors[v][nextChild[v]++];
+                    if (order[w] == 0) {
+                        order[w] = lowLink[w] = ++counter;
+                        stack[top++] = w;
+                        onStack[w] = true;
+                        callStack[depth++] = w;
+                    } else if (onStack[w]) {
+                        lowLink[v] = Math.min(lowLink[v], order[w]);
+                    }
+                    continue;
+                }
+                depth--;
+                if (lowLink[v] == order[v]) {
+                    int w;
+                    do {
+                        w = stack[--top];
+                        onStack[w] = false;
+                        component[w] = components;
+                    } while (w != v);
+                    components++;
+                }
+                if (depth > 0) {
+                    int parent = callStack[depth - 1];
+                    lowLink[parent] = Math.min(lowLink[parent], lowLink[v]);
+                }
+            }
+        }
+        return new StronglyConnectedComponents(component, components, successors);
+    }
+
+    /*
+     * Forward-backward decomposition on adjacency lists by node index.
+     */
+    static StronglyConnectedComponents forwardBackward(int[][] successors, ForkJoinPool pool) {
+        int n = successors.length;
+        int[][] predecessors = transpose(successors);
+        int[] component = new int[n];
+        Arrays.fill(component, -1);
+        AtomicInteger ids = new AtomicInteger();
+        // a node whose live successors or predecessors are all gone is not on
+        // a cycle; reading a neighbour trimmed in the same round is harmless
+        for (int round = 0; round < TRIM_ROUNDS; round++) {
+            AtomicInteger trimmed = new AtomicInteger();
+            RangeTask.forRange(pool, n, TRIM_GRAIN, (from, to) -> {
+                int count = 0;
+                for (int v = from; v < to; v++) {
+                    if (component[v] < 0
+                            && (!hasLive(successors[v], component) || !hasLive(predecessors[v], component))) {
+                        component[v] = ids.getAndIncrement();
+                        count++;
+                    }
+                }
+                trimmed.addAndGet(count);
+            });
+            if (trimmed.get() == 0) {
+                break;
+            }
+        }
+        int remaining = 0;
+        int[] nodes = new int[n - ids.get()];
+        for (int v = 0; v < n; v++) {
+            if (component[v] < 0) {
+                nodes[remaining++] = v;
+            }
+        }
+        if (remaining > 0) {
+            // colour 0 marks the nodes of the first subproblem, -1 the others
+            int[] color = new int[n];
+            for (int v = 0; v < n; v++) {
+                color[v] = component[v] < 0 ? 0 : -1;
+            }
+            pool.invoke(new Partition(null, new Decomposition(successors, predecessors,
+                    component, color, ids), nodes, 0));
+        }
+        return new StronglyConnectedComponents(component, ids.get(), successors);
+    }
+
+    /*
+     * Nodes sorted by component, by counting.
+     */
+    static int[] nodesByComponent(int[] component, int componentCount) {
+        int[] start = new int[componentCount + 1];
+        for (int c : component) {
+            start[c + 1]++;
+        }
+        for (int c = 0; c < componentCount; c++) {
+            start[c + 1] += start[c];
+        }
+        int[] nodes = new int[component.length];
+        for (int i = 0; i < component.length; i++) {
+            nodes[start[component[i]]++] = i;
+        }
+        return nodes;
+    }
+
+    /*
+     * The component array itself, for ReachabilityIndex.
+     */
+    int[] components() {
+        return this.component;
+    }
+
+    private static boolean hasLive(int[] neighbours, int[] component) {
+        for (int w : neighbours) {
+            if (component[w] < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int[][] transpose(int[][] successors) {
+        int n = successors.length;
+        int[] degree = new int[n];
+        for (int[] row : successors) {
+            for (int j : row) {
+                degree[j]++;
+            }
+        }
+        int[][] predecessors = new int[n][];
+        for (int i = 0; i < n; i++) {
+            predecessors[i] = new int[degree[i]];
+        }
+        Arrays.fill(degree, 0);
+        for (int i = 0; i < n; i++) {
+            for (int j : successors[i]) {
+                predecessors[j][degree[j]++] = i;
+            }
+        }
+        return predecessors;
+    }
+
+    /*
+     * State shared by the tasks of a forward-backward decomposition. Every
+     * subproblem has its own colour, held by its nodes and by no other node,
+     * so tasks working on different subproblems never interfere.
+     */
+    private static final class Decomposition {
+
+        private final int[][] successors;
+
+        private final int[][] predecessors;
+
+        private final int[] component;
+
+        private final int[] color;
+
+        private final AtomicInteger ids;
+
+        private final AtomicInteger colors = new AtomicInteger(1);
+
+        /*
+         * Scratch arrays of Tarjan's algorithm; every node is visited by one
+         * run only, so the runs of different tasks can share them.
+         */
+        private final int[] order;
+
+        private final int[] lowLink;
+
+        private final int[] nextChild;
+
+        Decomposition(int[][] successors, int[][] predecessors, int[] component, int[] color,
+                      AtomicInteger ids) {
+            this.successors = successors;
+            this.predecessors = predecessors;
+            this.component = component;
+            this.color = color;
+            this.ids = ids;
+            this.order = new int[component.length];
+            this.lowLink = new int[component.length];
+            this.nextChild = new int[component.length];
+        }
+
+        /*
+         * Tarjan's algorithm restricted to the nodes of colour c. A visited
+         * node is on the stack until it gets its component.
+         */
+        void tarjan(int[] nodes, int c) {
+            int[] color = this.color;
+            int[] order = this.order;
+            int[] lowLink = this.lowLink;
+            int[] nextChild = this.nextChild;
+            int[] stack = new int[nodes.length];
+            int[] callStack = new int[nodes.length];
+            int top = 0;
+            int counter = 0;
+            for (int root : nodes) {
+                if (order[root] != 0) {
+                    continue;
+                }
+                int depth = 0;
+                callStack[depth++] = root;
+                order[root] = lowLink[root] = ++counter;
+                stack[top++] = root;
+                while (depth > 0) {
+                    int v = callStack[depth - 1];
+                    int[] row = this.successors[v];
+                    if (nextChild[v] < row.length) {
+                        int w = row[nextChild[v]++];
+                        if (color[w] != c) {
+                            continue;
+                        }
+                        if (order[w] == 0) {
+                            order[w] = lowLink[w] = ++counter;
+                            stack[top++] = w;
+                            callStack[depth++] = w;
+                        } else if (this.component[w] < 0) {
+                            lowLink[v] = Math.min(lowLink[v], order[w]);
+                        }
+                        continue;
+                    }
+                    depth--;
+                    if (lowLink[v] == order[v]) {
+                        int id = this.ids.getAndIncrement();
+                        int w;
+                        do {
+                            w = stack[--top];
+                            this.component[w] = id;
+                        } while (w != v);
+                    }
+                    if (depth > 0) {
+                        int parent = callStack[depth - 1];
+                        lowLink[parent] = Math.min(lowLink[parent], lowLink[v]);
+                    }
+                }
+            }
+        }
+
+        /*
+         * Extracts the component of the first node of the subproblem and
+         * returns the remaining subproblems, with their nodes recoloured.
+         */
+        int[][] split(int[] nodes, int c, int[] colorsOut) {
+            int pivot = nodes[0];
+            int forward = this.colors.getAndIncrement();
+            int backward = this.colors.getAndIncrement();
+            int both = this.colors.getAndIncrement();
+            int[] queue = new int[nodes.length];
+            this.visit(this.successors, pivot, queue, c, forward, -1, -1);
+            this.visit(this.predecessors, pivot, queue, c, backward, forward, both);
+            int id = this.ids.getAndIncrement();
+            int[] counts = new int[3];
+            for (int v : nodes) {
+                int k = this.color[v];
+                if (k == both) {
+                    this.component[v] = id;
+                    this.color[v] = -1;
+                } else {
+                    counts[k == forward ? 0 : k == backward ? 1 : 2]++;
+                }
+            }
+            int[][] parts = {new int[counts[0]], new int[counts[1]], new int[counts[2]]};
+            Arrays.fill(counts, 0);
+            for (int v : nodes) {
+                int k = this.color[v];
+                if (k >= 0) {
+                    int p = k == forward ? 0 : k == backward ? 1 : 2;
+                    parts[p][counts[p]++] = v;
+                }
+            }
+            colorsOut[0] = forward;
+            colorsOut[1] = backward;
+            colorsOut[2] = c;
+            return parts;
+        }
+
+        /*
+         * Breadth-first visit from the pivot through the nodes of colour c,
+         * which become marked, and, if other is not -1, through the nodes of
+         * colour other, which become otherMarked. The pivot is marked by the
+         * first visit and otherMarked by the second.
+         */
+        private void visit(int[][] adjacency, int pivot, int[] queue, int c, int marked,
+                           int other, int otherMarked) {
+            int[] color = this.color;
+            color[pivot] = other < 0 ? marked : otherMarked;
+            queue[0] = pivot;
+            int head = 0;
+            int tail = 1;
+            while (head < tail) {
+                int u = queue[head++];
+                for (int w : adjacency[u]) {
+                    int k = color[w];
+                    if (k == c) {
+                        color[w] = marked;
+                        queue[tail++] = w;
+                    } else if (other >= 0 && k == other) {
+                        color[w] = otherMarked;
+                        queue[tail++] = w;
+                    }
+                }
+            }
+        }
+    }
+
+    /*
+     * Decomposes a subproblem: a large one is split around a pivot and its
+     * large parts are forked, a small one is handed to Tarjan's algorithm.
+     * Parts are forked without waiting for them, so the depth of the
+     * decomposition never reaches the call stack.
+     */
+    private static final class Partition extends CountedCompleter<Void> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Decomposition decomposition;
+
+        private final int[] nodes;
+
+        private final int color;
+
+        Partition(CountedCompleter<?> parent, Decomposition decomposition, int[] nodes, int color) {
+            super(parent);
+            this.decomposition = decomposition;
+            this.nodes = nodes;
+            this.color = color;
+        }
+
+        @Override
+        public void compute() {
+            if (this.nodes.length < FORK_THRESHOLD) {
+                this.decomposition.tarjan(this.nodes, this.color);
+            } else {
+                int[] colors = new int[3];
+                int[][] parts = this.decomposition.split(this.nodes, this.color, colors);
+                for (int p = 0; p < parts.length; p++) {
+                    if (parts[p].length >= FORK_THRESHOLD) {
+                        this.addToPendingCount(1);
+                        new Partition(this, this.decomposition, parts[p], colors[p]).fork();
+                    } else if (parts[p].length > 0) {
+                        this.decomposition.tarjan(parts[p], colors[p]);
+                    }
+                }
+            }
+            this.tryComplete();
+        }
+    }
+}
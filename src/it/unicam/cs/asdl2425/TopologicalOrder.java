@@ -0,0 +1,94 @@
+package it.unicam.cs.asdl2425;
+
+/**
+ * <h3>Topological ordering of directed acyclic graphs.</h3>
+ * <br/>
+ * <p>
+ * The order is computed with Kahn's algorithm in {@code O(n + m)}: nodes
+ * without ingoing edges are taken out one at a time, in the order they become
+ * free and by increasing index at the start, and their edges removed. If
+ * some node is never freed the graph has a cycle, and the methods report it
+ * by returning null, so the same pass both detects directed acyclic graphs
+ * and sorts them. Loops count as cycles.</p>
+ * <br/>
+ * <p>
+ * Orders are arrays of node indices, in which every edge goes from an earlier
+ * node to a later one.</p>
+ *
+ * @author Pilade Jr Tomassini
+ * @see DagShortestPathComputer
+ */
+public final class TopologicalOrder {
+
+    private TopologicalOrder() {
+    }
+
+    /**
+     * Computes a topological order of the nodes of a graph.
+     *
+     * @param graph the graph
+     * @param <L>   type of the labels of the nodes of the graph
+     * @return the indices of the nodes in topological order, or null if the
+     * graph has a cycle
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if the graph has removed nodes not yet
+     *                                  compacted
+     */
+    public static <L> int[] of(Graph<L> graph) {
+        return of(ReachabilityIndex.successorsOf(graph));
+    }
+
+    /**
+     * Computes a topological order of the nodes of a graph.
+     *
+     * @param graph the graph
+     * @return the nodes in topological order, or null if the graph has a cycle
+     * @throws NullPointerException if the graph is null
+     */
+    public static int[] of(IntGraph graph) {
+        return of(graph.successorArrays());
+    }
+
+    /**
+     * Determines if a graph is a directed acyclic graph.
+     *
+     * @param graph the graph
+     * @param <L>   type of the labels of the nodes of the graph
+     * @return true if the graph has no cycle
+     * @throws NullPointerException     if the graph is null
+     * @throws IllegalArgumentException if the graph has removed nodes not yet
+     *                                  compacted
+     */
+    public static <L> boolean isAcyclic(Graph<L> graph) {
+        return of(graph) != null;
+    }
+
+    /*
+     * Kahn's algorithm on adjacency lists by node index. The order array
+     * doubles as the queue of the freed nodes.
+     */
+    static int[] of(int[][] successors) {
+        int n = successors.length;
+        int[] inDegree = new int[n];
+        for (int[] row : successors) {
+            for (int j : row) {
+                inDegree[j]++;
+            }
+        }
+        int[] order = new int[n];
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        for (int head = 0; head < tail; head++) {
+            for (int j : successors[order[head]]) {
+                if (--inDegree[j] == 0) {
+                    order[tail++] = j;
+                }
+            }
+        }
+        return tail == n ? order : null;
+    }
+}
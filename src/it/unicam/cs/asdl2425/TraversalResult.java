@@ -0,0 +1,156 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Arrays;
+
+/**
+ * <h3>Result of a breadth-first or depth-first visit of a graph, stored in
+ * primitive arrays indexed by node index.</h3>
+ * <br/>
+ * <p>
+ * For every node the result gives the distance in edges from the root of its
+ * visit (for a depth-first visit, the depth in the tree of the visit), its
+ * parent in the tree of the visit and, for depth-first visits, the entering and
+ * exiting times, numbered from 1 as in the classic algorithm, so that a node
+ * is a descendant of another if and only if its interval of times is nested in
+ * the interval of the other. Nodes not reached have distance -1, parent -1 and
+ * times 0. The nodes are also available in the order they were reached.</p>
+ *
+ * @author Pilade Jr Tomassini
+ * @see GraphTraversal
+ */
+public final class TraversalResult {
+
+    private final int[] order;
+
+    private final int visited;
+
+    private final int[] distances;
+
+    private final int[] parents;
+
+    private final int[] enteringTimes;
+
+    private final int[] exitingTimes;
+
+    TraversalResult(int[] order, int visited, int[] distances, int[] parents,
+                    int[] enteringTimes, int[] exitingTimes) {
+        this.order = order;
+        this.visited = visited;
+        this.distances = distances;
+        this.parents = parents;
+        this.enteringTimes = enteringTimes;
+        this.exitingTimes = exitingTimes;
+    }
+
+    /**
+     * @return the number of nodes reached by the visit
+     */
+    public int visitedCount() {
+        return this.visited;
+    }
+
+    /**
+     * @param k a position, from 0 to visitedCount() - 1
+     * @return the index of the k-th node reached by the visit
+     * @throws IndexOutOfBoundsException if k is out of bounds
+     */
+    public int getVisited(int k) {
+        if (k < 0 || k >= this.visited) {
+            throw new IndexOutOfBoundsException("Position out of bounds: " + k);
+        }
+        return this.order[k];
+    }
+
+    /**
+     * @return a new array with the indices of the reached nodes, in the order
+     * they were reached
+     */
+    public int[] getOrder() {
+        return Arrays.copyOf(this.order, this.visited);
+    }
+
+    /**
+     * @param i the index of a node
+     * @return true if the node has been reached
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public boolean isVisited(int i) {
+        return this.distances[i] >= 0;
+    }
+
+    /**
+     * @param i the index of a node
+     * @return the number of edges between the root of the visit and the node
+     * in the tree of the visit, -1 if the node has not been reached
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int getDistance(int i) {
+        return this.distances[i];
+    }
+
+    /**
+     * @param i the index of a node
+     * @return the index of the parent of the node in the tree of the visit, -1
+     * for roots and nodes not reached
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int getParent(int i) {
+        return this.parents[i];
+    }
+
+    /**
+     * @return true if the visit was depth-first and recorded entering and
+     * exiting times
+     */
+    public boolean hasTimes() {
+        return this.enteringTimes != null;
+    }
+
+    /**
+     * @param i the index of a node
+     * @return the time the visit entered the node, 0 if it has not been
+     * reached
+     * @throws IllegalStateException     if the visit recorded no times
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int getEnteringTime(int i) {
+        this.checkTimes();
+        return this.enteringTimes[i];
+    }
+
+    /**
+     * @param i the index of a node
+     * @return the time the visit left the node, 0 if it has not been reached
+     * @throws IllegalStateException     if the visit recorded no times
+     * @throws IndexOutOfBoundsException if the index is out of bounds
+     */
+    public int getExitingTime(int i) {
+        this.checkTimes();
+        return this.exitingTimes[i];
+    }
+
+    /*
+     * Copies the result into the nodes of the graph, as a visit working on the
+     * nodes would have left them.
+     */
+    <L> void storeInto(Graph<L> graph) {
+        int n = this.distances.length;
+        for (int i = 0; i < n; i++) {
+            GraphNode<L> node = graph.getNode(i);
+            boolean reached = this.distances[i] >= 0;
+            node.setColor(reached ? GraphNode.COLOR_BLACK : GraphNode.COLOR_WHITE);
+            node.setIntegerDistance(this.distances[i]);
+            node.setPrevious(this.parents[i] >= 0 ? graph.getNode(this.parents[i]) : null);
+            if (this.enteringTimes != null) {
+                node.setEnteringTime(this.enteringTimes[i]);
+                node.setExitingTime(this.exitingTimes[i]);
+            }
+        }
+    }
+
+    private void checkTimes() {
+        if (this.enteringTimes == null) {
+            throw new IllegalStateException("Times are recorded only by depth-first visits.");
+        }
+    }
+}
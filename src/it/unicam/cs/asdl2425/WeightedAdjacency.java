@@ -0,0 +1,153 @@
+package it.unicam.cs.asdl2425;
+
+import java.util.Arrays;
+
+/**
+ * Snapshot of the weighted edges of a directed graph as index arrays: the
+ * edges leaving node u are the positions from start[u] to start[u + 1] - 1,
+ * each with its source, target, weight and the edge object of the graph.
+ * Used by the searches that run many Dijkstra visits on the same graph, so
+ * that they read no node or edge object and change no node field while
+ * searching; the snapshot is taken again when the version of the graph
+ * changes.
+ *
+ * @param <L> the type of the labels of the graph nodes
+ * @author Pilade Jr Tomassini
+ */
+final class WeightedAdjacency<L> {
+
+    final long version;
+
+    final int[] start;
+
+    final int[] source;
+
+    final int[] target;
+
+    final double[] weight;
+
+    private final Object[] edges;
+
+    /*
+     * Reads the edges of the graph, which must not have weights NaN or
+     * negative: the callers check them when they are created, so a bad weight
+     * here comes from a later change of the graph.
+     */
+    private WeightedAdjacency(Graph<L> graph) {
+        Graph.checkIndices(graph);
+        this.version = graph.getVersion();
+        int n = graph.nodeCount();
+        this.start = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            this.start[i + 1] = this.start[i] + graph.getEdgesOf(i).size();
+        }
+        int m = this.start[n];
+        this.source = new int[m];
+        this.target = new int[m];
+        this.weight = new double[m];
+        this.edges = new Object[m];
+        for (int i = 0; i < n; i++) {
+            int e = this.start[i];
+            for (GraphEdge<L> edge : graph.getEdgesOf(i)) {
+                double w = edge.getWeight();
+                if (!(w >= 0)) {
+                    throw new IllegalStateException("Found an edge with weight " + w + ".");
+                }
+                this.source[e] = i;
+                this.target[e] = graph.getNodeIndexOf(edge.getNode2());
+                this.weight[e] = w;
+                this.edges[e++] = edge;
+            }
+        }
+    }
+
+    private WeightedAdjacency(long version, int[] start, int[] source, int[] target, double[] weight,
+                              Object[] edges) {
+        this.version = version;
+        this.start = start;
+        this.source = source;
+        this.target = target;
+        this.weight = weight;
+        this.edges = edges;
+    }
+
+    /**
+     * Returns the snapshot of the graph with every edge reversed, for searches
+     * towards a node instead of from it. The edge objects are not reversed:
+     * {@code edge(e)} still returns the edge of the graph.
+     */
+    WeightedAdjacency<L> reversed() {
+        int n = this.nodeCount();
+        int m = this.edgeCount();
+        int[] start = new int[n + 1];
+        for (int v : this.target) {
+            start[v + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] source = new int[m];
+        int[] target = new int[m];
+        double[] weight = new double[m];
+        Object[] edges = new Object[m];
+        int[] next = Arrays.copyOf(start, n);
+        for (int e = 0; e < m; e++) {
+            int r = next[this.target[e]]++;
+            source[r] = this.target[e];
+            target[r] = this.source[e];
+            weight[r] = this.weight[e];
+            edges[r] = this.edges[e];
+        }
+        return new WeightedAdjacency<L>(this.version, start, source, target, weight, edges);
+    }
+
+    /**
+     * Returns the given snapshot if it is up to date with the graph, a new
+     * one otherwise.
+     */
+    static <L> WeightedAdjacency<L> of(Graph<L> graph, WeightedAdjacency<L> current) {
+        if (current != null && current.version == graph.getVersion()) {
+            return current;
+        }
+        return new WeightedAdjacency<L>(graph);
+    }
+
+    /**
+     * Checks that a graph can be searched with Dijkstra's algorithm, with the
+     * same messages as {@link DijkstraShortestPathComputer}, and that it can
+     * be read by index.
+     */
+    static <L> void checkGraph(Graph<L> graph) {
+        if (graph == null) {
+            throw new NullPointerException("The graph cannot be null.");
+        }
+        if (graph.nodeCount() == 0) {
+            throw new IllegalArgumentException("The graph cannot be empty.");
+        }
+        if (!graph.isDirected()) {
+            throw new IllegalArgumentException("The graph must be directed.");
+        }
+        for (GraphEdge<L> edge : graph.getEdges()) {
+            if (Double.isNaN(edge.getWeight())) {
+                throw new IllegalArgumentException("The graph must be weighted. Found an edge with weight NaN.");
+            }
+            if (edge.getWeight() < 0) {
+                throw new IllegalArgumentException("The graph cannot contain negative weights.");
+            }
+        }
+        Graph.checkIndices(graph);
+    }
+
+    int nodeCount() {
+        return this.start.length - 1;
+    }
+
+    int edgeCount() {
+        return this.target.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    GraphEdge<L> edge(int e) {
+        return (GraphEdge<L>) this.edges[e];
+    }
+}
@@ -4,6 +4,7 @@ import it.unicam.cs.asdl2425.AdjacencyMatrixDirectedGraph;
 import it.unicam.cs.asdl2425.Graph;
 import it.unicam.cs.asdl2425.GraphEdge;
 import it.unicam.cs.asdl2425.GraphNode;
+import it.unicam.cs.asdl2425.IndexRemapping;
 import org.junit.Test;
 
 import java.util.ArrayList;
@@ -702,4 +703,89 @@ public class AdjacencyMatrixDirectedGraphTest {
         g.addNode("e"); // Deve avere l'indice 3
         assertEquals(3, g.getNodeIndexOf("e"));
     }
+
+    @Test
+    public final void testDegreesAfterRemovals() {
+        Graph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addEdge("a", "b");
+        g.addEdge("a", "c");
+        g.addEdge("c", "b");
+        g.addEdge("b", "b");
+        assertEquals(4, g.edgeCount());
+        assertEquals(2, g.outDegree(0));
+        assertEquals(3, g.inDegree(1));
+        assertEquals(4, g.getDegreeOf("b"));
+
+        g.removeEdge("a", "b");
+        assertEquals(3, g.edgeCount());
+        assertEquals(1, g.outDegree(0));
+        assertEquals(2, g.inDegree(1));
+
+        // Rimuovendo "b" spariscono anche il cappio e l'arco (c, b)
+        g.removeNode("b");
+        assertEquals(1, g.edgeCount());
+        assertEquals(1, g.outDegree(0));
+        assertEquals(0, g.outDegree(1));
+        assertEquals(1, g.inDegree(1));
+        assertEquals(1, g.getDegreeOf(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> g.inDegree(2));
+
+        g.clear();
+        g.addNode("d");
+        assertEquals(0, g.edgeCount());
+        assertEquals(0, g.getDegreeOf("d"));
+    }
+
+    @Test
+    public final void testMarkNodeRemovedKeepsIndices() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addNode("d");
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        g.addEdge("c", "d");
+        g.addEdge("d", "b");
+        g.markNodeRemoved(1);
+        // Gli indici degli altri nodi non cambiano
+        assertEquals(3, g.nodeCount());
+        assertEquals(4, g.indexBound());
+        assertEquals(1, g.tombstoneCount());
+        assertEquals(2, g.getNodeIndexOf("c"));
+        assertEquals(3, g.getNodeIndexOf("d"));
+        assertEquals(1, g.edgeCount());
+        assertNull(g.getNode("b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> g.getNode(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> g.addEdge(0, 1));
+        assertEquals(0, g.outDegree(0));
+        assertEquals(1, g.inDegree(3));
+
+        // Un nuovo nodo prende l'indice successivo all'ultimo
+        g.addNode("e");
+        assertEquals(4, g.getNodeIndexOf("e"));
+        g.addEdge("e", "a");
+
+        double[] external = { 0.0, 1.0, 2.0, 3.0, 4.0 };
+        IndexRemapping remapping = g.compact();
+        assertEquals(0, g.tombstoneCount());
+        assertEquals(4, g.indexBound());
+        assertEquals(-1, remapping.newIndexOf(1));
+        assertEquals(1, remapping.newIndexOf(2));
+        assertEquals(3, remapping.newIndexOf(4));
+        assertEquals(1, g.getNodeIndexOf("c"));
+        assertEquals(3, g.getNodeIndexOf("e"));
+        double[] moved = remapping.apply(external);
+        assertEquals(4, moved.length);
+        assertEquals(2.0, moved[g.getNodeIndexOf("c")], 0.0);
+        assertEquals(4.0, moved[g.getNodeIndexOf("e")], 0.0);
+        assertNotNull(g.getEdge("c", "d"));
+        assertNotNull(g.getEdge("e", "a"));
+        assertEquals(2, g.edgeCount());
+        assertEquals(1, g.outDegree(3));
+        assertEquals(1, g.inDegree(0));
+    }
 }
@@ -2,6 +2,7 @@ package test.java.it.unicam.cs.asdl2425;
 
 import it.unicam.cs.asdl2425.BinaryHeapMinPriorityQueue;
 import it.unicam.cs.asdl2425.GraphNode;
+import it.unicam.cs.asdl2425.HeapMetrics;
 import it.unicam.cs.asdl2425.PriorityQueueElement;
 import org.junit.Test;
 
@@ -358,4 +359,28 @@ public class BinaryHeapMinPriorityQueueTest {
         assertEquals(node1, heap.extractMinimum());
         assertEquals(node3, heap.extractMinimum());
     }
+
+    @Test
+    public final void testMetricsAndHandles() {
+        BinaryHeapMinPriorityQueue heap = new BinaryHeapMinPriorityQueue();
+        HeapMetrics metrics = new HeapMetrics();
+        heap.setMetrics(metrics);
+        PriorityQueueElement[] nodes = new PriorityQueueElement[5];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new GraphNode<>(i);
+            nodes[i].setPriority(10 * (i + 1));
+            heap.insert(nodes[i]);
+        }
+        heap.extractMinimum();
+        // the element moved to the root must still be found by its handle
+        heap.decreasePriority(nodes[4], 1);
+        assertEquals(nodes[4], heap.extractMinimum());
+        assertEquals(5, metrics.getInserts());
+        assertEquals(2, metrics.getExtractions());
+        assertEquals(1, metrics.getDecreasePriorityCalls());
+        assertEquals(5, metrics.getMaxSize());
+        heap.setMetrics(null);
+        heap.extractMinimum();
+        assertEquals(2, metrics.getExtractions());
+    }
 }
@@ -0,0 +1,97 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the class BitSetDirectedGraph.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class BitSetDirectedGraphTest {
+
+    @Test
+    final void testAddAndRemoveEdges() {
+        BitSetDirectedGraph<String> g = new BitSetDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        assertTrue(g.addEdge("a", "b"));
+        assertFalse(g.addEdge("a", "b"));
+        assertTrue(g.addEdge("b", "c"));
+        assertTrue(g.addEdge("c", "c"));
+        assertEquals(3, g.edgeCount());
+        assertTrue(g.hasEdge(0, 1));
+        assertFalse(g.hasEdge(1, 0));
+        assertEquals(new GraphEdge<String>(new GraphNode<String>("a"), new GraphNode<String>("b"), true),
+                g.getEdge("a", "b"));
+        assertNull(g.getEdge("b", "a"));
+        g.removeEdge("a", "b");
+        assertEquals(2, g.edgeCount());
+        assertThrows(IllegalArgumentException.class, () -> g.removeEdge("a", "b"));
+        assertEquals(3, g.getDegreeOf("c"));
+    }
+
+    @Test
+    final void testWeightedEdgesRejected() {
+        BitSetDirectedGraph<String> g = new BitSetDirectedGraph<String>();
+        GraphNode<String> na = new GraphNode<String>("a");
+        GraphNode<String> nb = new GraphNode<String>("b");
+        g.addNode(na);
+        g.addNode(nb);
+        assertThrows(UnsupportedOperationException.class, () -> g.addWeightedEdge(na, nb, 1.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> g.addEdge(new GraphEdge<String>(na, nb, true, 1.0)));
+        assertThrows(IllegalArgumentException.class,
+                () -> g.addEdge(new GraphEdge<String>(na, nb, false)));
+    }
+
+    @Test
+    final void testRemoveNodeAcrossWords() {
+        BitSetDirectedGraph<Integer> g = new BitSetDirectedGraph<Integer>();
+        for (int i = 0; i < 200; i++) {
+            g.addNode(i);
+        }
+        for (int i = 0; i < 200; i++) {
+            g.addEdge(i, (i + 1) % 200);
+            g.addEdge(i, 64);
+        }
+        assertEquals(399, g.edgeCount());
+        g.removeNode(Integer.valueOf(64));
+        assertEquals(199, g.nodeCount());
+        // 200 edges into 64 and the edge 64 -> 65 are gone
+        assertEquals(198, g.edgeCount());
+        assertEquals(64, g.getNodeIndexOf(Integer.valueOf(65)));
+        assertNotNull(g.getEdge(Integer.valueOf(127), Integer.valueOf(128)));
+        assertNotNull(g.getEdge(Integer.valueOf(199), Integer.valueOf(0)));
+        assertNull(g.getEdge(Integer.valueOf(63), Integer.valueOf(65)));
+        assertArrayEquals(new int[]{127}, g.getSuccessorIndicesOf(126));
+        Set<GraphNode<Integer>> expected = new HashSet<GraphNode<Integer>>();
+        expected.add(new GraphNode<Integer>(129));
+        assertEquals(expected, g.getAdjacentNodesOf(Integer.valueOf(128)));
+        // node 65 has lost its only predecessor, node 66 keeps it
+        assertEquals(0, g.inDegree(64));
+        assertEquals(1, g.inDegree(65));
+    }
+
+    @Test
+    final void testPredecessors() {
+        BitSetDirectedGraph<String> g = new BitSetDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addEdge("a", "c");
+        g.addEdge("b", "c");
+        Set<GraphNode<String>> expected = new HashSet<GraphNode<String>>();
+        expected.add(new GraphNode<String>("a"));
+        expected.add(new GraphNode<String>("b"));
+        assertEquals(expected, g.getPredecessorNodesOf("c"));
+        assertEquals(2, g.getIngoingEdgesOf("c").size());
+        assertEquals(2, g.inDegree(2));
+    }
+}
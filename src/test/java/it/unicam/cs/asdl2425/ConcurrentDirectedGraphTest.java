@@ -0,0 +1,131 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the class ConcurrentDirectedGraph.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class ConcurrentDirectedGraphTest {
+
+    @Test
+    final void testEdgeCount() {
+        ConcurrentDirectedGraph<String> g = new ConcurrentDirectedGraph<String>();
+        assertTrue(g.isEmpty());
+        GraphNode<String> ns = new GraphNode<String>("s");
+        GraphNode<String> nu = new GraphNode<String>("u");
+        GraphNode<String> nx = new GraphNode<String>("x");
+        g.addNode(ns);
+        g.addNode(nu);
+        g.addNode(nx);
+        assertEquals(0, g.edgeCount());
+        assertTrue(g.addWeightedEdge(ns, nu, 10.1));
+        assertFalse(g.addWeightedEdge(ns, nu, 10.1));
+        assertTrue(g.addWeightedEdge(ns, nx, 5.12));
+        assertTrue(g.addEdge(nx, nx));
+        assertEquals(3, g.edgeCount());
+        g.removeEdge(ns, nu);
+        assertEquals(2, g.edgeCount());
+        assertThrows(IllegalArgumentException.class, () -> g.removeEdge(ns, nu));
+        assertEquals(5, g.size());
+    }
+
+    @Test
+    final void testRemoveNodeUpdatesIndicesAndEdges() {
+        ConcurrentDirectedGraph<String> g = new ConcurrentDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addWeightedEdge("a", "b", 1.0);
+        g.addWeightedEdge("b", "c", 2.0);
+        g.addWeightedEdge("c", "a", 3.0);
+        g.addWeightedEdge("b", "b", 4.0);
+        g.removeNode("b");
+        assertEquals(2, g.nodeCount());
+        assertEquals(1, g.edgeCount());
+        assertEquals(0, g.getNodeIndexOf("a"));
+        assertEquals(1, g.getNodeIndexOf("c"));
+        assertEquals(new GraphNode<String>("c"), g.getNode(1));
+        assertNotNull(g.getEdge("c", "a"));
+        assertNull(g.getEdge("a", "c"));
+        assertEquals(-1, g.getNodeIndexOf(new GraphNode<String>("b")));
+    }
+
+    @Test
+    final void testSetWeight() {
+        ConcurrentDirectedGraph<String> g = new ConcurrentDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addWeightedEdge("a", "b", 1.0);
+        g.setWeight(0, 1, 7.5);
+        assertEquals(7.5, g.getEdge("a", "b").getWeight(), 0.0);
+        assertThrows(IllegalArgumentException.class, () -> g.setWeight(1, 0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> g.setWeight(0, 1, -1.0));
+    }
+
+    @Test
+    final void testGrowthKeepsEdges() {
+        ConcurrentDirectedGraph<Integer> g = new ConcurrentDirectedGraph<Integer>();
+        for (int i = 0; i < 100; i++) {
+            g.addNode(i);
+            if (i > 0) {
+                g.addWeightedEdge(i - 1, i, i);
+            }
+        }
+        assertEquals(100, g.nodeCount());
+        assertEquals(99, g.edgeCount());
+        assertEquals(99.0, g.getEdge(98, 99).getWeight(), 0.0);
+        assertEquals(2, g.getDegreeOf(50));
+    }
+
+    @Test
+    final void testConcurrentEdgeInsertion() throws InterruptedException {
+        final ConcurrentDirectedGraph<Integer> g = new ConcurrentDirectedGraph<Integer>();
+        final int n = 64;
+        for (int i = 0; i < n; i++) {
+            g.addNode(i);
+        }
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < 4; t++) {
+            // every thread tries to insert every edge, only one must succeed
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < n; i++) {
+                    for (int j = 0; j < n; j++) {
+                        g.addWeightedEdge(i, j, 1.0);
+                    }
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(n * n, g.edgeCount());
+        assertEquals(n * n, g.getEdges().size());
+    }
+
+    @Test
+    final void testDijkstraOnConcurrentGraph() {
+        ConcurrentDirectedGraph<String> g = new ConcurrentDirectedGraph<String>();
+        g.addNode("s");
+        g.addNode("u");
+        g.addNode("x");
+        g.addWeightedEdge("s", "u", 10.0);
+        g.addWeightedEdge("s", "x", 2.0);
+        g.addWeightedEdge("x", "u", 3.0);
+        DijkstraShortestPathComputer<String> c = new DijkstraShortestPathComputer<String>(g);
+        c.computeShortestPathsFrom(new GraphNode<String>("s"));
+        List<GraphEdge<String>> path = c.getShortestPathTo(new GraphNode<String>("u"));
+        assertEquals(2, path.size());
+        assertEquals(new GraphNode<String>("x"), path.get(0).getNode2());
+    }
+}
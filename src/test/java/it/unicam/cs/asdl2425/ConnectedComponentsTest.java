@@ -0,0 +1,190 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the classes ConnectedComponents and ConcurrentUnionFind.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class ConnectedComponentsTest {
+
+    @Test
+    final void testUnionFind() {
+        ConcurrentUnionFind sets = new ConcurrentUnionFind(6);
+        assertEquals(6, sets.size());
+        assertTrue(sets.union(4, 2));
+        assertTrue(sets.union(2, 5));
+        assertFalse(sets.union(5, 4));
+        assertTrue(sets.sameSet(4, 5));
+        assertFalse(sets.sameSet(0, 5));
+        // the root of a set is its smallest element
+        assertEquals(2, sets.find(5));
+        assertEquals(3, sets.find(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> sets.find(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> sets.union(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentUnionFind(-1));
+    }
+
+    @Test
+    final void testConcurrentUnions() throws InterruptedException {
+        // every thread joins the same chain in a different order
+        int n = 100000;
+        ConcurrentUnionFind sets = new ConcurrentUnionFind(n);
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t;
+            threads[t] = new Thread(() -> {
+                for (int k = 0; k + 1 < n; k++) {
+                    int i = (k * 7919 + offset * 104729) % (n - 1);
+                    sets.union(i + 1, i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int i = 0; i < n; i++) {
+            assertEquals(0, sets.find(i));
+        }
+    }
+
+    @Test
+    final void testSmallGraph() {
+        // {a, b, c} joined by edges in both directions, {d, e}, {f}
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        for (String label : new String[]{"a", "b", "c", "d", "e", "f"}) {
+            g.addNode(label);
+        }
+        g.addEdge("b", "a");
+        g.addEdge("b", "c");
+        g.addEdge("e", "d");
+        g.addEdge("f", "f");
+        ConnectedComponents wcc = ConnectedComponents.of(g);
+        assertEquals(3, wcc.componentCount());
+        assertEquals(6, wcc.nodeCount());
+        assertEquals(0, wcc.componentOf(g.getNodeIndexOf("a")));
+        assertTrue(wcc.connected(g.getNodeIndexOf("a"), g.getNodeIndexOf("c")));
+        assertFalse(wcc.connected(g.getNodeIndexOf("c"), g.getNodeIndexOf("d")));
+        assertArrayEquals(new int[]{3, 2, 1}, wcc.getComponentSizes());
+        assertEquals(0, wcc.largestComponent());
+        assertThrows(IndexOutOfBoundsException.class, () -> wcc.componentOf(6));
+        assertThrows(IndexOutOfBoundsException.class, () -> wcc.restrictTo(3));
+        assertEquals(-1, ConnectedComponents.of(new IntGraph()).largestComponent());
+    }
+
+    @Test
+    final void testMatchesTraversal() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 1; seed <= 3; seed++) {
+                // below the percolation threshold: many fragments
+                GeneratedGraph generated = GraphGenerator.erdosRenyi(50000, 0.8 / 50000, seed);
+                IntGraph graph = IntGraph.of(generated);
+                int[] expected = undirectedComponents(graph);
+                assertSamePartition(expected, ConnectedComponents.of(graph, pool));
+                assertSamePartition(expected, ConnectedComponents.of(generated, pool));
+                assertSamePartition(expected, ConnectedComponents.of(graph.asGraph(), pool));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    final void testSubgraph() {
+        IntGraph graph = new IntGraph(6, 0.5);
+        graph.addEdge(0, 3, 1.0);
+        graph.addEdge(3, 5, 2.5);
+        graph.addEdge(5, 0);
+        graph.addEdge(1, 2, 4.0);
+        graph.addEdge(4, 4, 1.5);
+        ConnectedComponents wcc = ConnectedComponents.of(graph);
+        IndexRemapping remapping = wcc.restrictTo(wcc.largestComponent());
+        assertEquals(3, remapping.newSize());
+        assertEquals(-1, remapping.newIndexOf(1));
+        IntGraph largest = graph.subgraph(remapping);
+        assertEquals(3, largest.nodeCount());
+        assertEquals(3, largest.edgeCount());
+        assertEquals(IntGraph.WeightStorage.QUANTIZED, largest.getWeightStorage());
+        assertEquals(2.5, largest.getWeight(1, 2));
+        assertTrue(Double.isNaN(largest.getWeight(2, 0)));
+        assertEquals(1, largest.inDegree(0));
+        assertEquals(1, ConnectedComponents.of(largest).componentCount());
+        // the subgraph is independent of the original graph
+        largest.addEdge(0, 1);
+        assertFalse(graph.hasEdge(0, 1));
+        assertEquals(1, graph.subgraph(wcc.restrictTo(wcc.componentOf(4))).edgeCount());
+        assertThrows(IllegalArgumentException.class,
+                () -> graph.subgraph(new IndexRemapping(new int[]{0, 0, -1, -1, -1, -1}, 1)));
+        assertThrows(IllegalArgumentException.class, () -> graph.subgraph(IndexRemapping.identity(5)));
+    }
+
+    /*
+     * Components by breadth-first visits ignoring the direction of the edges.
+     */
+    private static int[] undirectedComponents(IntGraph graph) {
+        int n = graph.nodeCount();
+        IntGraph both = new IntGraph(n);
+        for (int i = 0; i < n; i++) {
+            for (int j : graph.getSuccessorsOf(i)) {
+                both.addEdge(i, j);
+                both.addEdge(j, i);
+            }
+        }
+        int[] component = new int[n];
+        Arrays.fill(component, -1);
+        int count = 0;
+        ArrayDeque<Integer> queue = new ArrayDeque<Integer>();
+        for (int s = 0; s < n; s++) {
+            if (component[s] >= 0) {
+                continue;
+            }
+            component[s] = count;
+            queue.add(s);
+            while (!queue.isEmpty()) {
+                for (int j : both.getSuccessorsOf(queue.poll())) {
+                    if (component[j] < 0) {
+                        component[j] = count;
+                        queue.add(j);
+                    }
+                }
+            }
+            count++;
+        }
+        return component;
+    }
+
+    private static void assertSamePartition(int[] expected, ConnectedComponents actual) {
+        assertEquals(expected.length, actual.nodeCount());
+        // both number the components by their smallest node
+        assertArrayEquals(expected, actual.getComponents());
+        int count = expected.length == 0 ? 0 : Arrays.stream(expected).max().getAsInt() + 1;
+        assertEquals(count, actual.componentCount());
+    }
+
+    @Test
+    final void testRemovedNodes() {
+        // with the hole last, c would be dropped instead of failing
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("c");
+        g.addNode("b");
+        g.addEdge("a", "c");
+        g.addEdge("c", "a");
+        g.markNodeRemoved(g.getNode("b"));
+        assertThrows(IllegalArgumentException.class, () -> ConnectedComponents.of(g));
+        g.compact();
+        ConnectedComponents wcc = ConnectedComponents.of(g);
+        assertEquals(2, wcc.nodeCount());
+        assertEquals(1, wcc.componentCount());
+    }
+}
@@ -0,0 +1,147 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the classes DagShortestPathComputer and TopologicalOrder.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class DagShortestPathComputerTest {
+
+    /*
+     * A small schedule: s -> a (3), s -> b (2), a -> c (4), b -> c (1),
+     * b -> d (-2), d -> c (6), c -> t (1). Nodes are added out of order.
+     */
+    private static AdjacencyMatrixDirectedGraph<String> schedule() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        for (String label : new String[]{"t", "c", "d", "a", "b", "s"}) {
+            g.addNode(label);
+        }
+        g.addWeightedEdge("s", "a", 3.0);
+        g.addWeightedEdge("s", "b", 2.0);
+        g.addWeightedEdge("a", "c", 4.0);
+        g.addWeightedEdge("b", "c", 1.0);
+        g.addWeightedEdge("b", "d", -2.0);
+        g.addWeightedEdge("d", "c", 6.0);
+        g.addWeightedEdge("c", "t", 1.0);
+        return g;
+    }
+
+    @Test
+    final void testTopologicalOrder() {
+        AdjacencyMatrixDirectedGraph<String> g = schedule();
+        int[] order = TopologicalOrder.of(g);
+        assertEquals(g.nodeCount(), order.length);
+        int[] position = new int[order.length];
+        for (int k = 0; k < order.length; k++) {
+            position[order[k]] = k;
+        }
+        for (GraphEdge<String> edge : g.getEdges()) {
+            assertTrue(position[g.getNodeIndexOf(edge.getNode1())]
+                    < position[g.getNodeIndexOf(edge.getNode2())]);
+        }
+        assertTrue(TopologicalOrder.isAcyclic(g));
+        g.addWeightedEdge("t", "s", 1.0);
+        assertNull(TopologicalOrder.of(g));
+        assertFalse(TopologicalOrder.isAcyclic(g));
+        IntGraph loop = new IntGraph(2);
+        loop.addEdge(1, 1);
+        assertNull(TopologicalOrder.of(loop));
+    }
+
+    @Test
+    final void testShortestPaths() {
+        AdjacencyMatrixDirectedGraph<String> g = schedule();
+        DagShortestPathComputer<String> computer = new DagShortestPathComputer<String>(g);
+        assertFalse(computer.isComputed());
+        assertThrows(IllegalStateException.class, () -> computer.getShortestPathTo(g.getNode("t")));
+        computer.computeShortestPathsFrom(g.getNode("s"));
+        assertEquals(g.getNode("s"), computer.getLastSource());
+        assertEquals(0.0, g.getNode("d").getFloatingPointDistance());
+        assertEquals(3.0, g.getNode("c").getFloatingPointDistance());
+        assertEquals(4.0, g.getNode("t").getFloatingPointDistance());
+        List<GraphEdge<String>> path = computer.getShortestPathTo(g.getNode("t"));
+        assertEquals(3, path.size());
+        assertEquals(g.getEdge("s", "b"), path.get(0));
+        assertEquals(g.getEdge("b", "c"), path.get(1));
+        assertTrue(computer.getShortestPathTo(g.getNode("s")).isEmpty());
+        // nodes before the source in topological order are unreachable
+        computer.computeShortestPathsFrom(g.getNode("b"));
+        assertEquals(Double.POSITIVE_INFINITY, g.getNode("a").getFloatingPointDistance());
+        assertNull(computer.getShortestPathTo(g.getNode("a")));
+        assertThrows(NullPointerException.class, () -> computer.computeShortestPathsFrom(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> computer.computeShortestPathsFrom(new GraphNode<String>("z")));
+    }
+
+    @Test
+    final void testLongestPaths() {
+        AdjacencyMatrixDirectedGraph<String> g = schedule();
+        DagShortestPathComputer<String> computer =
+                new DagShortestPathComputer<String>(g, DagShortestPathComputer.Mode.LONGEST);
+        assertEquals(DagShortestPathComputer.Mode.LONGEST, computer.getMode());
+        computer.computeShortestPathsFrom(g.getNode("s"));
+        assertEquals(8.0, g.getNode("t").getFloatingPointDistance());
+        List<GraphEdge<String>> path = computer.getShortestPathTo(g.getNode("t"));
+        assertEquals(3, path.size());
+        assertEquals(g.getEdge("s", "a"), path.get(0));
+        assertEquals(g.getEdge("a", "c"), path.get(1));
+        computer.computeShortestPathsFrom(g.getNode("c"));
+        assertEquals(Double.NEGATIVE_INFINITY, g.getNode("s").getFloatingPointDistance());
+    }
+
+    @Test
+    final void testGraphChanges() {
+        AdjacencyMatrixDirectedGraph<String> g = schedule();
+        DagShortestPathComputer<String> computer = new DagShortestPathComputer<String>(g);
+        // the order is computed again after a change
+        g.addWeightedEdge("s", "t", 0.5);
+        computer.computeShortestPathsFrom(g.getNode("s"));
+        assertEquals(0.5, g.getNode("t").getFloatingPointDistance());
+        g.addWeightedEdge("t", "s", 1.0);
+        assertThrows(IllegalStateException.class, () -> computer.computeShortestPathsFrom(g.getNode("s")));
+        assertThrows(IllegalArgumentException.class, () -> new DagShortestPathComputer<String>(g));
+        assertThrows(NullPointerException.class, () -> new DagShortestPathComputer<String>(null));
+    }
+
+    @Test
+    final void testForGraph() {
+        AdjacencyMatrixDirectedGraph<String> g = schedule();
+        assertTrue(SingleSourceShortestPathComputer.forGraph(g) instanceof DagShortestPathComputer);
+        // with a cycle, the negative weight must go for Dijkstra
+        g.removeEdge("b", "d");
+        g.addWeightedEdge("b", "d", 2.0);
+        g.addWeightedEdge("t", "s", 1.0);
+        SingleSourceShortestPathComputer<String> computer = SingleSourceShortestPathComputer.forGraph(g);
+        assertTrue(computer instanceof DijkstraShortestPathComputer);
+        computer.computeShortestPathsFrom(g.getNode("s"));
+        assertEquals(4.0, g.getNode("t").getFloatingPointDistance());
+        assertThrows(NullPointerException.class, () -> SingleSourceShortestPathComputer.forGraph(null));
+    }
+
+    @Test
+    final void testRemovedNodes() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addWeightedEdge("a", "c", 2.0);
+        g.markNodeRemoved(g.getNode("b"));
+        assertThrows(IllegalArgumentException.class, () -> TopologicalOrder.of(g));
+        assertThrows(IllegalArgumentException.class, () -> new DagShortestPathComputer<String>(g));
+        // the order cannot be computed, Dijkstra's algorithm reads the nodes
+        SingleSourceShortestPathComputer<String> computer = SingleSourceShortestPathComputer.forGraph(g);
+        assertTrue(computer instanceof DijkstraShortestPathComputer);
+        computer.computeShortestPathsFrom(g.getNode("a"));
+        assertEquals(2.0, g.getNode("c").getFloatingPointDistance());
+        g.compact();
+        assertArrayEquals(new int[]{0, 1}, TopologicalOrder.of(g));
+        assertTrue(SingleSourceShortestPathComputer.forGraph(g) instanceof DagShortestPathComputer);
+    }
+}
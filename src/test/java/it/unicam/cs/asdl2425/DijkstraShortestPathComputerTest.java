@@ -256,5 +256,57 @@ class DijkstraShortestPathComputerTest {
         assertEquals(new GraphEdge<>(b, c, true, 1.0), pathToD.get(1));
         assertEquals(new GraphEdge<>(c, d, true, 1.0), pathToD.get(2));
     }
-}
 
+    @Test
+    final void testMetrics() {
+        Graph<String> g = new AdjacencyMatrixDirectedGraph<>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addWeightedEdge("a", "b", 5.0);
+        g.addWeightedEdge("a", "c", 1.0);
+        g.addWeightedEdge("c", "b", 1.0);
+        DijkstraShortestPathComputer<String> dijkstra = new DijkstraShortestPathComputer<>(g);
+        ShortestPathMetrics metrics = new ShortestPathMetrics();
+        dijkstra.setMetrics(metrics);
+        dijkstra.computeShortestPathsFrom(new GraphNode<>("a"));
+        ShortestPathMetrics.Snapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.getComputations());
+        assertEquals(3, snapshot.getNodesSettled());
+        assertEquals(3, snapshot.getEdgesRelaxed());
+        assertEquals(3, snapshot.getInserts());
+        assertEquals(3, snapshot.getExtractions());
+        // b is improved twice: 5 from a, then 2 through c
+        assertEquals(3, snapshot.getDecreasePriorityCalls());
+        assertEquals(3, snapshot.getMaxHeapSize());
+        assertTrue(snapshot.getSearchNanos() >= 0);
+        dijkstra.setMetrics(null);
+        dijkstra.computeShortestPathsFrom(new GraphNode<>("a"));
+        assertEquals(1, metrics.getComputations());
+        assertEquals(2.0, g.getNode("b").getFloatingPointDistance(), 1e-9);
+    }
+
+    @Test
+    final void testAgainstBellmanFord() {
+        GeneratedGraph generated = GraphGenerator.erdosRenyi(120, 0.05, 9L);
+        Graph<Integer> g = generated.toGraph();
+        DijkstraShortestPathComputer<Integer> dijkstra = new DijkstraShortestPathComputer<>(g);
+        for (int source = 0; source < 120; source += 17) {
+            double[] dist = new double[120];
+            java.util.Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            dist[source] = 0.0;
+            for (int round = 1; round < 120; round++) {
+                for (int k = 0; k < generated.edgeCount(); k++) {
+                    double d = dist[generated.getSource(k)] + generated.getWeight(k);
+                    if (d < dist[generated.getTarget(k)]) {
+                        dist[generated.getTarget(k)] = d;
+                    }
+                }
+            }
+            dijkstra.computeShortestPathsFrom(new GraphNode<>(source));
+            for (int i = 0; i < 120; i++) {
+                assertEquals(dist[i], g.getNode(i).getFloatingPointDistance(), 1e-9);
+            }
+        }
+    }
+}
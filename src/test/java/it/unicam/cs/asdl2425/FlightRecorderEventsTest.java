@@ -0,0 +1,125 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import it.unicam.cs.asdl2425.*;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the Java Flight Recorder events emitted by the graphs, the
+ * shortest path computers and the priority queues.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class FlightRecorderEventsTest {
+
+    private static List<RecordedEvent> record(Runnable action) throws IOException {
+        Path file = Files.createTempFile("events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("it.unicam.cs.asdl2425.GraphMutation").withoutThreshold();
+            recording.enable("it.unicam.cs.asdl2425.ShortestPathQuery").withoutThreshold();
+            recording.enable("it.unicam.cs.asdl2425.HeapResize").withoutThreshold();
+            recording.enable("it.unicam.cs.asdl2425.ShortestPathMetrics").withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            List<RecordedEvent> events = new ArrayList<RecordedEvent>();
+            for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                if (event.getEventType().getName().startsWith("it.unicam.cs.asdl2425.")) {
+                    events.add(event);
+                }
+            }
+            return events;
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> named(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> result = new ArrayList<RecordedEvent>();
+        for (RecordedEvent event : events) {
+            if (event.getEventType().getName().equals("it.unicam.cs.asdl2425." + name)) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    final void testGraphMutationEvents() throws IOException {
+        List<RecordedEvent> events = record(() -> {
+            AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+            g.addNode("a");
+            g.addNode("b");
+            g.addNode("a"); // not a mutation
+            g.addWeightedEdge("a", "b", 1.0);
+            g.removeNode("a");
+        });
+        List<RecordedEvent> mutations = named(events, "GraphMutation");
+        assertEquals(4, mutations.size());
+        assertEquals("addEdge", mutations.get(2).getString("operation"));
+        assertEquals(1, mutations.get(2).getInt("edgeCount"));
+        assertEquals("removeNode", mutations.get(3).getString("operation"));
+        assertEquals(1, mutations.get(3).getInt("nodeCount"));
+        assertEquals(0, mutations.get(3).getInt("edgeCount"));
+        assertEquals("AdjacencyMatrixDirectedGraph", mutations.get(3).getString("graphClass"));
+    }
+
+    @Test
+    final void testShortestPathQueryAndHeapResizeEvents() throws IOException {
+        Graph<Integer> g = GraphGenerator.grid(5, 5).toGraph();
+        List<RecordedEvent> events = record(() -> {
+            DijkstraShortestPathComputer<Integer> dijkstra = new DijkstraShortestPathComputer<Integer>(g);
+            dijkstra.computeShortestPathsFrom(new GraphNode<Integer>(0));
+            dijkstra.getShortestPathTo(new GraphNode<Integer>(24));
+        });
+        List<RecordedEvent> queries = named(events, "ShortestPathQuery");
+        assertEquals(2, queries.size());
+        assertEquals("0", queries.get(0).getString("source"));
+        assertNull(queries.get(0).getString("target"));
+        assertEquals(25, queries.get(0).getLong("nodesSettled"));
+        assertEquals("24", queries.get(1).getString("target"));
+        assertEquals(8, queries.get(1).getInt("pathLength"));
+        // 25 elements: 10 -> 15 -> 22 -> 33
+        List<RecordedEvent> resizes = named(events, "HeapResize");
+        assertEquals(3, resizes.size());
+        assertEquals(33, resizes.get(2).getInt("newCapacity"));
+    }
+
+    @Test
+    final void testShortestPathMetricsEventsDescribeOneComputation() throws IOException {
+        Graph<Integer> large = GraphGenerator.grid(5, 5).toGraph();
+        Graph<Integer> small = GraphGenerator.grid(2, 2).toGraph();
+        ShortestPathMetrics metrics = new ShortestPathMetrics();
+        metrics.setFlightRecorderEnabled(true);
+        List<RecordedEvent> events = record(() -> {
+            // the two computers share the cumulative counters
+            DijkstraShortestPathComputer<Integer> first = new DijkstraShortestPathComputer<Integer>(large);
+            first.setMetrics(metrics);
+            first.computeShortestPathsFrom(new GraphNode<Integer>(0));
+            DijkstraShortestPathComputer<Integer> second = new DijkstraShortestPathComputer<Integer>(small);
+            second.setMetrics(metrics);
+            second.computeShortestPathsFrom(new GraphNode<Integer>(0));
+        });
+        List<RecordedEvent> computations = named(events, "ShortestPathMetrics");
+        assertEquals(2, computations.size());
+        assertEquals(25, computations.get(0).getLong("inserts"));
+        assertEquals(25, computations.get(0).getInt("maxHeapSize"));
+        RecordedEvent last = computations.get(1);
+        assertEquals(4, last.getLong("inserts"));
+        assertEquals(4, last.getLong("extractions"));
+        assertEquals(4, last.getInt("maxHeapSize"));
+        assertEquals(29, metrics.getHeapMetrics().getInserts());
+        assertEquals(25, metrics.getHeapMetrics().getMaxSize());
+    }
+}
@@ -0,0 +1,108 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.Set;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the class GraphGenerator.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class GraphGeneratorTest {
+
+    private static void assertSameGraph(GeneratedGraph expected, GeneratedGraph actual) {
+        assertEquals(expected.nodeCount(), actual.nodeCount());
+        assertEquals(expected.edgeCount(), actual.edgeCount());
+        for (int k = 0; k < expected.edgeCount(); k++) {
+            assertEquals(expected.getSource(k), actual.getSource(k));
+            assertEquals(expected.getTarget(k), actual.getTarget(k));
+            assertEquals(expected.getWeight(k), actual.getWeight(k), 0.0);
+        }
+    }
+
+    private static void assertSimple(GeneratedGraph g) {
+        Set<Long> seen = new HashSet<Long>();
+        for (int k = 0; k < g.edgeCount(); k++) {
+            assertNotEquals(g.getSource(k), g.getTarget(k));
+            assertTrue(seen.add(((long) g.getSource(k) << 32) | g.getTarget(k)));
+            assertTrue(k == 0 || g.getSource(k - 1) <= g.getSource(k));
+        }
+    }
+
+    @Test
+    final void testErdosRenyiIsDeterministic() {
+        GeneratedGraph g = GraphGenerator.erdosRenyi(500, 0.02, 7L);
+        assertSameGraph(g, GraphGenerator.erdosRenyi(500, 0.02, 7L));
+        assertSimple(g);
+        // expected 500 * 499 * 0.02 = 4990 edges
+        assertTrue(g.edgeCount() > 4500 && g.edgeCount() < 5500);
+        assertEquals(0, GraphGenerator.erdosRenyi(10, 0.0, 1L).edgeCount());
+        assertEquals(90, GraphGenerator.erdosRenyi(10, 1.0, 1L).edgeCount());
+        assertThrows(IllegalArgumentException.class, () -> GraphGenerator.erdosRenyi(10, 1.5, 1L));
+    }
+
+    @Test
+    final void testBarabasiAlbert() {
+        GeneratedGraph g = GraphGenerator.barabasiAlbert(1000, 3, 11L);
+        assertSameGraph(g, GraphGenerator.barabasiAlbert(1000, 3, 11L));
+        assertSimple(g);
+        assertEquals(2 * (6 + 996 * 3), g.edgeCount());
+    }
+
+    @Test
+    final void testGridAndRoadNetwork() {
+        GeneratedGraph grid = GraphGenerator.grid(4, 5);
+        assertEquals(20, grid.nodeCount());
+        assertEquals(2 * (4 * 4 + 5 * 3), grid.edgeCount());
+        assertEquals(3.0, grid.getX(8), 0.0);
+        assertEquals(1.0, grid.getY(8), 0.0);
+        GeneratedGraph road = GraphGenerator.roadNetwork(30, 30, 5L);
+        assertSameGraph(road, GraphGenerator.roadNetwork(30, 30, 5L));
+        assertSimple(road);
+        assertTrue(road.hasCoordinates());
+        for (int k = 0; k < road.edgeCount(); k++) {
+            int i = road.getSource(k);
+            int j = road.getTarget(k);
+            double length = Math.hypot(road.getX(i) - road.getX(j), road.getY(i) - road.getY(j));
+            assertTrue(road.getWeight(k) >= length);
+        }
+    }
+
+    @Test
+    final void testRmatAndComplete() {
+        GeneratedGraph g = GraphGenerator.rmat(10, 8, 0.57, 0.19, 0.19, 3L);
+        assertSameGraph(g, GraphGenerator.rmat(10, 8, 0.57, 0.19, 0.19, 3L));
+        assertSimple(g);
+        assertEquals(1024, g.nodeCount());
+        assertTrue(g.edgeCount() <= 8 * 1024);
+        GeneratedGraph complete = GraphGenerator.complete(20, 1L);
+        assertEquals(20 * 19, complete.edgeCount());
+        assertFalse(complete.hasCoordinates());
+        assertThrows(IllegalStateException.class, () -> complete.getX(0));
+    }
+
+    @Test
+    final void testLoadAndWrite() throws IOException {
+        GeneratedGraph g = GraphGenerator.erdosRenyi(50, 0.1, 2L);
+        Graph<Integer> graph = g.toGraph();
+        assertEquals(50, graph.nodeCount());
+        assertEquals(g.edgeCount(), graph.edgeCount());
+        assertEquals(g.getWeight(0), graph.getEdge(g.getSource(0), g.getTarget(0)).getWeight(), 0.0);
+        Graph<String> bits = g.loadInto(new BitSetDirectedGraph<String>(), i -> "n" + i, false);
+        assertEquals(g.edgeCount(), bits.edgeCount());
+        StringWriter out = new StringWriter();
+        GraphGenerator.grid(2, 2).writeTo(out);
+        String[] lines = out.toString().split("\n");
+        assertEquals("p 4 8", lines[0]);
+        assertEquals("v 3 1.0 1.0", lines[4]);
+        assertEquals("a 0 1 1.0", lines[5]);
+        assertEquals(13, lines.length);
+    }
+}
@@ -0,0 +1,148 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the class GraphReordering and for the reorder methods of
+ * the graphs.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class GraphReorderingTest {
+
+    /*
+     * Grid graph whose nodes are numbered in random order.
+     */
+    private static IntGraph shuffledGrid(int rows, int cols, long seed) {
+        GeneratedGraph grid = GraphGenerator.grid(rows, cols);
+        IntGraph g = IntGraph.of(grid);
+        int n = g.nodeCount();
+        int[] p = new int[n];
+        for (int i = 0; i < n; i++) {
+            p[i] = i;
+        }
+        Random random = new Random(seed);
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = p[i];
+            p[i] = p[j];
+            p[j] = t;
+        }
+        g.reorder(new IndexRemapping(p, n));
+        return g;
+    }
+
+    private static void assertPermutation(IndexRemapping permutation, int n) {
+        assertEquals(n, permutation.oldSize());
+        assertEquals(n, permutation.newSize());
+        boolean[] seen = new boolean[n];
+        for (int i = 0; i < n; i++) {
+            int p = permutation.newIndexOf(i);
+            assertFalse(seen[p]);
+            seen[p] = true;
+        }
+    }
+
+    @Test
+    final void testOrderingsReduceBandwidth() {
+        IntGraph g = shuffledGrid(30, 30, 5L);
+        int before = GraphReordering.bandwidth(g);
+        IndexRemapping bfs = GraphReordering.bfs(g);
+        IndexRemapping rcm = GraphReordering.reverseCuthillMcKee(g);
+        assertPermutation(bfs, 900);
+        assertPermutation(rcm, 900);
+        g.reorder(rcm);
+        int after = GraphReordering.bandwidth(g);
+        assertTrue(after < before / 4, "bandwidth " + before + " -> " + after);
+        assertTrue(after <= 2 * 30);
+        // reordering the same graph as a Graph<L> gives the same permutation
+        IndexRemapping again = GraphReordering.reverseCuthillMcKee(g.asGraph());
+        assertEquals(GraphReordering.reverseCuthillMcKee(g).newIndexOf(17), again.newIndexOf(17));
+    }
+
+    @Test
+    final void testReorderKeepsDistances() {
+        GeneratedGraph road = GraphGenerator.roadNetwork(20, 20, 11L);
+        IntGraph g = IntGraph.of(road);
+        IntDijkstraShortestPathComputer dijkstra = new IntDijkstraShortestPathComputer(g);
+        dijkstra.computeShortestPathsFrom(0);
+        double[] before = new double[g.nodeCount()];
+        for (int v = 0; v < before.length; v++) {
+            before[v] = dijkstra.getDistance(v);
+        }
+        IndexRemapping hilbert = GraphReordering.hilbert(road);
+        assertPermutation(hilbert, g.nodeCount());
+        int edges = g.edgeCount();
+        assertSame(hilbert, g.reorder(hilbert));
+        assertEquals(edges, g.edgeCount());
+        dijkstra.computeShortestPathsFrom(hilbert.newIndexOf(0));
+        double[] moved = hilbert.apply(before);
+        for (int v = 0; v < moved.length; v++) {
+            assertEquals(moved[v], dijkstra.getDistance(v), 1e-9);
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> g.reorder(new IndexRemapping(new int[g.nodeCount()], g.nodeCount())));
+    }
+
+    @Test
+    final void testHilbertLocality() {
+        // points of a 4 x 4 grid, listed by column: the curve visits
+        // neighbouring cells one after the other
+        double[] x = new double[16];
+        double[] y = new double[16];
+        for (int i = 0; i < 16; i++) {
+            x[i] = i / 4;
+            y[i] = i % 4;
+        }
+        int[] order = GraphReordering.hilbert(x, y).oldIndices();
+        for (int k = 1; k < 16; k++) {
+            double step = Math.abs(x[order[k]] - x[order[k - 1]]) + Math.abs(y[order[k]] - y[order[k - 1]]);
+            assertEquals(1.0, step);
+        }
+    }
+
+    @Test
+    final void testMatrixReorder() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addNode("d");
+        g.addWeightedEdge("a", "c", 1.0);
+        g.addWeightedEdge("c", "d", 2.0);
+        g.markNodeRemoved(1);
+        // a -> 2, b dropped, c -> 0, d -> 1
+        IndexRemapping p = new IndexRemapping(new int[]{2, -1, 0, 1}, 3);
+        g.reorder(p);
+        assertEquals(3, g.nodeCount());
+        assertEquals(2, g.getNodeIndexOf(new GraphNode<String>("a")));
+        assertEquals(0, g.getNodeIndexOf(new GraphNode<String>("c")));
+        assertEquals(1.0, g.getEdge(2, 0).getWeight());
+        assertEquals(2.0, g.getEdge(0, 1).getWeight());
+        assertEquals(1, g.outDegree(2));
+        assertEquals(1, g.inDegree(1));
+        assertEquals(2, g.edgeCount());
+        assertThrows(IllegalArgumentException.class,
+                () -> g.reorder(new IndexRemapping(new int[]{0, 0, 1}, 3)));
+    }
+
+    @Test
+    final void testRemovedNodes() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addEdge("a", "c");
+        g.addEdge("c", "a");
+        g.markNodeRemoved(g.getNode("b"));
+        assertThrows(IllegalArgumentException.class, () -> GraphReordering.bfs(g));
+        assertThrows(IllegalArgumentException.class, () -> GraphReordering.reverseCuthillMcKee(g));
+        g.compact();
+        assertEquals(2, GraphReordering.bfs(g).newSize());
+    }
+}
@@ -0,0 +1,178 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the classes GraphTraversal and TraversalResult.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class GraphTraversalTest {
+
+    /*
+     * a -> b -> d, a -> c -> d, d -> e; f unreachable from a.
+     */
+    private static AdjacencyMatrixDirectedGraph<String> diamond() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        for (String label : new String[]{"a", "b", "c", "d", "e", "f"}) {
+            g.addNode(label);
+        }
+        g.addEdge("a", "b");
+        g.addEdge("a", "c");
+        g.addEdge("b", "d");
+        g.addEdge("c", "d");
+        g.addEdge("d", "e");
+        g.addEdge("f", "a");
+        return g;
+    }
+
+    @Test
+    final void testBreadthFirstFrom() {
+        AdjacencyMatrixDirectedGraph<String> g = diamond();
+        TraversalResult result = new GraphTraversal<String>(g).breadthFirstFrom(0);
+        assertEquals(5, result.visitedCount());
+        assertEquals(0, result.getVisited(0));
+        assertEquals(0, result.getDistance(0));
+        assertEquals(1, result.getDistance(1));
+        assertEquals(1, result.getDistance(2));
+        assertEquals(2, result.getDistance(3));
+        assertEquals(3, result.getDistance(4));
+        assertEquals(-1, result.getDistance(5));
+        assertFalse(result.isVisited(5));
+        assertEquals(-1, result.getParent(0));
+        assertEquals(3, result.getParent(4));
+        assertEquals(4, result.getOrder()[4]);
+        assertFalse(result.hasTimes());
+        assertThrows(IllegalStateException.class, () -> result.getEnteringTime(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> result.getVisited(5));
+        assertThrows(IndexOutOfBoundsException.class,
+                () -> new GraphTraversal<String>(g).breadthFirstFrom(6));
+    }
+
+    @Test
+    final void testDepthFirst() {
+        AdjacencyMatrixDirectedGraph<String> g = diamond();
+        TraversalResult result = new GraphTraversal<String>(g).depthFirst();
+        assertEquals(6, result.visitedCount());
+        assertTrue(result.hasTimes());
+        // every time from 1 to 2n is used exactly once
+        boolean[] used = new boolean[13];
+        for (int i = 0; i < 6; i++) {
+            assertTrue(result.getEnteringTime(i) < result.getExitingTime(i));
+            used[result.getEnteringTime(i)] = true;
+            used[result.getExitingTime(i)] = true;
+        }
+        for (int t = 1; t <= 12; t++) {
+            assertTrue(used[t]);
+        }
+        // intervals of descendants are nested in those of their ancestors
+        for (int i = 0; i < 6; i++) {
+            int p = result.getParent(i);
+            if (p >= 0) {
+                assertTrue(result.getEnteringTime(p) < result.getEnteringTime(i));
+                assertTrue(result.getExitingTime(i) < result.getExitingTime(p));
+                assertEquals(result.getDistance(p) + 1, result.getDistance(i));
+            }
+        }
+        assertEquals(1, result.getEnteringTime(0));
+        assertEquals(10, result.getExitingTime(0));
+        assertEquals(-1, result.getParent(5));
+        assertEquals(0, result.getDistance(5));
+    }
+
+    @Test
+    final void testDepthFirstFromDeepChain() {
+        // a recursive visit would overflow the call stack on this path
+        int n = 200000;
+        IntGraph g = new IntGraph(n);
+        for (int i = 0; i + 1 < n; i++) {
+            g.addEdge(i, i + 1);
+        }
+        GraphTraversal<Integer> traversal = new GraphTraversal<Integer>(g.asGraph());
+        TraversalResult result = traversal.depthFirstFrom(0);
+        assertEquals(n, result.visitedCount());
+        assertEquals(n - 1, result.getDistance(n - 1));
+        assertEquals(n, result.getEnteringTime(n - 1));
+        assertEquals(n + 1, result.getExitingTime(n - 1));
+        assertEquals(2 * n, result.getExitingTime(0));
+        assertEquals(1, traversal.depthFirstFrom(n - 1).visitedCount());
+    }
+
+    @Test
+    final void testMark() {
+        AdjacencyMatrixDirectedGraph<String> g = diamond();
+        GraphTraversal<String> traversal = new GraphTraversal<String>(g);
+        traversal.markBreadthFirstFrom(g.getNode("a"));
+        assertEquals(GraphNode.COLOR_BLACK, g.getNode("e").getColor());
+        assertEquals(GraphNode.COLOR_WHITE, g.getNode("f").getColor());
+        assertEquals(3, g.getNode("e").getIntegerDistance());
+        assertEquals(-1, g.getNode("f").getIntegerDistance());
+        assertEquals(g.getNode("d"), g.getNode("e").getPrevious());
+        assertNull(g.getNode("a").getPrevious());
+        traversal.markDepthFirstFrom(g.getNode("d"));
+        assertEquals(1, g.getNode("d").getEnteringTime());
+        assertEquals(2, g.getNode("e").getEnteringTime());
+        assertEquals(3, g.getNode("e").getExitingTime());
+        assertEquals(4, g.getNode("d").getExitingTime());
+        assertEquals(GraphNode.COLOR_WHITE, g.getNode("a").getColor());
+        traversal.markDepthFirst();
+        for (GraphNode<String> node : g.getNodes()) {
+            assertEquals(GraphNode.COLOR_BLACK, node.getColor());
+        }
+        assertThrows(NullPointerException.class, () -> traversal.markBreadthFirstFrom(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> traversal.markDepthFirstFrom(new GraphNode<String>("z")));
+    }
+
+    @Test
+    final void testIterators() {
+        AdjacencyMatrixDirectedGraph<String> g = diamond();
+        GraphTraversal<String> traversal = new GraphTraversal<String>(g);
+        TraversalResult bfs = traversal.breadthFirstFrom(0);
+        Iterator<GraphNode<String>> it = traversal.breadthFirstIterator(g.getNode("a"));
+        for (int k = 0; k < bfs.visitedCount(); k++) {
+            assertTrue(it.hasNext());
+            assertEquals(g.getNode(bfs.getVisited(k)), it.next());
+        }
+        assertFalse(it.hasNext());
+        assertThrows(java.util.NoSuchElementException.class, it::next);
+        TraversalResult dfs = traversal.depthFirstFrom(0);
+        List<GraphNode<String>> nodes = traversal.depthFirstStream(g.getNode("a"))
+                .collect(Collectors.toList());
+        assertEquals(dfs.visitedCount(), nodes.size());
+        for (int k = 0; k < nodes.size(); k++) {
+            assertEquals(g.getNode(dfs.getVisited(k)), nodes.get(k));
+        }
+        assertEquals(2, traversal.breadthFirstStream(g.getNode("d")).count());
+        assertEquals(g.getNode("a"),
+                traversal.depthFirstStream(g.getNode("f")).skip(1).findFirst().get());
+        // the visit does not touch the nodes
+        assertEquals(GraphNode.COLOR_WHITE, g.getNode("a").getColor());
+    }
+
+    @Test
+    final void testRemovedNodes() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addEdge("a", "c");
+        g.addEdge("c", "a");
+        GraphTraversal<String> traversal = new GraphTraversal<String>(g);
+        g.markNodeRemoved(g.getNode("b"));
+        assertThrows(IllegalArgumentException.class, () -> traversal.breadthFirstFrom(0));
+        assertThrows(IllegalArgumentException.class, () -> traversal.depthFirst());
+        assertThrows(IllegalArgumentException.class, () -> traversal.markBreadthFirstFrom(g.getNode("a")));
+        assertThrows(IllegalArgumentException.class, () -> traversal.depthFirstIterator(g.getNode("a")));
+        g.compact();
+        assertEquals(2, traversal.breadthFirstFrom(0).visitedCount());
+        assertEquals(1, traversal.depthFirst().getDistance(g.getNodeIndexOf("c")));
+    }
+}
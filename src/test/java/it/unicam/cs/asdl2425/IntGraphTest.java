@@ -0,0 +1,178 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the classes IntGraph and IntDijkstraShortestPathComputer.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class IntGraphTest {
+
+    @Test
+    final void testEdges() {
+        IntGraph g = new IntGraph(3);
+        assertEquals(3, g.addNode());
+        assertEquals(4, g.nodeCount());
+        assertTrue(g.addEdge(0, 1, 2.5));
+        assertFalse(g.addEdge(0, 1, 7.0));
+        assertTrue(g.addEdge(0, 2));
+        assertTrue(g.addEdge(3, 0, 1.0));
+        assertEquals(3, g.edgeCount());
+        assertEquals(2.5, g.getWeight(0, 1));
+        assertTrue(Double.isNaN(g.getWeight(0, 2)));
+        assertEquals(2, g.outDegree(0));
+        assertEquals(1, g.inDegree(0));
+        assertArrayEquals(new int[]{1, 2}, g.getSuccessorsOf(0));
+        long version = g.getVersion();
+        g.removeEdge(0, 1);
+        assertTrue(g.getVersion() > version);
+        assertFalse(g.hasEdge(0, 1));
+        assertEquals(2, g.getEdgeTarget(0, 0));
+        assertEquals(0, g.inDegree(1));
+        assertThrows(IllegalArgumentException.class, () -> g.removeEdge(0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> g.addEdge(0, 4));
+        assertThrows(IndexOutOfBoundsException.class, () -> g.getEdgeTarget(0, 1));
+        g.clear();
+        assertEquals(0, g.nodeCount());
+        assertEquals(0, g.edgeCount());
+    }
+
+    @Test
+    final void testAsGraph() {
+        IntGraph g = new IntGraph(3);
+        Graph<Integer> view = g.asGraph();
+        assertSame(view, g.asGraph());
+        assertTrue(view.addWeightedEdge(0, 1, 1.0));
+        assertTrue(view.addWeightedEdge(Integer.valueOf(1), Integer.valueOf(2), 2.0));
+        assertTrue(g.hasEdge(1, 2));
+        assertFalse(view.addNode(2));
+        assertTrue(view.addNode(3));
+        assertThrows(IllegalArgumentException.class, () -> view.addNode(5));
+        assertThrows(UnsupportedOperationException.class, () -> view.removeNode(0));
+        assertEquals(4, view.getNodes().size());
+        assertTrue(view.getNodes().contains(new GraphNode<Integer>(3)));
+        assertEquals(2, view.getNodeIndexOf(Integer.valueOf(2)));
+        assertSame(view.getNode(1), view.getNode(new GraphNode<Integer>(1)));
+        assertEquals(2.0, view.getEdge(1, 2).getWeight());
+        assertEquals(1, view.getPredecessorNodesOf(2).size());
+        assertEquals(2.0, view.getIngoingEdgesOf(2).iterator().next().getWeight());
+        // the transposed edges follow the changes of the graph
+        assertTrue(g.addEdge(0, 2, 5.0));
+        assertEquals(2, view.getIngoingEdgesOf(2).size());
+        assertTrue(view.getPredecessorNodesOf(2).contains(view.getNode(0)));
+        g.removeEdge(0, 2);
+        assertEquals(1, view.getIngoingEdgesOf(Integer.valueOf(2)).size());
+        assertTrue(view.getIngoingEdgesOf(0).isEmpty());
+        assertEquals(2, view.edgeCount());
+        assertEquals(g.getVersion(), view.getVersion());
+        DijkstraShortestPathComputer<Integer> dijkstra = new DijkstraShortestPathComputer<Integer>(view);
+        dijkstra.computeShortestPathsFrom(view.getNode(0));
+        List<GraphEdge<Integer>> path = dijkstra.getShortestPathTo(view.getNode(2));
+        assertEquals(2, path.size());
+        assertNull(dijkstra.getShortestPathTo(view.getNode(3)));
+    }
+
+    @Test
+    final void testOf() {
+        GeneratedGraph generated = GraphGenerator.erdosRenyi(200, 0.05, 5L);
+        IntGraph g = IntGraph.of(generated);
+        IntGraph expected = new IntGraph(generated.nodeCount());
+        for (int k = 0; k < generated.edgeCount(); k++) {
+            assertTrue(expected.addEdge(generated.getSource(k), generated.getTarget(k), generated.getWeight(k)));
+        }
+        assertEquals(expected.edgeCount(), g.edgeCount());
+        for (int i = 0; i < g.nodeCount(); i++) {
+            assertArrayEquals(expected.getSuccessorsOf(i), g.getSuccessorsOf(i));
+            assertEquals(expected.inDegree(i), g.inDegree(i));
+            for (int j : g.getSuccessorsOf(i)) {
+                assertEquals(expected.getWeight(i, j), g.getWeight(i, j));
+            }
+        }
+        // the loaded graph keeps rejecting parallel edges
+        int i = generated.getSource(0);
+        int j = generated.getTarget(0);
+        assertFalse(g.addEdge(i, j, 1.0));
+        g.removeEdge(i, j);
+        assertTrue(g.addEdge(i, j, 1.0));
+        assertEquals(expected.edgeCount(), g.edgeCount());
+        assertEquals(0, IntGraph.of(GraphGenerator.erdosRenyi(3, 0.0, 1L)).edgeCount());
+    }
+
+    @Test
+    final void testIntDijkstra() {
+        GeneratedGraph generated = GraphGenerator.erdosRenyi(300, 0.02, 7L);
+        IntGraph g = IntGraph.of(generated);
+        Graph<Integer> reference = generated.toGraph();
+        IntDijkstraShortestPathComputer fast = new IntDijkstraShortestPathComputer(g);
+        DijkstraShortestPathComputer<Integer> dijkstra = new DijkstraShortestPathComputer<Integer>(reference);
+        for (int source = 0; source < 300; source += 37) {
+            fast.computeShortestPathsFrom(source);
+            dijkstra.computeShortestPathsFrom(reference.getNode(source));
+            for (int target = 0; target < 300; target++) {
+                List<GraphEdge<Integer>> expected = dijkstra.getShortestPathTo(reference.getNode(target));
+                int[] path = fast.getShortestPathTo(target);
+                if (expected == null) {
+                    assertNull(path);
+                    assertEquals(Double.POSITIVE_INFINITY, fast.getDistance(target));
+                    continue;
+                }
+                double length = 0.0;
+                for (GraphEdge<Integer> edge : expected) {
+                    length += edge.getWeight();
+                }
+                assertEquals(length, fast.getDistance(target), 1e-9);
+                assertEquals(source, path[0]);
+                assertEquals(target, path[path.length - 1]);
+            }
+        }
+        g.addEdge(0, 1, -1.0);
+        assertFalse(fast.isComputed());
+        assertThrows(IllegalStateException.class, () -> fast.getDistance(0));
+    }
+
+    @Test
+    final void testWeightStorage() {
+        GeneratedGraph generated = GraphGenerator.roadNetwork(15, 15, 3L);
+        int n = generated.nodeCount();
+        IntGraph exact = IntGraph.of(generated);
+        IntGraph floats = new IntGraph(n, IntGraph.WeightStorage.FLOAT);
+        double quantum = 0.25;
+        IntGraph quantized = new IntGraph(n, quantum);
+        for (int k = 0; k < generated.edgeCount(); k++) {
+            floats.addEdge(generated.getSource(k), generated.getTarget(k), generated.getWeight(k));
+            quantized.addEdge(generated.getSource(k), generated.getTarget(k), generated.getWeight(k));
+        }
+        assertEquals(IntGraph.WeightStorage.QUANTIZED, quantized.getWeightStorage());
+        assertTrue(floats.memoryFootprint() < exact.memoryFootprint());
+        IntDijkstraShortestPathComputer e = new IntDijkstraShortestPathComputer(exact);
+        IntDijkstraShortestPathComputer f = new IntDijkstraShortestPathComputer(floats);
+        IntDijkstraShortestPathComputer q = new IntDijkstraShortestPathComputer(quantized);
+        e.computeShortestPathsFrom(0);
+        f.computeShortestPathsFrom(0);
+        q.computeShortestPathsFrom(0);
+        for (int v = 0; v < n; v++) {
+            double d = e.getDistance(v);
+            if (Double.isInfinite(d)) {
+                continue;
+            }
+            assertEquals(d, f.getDistance(v), d * 0x1p-24 + 1e-12);
+            int edges = Math.max(e.getShortestPathTo(v).length, q.getShortestPathTo(v).length) - 1;
+            assertEquals(d, q.getDistance(v), edges * quantum / 2 + 1e-9);
+        }
+        // weights are rounded as documented
+        quantized.addNode();
+        quantized.addEdge(0, n, 1.1);
+        assertEquals(1.0, quantized.getWeight(0, n));
+        IntGraph unweighted = new IntGraph(2, 1.0);
+        unweighted.addEdge(0, 1);
+        assertTrue(Double.isNaN(unweighted.getWeight(0, 1)));
+        assertThrows(IllegalArgumentException.class, () -> new IntGraph(2, 1e-12).addEdge(0, 1, 1e3));
+        assertThrows(IllegalArgumentException.class, () -> new IntGraph(2, IntGraph.WeightStorage.QUANTIZED));
+    }
+}
@@ -0,0 +1,107 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the classes IsochroneSearch and Isochrone.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class IsochroneSearchTest {
+
+    /*
+     * s -> a (2), s -> b (5), a -> b (1), b -> c (4), c -> s (1).
+     */
+    private static AdjacencyMatrixDirectedGraph<String> sample() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        for (String label : new String[]{"s", "a", "b", "c"}) {
+            g.addNode(label);
+        }
+        g.addWeightedEdge("s", "a", 2.0);
+        g.addWeightedEdge("s", "b", 5.0);
+        g.addWeightedEdge("a", "b", 1.0);
+        g.addWeightedEdge("b", "c", 4.0);
+        g.addWeightedEdge("c", "s", 1.0);
+        return g;
+    }
+
+    @Test
+    final void testWithin() {
+        AdjacencyMatrixDirectedGraph<String> g = sample();
+        IsochroneSearch<String> search = new IsochroneSearch<String>(g);
+        Isochrone isochrone = search.within(g.getNode("s"), 3.0);
+        assertEquals(3, isochrone.size());
+        assertEquals(g.getNodeIndexOf("s"), isochrone.getSource());
+        assertEquals(3.0, isochrone.getRadius());
+        assertArrayEquals(new int[]{g.getNodeIndexOf("s"), g.getNodeIndexOf("a"), g.getNodeIndexOf("b")},
+                isochrone.getNodes());
+        assertArrayEquals(new double[]{0.0, 2.0, 3.0}, isochrone.getDistances());
+        assertEquals(2.0, isochrone.getDistance(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> isochrone.getNode(3));
+        // the same object is filled again
+        assertEquals(1, search.within(g.getNodeIndexOf("s"), 0.0, isochrone));
+        assertEquals(4, search.within(g.getNodeIndexOf("b"), 100.0, isochrone));
+        assertEquals(4.0, isochrone.getDistance(1));
+        assertEquals(7.0, isochrone.getDistance(3));
+        assertThrows(IllegalArgumentException.class, () -> search.within(g.getNode("s"), -1.0));
+        assertThrows(IllegalArgumentException.class, () -> search.within(g.getNode("s"), Double.NaN));
+        assertThrows(IndexOutOfBoundsException.class, () -> search.within(4, 1.0, isochrone));
+        assertThrows(NullPointerException.class, () -> search.within(0, 1.0, null));
+    }
+
+    @Test
+    final void testMatchesDijkstra() {
+        IntGraph graph = IntGraph.of(GraphGenerator.roadNetwork(40, 40, 5L));
+        IsochroneSearch<Integer> search = new IsochroneSearch<Integer>(graph.asGraph());
+        IntDijkstraShortestPathComputer dijkstra = new IntDijkstraShortestPathComputer(graph);
+        Isochrone isochrone = new Isochrone();
+        // many queries on the same workspace and isochrone
+        for (int source = 0; source < graph.nodeCount(); source += 97) {
+            dijkstra.computeShortestPathsFrom(source);
+            double radius = 1.5 * (source % 7 + 1);
+            search.within(source, radius, isochrone);
+            boolean[] found = new boolean[graph.nodeCount()];
+            for (int k = 0; k < isochrone.size(); k++) {
+                int v = isochrone.getNode(k);
+                found[v] = true;
+                assertEquals(dijkstra.getDistance(v), isochrone.getDistance(k), 1e-9);
+                assertTrue(k == 0 || isochrone.getDistance(k - 1) <= isochrone.getDistance(k));
+            }
+            for (int v = 0; v < graph.nodeCount(); v++) {
+                assertEquals(dijkstra.getDistance(v) <= radius, found[v]);
+            }
+        }
+    }
+
+    @Test
+    final void testGraphChanges() {
+        AdjacencyMatrixDirectedGraph<String> g = sample();
+        IsochroneSearch<String> search = new IsochroneSearch<String>(g);
+        assertEquals(3, search.within(g.getNode("s"), 3.0).size());
+        g.addWeightedEdge("s", "c", 0.5);
+        Isochrone isochrone = search.within(g.getNode("s"), 3.0);
+        assertEquals(4, isochrone.size());
+        assertArrayEquals(new double[]{0.0, 0.5, 2.0, 3.0}, isochrone.getDistances());
+        g.addWeightedEdge("a", "c", Double.NaN);
+        assertThrows(IllegalStateException.class, () -> search.within(g.getNode("s"), 3.0));
+    }
+
+    @Test
+    final void testRemovedNodes() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addWeightedEdge("a", "c", 1.0);
+        g.addWeightedEdge("c", "a", 1.0);
+        IsochroneSearch<String> search = new IsochroneSearch<String>(g);
+        g.markNodeRemoved(g.getNode("b"));
+        assertThrows(IllegalArgumentException.class, () -> search.within(g.getNode("a"), 5.0));
+        assertThrows(IllegalArgumentException.class, () -> new IsochroneSearch<String>(g));
+        g.compact();
+        assertEquals(2, search.within(g.getNode("a"), 5.0).size());
+    }
+}
@@ -0,0 +1,173 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the class KShortestPaths.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class KShortestPathsTest {
+
+    /*
+     * The example graph of Yen's algorithm: seven loopless paths from C to H.
+     */
+    private static AdjacencyMatrixDirectedGraph<String> yen() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        for (String label : new String[]{"C", "D", "E", "F", "G", "H"}) {
+            g.addNode(label);
+        }
+        g.addWeightedEdge("C", "D", 3.0);
+        g.addWeightedEdge("C", "E", 2.0);
+        g.addWeightedEdge("D", "F", 4.0);
+        g.addWeightedEdge("E", "D", 1.0);
+        g.addWeightedEdge("E", "F", 2.0);
+        g.addWeightedEdge("E", "G", 3.0);
+        g.addWeightedEdge("F", "G", 2.0);
+        g.addWeightedEdge("F", "H", 1.0);
+        g.addWeightedEdge("G", "H", 2.0);
+        return g;
+    }
+
+    @Test
+    final void testYenExample() {
+        AdjacencyMatrixDirectedGraph<String> g = yen();
+        KShortestPaths<String> search = new KShortestPaths<String>(g);
+        List<List<GraphEdge<String>>> paths = search.find(g.getNode("C"), g.getNode("H"), 3);
+        assertEquals(3, paths.size());
+        assertEquals(5.0, cost(paths.get(0)));
+        assertEquals(g.getEdge("C", "E"), paths.get(0).get(0));
+        assertEquals(g.getEdge("E", "F"), paths.get(0).get(1));
+        assertEquals(7.0, cost(paths.get(1)));
+        assertEquals(8.0, cost(paths.get(2)));
+        List<List<GraphEdge<String>>> all = search.find(g.getNode("C"), g.getNode("H"), 100);
+        assertEquals(7, all.size());
+        assertEquals(paths, all.subList(0, 3));
+        assertEquals(1, search.find(g.getNode("C"), g.getNode("C"), 5).size());
+        assertTrue(search.find(g.getNode("C"), g.getNode("C"), 5).get(0).isEmpty());
+        assertTrue(search.find(g.getNode("H"), g.getNode("C"), 5).isEmpty());
+    }
+
+    @Test
+    final void testNodesAreNotWritten() {
+        AdjacencyMatrixDirectedGraph<String> g = yen();
+        for (GraphNode<String> node : g.getNodes()) {
+            node.setFloatingPointDistance(-1.0);
+            node.setPrevious(node);
+        }
+        long version = g.getVersion();
+        new KShortestPaths<String>(g).find(g.getNode("C"), g.getNode("H"), 10);
+        assertEquals(version, g.getVersion());
+        for (GraphNode<String> node : g.getNodes()) {
+            assertEquals(-1.0, node.getFloatingPointDistance());
+            assertEquals(node, node.getPrevious());
+        }
+    }
+
+    @Test
+    final void testMatchesEnumeration() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 1; seed <= 5; seed++) {
+                GeneratedGraph generated = GraphGenerator.erdosRenyi(9, 0.4, seed);
+                Graph<Integer> g = generated.toGraph();
+                KShortestPaths<Integer> search = new KShortestPaths<Integer>(g, pool);
+                List<Double> expected = new ArrayList<Double>();
+                enumerate(g, g.getNode(0), g.getNode(8), new HashSet<GraphNode<Integer>>(), 0.0, expected);
+                Collections.sort(expected);
+                List<List<GraphEdge<Integer>>> paths = search.find(g.getNode(0), g.getNode(8), 25);
+                assertEquals(Math.min(25, expected.size()), paths.size());
+                Set<List<GraphEdge<Integer>>> distinct = new HashSet<List<GraphEdge<Integer>>>(paths);
+                assertEquals(paths.size(), distinct.size());
+                for (int i = 0; i < paths.size(); i++) {
+                    assertEquals(expected.get(i), cost(paths.get(i)), 1e-9);
+                    assertLoopless(paths.get(i), g.getNode(0), g.getNode(8));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    final void testInvalidArguments() {
+        AdjacencyMatrixDirectedGraph<String> g = yen();
+        KShortestPaths<String> search = new KShortestPaths<String>(g);
+        assertThrows(IllegalArgumentException.class, () -> search.find(g.getNode("C"), g.getNode("H"), 0));
+        assertThrows(NullPointerException.class, () -> search.find(null, g.getNode("H"), 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> search.find(g.getNode("C"), new GraphNode<String>("Z"), 1));
+        // the snapshot is taken again after a change
+        g.addWeightedEdge("C", "H", 1.0);
+        assertEquals(1.0, cost(search.find(g.getNode("C"), g.getNode("H"), 1).get(0)));
+        g.addWeightedEdge("H", "C", -1.0);
+        assertThrows(IllegalStateException.class, () -> search.find(g.getNode("C"), g.getNode("H"), 1));
+        assertThrows(IllegalArgumentException.class, () -> new KShortestPaths<String>(g));
+        assertThrows(NullPointerException.class, () -> new KShortestPaths<String>(yen(), null));
+    }
+
+    private static <L> double cost(List<GraphEdge<L>> path) {
+        double cost = 0.0;
+        for (GraphEdge<?> edge : path) {
+            cost += edge.getWeight();
+        }
+        return cost;
+    }
+
+    private static <L> void assertLoopless(List<GraphEdge<L>> path, GraphNode<L> source, GraphNode<L> target) {
+        Set<GraphNode<L>> seen = new HashSet<GraphNode<L>>();
+        GraphNode<L> current = source;
+        seen.add(current);
+        for (GraphEdge<L> edge : path) {
+            assertEquals(current, edge.getNode1());
+            current = edge.getNode2();
+            assertTrue(seen.add(current));
+        }
+        assertEquals(target, current);
+    }
+
+    /*
+     * Costs of all the simple paths from the node to the target.
+     */
+    private static <L> void enumerate(Graph<L> g, GraphNode<L> node, GraphNode<L> target,
+                                      Set<GraphNode<L>> onPath, double cost, List<Double> costs) {
+        if (node.equals(target)) {
+            costs.add(cost);
+            return;
+        }
+        onPath.add(node);
+        for (GraphEdge<L> edge : g.getEdgesOf(node)) {
+            if (!onPath.contains(edge.getNode2())) {
+                enumerate(g, edge.getNode2(), target, onPath, cost + edge.getWeight(), costs);
+            }
+        }
+        onPath.remove(node);
+    }
+
+    @Test
+    final void testRemovedNodes() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addWeightedEdge("a", "b", 1.0);
+        g.addWeightedEdge("a", "c", 1.0);
+        g.addWeightedEdge("b", "c", 1.0);
+        KShortestPaths<String> search = new KShortestPaths<String>(g);
+        g.markNodeRemoved(g.getNode("b"));
+        assertThrows(IllegalArgumentException.class, () -> search.find(g.getNode("a"), g.getNode("c"), 2));
+        assertThrows(IllegalArgumentException.class, () -> new KShortestPaths<String>(g));
+        g.compact();
+        assertEquals(1, search.find(g.getNode("a"), g.getNode("c"), 2).size());
+    }
+}
@@ -0,0 +1,153 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the class MinimumSpanningForest.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class MinimumSpanningForestTest {
+
+    /*
+     * Square a-b-c-d with the diagonal a-c, plus the separate edge e-f and the
+     * isolated g. Some edges point against the others.
+     */
+    private static AdjacencyMatrixDirectedGraph<String> sample() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        for (String label : new String[]{"a", "b", "c", "d", "e", "f", "g"}) {
+            g.addNode(label);
+        }
+        g.addWeightedEdge("a", "b", 1.0);
+        g.addWeightedEdge("c", "b", 2.0);
+        g.addWeightedEdge("c", "d", 4.0);
+        g.addWeightedEdge("d", "a", 3.0);
+        g.addWeightedEdge("a", "c", 2.5);
+        g.addWeightedEdge("f", "e", -1.0);
+        g.addWeightedEdge("g", "g", -5.0);
+        return g;
+    }
+
+    @Test
+    final void testPrim() {
+        AdjacencyMatrixDirectedGraph<String> g = sample();
+        MinimumSpanningForest<String> forest = MinimumSpanningForest.prim(g);
+        assertEquals(5.0, forest.getTotalWeight());
+        assertEquals(4, forest.edgeCount());
+        assertEquals(3, forest.treeCount());
+        assertFalse(forest.isSpanningTree());
+        assertTrue(forest.getEdges().contains(g.getEdge("a", "b")));
+        assertTrue(forest.getEdges().contains(g.getEdge("c", "b")));
+        assertTrue(forest.getEdges().contains(g.getEdge("d", "a")));
+        assertTrue(forest.getEdges().contains(g.getEdge("f", "e")));
+        for (int k = 0; k < forest.edgeCount(); k++) {
+            GraphEdge<String> edge = forest.getEdges().get(k);
+            assertEquals(g.getNodeIndexOf(edge.getNode1()), forest.getSource(k));
+            assertEquals(g.getNodeIndexOf(edge.getNode2()), forest.getTarget(k));
+            assertEquals(edge.getWeight(), forest.getWeight(k));
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> forest.getWeight(4));
+        assertThrows(UnsupportedOperationException.class, () -> forest.getEdges().clear());
+    }
+
+    @Test
+    final void testBoruvka() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            AdjacencyMatrixDirectedGraph<String> g = sample();
+            MinimumSpanningForest<String> forest = MinimumSpanningForest.boruvka(g, pool);
+            assertEquals(5.0, forest.getTotalWeight());
+            assertEquals(3, forest.treeCount());
+            g.removeNode("g");
+            g.removeNode("e");
+            g.removeNode("f");
+            assertTrue(MinimumSpanningForest.boruvka(g, pool).isSpanningTree());
+            assertThrows(NullPointerException.class, () -> MinimumSpanningForest.boruvka(g, null));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    final void testLargeGraphs() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 1; seed <= 3; seed++) {
+                IntGraph roads = IntGraph.of(GraphGenerator.roadNetwork(60, 60, seed));
+                assertSameForest(roads, MinimumSpanningForest.prim(roads),
+                        MinimumSpanningForest.boruvka(roads, pool));
+                // integer weights give many ties
+                GeneratedGraph random = GraphGenerator.erdosRenyi(20000, 2.0 / 20000, seed);
+                IntGraph ties = new IntGraph(random.nodeCount(), 1.0);
+                for (int k = 0; k < random.edgeCount(); k++) {
+                    ties.addEdge(random.getSource(k), random.getTarget(k), Math.floor(4 * random.getWeight(k)));
+                }
+                assertSameForest(ties, MinimumSpanningForest.prim(ties), MinimumSpanningForest.boruvka(ties, pool));
+                assertEquals(MinimumSpanningForest.prim(ties).getTotalWeight(),
+                        MinimumSpanningForest.of(ties).getTotalWeight(), 1e-6);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    final void testUnweightedGraphs() {
+        AdjacencyMatrixDirectedGraph<String> g = sample();
+        g.addEdge("b", "d");
+        assertThrows(IllegalArgumentException.class, () -> MinimumSpanningForest.of(g));
+        IntGraph graph = new IntGraph(2);
+        graph.addEdge(0, 1);
+        assertThrows(IllegalArgumentException.class, () -> MinimumSpanningForest.of(graph));
+        assertThrows(IllegalArgumentException.class,
+                () -> MinimumSpanningForest.boruvka(graph, ForkJoinPool.commonPool()));
+        assertEquals(0, MinimumSpanningForest.of(new IntGraph()).treeCount());
+        assertThrows(NullPointerException.class, () -> MinimumSpanningForest.of((IntGraph) null));
+    }
+
+    /*
+     * Both forests must have the same weight, one tree per component and no
+     * cycle.
+     */
+    private static void assertSameForest(IntGraph graph, MinimumSpanningForest<Integer> expected,
+                                         MinimumSpanningForest<Integer> actual) {
+        assertEquals(expected.getTotalWeight(), actual.getTotalWeight(), 1e-6);
+        int components = ConnectedComponents.of(graph).componentCount();
+        assertForest(graph, components, expected);
+        assertForest(graph, components, actual);
+    }
+
+    private static void assertForest(IntGraph graph, int components, MinimumSpanningForest<Integer> forest) {
+        assertEquals(components, forest.treeCount());
+        ConcurrentUnionFind sets = new ConcurrentUnionFind(graph.nodeCount());
+        for (int k = 0; k < forest.edgeCount(); k++) {
+            assertTrue(sets.union(forest.getSource(k), forest.getTarget(k)));
+            assertEquals(graph.getWeight(forest.getSource(k), forest.getTarget(k)), forest.getWeight(k));
+            assertEquals(forest.getSource(k), (int) forest.getEdges().get(k).getNode1().getLabel());
+        }
+    }
+
+    @Test
+    final void testRemovedNodes() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addWeightedEdge("a", "c", 3.0);
+        g.addWeightedEdge("c", "a", 1.0);
+        g.markNodeRemoved(g.getNode("b"));
+        assertThrows(IllegalArgumentException.class, () -> MinimumSpanningForest.of(g));
+        assertThrows(IllegalArgumentException.class, () -> MinimumSpanningForest.prim(g));
+        assertThrows(IllegalArgumentException.class,
+                () -> MinimumSpanningForest.boruvka(g, ForkJoinPool.commonPool()));
+        g.compact();
+        MinimumSpanningForest<String> forest = MinimumSpanningForest.prim(g);
+        assertTrue(forest.isSpanningTree());
+        assertEquals(1.0, forest.getTotalWeight());
+    }
+}
@@ -0,0 +1,157 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the classes MultiSourceShortestPathComputer and
+ * NearestSourceTree.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class MultiSourceShortestPathComputerTest {
+
+    /*
+     * Two depots on a line: d1 - a - b - c - d2, all edges in both directions
+     * with weight 1, plus the unreachable e.
+     */
+    private static AdjacencyMatrixDirectedGraph<String> line() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        String[] labels = {"d1", "a", "b", "c", "d2", "e"};
+        for (String label : labels) {
+            g.addNode(label);
+        }
+        for (int i = 0; i + 1 < 5; i++) {
+            g.addWeightedEdge(labels[i], labels[i + 1], 1.0);
+            g.addWeightedEdge(labels[i + 1], labels[i], 1.0);
+        }
+        return g;
+    }
+
+    @Test
+    final void testNearestDepot() {
+        AdjacencyMatrixDirectedGraph<String> g = line();
+        MultiSourceShortestPathComputer<String> computer = new MultiSourceShortestPathComputer<String>(g);
+        NearestSourceTree tree = computer.computeFrom(Arrays.asList(g.getNode("d1"), g.getNode("d2")));
+        int d1 = g.getNodeIndexOf("d1");
+        int d2 = g.getNodeIndexOf("d2");
+        assertEquals(d1, tree.getNearestSource(g.getNodeIndexOf("a")));
+        assertEquals(d2, tree.getNearestSource(g.getNodeIndexOf("c")));
+        assertEquals(1.0, tree.getDistance(g.getNodeIndexOf("c")));
+        assertEquals(2.0, tree.getDistance(g.getNodeIndexOf("b")));
+        assertEquals(d2, tree.getPredecessor(g.getNodeIndexOf("c")));
+        assertEquals(-1, tree.getPredecessor(d2));
+        int e = g.getNodeIndexOf("e");
+        assertFalse(tree.hasPathTo(e));
+        assertEquals(-1, tree.getNearestSource(e));
+        assertNull(tree.pathTo(e));
+        assertArrayEquals(new int[]{d2, g.getNodeIndexOf("c")}, tree.pathTo(g.getNodeIndexOf("c")));
+        assertArrayEquals(new int[]{d1}, tree.pathTo(d1));
+        assertEquals(5, tree.getCellOf(d1).length + tree.getCellOf(d2).length);
+        assertEquals(0, tree.getCellOf(e).length);
+        assertEquals(g.getVersion(), tree.getVersion());
+    }
+
+    @Test
+    final void testOffsets() {
+        AdjacencyMatrixDirectedGraph<String> g = line();
+        MultiSourceShortestPathComputer<String> computer = new MultiSourceShortestPathComputer<String>(g);
+        Map<GraphNode<String>, Double> depots = new HashMap<GraphNode<String>, Double>();
+        depots.put(g.getNode("d1"), 0.0);
+        depots.put(g.getNode("d2"), 2.5);
+        NearestSourceTree tree = computer.computeFrom(depots);
+        int d1 = g.getNodeIndexOf("d1");
+        assertEquals(d1, tree.getNearestSource(g.getNodeIndexOf("c")));
+        assertEquals(3.0, tree.getDistance(g.getNodeIndexOf("c")));
+        assertEquals(2.5, tree.getDistance(g.getNodeIndexOf("d2")));
+        // with a late enough start, d2 is in the cell of d1
+        depots.put(g.getNode("d2"), 10.0);
+        tree = computer.computeFrom(depots);
+        assertEquals(d1, tree.getNearestSource(g.getNodeIndexOf("d2")));
+        assertEquals(4.0, tree.getDistance(g.getNodeIndexOf("d2")));
+        PathView view = new PathView();
+        assertTrue(tree.pathTo(g.getNodeIndexOf("d2"), view));
+        assertEquals(5, view.nodeCount());
+        assertEquals(4.0, view.getDistance());
+        depots.put(g.getNode("d2"), Double.NaN);
+        assertThrows(IllegalArgumentException.class, () -> computer.computeFrom(depots));
+    }
+
+    @Test
+    final void testMatchesOneSearchPerSource() {
+        GeneratedGraph generated = GraphGenerator.roadNetwork(30, 30, 7L);
+        IntGraph graph = IntGraph.of(generated);
+        Graph<Integer> g = graph.asGraph();
+        MultiSourceShortestPathComputer<Integer> computer = new MultiSourceShortestPathComputer<Integer>(g);
+        int[] depots = {0, 123, 456, 789};
+        double[] offsets = {0.0, 3.0, 0.5, 10.0};
+        NearestSourceTree tree = computer.computeFrom(depots, offsets);
+        double[] best = new double[graph.nodeCount()];
+        Arrays.fill(best, Double.POSITIVE_INFINITY);
+        IntDijkstraShortestPathComputer dijkstra = new IntDijkstraShortestPathComputer(graph);
+        for (int k = 0; k < depots.length; k++) {
+            dijkstra.computeShortestPathsFrom(depots[k]);
+            for (int v = 0; v < best.length; v++) {
+                best[v] = Math.min(best[v], offsets[k] + dijkstra.getDistance(v));
+            }
+        }
+        int[] buffer = new int[graph.nodeCount()];
+        for (int v = 0; v < best.length; v++) {
+            assertEquals(best[v], tree.getDistance(v), 1e-9);
+            int count = tree.pathTo(v, buffer);
+            if (count < 0) {
+                assertEquals(Double.POSITIVE_INFINITY, best[v]);
+                continue;
+            }
+            // the path starts at the nearest source and adds up to the distance
+            int source = tree.getNearestSource(v);
+            assertEquals(source, buffer[0]);
+            double length = offsets[Arrays.binarySearch(depots, source)];
+            for (int p = 0; p + 1 < count; p++) {
+                length += graph.getWeight(buffer[p], buffer[p + 1]);
+            }
+            assertEquals(tree.getDistance(v), length, 1e-9);
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> computer.computeFrom(new int[]{900}, null));
+        assertThrows(IllegalArgumentException.class, () -> computer.computeFrom(depots, new double[1]));
+    }
+
+    @Test
+    final void testNodesAreNotWritten() {
+        AdjacencyMatrixDirectedGraph<String> g = line();
+        for (GraphNode<String> node : g.getNodes()) {
+            node.setFloatingPointDistance(-1.0);
+        }
+        new MultiSourceShortestPathComputer<String>(g).computeFrom(Arrays.asList(g.getNode("b")));
+        for (GraphNode<String> node : g.getNodes()) {
+            assertEquals(-1.0, node.getFloatingPointDistance());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new MultiSourceShortestPathComputer<String>(g)
+                .computeFrom(Arrays.asList(new GraphNode<String>("z"))));
+        assertThrows(NullPointerException.class, () -> new MultiSourceShortestPathComputer<String>(null));
+    }
+
+    @Test
+    final void testRemovedNodes() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addWeightedEdge("a", "c", 1.0);
+        g.addWeightedEdge("c", "a", 1.0);
+        MultiSourceShortestPathComputer<String> computer = new MultiSourceShortestPathComputer<String>(g);
+        g.markNodeRemoved(g.getNode("b"));
+        assertThrows(IllegalArgumentException.class,
+                () -> computer.computeFrom(Arrays.asList(g.getNode("a"))));
+        assertThrows(IllegalArgumentException.class, () -> new MultiSourceShortestPathComputer<String>(g));
+        g.compact();
+        NearestSourceTree tree = computer.computeFrom(Arrays.asList(g.getNode("a")));
+        assertEquals(1.0, tree.getDistance(g.getNodeIndexOf("c")));
+    }
+}
@@ -0,0 +1,190 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Suite of tests for the classes NearestPoiSearch and PoiIndex.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class NearestPoiSearchTest {
+
+    private static Set<GraphNode<String>> nodes(AdjacencyMatrixDirectedGraph<String> g, String... labels) {
+        Set<GraphNode<String>> set = new HashSet<GraphNode<String>>();
+        for (String label : labels) {
+            set.add(g.getNode(label));
+        }
+        return set;
+    }
+
+    @Test
+    final void testKNearest() {
+        // p1, p2 and p3 at distance 2 from s, p4 at 4 through x, q unreachable
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        for (String label : new String[]{"s", "x", "p1", "p2", "p3", "p4", "q"}) {
+            g.addNode(label);
+        }
+        g.addWeightedEdge("s", "p1", 2.0);
+        g.addWeightedEdge("s", "p2", 2.0);
+        g.addWeightedEdge("s", "p3", 2.0);
+        g.addWeightedEdge("s", "x", 1.0);
+        g.addWeightedEdge("x", "p4", 3.0);
+        g.addWeightedEdge("q", "s", 1.0);
+        NearestPoiSearch<String> search = new NearestPoiSearch<String>(g);
+        Set<GraphNode<String>> pois = nodes(g, "p1", "p2", "p3", "p4", "q");
+        // any two of the three at the same distance
+        List<GraphNode<String>> two = search.kNearest(g.getNode("s"), pois, 2);
+        assertEquals(2, two.size());
+        assertTrue(nodes(g, "p1", "p2", "p3").containsAll(two));
+        List<GraphNode<String>> four = search.kNearest(g.getNode("s"), pois, 4);
+        assertEquals(nodes(g, "p1", "p2", "p3"), new HashSet<GraphNode<String>>(four.subList(0, 3)));
+        assertEquals(g.getNode("p4"), four.get(3));
+        // q cannot be reached from s
+        assertEquals(4, search.kNearest(g.getNode("s"), pois, 10).size());
+        assertEquals(Arrays.asList(g.getNode("p4")), search.kNearest(g.getNode("x"), pois, 3));
+        // a source that is a point of interest comes first
+        assertEquals(g.getNode("q"), search.kNearest(g.getNode("q"), pois, 2).get(0));
+        assertTrue(search.kNearest(g.getNode("s"), pois, 0).isEmpty());
+        int[] found = new int[5];
+        double[] distances = new double[5];
+        BitSet bits = new BitSet();
+        bits.set(g.getNodeIndexOf("p2"));
+        bits.set(g.getNodeIndexOf("p4"));
+        bits.set(g.getNodeIndexOf("q"));
+        assertEquals(2, search.kNearest(g.getNodeIndexOf("s"), bits, 5, found, distances));
+        assertArrayEquals(new int[]{g.getNodeIndexOf("p2"), g.getNodeIndexOf("p4")}, Arrays.copyOf(found, 2));
+        assertArrayEquals(new double[]{2.0, 4.0}, Arrays.copyOf(distances, 2));
+        assertEquals(0, search.kNearest(g.getNodeIndexOf("p1"), bits, 5, found, distances));
+        assertThrows(IllegalArgumentException.class, () -> search.kNearest(g.getNode("s"), pois, -1));
+        Set<GraphNode<String>> foreign = nodes(g, "p1");
+        foreign.add(new GraphNode<String>("z"));
+        assertThrows(IllegalArgumentException.class, () -> search.kNearest(g.getNode("s"), foreign, 1));
+        assertThrows(IllegalArgumentException.class, () -> search.kNearest(0, bits, 6, found, null));
+        assertThrows(IndexOutOfBoundsException.class, () -> search.kNearest(7, bits, 1, found, null));
+        assertThrows(NullPointerException.class, () -> search.kNearest(null, pois, 1));
+    }
+
+    @Test
+    final void testIndex() {
+        // p1 and p2 at distance 1 from c, p3 at 2 through y, u isolated
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        for (String label : new String[]{"c", "y", "p1", "p2", "p3", "u"}) {
+            g.addNode(label);
+        }
+        g.addWeightedEdge("c", "p1", 1.0);
+        g.addWeightedEdge("c", "p2", 1.0);
+        g.addWeightedEdge("c", "y", 1.0);
+        g.addWeightedEdge("y", "p3", 1.0);
+        NearestPoiSearch<String> search = new NearestPoiSearch<String>(g);
+        PoiIndex index = search.index(nodes(g, "p1", "p2", "p3", "u"), 1.5);
+        assertEquals(4, index.poiCount());
+        assertEquals(1.5, index.getRadius());
+        assertTrue(index.isPoi(g.getNodeIndexOf("u")));
+        assertFalse(index.isPoi(g.getNodeIndexOf("c")));
+        assertEquals(2, index.bucketSize(g.getNodeIndexOf("c")));
+        assertEquals(1, index.bucketSize(g.getNodeIndexOf("y")));
+        assertEquals(1, index.bucketSize(g.getNodeIndexOf("p1")));
+        assertEquals(1, index.bucketSize(g.getNodeIndexOf("u")));
+        assertEquals(7, index.entryCount());
+        // answered from the bucket, which holds both points at distance 1
+        int[] found = new int[3];
+        double[] distances = new double[3];
+        assertEquals(2, search.kNearest(g.getNodeIndexOf("c"), index, 2, found, distances));
+        assertEquals(nodes(g, "p1", "p2"), new HashSet<GraphNode<String>>(
+                search.kNearest(g.getNode("c"), index, 2)));
+        assertArrayEquals(new double[]{1.0, 1.0}, Arrays.copyOf(distances, 2));
+        // answered by a search, past the radius
+        assertEquals(3, search.kNearest(g.getNodeIndexOf("c"), index, 3, found, distances));
+        assertEquals(g.getNodeIndexOf("p3"), found[2]);
+        assertEquals(2.0, distances[2]);
+        // nothing else is reachable from u
+        assertEquals(Arrays.asList(g.getNode("u")), search.kNearest(g.getNode("u"), index, 3));
+        assertTrue(search.kNearest(g.getNode("y"), index, 0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> search.index(new BitSet(), -1.0));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.bucketSize(6));
+        g.addWeightedEdge("c", "u", 0.5);
+        assertThrows(IllegalStateException.class, () -> search.kNearest(g.getNode("c"), index, 2));
+        assertEquals(Arrays.asList(g.getNode("u")),
+                search.kNearest(g.getNode("c"), search.index(nodes(g, "p1", "p2", "p3", "u"), 1.5), 1));
+    }
+
+    @Test
+    final void testMatchesDijkstra() {
+        IntGraph graph = IntGraph.of(GraphGenerator.roadNetwork(30, 30, 11L));
+        NearestPoiSearch<Integer> search = new NearestPoiSearch<Integer>(graph.asGraph());
+        IntDijkstraShortestPathComputer dijkstra = new IntDijkstraShortestPathComputer(graph);
+        BitSet pois = new BitSet();
+        for (int v = 3; v < graph.nodeCount(); v += 13) {
+            pois.set(v);
+        }
+        PoiIndex index = search.index(pois, 4.0);
+        int[] found = new int[5];
+        double[] distances = new double[5];
+        int[] indexed = new int[5];
+        double[] indexedDistances = new double[5];
+        for (int source = 0; source < graph.nodeCount(); source += 31) {
+            dijkstra.computeShortestPathsFrom(source);
+            double[] expected = pois.stream().mapToDouble(dijkstra::getDistance)
+                    .filter(d -> d < Double.POSITIVE_INFINITY).sorted().toArray();
+            int count = search.kNearest(source, pois, 5, found, distances);
+            assertEquals(Math.min(5, expected.length), count);
+            assertEquals(count, search.kNearest(source, index, 5, indexed, indexedDistances));
+            for (int i = 0; i < count; i++) {
+                assertTrue(pois.get(found[i]));
+                assertEquals(expected[i], distances[i], 1e-9);
+                assertEquals(dijkstra.getDistance(found[i]), distances[i], 1e-9);
+                assertEquals(expected[i], indexedDistances[i], 1e-9);
+                assertEquals(dijkstra.getDistance(indexed[i]), indexedDistances[i], 1e-9);
+            }
+        }
+    }
+
+    @Test
+    final void testNodesAreNotWritten() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("s");
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addWeightedEdge("s", "a", 1.0);
+        g.addWeightedEdge("a", "b", 1.0);
+        g.addWeightedEdge("b", "s", 1.0);
+        for (GraphNode<String> node : g.getNodes()) {
+            node.setFloatingPointDistance(-1.0);
+        }
+        NearestPoiSearch<String> search = new NearestPoiSearch<String>(g);
+        search.kNearest(g.getNode("s"), nodes(g, "b", "c"), 2);
+        search.kNearest(g.getNode("s"), search.index(nodes(g, "b", "c"), 10.0), 2);
+        for (GraphNode<String> node : g.getNodes()) {
+            assertEquals(-1.0, node.getFloatingPointDistance());
+            assertNull(node.getPrevious());
+        }
+        assertThrows(NullPointerException.class, () -> new NearestPoiSearch<String>(null));
+    }
+
+    @Test
+    final void testRemovedNodes() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addWeightedEdge("a", "c", 1.0);
+        g.addWeightedEdge("c", "a", 1.0);
+        NearestPoiSearch<String> search = new NearestPoiSearch<String>(g);
+        Set<GraphNode<String>> pois = new HashSet<GraphNode<String>>(Arrays.asList(g.getNode("c")));
+        g.markNodeRemoved(g.getNode("b"));
+        assertThrows(IllegalArgumentException.class, () -> search.kNearest(g.getNode("a"), pois, 1));
+        assertThrows(IllegalArgumentException.class, () -> new NearestPoiSearch<String>(g));
+        g.compact();
+        assertEquals(Arrays.asList(g.getNode("c")), search.kNearest(g.getNode("a"), pois, 1));
+    }
+}
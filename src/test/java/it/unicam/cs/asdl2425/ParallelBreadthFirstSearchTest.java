@@ -0,0 +1,84 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.ForkJoinPool;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the class ParallelBreadthFirstSearch.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class ParallelBreadthFirstSearchTest {
+
+    @Test
+    final void testHopDistancesFrom() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addNode("d");
+        g.addWeightedEdge("a", "b", 10.0);
+        g.addWeightedEdge("b", "c", 1.0);
+        g.addWeightedEdge("a", "c", 50.0);
+        g.addWeightedEdge("d", "a", 1.0);
+        ParallelBreadthFirstSearch<String> search = new ParallelBreadthFirstSearch<String>(g);
+        assertArrayEquals(new int[]{0, 1, 1, -1}, search.hopDistancesFrom(g.getNode("a")));
+        assertArrayEquals(new int[]{1, 2, 2, 0}, search.hopDistancesFrom(3));
+        // the adjacency is read again after a change
+        g.addEdge("c", "d");
+        assertArrayEquals(new int[]{0, 1, 1, 2}, search.hopDistancesFrom(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> search.hopDistancesFrom(4));
+        assertThrows(IllegalArgumentException.class,
+                () -> search.hopDistancesFrom(new GraphNode<String>("z")));
+        assertThrows(NullPointerException.class, () -> new ParallelBreadthFirstSearch<String>(null));
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelBreadthFirstSearch<String>(g, ForkJoinPool.commonPool(), -1, 1));
+    }
+
+    @Test
+    final void testDirectionsAgreeWithSequentialVisit() {
+        GeneratedGraph generated = GraphGenerator.rmat(13, 8, 0.57, 0.19, 0.19, 7L);
+        Graph<Integer> g = IntGraph.of(generated).asGraph();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelBreadthFirstSearch<Integer> adaptive = new ParallelBreadthFirstSearch<Integer>(g, pool);
+            ParallelBreadthFirstSearch<Integer> topDown =
+                    new ParallelBreadthFirstSearch<Integer>(g, pool, 0, 0);
+            ParallelBreadthFirstSearch<Integer> bottomUp = new ParallelBreadthFirstSearch<Integer>(
+                    g, pool, Integer.MAX_VALUE, Integer.MAX_VALUE);
+            GraphTraversal<Integer> traversal = new GraphTraversal<Integer>(g);
+            for (int source : new int[]{0, 1, 100, g.nodeCount() - 1}) {
+                TraversalResult expected = traversal.breadthFirstFrom(source);
+                int[] hops = new int[g.nodeCount()];
+                for (int i = 0; i < hops.length; i++) {
+                    hops[i] = expected.getDistance(i);
+                }
+                assertArrayEquals(hops, adaptive.hopDistancesFrom(source));
+                assertArrayEquals(hops, topDown.hopDistancesFrom(source));
+                assertArrayEquals(hops, bottomUp.hopDistancesFrom(source));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    final void testRemovedNodes() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addEdge("a", "c");
+        g.addEdge("c", "a");
+        ParallelBreadthFirstSearch<String> search = new ParallelBreadthFirstSearch<String>(g);
+        assertArrayEquals(new int[]{0, -1, 1}, search.hopDistancesFrom(0));
+        g.markNodeRemoved(g.getNode("b"));
+        assertThrows(IllegalArgumentException.class, () -> search.hopDistancesFrom(0));
+        g.compact();
+        assertArrayEquals(new int[]{0, 1}, search.hopDistancesFrom(0));
+    }
+}
@@ -0,0 +1,84 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the classes PathCache and PackedPath.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class PathCacheTest {
+
+    /*
+     * Chain 0 -> 1 -> 2 -> 3 -> 4 with unit weights, a longer shortcut 0 -> 4
+     * and an isolated node 5.
+     */
+    private static AdjacencyMatrixDirectedGraph<Integer> newGraph() {
+        AdjacencyMatrixDirectedGraph<Integer> g = new AdjacencyMatrixDirectedGraph<Integer>();
+        for (int i = 0; i < 6; i++) {
+            g.addNode(i);
+        }
+        for (int i = 0; i < 4; i++) {
+            g.addWeightedEdge(i, i + 1, 1.0);
+        }
+        g.addWeightedEdge(0, 4, 10.0);
+        return g;
+    }
+
+    @Test
+    final void testGetPath() {
+        AdjacencyMatrixDirectedGraph<Integer> g = newGraph();
+        PathCache<Integer> cache = new PathCache<Integer>(new DijkstraShortestPathComputer<Integer>(g), 10);
+        PackedPath path = cache.getPath(0, 4);
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, path.toArray());
+        assertEquals(4.0, path.getDistance());
+        assertEquals(4, path.edgeCount());
+        List<GraphEdge<Integer>> edges = path.toEdges(g);
+        assertEquals(g.getEdge(3, 4), edges.get(3));
+        assertSame(path, cache.getPath(new GraphNode<Integer>(0), new GraphNode<Integer>(4)));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertNull(cache.getPath(0, 5));
+        assertEquals(Double.POSITIVE_INFINITY, cache.getDistance(0, 5));
+        assertEquals(0.0, cache.getDistance(2, 2));
+        assertThrows(IndexOutOfBoundsException.class, () -> cache.getPath(0, 9));
+    }
+
+    @Test
+    final void testSubpathReuse() {
+        AdjacencyMatrixDirectedGraph<Integer> g = newGraph();
+        PathCache<Integer> cache = new PathCache<Integer>(new DijkstraShortestPathComputer<Integer>(g), 10);
+        cache.getPath(0, 4);
+        PackedPath sub = cache.getPath(1, 3);
+        assertArrayEquals(new int[]{1, 2, 3}, sub.toArray());
+        assertEquals(2.0, sub.getDistance());
+        assertEquals(1, cache.getSubpathHits());
+        assertEquals(1, cache.getMisses());
+        // the order along the path matters
+        assertNull(cache.getPath(3, 1));
+        assertEquals(2, cache.getMisses());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    final void testBoundAndInvalidation() {
+        AdjacencyMatrixDirectedGraph<Integer> g = newGraph();
+        PathCache<Integer> cache = new PathCache<Integer>(new DijkstraShortestPathComputer<Integer>(g), 2);
+        cache.getPath(0, 1);
+        cache.getPath(1, 2);
+        cache.getPath(2, 3);
+        assertEquals(2, cache.size());
+        cache.getPath(0, 1); // the oldest path has been dropped
+        assertEquals(4, cache.getMisses());
+        g.removeEdge(1, 2);
+        assertEquals(0, cache.size());
+        assertEquals(10.0, cache.getDistance(0, 4));
+        cache.resetStatistics();
+        assertEquals(0, cache.getMisses());
+    }
+}
@@ -0,0 +1,179 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the class PathView and for the path reconstruction
+ * methods writing into views and buffers.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class PathViewTest {
+
+    @Test
+    final void testDijkstraIntoView() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addNode("d");
+        g.addWeightedEdge("a", "b", 1.0);
+        g.addWeightedEdge("b", "c", 2.0);
+        g.addWeightedEdge("a", "c", 5.0);
+        DijkstraShortestPathComputer<String> dijkstra = new DijkstraShortestPathComputer<String>(g);
+        PathView view = new PathView(1);
+        assertFalse(view.hasPath());
+        assertThrows(IllegalStateException.class, () -> dijkstra.getShortestPathTo(new GraphNode<String>("c"), view));
+        dijkstra.computeShortestPathsFrom(new GraphNode<String>("a"));
+        assertTrue(dijkstra.getShortestPathTo(new GraphNode<String>("c"), view));
+        assertArrayEquals(new int[]{0, 1, 2}, view.toArray());
+        assertEquals(3.0, view.getDistance());
+        assertEquals(2, view.edgeCount());
+        assertEquals(0, view.getSource());
+        assertEquals(2, view.getTarget());
+        List<GraphEdge<String>> edges = view.toEdges(g);
+        assertEquals(dijkstra.getShortestPathTo(new GraphNode<String>("c")), edges);
+        assertTrue(dijkstra.getShortestPathTo(new GraphNode<String>("a"), view));
+        assertEquals(1, view.nodeCount());
+        assertEquals(0.0, view.getDistance());
+        assertFalse(dijkstra.getShortestPathTo(new GraphNode<String>("d"), view));
+        assertEquals(0, view.nodeCount());
+        assertNull(view.toEdges(g));
+        assertEquals(Double.POSITIVE_INFINITY, view.getDistance());
+        assertThrows(IllegalArgumentException.class, () -> dijkstra.getShortestPathTo(new GraphNode<String>("z"), view));
+    }
+
+    @Test
+    final void testIntoBuffer() {
+        GeneratedGraph grid = GraphGenerator.grid(5, 5);
+        IntGraph g = IntGraph.of(grid);
+        IntDijkstraShortestPathComputer dijkstra = new IntDijkstraShortestPathComputer(g);
+        dijkstra.computeShortestPathsFrom(0);
+        int[] expected = dijkstra.getShortestPathTo(24);
+        int[] small = new int[2];
+        int count = dijkstra.getShortestPathTo(24, small);
+        assertEquals(expected.length, count);
+        assertArrayEquals(new int[2], small); // too short, nothing written
+        int[] buffer = new int[count + 3];
+        assertEquals(count, dijkstra.getShortestPathTo(24, buffer));
+        for (int k = 0; k < count; k++) {
+            assertEquals(expected[k], buffer[k]);
+        }
+        PathView view = new PathView();
+        assertTrue(dijkstra.getShortestPathTo(24, view));
+        assertArrayEquals(expected, view.toArray());
+        assertEquals(dijkstra.getDistance(24), view.getDistance());
+        // the same tree from the cache of trees
+        ShortestPathTreeCache<Integer> cache = new ShortestPathTreeCache<Integer>(
+                new DijkstraShortestPathComputer<Integer>(grid.toGraph()), 1 << 20);
+        ShortestPathTree tree = cache.getTree(0);
+        PathView other = new PathView();
+        assertTrue(tree.pathTo(24, other));
+        assertEquals(view.getDistance(), other.getDistance(), 1e-9);
+        assertEquals(other.nodeCount(), tree.pathTo(24, new int[other.nodeCount()]));
+    }
+
+    @Test
+    final void testLabelLookup() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        GraphNode<String> stored = g.getNode(2);
+        assertSame(stored, g.getNode("c"));
+        assertEquals(2, g.getNodeIndexOf("c"));
+        assertNull(g.getNode("z"));
+        assertThrows(IllegalArgumentException.class, () -> g.getNodeIndexOf("z"));
+    }
+
+    @Test
+    final void testGrowthFromEmptyBuffer() {
+        IntGraph g = new IntGraph(8);
+        for (int i = 0; i < 6; i++) {
+            g.addEdge(i, i + 1, 1.0);
+        }
+        IntDijkstraShortestPathComputer dijkstra = new IntDijkstraShortestPathComputer(g);
+        dijkstra.computeShortestPathsFrom(0);
+        PathView view = new PathView(0);
+        assertEquals(0, view.toArray().length);
+        assertTrue(dijkstra.getShortestPathTo(0, view));
+        assertArrayEquals(new int[]{0}, view.toArray());
+        assertTrue(dijkstra.getShortestPathTo(2, view));
+        assertArrayEquals(new int[]{0, 1, 2}, view.toArray());
+        assertTrue(dijkstra.getShortestPathTo(6, view));
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4, 5, 6}, view.toArray());
+        assertEquals(6.0, view.getDistance());
+        // a shorter path after a longer one
+        assertTrue(dijkstra.getShortestPathTo(1, view));
+        assertArrayEquals(new int[]{0, 1}, view.toArray());
+        assertEquals(1, view.getTarget());
+        assertFalse(dijkstra.getShortestPathTo(7, view));
+        assertFalse(view.hasPath());
+        // the trees of the cache write into an empty buffer as well
+        ShortestPathTree tree = new ShortestPathTreeCache<Integer>(
+                new DijkstraShortestPathComputer<Integer>(g.asGraph()), 1 << 16).getTree(2);
+        PathView other = new PathView(0);
+        assertTrue(tree.pathTo(5, other));
+        assertArrayEquals(new int[]{2, 3, 4, 5}, other.toArray());
+        assertThrows(IllegalArgumentException.class, () -> new PathView(-1));
+    }
+
+    @Test
+    final void testReorderedIndices() {
+        // inserted backwards, so the path runs through decreasing indices
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("d");
+        g.addNode("c");
+        g.addNode("b");
+        g.addNode("a");
+        g.addWeightedEdge("a", "b", 1.0);
+        g.addWeightedEdge("b", "c", 1.0);
+        g.addWeightedEdge("c", "d", 1.0);
+        DijkstraShortestPathComputer<String> dijkstra = new DijkstraShortestPathComputer<String>(g);
+        dijkstra.computeShortestPathsFrom(g.getNode("a"));
+        PathView view = new PathView(2);
+        assertTrue(dijkstra.getShortestPathTo(g.getNode("d"), view));
+        assertArrayEquals(new int[]{3, 2, 1, 0}, view.toArray());
+        assertEquals(dijkstra.getShortestPathTo(g.getNode("d")), view.toEdges(g));
+        // a -> 0, b -> 1, c -> 2, d -> 3
+        g.reorder(new IndexRemapping(new int[]{3, 2, 1, 0}, 4));
+        dijkstra.computeShortestPathsFrom(g.getNode("a"));
+        assertTrue(dijkstra.getShortestPathTo(g.getNode("d"), view));
+        assertArrayEquals(new int[]{0, 1, 2, 3}, view.toArray());
+        assertEquals(g.getEdge("c", "d"), view.toEdges(g).get(2));
+    }
+
+    @Test
+    final void testIndicesWithHoles() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("x");
+        g.addNode("b");
+        g.addNode("c");
+        g.addWeightedEdge("a", "x", 1.0);
+        g.addWeightedEdge("x", "c", 1.0);
+        g.addWeightedEdge("a", "b", 2.0);
+        g.addWeightedEdge("b", "c", 2.0);
+        g.markNodeRemoved(g.getNode("x"));
+        DijkstraShortestPathComputer<String> dijkstra = new DijkstraShortestPathComputer<String>(g);
+        dijkstra.computeShortestPathsFrom(g.getNode("a"));
+        PathView view = new PathView(0);
+        assertTrue(dijkstra.getShortestPathTo(g.getNode("c"), view));
+        // index 1 is a hole
+        assertArrayEquals(new int[]{0, 2, 3}, view.toArray());
+        assertEquals(4.0, view.getDistance());
+        assertEquals(3, view.getTarget());
+        assertEquals(dijkstra.getShortestPathTo(g.getNode("c")), view.toEdges(g));
+        // after the compaction the same view refers to the new indices
+        g.compact();
+        dijkstra.computeShortestPathsFrom(g.getNode("a"));
+        assertTrue(dijkstra.getShortestPathTo(g.getNode("c"), view));
+        assertArrayEquals(new int[]{0, 1, 2}, view.toArray());
+        assertEquals(g.getEdge("b", "c"), view.toEdges(g).get(1));
+    }
+}
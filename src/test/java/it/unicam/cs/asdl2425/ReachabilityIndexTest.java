@@ -0,0 +1,114 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the class ReachabilityIndex.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class ReachabilityIndexTest {
+
+    @Test
+    final void testCanReach() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addNode("d");
+        g.addEdge("a", "b");
+        g.addEdge("b", "a");
+        g.addEdge("b", "c");
+        ReachabilityIndex<String> index = new ReachabilityIndex<String>(g);
+        assertEquals(3, index.componentCount());
+        assertEquals(index.componentOf(0), index.componentOf(1));
+        assertTrue(index.canReach("a", "c"));
+        assertTrue(index.canReach("b", "a"));
+        assertFalse(index.canReach("c", "a"));
+        assertTrue(index.canReach("d", "d"));
+        assertFalse(index.canReach("a", "d"));
+        assertThrows(IllegalArgumentException.class, () -> index.canReach("a", "z"));
+        assertTrue(index.memoryFootprint() > 0);
+    }
+
+    @Test
+    final void testEdgeAdded() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addEdge("a", "b");
+        ReachabilityIndex<String> index = new ReachabilityIndex<String>(g);
+        g.addEdge("b", "c");
+        index.edgeAdded(1, 2);
+        assertTrue(index.canReach("a", "c"));
+        assertFalse(index.canReach("c", "a"));
+        // closes the cycle a -> b -> c -> a
+        g.addEdge("c", "a");
+        index.edgeAdded(g.getEdge("c", "a"));
+        assertEquals(1, index.componentCount());
+        assertTrue(index.canReach("c", "b"));
+    }
+
+    @Test
+    final void testAgainstTraversal() {
+        Random random = new Random(42);
+        BitSetDirectedGraph<Integer> g = new BitSetDirectedGraph<Integer>();
+        int n = 150;
+        for (int i = 0; i < n; i++) {
+            g.addNode(i);
+        }
+        for (int k = 0; k < 2 * n; k++) {
+            g.addEdge(random.nextInt(n), random.nextInt(n));
+        }
+        ReachabilityIndex<Integer> index = new ReachabilityIndex<Integer>(g);
+        for (int k = 0; k < n; k++) {
+            int i = random.nextInt(n);
+            int j = random.nextInt(n);
+            g.addEdge(i, j);
+            index.edgeAdded(i, j);
+        }
+        for (int i = 0; i < n; i++) {
+            boolean[] seen = new boolean[n];
+            int[] queue = new int[n];
+            int head = 0;
+            int tail = 0;
+            seen[i] = true;
+            queue[tail++] = i;
+            while (head < tail) {
+                for (int j : g.getSuccessorIndicesOf(queue[head++])) {
+                    if (!seen[j]) {
+                        seen[j] = true;
+                        queue[tail++] = j;
+                    }
+                }
+            }
+            for (int j = 0; j < n; j++) {
+                assertEquals(seen[j], index.canReach(i, j));
+            }
+        }
+    }
+
+    @Test
+    final void testRemovedNodes() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addEdge("a", "c");
+        g.addEdge("c", "a");
+        ReachabilityIndex<String> index = new ReachabilityIndex<String>(g);
+        g.markNodeRemoved(g.getNode("b"));
+        assertThrows(IllegalArgumentException.class, () -> new ReachabilityIndex<String>(g));
+        assertThrows(IllegalArgumentException.class, () -> index.rebuild());
+        g.compact();
+        index.rebuild();
+        assertEquals(1, index.componentCount());
+        assertTrue(index.canReach("c", "a"));
+    }
+}
@@ -0,0 +1,93 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the classes ShortestPathTreeCache and ShortestPathTree.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class ShortestPathTreeCacheTest {
+
+    private static AdjacencyMatrixDirectedGraph<String> newGraph() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addNode("d");
+        g.addWeightedEdge("a", "b", 1.0);
+        g.addWeightedEdge("b", "c", 2.0);
+        g.addWeightedEdge("a", "c", 5.0);
+        return g;
+    }
+
+    @Test
+    final void testGetTree() {
+        AdjacencyMatrixDirectedGraph<String> g = newGraph();
+        ShortestPathTreeCache<String> cache = new ShortestPathTreeCache<String>(
+                new DijkstraShortestPathComputer<String>(g), 1 << 20);
+        ShortestPathTree tree = cache.getTree("a");
+        assertEquals(0, tree.getSource());
+        assertEquals(3.0, tree.getDistance(2));
+        assertEquals(1, tree.getPredecessor(2));
+        assertArrayEquals(new int[]{0, 1, 2}, tree.pathTo(2));
+        assertArrayEquals(new int[]{0}, tree.pathTo(0));
+        assertFalse(tree.hasPathTo(3));
+        assertNull(tree.pathTo(3));
+        assertEquals(Double.POSITIVE_INFINITY, tree.getDistance(3));
+        assertSame(tree, cache.getTree(new GraphNode<String>("a")));
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        List<GraphEdge<String>> path = cache.getShortestPath(new GraphNode<String>("a"), new GraphNode<String>("c"));
+        assertEquals(2, path.size());
+        assertEquals(g.getEdge("a", "b"), path.get(0));
+        assertNull(cache.getShortestPath(new GraphNode<String>("a"), new GraphNode<String>("d")));
+        assertThrows(IllegalArgumentException.class, () -> cache.getTree("z"));
+    }
+
+    @Test
+    final void testInvalidationOnGraphChange() {
+        AdjacencyMatrixDirectedGraph<String> g = newGraph();
+        ShortestPathTreeCache<String> cache = new ShortestPathTreeCache<String>(
+                new DijkstraShortestPathComputer<String>(g), 1 << 20);
+        long version = g.getVersion();
+        assertEquals(3.0, cache.getTree("a").getDistance(2));
+        assertEquals(1, cache.size());
+        g.addWeightedEdge("c", "d", 1.0);
+        assertTrue(g.getVersion() > version);
+        assertEquals(0, cache.size());
+        assertEquals(4.0, cache.getTree("a").getDistance(3));
+        g.removeEdge("b", "c");
+        assertEquals(5.0, cache.getTree("a").getDistance(2));
+        assertEquals(3, cache.getMisses());
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    final void testEviction() {
+        AdjacencyMatrixDirectedGraph<String> g = newGraph();
+        DijkstraShortestPathComputer<String> computer = new DijkstraShortestPathComputer<String>(g);
+        long treeSize = new ShortestPathTreeCache<String>(computer, 1 << 20).getTree("a").memoryFootprint();
+        ShortestPathTreeCache<String> cache = new ShortestPathTreeCache<String>(computer, 2 * treeSize);
+        cache.getTree("a");
+        cache.getTree("b");
+        cache.getTree("a"); // b is now the least recently used
+        cache.getTree("c");
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2 * treeSize, cache.getMemoryUsage());
+        cache.getTree("a");
+        assertEquals(2, cache.getHits());
+        cache.getTree("b");
+        assertEquals(4, cache.getMisses());
+        // a budget smaller than one tree stores nothing
+        ShortestPathTreeCache<String> tiny = new ShortestPathTreeCache<String>(computer, treeSize - 1);
+        assertNotNull(tiny.getTree("a"));
+        assertEquals(0, tiny.size());
+    }
+}
@@ -0,0 +1,155 @@
+package test.java.it.unicam.cs.asdl2425;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import it.unicam.cs.asdl2425.*;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Suite of tests for the class StronglyConnectedComponents.
+ *
+ * @author Pilade Jr Tomassini
+ */
+class StronglyConnectedComponentsTest {
+
+    /*
+     * {a, b, c} -> {d, e} -> f, plus the isolated g with a loop.
+     */
+    private static AdjacencyMatrixDirectedGraph<String> sample() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        for (String label : new String[]{"a", "b", "c", "d", "e", "f", "g"}) {
+            g.addNode(label);
+        }
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        g.addEdge("c", "a");
+        g.addEdge("c", "d");
+        g.addEdge("a", "d");
+        g.addEdge("d", "e");
+        g.addEdge("e", "d");
+        g.addEdge("e", "f");
+        g.addEdge("g", "g");
+        return g;
+    }
+
+    @Test
+    final void testTarjan() {
+        AdjacencyMatrixDirectedGraph<String> g = sample();
+        StronglyConnectedComponents scc = StronglyConnectedComponents.tarjan(g);
+        assertEquals(4, scc.componentCount());
+        assertEquals(7, scc.nodeCount());
+        int abc = scc.componentOf(g.getNodeIndexOf("a"));
+        int de = scc.componentOf(g.getNodeIndexOf("d"));
+        int f = scc.componentOf(g.getNodeIndexOf("f"));
+        assertEquals(abc, scc.componentOf(g.getNodeIndexOf("c")));
+        assertEquals(de, scc.componentOf(g.getNodeIndexOf("e")));
+        // reverse topological order
+        assertTrue(f < de);
+        assertTrue(de < abc);
+        int[] sizes = scc.getComponentSizes();
+        assertEquals(3, sizes[abc]);
+        assertEquals(1, sizes[f]);
+        assertThrows(IndexOutOfBoundsException.class, () -> scc.componentOf(7));
+    }
+
+    @Test
+    final void testCondensation() {
+        AdjacencyMatrixDirectedGraph<String> g = sample();
+        StronglyConnectedComponents scc = StronglyConnectedComponents.tarjan(g);
+        Graph<Integer> dag = scc.condensation();
+        assertSame(dag, scc.condensation());
+        assertEquals(4, dag.nodeCount());
+        // a -> d and c -> d give a single edge
+        assertEquals(2, dag.edgeCount());
+        int abc = scc.componentOf(g.getNodeIndexOf("a"));
+        int de = scc.componentOf(g.getNodeIndexOf("d"));
+        int f = scc.componentOf(g.getNodeIndexOf("f"));
+        assertNotNull(dag.getEdge(abc, de));
+        assertNotNull(dag.getEdge(de, f));
+        assertNull(dag.getEdge(de, abc));
+        // the loop of g disappears
+        assertEquals(0, dag.outDegree(scc.componentOf(g.getNodeIndexOf("g"))));
+        assertEquals(4, StronglyConnectedComponents.tarjan(dag).componentCount());
+    }
+
+    @Test
+    final void testForwardBackwardMatchesTarjan() {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            AdjacencyMatrixDirectedGraph<String> g = sample();
+            assertSamePartition(StronglyConnectedComponents.tarjan(g),
+                    StronglyConnectedComponents.forwardBackward(g, pool));
+            // sparse random graphs have a giant component and many small ones
+            for (long seed = 1; seed <= 3; seed++) {
+                IntGraph random = IntGraph.of(GraphGenerator.erdosRenyi(20000, 1.5 / 20000, seed));
+                StronglyConnectedComponents expected = StronglyConnectedComponents.tarjan(random);
+                StronglyConnectedComponents actual = StronglyConnectedComponents.forwardBackward(random, pool);
+                assertSamePartition(expected, actual);
+                assertEquals(expected.condensation().edgeCount(), actual.condensation().edgeCount());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    final void testLongCycles() {
+        // a recursive visit would overflow the call stack on these paths
+        int n = 200000;
+        IntGraph chain = new IntGraph(n);
+        for (int i = 0; i + 1 < n; i++) {
+            chain.addEdge(i, i + 1);
+        }
+        assertEquals(n, StronglyConnectedComponents.tarjan(chain).componentCount());
+        chain.addEdge(n - 1, 0);
+        assertEquals(1, StronglyConnectedComponents.tarjan(chain).componentCount());
+        assertEquals(1, StronglyConnectedComponents.forwardBackward(chain, ForkJoinPool.commonPool())
+                .componentCount());
+        // pairs of nodes on a path: trimming does nothing and every pivot
+        // removes a single pair
+        n = 20000;
+        IntGraph pairs = new IntGraph(n);
+        for (int i = 0; i + 1 < n; i++) {
+            pairs.addEdge(i, i + 1);
+            if (i % 2 == 0) {
+                pairs.addEdge(i + 1, i);
+            }
+        }
+        StronglyConnectedComponents scc =
+                StronglyConnectedComponents.forwardBackward(pairs, ForkJoinPool.commonPool());
+        assertEquals(n / 2, scc.componentCount());
+        assertSamePartition(StronglyConnectedComponents.tarjan(pairs), scc);
+    }
+
+    private static void assertSamePartition(StronglyConnectedComponents expected,
+                                            StronglyConnectedComponents actual) {
+        assertEquals(expected.nodeCount(), actual.nodeCount());
+        assertEquals(expected.componentCount(), actual.componentCount());
+        Map<Integer, Integer> renaming = new HashMap<Integer, Integer>();
+        for (int i = 0; i < expected.nodeCount(); i++) {
+            Integer previous = renaming.putIfAbsent(expected.componentOf(i), actual.componentOf(i));
+            assertTrue(previous == null || previous == actual.componentOf(i));
+        }
+    }
+
+    @Test
+    final void testRemovedNodes() {
+        AdjacencyMatrixDirectedGraph<String> g = new AdjacencyMatrixDirectedGraph<String>();
+        g.addNode("a");
+        g.addNode("b");
+        g.addNode("c");
+        g.addEdge("a", "c");
+        g.addEdge("c", "a");
+        g.markNodeRemoved(g.getNode("b"));
+        assertThrows(IllegalArgumentException.class, () -> StronglyConnectedComponents.tarjan(g));
+        assertThrows(IllegalArgumentException.class, () -> StronglyConnectedComponents.forwardBackward(g));
+        g.compact();
+        StronglyConnectedComponents scc = StronglyConnectedComponents.tarjan(g);
+        assertEquals(2, scc.nodeCount());
+        assertEquals(1, scc.componentCount());
+    }
+}